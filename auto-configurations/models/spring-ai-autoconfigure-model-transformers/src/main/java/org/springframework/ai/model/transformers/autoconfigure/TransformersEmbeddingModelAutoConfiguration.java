@@ -16,6 +16,8 @@
 
 package org.springframework.ai.model.transformers.autoconfigure;
 
+import java.util.concurrent.Executor;
+
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.onnxruntime.OrtSession;
 import io.micrometer.observation.ObservationRegistry;
@@ -24,6 +26,7 @@ import org.springframework.ai.embedding.observation.EmbeddingModelObservationCon
 import org.springframework.ai.model.SpringAIModelProperties;
 import org.springframework.ai.model.SpringAIModels;
 import org.springframework.ai.transformers.TransformersEmbeddingModel;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -31,6 +34,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.util.StringUtils;
 
 /**
  * {@link AutoConfiguration Auto-configuration} for Transformers Embedding Model.
@@ -48,7 +52,7 @@ public class TransformersEmbeddingModelAutoConfiguration {
 	@ConditionalOnMissingBean
 	public TransformersEmbeddingModel embeddingModel(TransformersEmbeddingModelProperties properties,
 			ObjectProvider<ObservationRegistry> observationRegistry,
-			ObjectProvider<EmbeddingModelObservationConvention> observationConvention) {
+			ObjectProvider<EmbeddingModelObservationConvention> observationConvention, BeanFactory beanFactory) {
 
 		TransformersEmbeddingModel embeddingModel = new TransformersEmbeddingModel(properties.getMetadataMode(),
 				observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP));
@@ -65,6 +69,17 @@ public class TransformersEmbeddingModelAutoConfiguration {
 
 		embeddingModel.setModelOutputName(properties.getOnnx().getModelOutputName());
 
+		embeddingModel.setOptimizedModelPath(properties.getOnnx().getOptimizedModelPath());
+		embeddingModel.setWarmUpText(properties.getOnnx().getWarmUpText());
+
+		embeddingModel.setMaxBatchTokens(properties.getOnnx().getMaxBatchTokens());
+		embeddingModel.setSessionPoolSize(properties.getOnnx().getSessionPoolSize());
+		embeddingModel.setIntraOpNumThreads(properties.getOnnx().getIntraOpNumThreads());
+		String executor = properties.getOnnx().getExecutor();
+		if (StringUtils.hasText(executor)) {
+			embeddingModel.setExecutor(beanFactory.getBean(executor, Executor.class));
+		}
+
 		observationConvention.ifAvailable(embeddingModel::setObservationConvention);
 
 		return embeddingModel;
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.MetadataMode;
@@ -181,6 +182,42 @@ public class TransformersEmbeddingModelProperties {
 		 */
 		private int gpuDeviceId = -1;
 
+		/**
+		 * File the optimized model graph is saved to on the first startup and loaded from
+		 * on later startups (optional).
+		 */
+		private @Nullable String optimizedModelPath;
+
+		/**
+		 * Text embedded once at startup to warm up the model (optional).
+		 */
+		private @Nullable String warmUpText;
+
+		/**
+		 * Maximum number of padded tokens in a micro-batch. Inputs are sorted by length
+		 * and embedded in micro-batches when > 0. Defaults to 0, which embeds every
+		 * request as a single batch.
+		 */
+		private int maxBatchTokens = 0;
+
+		/**
+		 * Number of ONNX runtime sessions used to run micro-batches concurrently. Every
+		 * session holds its own copy of the model.
+		 */
+		private int sessionPoolSize = 1;
+
+		/**
+		 * Number of threads each session uses to run an operator. Defaults to 0, which
+		 * uses the ONNX runtime default.
+		 */
+		private int intraOpNumThreads = 0;
+
+		/**
+		 * Name of the Executor bean running micro-batches on the pooled sessions
+		 * (optional). Defaults to a dedicated SimpleAsyncTaskExecutor.
+		 */
+		private @Nullable String executor;
+
 		public String getModelUri() {
 			return this.modelUri;
 		}
@@ -205,6 +242,54 @@ public class TransformersEmbeddingModelProperties {
 			this.modelOutputName = modelOutputName;
 		}
 
+		public @Nullable String getOptimizedModelPath() {
+			return this.optimizedModelPath;
+		}
+
+		public void setOptimizedModelPath(@Nullable String optimizedModelPath) {
+			this.optimizedModelPath = optimizedModelPath;
+		}
+
+		public @Nullable String getWarmUpText() {
+			return this.warmUpText;
+		}
+
+		public void setWarmUpText(@Nullable String warmUpText) {
+			this.warmUpText = warmUpText;
+		}
+
+		public int getMaxBatchTokens() {
+			return this.maxBatchTokens;
+		}
+
+		public void setMaxBatchTokens(int maxBatchTokens) {
+			this.maxBatchTokens = maxBatchTokens;
+		}
+
+		public int getSessionPoolSize() {
+			return this.sessionPoolSize;
+		}
+
+		public void setSessionPoolSize(int sessionPoolSize) {
+			this.sessionPoolSize = sessionPoolSize;
+		}
+
+		public int getIntraOpNumThreads() {
+			return this.intraOpNumThreads;
+		}
+
+		public void setIntraOpNumThreads(int intraOpNumThreads) {
+			this.intraOpNumThreads = intraOpNumThreads;
+		}
+
+		public @Nullable String getExecutor() {
+			return this.executor;
+		}
+
+		public void setExecutor(@Nullable String executor) {
+			this.executor = executor;
+		}
+
 	}
 
 }
@@ -18,6 +18,7 @@ package org.springframework.ai.model.transformers.autoconfigure;
 
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -26,6 +27,7 @@ import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.transformers.TransformersEmbeddingModel;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -91,6 +93,28 @@ public class TransformersEmbeddingModelAutoConfigurationIT {
 			});
 	}
 
+	@Test
+	void throughputProperties() {
+		Executor executor = Runnable::run;
+		this.contextRunner.withBean("embeddingExecutor", Executor.class, () -> executor)
+			.withPropertyValues("spring.ai.embedding.transformer.onnx.max-batch-tokens=2048",
+					"spring.ai.embedding.transformer.onnx.session-pool-size=2",
+					"spring.ai.embedding.transformer.onnx.intra-op-num-threads=1",
+					"spring.ai.embedding.transformer.onnx.executor=embeddingExecutor")
+			.run(context -> {
+				var properties = context.getBean(TransformersEmbeddingModelProperties.class);
+				assertThat(properties.getOnnx().getMaxBatchTokens()).isEqualTo(2048);
+				assertThat(properties.getOnnx().getSessionPoolSize()).isEqualTo(2);
+				assertThat(properties.getOnnx().getIntraOpNumThreads()).isEqualTo(1);
+
+				TransformersEmbeddingModel embeddingModel = context.getBean(TransformersEmbeddingModel.class);
+				assertThat(ReflectionTestUtils.getField(embeddingModel, "maxBatchTokens")).isEqualTo(2048);
+				assertThat(ReflectionTestUtils.getField(embeddingModel, "sessionPoolSize")).isEqualTo(2);
+				assertThat(ReflectionTestUtils.getField(embeddingModel, "intraOpNumThreads")).isEqualTo(1);
+				assertThat(ReflectionTestUtils.getField(embeddingModel, "executor")).isSameAs(executor);
+			});
+	}
+
 	@Test
 	void embeddingActivation() {
 		this.contextRunner.withPropertyValues("spring.ai.model.embedding=none").run(context -> {
@@ -178,6 +178,8 @@ public class ToolCallingAutoConfiguration {
 
 		builder.onLimitExceeded(limits.getOnLimitExceeded());
 
+		builder.parallelToolExecution(properties.isParallelExecution());
+
 		var toolCallingManager = builder.build();
 
 		observationConvention.ifAvailable(toolCallingManager::setObservationConvention);
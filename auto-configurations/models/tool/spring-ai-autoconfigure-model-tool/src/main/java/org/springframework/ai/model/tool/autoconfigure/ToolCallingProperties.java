@@ -65,6 +65,20 @@ public class ToolCallingProperties {
 		this.throwExceptionOnError = throwExceptionOnError;
 	}
 
+	/**
+	 * Whether tool calls requested together by the model may run concurrently. Only tools
+	 * that declare themselves parallel safe in their metadata are run in parallel.
+	 */
+	private boolean parallelExecution = false;
+
+	public boolean isParallelExecution() {
+		return this.parallelExecution;
+	}
+
+	public void setParallelExecution(boolean parallelExecution) {
+		this.parallelExecution = parallelExecution;
+	}
+
 	public static class Observations {
 
 		/**
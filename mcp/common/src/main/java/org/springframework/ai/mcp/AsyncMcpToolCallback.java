@@ -21,15 +21,15 @@ import java.util.Map;
 import io.modelcontextprotocol.client.McpAsyncClient;
 import io.modelcontextprotocol.spec.McpError;
 import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
-import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
 import io.modelcontextprotocol.spec.McpSchema.Tool;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.chat.model.ToolContext;
 import org.springframework.ai.model.tool.internal.ToolCallReactiveContextHolder;
-import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.AsyncToolCallback;
 import org.springframework.ai.tool.definition.ToolDefinition;
 import org.springframework.ai.tool.execution.ToolExecutionException;
 import org.springframework.ai.util.JsonHelper;
@@ -37,7 +37,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * Adapts MCP tools to Spring AI's {@link ToolCallback} interface with asynchronous
+ * Adapts MCP tools to Spring AI's {@link AsyncToolCallback} interface with asynchronous
  * execution.
  * <p>
  * Bridges Model Context Protocol (MCP) tools with Spring AI's tool system, enabling
@@ -47,7 +47,7 @@ import org.springframework.util.StringUtils;
  * @author YunKui Lu
  * @author Ilayaperumal Gopinathan
  */
-public class AsyncMcpToolCallback implements ToolCallback {
+public class AsyncMcpToolCallback implements AsyncToolCallback {
 
 	private static final JsonHelper jsonHelper = new JsonHelper();
 
@@ -109,32 +109,11 @@ public class AsyncMcpToolCallback implements ToolCallback {
 
 	@Override
 	public String call(String toolCallInput, @Nullable ToolContext toolContext) {
-
-		// Handle the possible null parameter situation in streaming mode.
-		if (!StringUtils.hasText(toolCallInput)) {
-			if (logger.isWarnEnabled()) {
-				logger.warn("Tool call arguments are null or empty for MCP tool: " + this.tool.name()
-						+ ". Using empty JSON object as default.");
-			}
-			toolCallInput = "{}";
-		}
-
-		Map<String, Object> arguments = jsonHelper.fromJsonToMap(toolCallInput);
-
-		CallToolResult response;
+		String result;
 		try {
-			var mcpMeta = toolContext != null ? this.toolContextToMcpMetaConverter.convert(toolContext) : null;
-
-			// Use the original tool name, not the prefixed one from getToolDefinition
-			var request = CallToolRequest.builder(this.tool.name()).arguments(arguments).meta(mcpMeta).build();
-
-			// Only map non-McpError exceptions to ToolExecutionException. McpError is a
-			// protocol-level signal (e.g. URL elicitation) that must propagate as a hard
-			// failure rather than being conveyed to the model as an error result.
-			response = this.mcpClient.callTool(request).onErrorMap(e -> !(e instanceof McpError), e -> {
-				logger.error("Exception while tool calling: ", e);
-				return new ToolExecutionException(this.getToolDefinition(), e);
-			}).contextWrite(ctx -> ctx.putAll(ToolCallReactiveContextHolder.getContext())).block();
+			result = this.callAsync(toolCallInput, toolContext)
+				.contextWrite(ctx -> ctx.putAll(ToolCallReactiveContextHolder.getContext()))
+				.block();
 		}
 		catch (McpError ex) {
 			logger.error("Protocol error while calling tool: ", ex);
@@ -142,20 +121,57 @@ public class AsyncMcpToolCallback implements ToolCallback {
 			// bubbles up and fails the model interaction.
 			throw ex;
 		}
+		catch (ToolExecutionException ex) {
+			throw ex;
+		}
 		catch (Exception ex) {
 			logger.error("Exception while tool calling: ", ex);
 			throw new ToolExecutionException(this.getToolDefinition(), ex);
 		}
-		Assert.notNull(response, "response was null");
+		Assert.notNull(result, "response was null");
+		return result;
+	}
 
-		if (response.isError() != null && response.isError()) {
-			if (logger.isErrorEnabled()) {
-				logger.error("Error calling tool: " + response.content());
+	@Override
+	public Mono<String> callAsync(String toolCallInput, @Nullable ToolContext toolContext) {
+		return Mono.defer(() -> {
+			String toolArguments = toolCallInput;
+
+			// Handle the possible null parameter situation in streaming mode.
+			if (!StringUtils.hasText(toolArguments)) {
+				if (logger.isWarnEnabled()) {
+					logger.warn("Tool call arguments are null or empty for MCP tool: " + this.tool.name()
+							+ ". Using empty JSON object as default.");
+				}
+				toolArguments = "{}";
 			}
-			throw new ToolExecutionException(this.getToolDefinition(),
-					new IllegalStateException("Error calling tool: " + response.content()));
-		}
-		return jsonHelper.toJson(response.content());
+
+			Map<String, Object> arguments = jsonHelper.fromJsonToMap(toolArguments);
+
+			var mcpMeta = toolContext != null ? this.toolContextToMcpMetaConverter.convert(toolContext) : null;
+
+			// Use the original tool name, not the prefixed one from getToolDefinition
+			var request = CallToolRequest.builder(this.tool.name()).arguments(arguments).meta(mcpMeta).build();
+
+			return this.mcpClient.callTool(request);
+		}).map(response -> {
+			if (response.isError() != null && response.isError()) {
+				if (logger.isErrorEnabled()) {
+					logger.error("Error calling tool: " + response.content());
+				}
+				throw new ToolExecutionException(this.getToolDefinition(),
+						new IllegalStateException("Error calling tool: " + response.content()));
+			}
+			return jsonHelper.toJson(response.content());
+		})
+			// Only map non-McpError exceptions to ToolExecutionException, as call() does.
+			// McpError is a protocol-level signal (e.g. URL elicitation) that must
+			// propagate as a hard failure rather than being conveyed to the model as an
+			// error result.
+			.onErrorMap(e -> !(e instanceof McpError) && !(e instanceof ToolExecutionException), e -> {
+				logger.error("Exception while tool calling: ", e);
+				return new ToolExecutionException(this.getToolDefinition(), e);
+			});
 	}
 
 	/**
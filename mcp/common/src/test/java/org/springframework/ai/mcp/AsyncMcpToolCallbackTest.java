@@ -130,6 +130,56 @@ class AsyncMcpToolCallbackTest {
 																			// prefixed
 	}
 
+	@Test
+	void callAsyncShouldEmitResultWithoutBlocking() {
+		when(this.tool.name()).thenReturn("testTool");
+		var callToolResult = McpSchema.CallToolResult.builder()
+			.addTextContent("Success response")
+			.isError(false)
+			.build();
+		when(this.mcpClient.callTool(any(McpSchema.CallToolRequest.class))).thenReturn(Mono.just(callToolResult));
+
+		var callback = AsyncMcpToolCallback.builder()
+			.mcpClient(this.mcpClient)
+			.tool(this.tool)
+			.prefixedToolName("prefixed_testTool")
+			.build();
+
+		Mono<String> result = callback.callAsync("{\"param\":\"value\"}", null);
+
+		assertThat(result.block()).contains("Success response");
+	}
+
+	@Test
+	void callAsyncShouldSignalToolErrors() {
+		when(this.tool.name()).thenReturn("testTool");
+		var callToolResult = McpSchema.CallToolResult.builder().addTextContent("Some error data").isError(true).build();
+		when(this.mcpClient.callTool(any(McpSchema.CallToolRequest.class))).thenReturn(Mono.just(callToolResult));
+
+		var callback = AsyncMcpToolCallback.builder()
+			.mcpClient(this.mcpClient)
+			.tool(this.tool)
+			.prefixedToolName(this.tool.name())
+			.build();
+
+		assertThatThrownBy(() -> callback.callAsync("{\"param\":\"value\"}", null).block())
+			.isInstanceOf(ToolExecutionException.class);
+	}
+
+	@Test
+	void callAsyncShouldWrapInvalidArguments() {
+		when(this.tool.name()).thenReturn("testTool");
+
+		var callback = AsyncMcpToolCallback.builder()
+			.mcpClient(this.mcpClient)
+			.tool(this.tool)
+			.prefixedToolName(this.tool.name())
+			.build();
+
+		assertThatThrownBy(() -> callback.callAsync("not json", null).block())
+			.isInstanceOf(ToolExecutionException.class);
+	}
+
 	@Test
 	void callShouldHandleNullInput() {
 		when(this.tool.name()).thenReturn("testTool");
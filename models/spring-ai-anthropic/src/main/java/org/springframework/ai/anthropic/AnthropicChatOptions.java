@@ -44,6 +44,7 @@ import org.springframework.ai.model.tool.DefaultToolCallingChatOptions;
 import org.springframework.ai.model.tool.StructuredOutputChatOptions;
 import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.resolution.ToolCallbackRegistry;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -174,6 +175,8 @@ public class AnthropicChatOptions implements ToolCallingChatOptions, StructuredO
 	 */
 	private final @Nullable List<ToolCallback> toolCallbacks;
 
+	private volatile @Nullable ToolCallbackRegistry toolCallbackRegistry;
+
 	/**
 	 * Context to be passed to tools during execution.
 	 */
@@ -349,6 +352,16 @@ public class AnthropicChatOptions implements ToolCallingChatOptions, StructuredO
 		return this.toolCallbacks;
 	}
 
+	@Override
+	public ToolCallbackRegistry getToolCallbackRegistry() {
+		ToolCallbackRegistry toolCallbackRegistry = this.toolCallbackRegistry;
+		if (toolCallbackRegistry == null) {
+			toolCallbackRegistry = ToolCallbackRegistry.of(this.toolCallbacks);
+			this.toolCallbackRegistry = toolCallbackRegistry;
+		}
+		return toolCallbackRegistry;
+	}
+
 	@Override
 	public @Nullable Map<String, Object> getToolContext() {
 		return this.toolContext;
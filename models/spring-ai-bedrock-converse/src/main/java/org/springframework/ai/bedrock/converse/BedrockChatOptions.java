@@ -29,6 +29,7 @@ import org.springframework.ai.model.tool.DefaultToolCallingChatOptions;
 import org.springframework.ai.model.tool.StructuredOutputChatOptions;
 import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.resolution.ToolCallbackRegistry;
 
 /**
  * The options to be used when sending a chat request to the Bedrock API.
@@ -58,6 +59,8 @@ public class BedrockChatOptions implements ToolCallingChatOptions, StructuredOut
 
 	private final @Nullable List<ToolCallback> toolCallbacks;
 
+	private volatile @Nullable ToolCallbackRegistry toolCallbackRegistry;
+
 	private final @Nullable Map<String, Object> toolContext;
 
 	private final @Nullable BedrockCacheOptions cacheOptions;
@@ -138,6 +141,16 @@ public class BedrockChatOptions implements ToolCallingChatOptions, StructuredOut
 		return this.toolCallbacks;
 	}
 
+	@Override
+	public ToolCallbackRegistry getToolCallbackRegistry() {
+		ToolCallbackRegistry toolCallbackRegistry = this.toolCallbackRegistry;
+		if (toolCallbackRegistry == null) {
+			toolCallbackRegistry = ToolCallbackRegistry.of(this.toolCallbacks);
+			this.toolCallbackRegistry = toolCallbackRegistry;
+		}
+		return toolCallbackRegistry;
+	}
+
 	@Override
 	public @Nullable Map<String, Object> getToolContext() {
 		return this.toolContext;
@@ -31,6 +31,7 @@ import org.springframework.ai.deepseek.api.ResponseFormat;
 import org.springframework.ai.model.tool.DefaultToolCallingChatOptions;
 import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.resolution.ToolCallbackRegistry;
 
 /**
  * Chat completions options for the DeepSeek chat API.
@@ -150,6 +151,8 @@ public class DeepSeekChatOptions implements ToolCallingChatOptions {
 	 */
 	private final @Nullable List<ToolCallback> toolCallbacks;
 
+	private volatile @Nullable ToolCallbackRegistry toolCallbackRegistry;
+
 	private final @Nullable Map<String, Object> toolContext;
 	// @formatter:on
 
@@ -245,6 +248,16 @@ public class DeepSeekChatOptions implements ToolCallingChatOptions {
 		return this.toolCallbacks;
 	}
 
+	@Override
+	public ToolCallbackRegistry getToolCallbackRegistry() {
+		ToolCallbackRegistry toolCallbackRegistry = this.toolCallbackRegistry;
+		if (toolCallbackRegistry == null) {
+			toolCallbackRegistry = ToolCallbackRegistry.of(this.toolCallbacks);
+			this.toolCallbackRegistry = toolCallbackRegistry;
+		}
+		return toolCallbackRegistry;
+	}
+
 	public @Nullable Boolean getLogprobs() {
 		return this.logprobs;
 	}
@@ -34,6 +34,7 @@ import org.springframework.ai.model.tool.DefaultToolCallingChatOptions;
 import org.springframework.ai.model.tool.StructuredOutputChatOptions;
 import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.resolution.ToolCallbackRegistry;
 import org.springframework.util.Assert;
 
 /**
@@ -180,6 +181,8 @@ public class GoogleGenAiChatOptions implements ToolCallingChatOptions, Structure
 	 */
 	private final @Nullable List<ToolCallback> toolCallbacks;
 
+	private volatile @Nullable ToolCallbackRegistry toolCallbackRegistry;
+
 
 	private final @Nullable Map<String, Object> toolContext;
 
@@ -311,6 +314,16 @@ public class GoogleGenAiChatOptions implements ToolCallingChatOptions, Structure
 		return this.toolCallbacks;
 	}
 
+	@Override
+	public ToolCallbackRegistry getToolCallbackRegistry() {
+		ToolCallbackRegistry toolCallbackRegistry = this.toolCallbackRegistry;
+		if (toolCallbackRegistry == null) {
+			toolCallbackRegistry = ToolCallbackRegistry.of(this.toolCallbacks);
+			this.toolCallbackRegistry = toolCallbackRegistry;
+		}
+		return toolCallbackRegistry;
+	}
+
 	@Override
 	public @Nullable Double getFrequencyPenalty() {
 		return this.frequencyPenalty;
@@ -33,6 +33,7 @@ import org.springframework.ai.model.tool.DefaultToolCallingChatOptions;
 import org.springframework.ai.model.tool.StructuredOutputChatOptions;
 import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.resolution.ToolCallbackRegistry;
 import org.springframework.ai.util.JsonHelper;
 
 /**
@@ -150,6 +151,8 @@ public class MistralAiChatOptions implements ToolCallingChatOptions, StructuredO
 	 */
 	private final @Nullable List<ToolCallback> toolCallbacks;
 
+	private volatile @Nullable ToolCallbackRegistry toolCallbackRegistry;
+
 	private final @Nullable Map<String, Object> toolContext;
 
 	protected MistralAiChatOptions(@Nullable String model, @Nullable Double temperature, @Nullable Double topP,
@@ -254,6 +257,16 @@ public class MistralAiChatOptions implements ToolCallingChatOptions, StructuredO
 		return this.toolCallbacks;
 	}
 
+	@Override
+	public ToolCallbackRegistry getToolCallbackRegistry() {
+		ToolCallbackRegistry toolCallbackRegistry = this.toolCallbackRegistry;
+		if (toolCallbackRegistry == null) {
+			toolCallbackRegistry = ToolCallbackRegistry.of(this.toolCallbacks);
+			this.toolCallbackRegistry = toolCallbackRegistry;
+		}
+		return toolCallbackRegistry;
+	}
+
 	@Override
 	public @Nullable Integer getTopK() {
 		return null;
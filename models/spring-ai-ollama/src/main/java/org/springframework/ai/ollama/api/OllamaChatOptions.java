@@ -29,6 +29,7 @@ import org.springframework.ai.model.tool.DefaultToolCallingChatOptions;
 import org.springframework.ai.model.tool.StructuredOutputChatOptions;
 import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.resolution.ToolCallbackRegistry;
 import org.springframework.ai.util.JsonHelper;
 
 /**
@@ -363,6 +364,8 @@ public class OllamaChatOptions implements ToolCallingChatOptions, StructuredOutp
 	 */
 	private final @Nullable List<ToolCallback> toolCallbacks;
 
+	private volatile @Nullable ToolCallbackRegistry toolCallbackRegistry;
+
 	private final @Nullable Map<String, Object> toolContext;
 
 	public static Builder builder() {
@@ -581,6 +584,16 @@ public class OllamaChatOptions implements ToolCallingChatOptions, StructuredOutp
 		return this.toolCallbacks;
 	}
 
+	@Override
+	public ToolCallbackRegistry getToolCallbackRegistry() {
+		ToolCallbackRegistry toolCallbackRegistry = this.toolCallbackRegistry;
+		if (toolCallbackRegistry == null) {
+			toolCallbackRegistry = ToolCallbackRegistry.of(this.toolCallbacks);
+			this.toolCallbackRegistry = toolCallbackRegistry;
+		}
+		return toolCallbackRegistry;
+	}
+
 	@Override
 	public @Nullable Map<String, Object> getToolContext() {
 		return this.toolContext;
@@ -16,26 +16,34 @@
 
 package org.springframework.ai.transformers;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.FloatBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.modality.nlp.preprocess.Tokenizer;
-import ai.djl.ndarray.NDArray;
-import ai.djl.ndarray.NDManager;
-import ai.djl.ndarray.types.DataType;
-import ai.djl.ndarray.types.Shape;
 import ai.onnxruntime.OnnxTensor;
 import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import ai.onnxruntime.TensorInfo;
+import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -56,6 +64,7 @@ import org.springframework.ai.observation.conventions.AiProvider;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -76,6 +85,15 @@ import org.springframework.util.StringUtils;
  * Models</a>
  * </p>
  *
+ * <p>
+ * By default all inputs of a request are tokenized and run as one batch, padded to the
+ * longest input. Setting {@link #setMaxBatchTokens(int) maxBatchTokens} enables a
+ * throughput mode: inputs are sorted by length and grouped into micro-batches whose
+ * padded size stays within the limit, which keeps padding to a minimum. With a
+ * {@link #setSessionPoolSize(int) session pool} larger than one, micro-batches run
+ * concurrently, each on its own ONNX runtime session.
+ * </p>
+ *
  * @author Christian Tzolov
  * @author Soby Chacko
  * @since 1.0.0
@@ -91,12 +109,22 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 
 	public static final String DEFAULT_MODEL_OUTPUT_NAME = "last_hidden_state";
 
+	/**
+	 * Name of the observation timing the creation and warm-up of the ONNX runtime
+	 * sessions.
+	 */
+	public static final String STARTUP_OBSERVATION_NAME = "spring.ai.transformers.startup";
+
+	/**
+	 * Name of the observation timing the first inference of the model, which is the
+	 * warm-up inference when a warm-up text is set.
+	 */
+	public static final String FIRST_INFERENCE_OBSERVATION_NAME = "spring.ai.transformers.first-inference";
+
 	private static final Log logger = LogFactory.getLog(TransformersEmbeddingModel.class);
 
 	private static final EmbeddingModelObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultEmbeddingModelObservationConvention();
 
-	private static final int EMBEDDING_AXIS = 1;
-
 	/**
 	 * Specifies what parts of the {@link Document}'s content and metadata will be used
 	 * for computing the embeddings. Applicable for the {@link #embed(Document)} method
@@ -136,6 +164,51 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 	@SuppressWarnings("NullAway.Init") // initialized in afterPropertiesSet()
 	private OrtSession session;
 
+	/**
+	 * Sessions, in addition to {@link #session}, used to run micro-batches concurrently.
+	 */
+	private List<OrtSession> additionalSessions = List.of();
+
+	/**
+	 * Maximum number of padded tokens in a micro-batch, or {@code 0} to run every request
+	 * as a single batch.
+	 */
+	private int maxBatchTokens = 0;
+
+	/**
+	 * Number of ONNX runtime sessions used to run micro-batches concurrently.
+	 */
+	private int sessionPoolSize = 1;
+
+	/**
+	 * Number of threads each session uses to run an operator, or {@code 0} for the ONNX
+	 * runtime default.
+	 */
+	private int intraOpNumThreads = 0;
+
+	/**
+	 * Executor running the micro-batches on the additional sessions.
+	 */
+	private Executor executor = defaultExecutor();
+
+	/**
+	 * File the optimized model graph is saved to and loaded from, or {@code null} to
+	 * optimize the model on every startup.
+	 */
+	private @Nullable String optimizedModelPath;
+
+	/**
+	 * Text embedded once on every session at startup, or {@code null} to skip the
+	 * warm-up.
+	 */
+	private @Nullable String warmUpText;
+
+	private volatile @Nullable Duration startupDuration;
+
+	private volatile @Nullable Duration firstInferenceDuration;
+
+	private final AtomicBoolean firstInferenceStarted = new AtomicBoolean();
+
 	/**
 	 * Resource cache directory. Used to cache remote resources, such as the ONNX models,
 	 * to the local file system.
@@ -181,6 +254,12 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 		this.observationRegistry = observationRegistry;
 	}
 
+	private static Executor defaultExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("transformers-embedding-");
+		executor.setDaemon(true);
+		return executor;
+	}
+
 	private static Resource toResource(String uri) {
 		return new DefaultResourceLoader().getResource(uri);
 	}
@@ -221,6 +300,69 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 		this.modelOutputName = modelOutputName;
 	}
 
+	/**
+	 * Enables the throughput mode, in which inputs are sorted by length and embedded in
+	 * micro-batches of at most the given number of padded tokens.
+	 * @param maxBatchTokens the maximum number of padded tokens in a micro-batch, or
+	 * {@code 0} to embed every request as a single batch
+	 */
+	public void setMaxBatchTokens(int maxBatchTokens) {
+		Assert.isTrue(maxBatchTokens >= 0, "maxBatchTokens must not be negative");
+		this.maxBatchTokens = maxBatchTokens;
+	}
+
+	/**
+	 * Sets the number of ONNX runtime sessions used to run micro-batches concurrently.
+	 * Every session holds its own copy of the model. Only used in throughput mode.
+	 * @param sessionPoolSize the number of sessions
+	 */
+	public void setSessionPoolSize(int sessionPoolSize) {
+		Assert.isTrue(sessionPoolSize > 0, "sessionPoolSize must be positive");
+		this.sessionPoolSize = sessionPoolSize;
+	}
+
+	/**
+	 * Sets the number of threads each ONNX runtime session uses to run an operator. When
+	 * several sessions are pooled, the product of both should not exceed the number of
+	 * available cores.
+	 * @param intraOpNumThreads the number of threads, or {@code 0} for the ONNX runtime
+	 * default
+	 */
+	public void setIntraOpNumThreads(int intraOpNumThreads) {
+		Assert.isTrue(intraOpNumThreads >= 0, "intraOpNumThreads must not be negative");
+		this.intraOpNumThreads = intraOpNumThreads;
+	}
+
+	/**
+	 * Sets the file the optimized model graph is cached in. The graph is optimized and
+	 * saved on the first startup, and later startups load it without optimizing it again.
+	 * The file must be deleted when the model changes.
+	 * @param optimizedModelPath the path of the optimized model, or {@code null} to
+	 * optimize the model on every startup
+	 */
+	public void setOptimizedModelPath(@Nullable String optimizedModelPath) {
+		this.optimizedModelPath = optimizedModelPath;
+	}
+
+	/**
+	 * Sets a text embedded once on every session at startup, so that the first request
+	 * does not pay for the lazy initialization of the ONNX runtime.
+	 * @param warmUpText the text to embed, or {@code null} to skip the warm-up
+	 */
+	public void setWarmUpText(@Nullable String warmUpText) {
+		this.warmUpText = warmUpText;
+	}
+
+	/**
+	 * Sets the executor running micro-batches on the pooled sessions. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor}.
+	 * @param executor the executor to use
+	 */
+	public void setExecutor(Executor executor) {
+		Assert.notNull(executor, "executor must not be null");
+		this.executor = executor;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 
@@ -232,25 +374,89 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 		this.tokenizer = HuggingFaceTokenizer.newInstance(getCachedResource(this.tokenizerResource).getInputStream(),
 				this.tokenizerOptions);
 
+		long startupStart = System.nanoTime();
+		Observation.createNotStarted(STARTUP_OBSERVATION_NAME, this.observationRegistry).observeChecked(() -> {
+			Resource model = getCachedResource(this.modelResource);
+			this.session = createSession(model);
+			List<OrtSession> sessions = new ArrayList<>();
+			for (int i = 1; i < this.sessionPoolSize; i++) {
+				sessions.add(createSession(model));
+			}
+			this.additionalSessions = sessions;
+
+			this.onnxModelInputs = this.session.getInputNames();
+			Set<String> onnxModelOutputs = this.session.getOutputNames();
+
+			logger.info("Model input names: " + this.onnxModelInputs.stream().collect(Collectors.joining(", ")));
+			logger.info("Model output names: " + onnxModelOutputs.stream().collect(Collectors.joining(", ")));
+
+			Assert.isTrue(onnxModelOutputs.contains(this.modelOutputName),
+					"The generative output names don't contain expected: " + this.modelOutputName
+							+ ". Consider one of the available model outputs: "
+							+ onnxModelOutputs.stream().collect(Collectors.joining(", ")));
+
+			String warmUp = this.warmUpText;
+			if (StringUtils.hasText(warmUp)) {
+				Encoding[] warmUpEncodings = this.tokenizer.batchEncode(List.of(warmUp));
+				embedBatch(warmUpEncodings, this.session);
+				for (OrtSession additionalSession : this.additionalSessions) {
+					embedBatch(warmUpEncodings, additionalSession);
+				}
+			}
+		});
+		Duration startup = Duration.ofNanos(System.nanoTime() - startupStart);
+		this.startupDuration = startup;
+		logger.info("Model sessions created in " + startup.toMillis() + " ms");
+	}
+
+	/**
+	 * Creates a session for the model. Cached models are loaded by the ONNX runtime from
+	 * their file, so the model is not copied onto the Java heap. When an optimized model
+	 * path is set, the graph optimized on the first startup is saved there and loaded
+	 * without further optimization on later startups.
+	 */
+	private OrtSession createSession(Resource model) throws IOException, OrtException {
 		try (var sessionOptions = new OrtSession.SessionOptions()) {
 			if (this.gpuDeviceId >= 0) {
 				sessionOptions.addCUDA(this.gpuDeviceId); // Run on a GPU or with another
 				// provider
 			}
-			this.session = this.environment.createSession(getCachedResource(this.modelResource).getContentAsByteArray(),
-					sessionOptions);
+			if (this.intraOpNumThreads > 0) {
+				sessionOptions.setIntraOpNumThreads(this.intraOpNumThreads);
+			}
+			if (this.optimizedModelPath != null) {
+				File optimizedModel = new File(this.optimizedModelPath);
+				if (optimizedModel.isFile()) {
+					sessionOptions.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.NO_OPT);
+					return this.environment.createSession(optimizedModel.getAbsolutePath(), sessionOptions);
+				}
+				sessionOptions.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.EXTENDED_OPT);
+				sessionOptions.setOptimizedModelFilePath(optimizedModel.getAbsolutePath());
+			}
+			if (model.isFile()) {
+				return this.environment.createSession(model.getFile().getAbsolutePath(), sessionOptions);
+			}
+			return this.environment.createSession(model.getContentAsByteArray(), sessionOptions);
 		}
+	}
 
-		this.onnxModelInputs = this.session.getInputNames();
-		Set<String> onnxModelOutputs = this.session.getOutputNames();
-
-		logger.info("Model input names: " + this.onnxModelInputs.stream().collect(Collectors.joining(", ")));
-		logger.info("Model output names: " + onnxModelOutputs.stream().collect(Collectors.joining(", ")));
+	/**
+	 * Returns how long creating the ONNX runtime sessions, including the warm-up
+	 * inference, took in {@link #afterPropertiesSet()}.
+	 * @return the startup duration, or {@code null} before the model is initialized
+	 */
+	public @Nullable Duration getStartupDuration() {
+		return this.startupDuration;
+	}
 
-		Assert.isTrue(onnxModelOutputs.contains(this.modelOutputName),
-				"The generative output names don't contain expected: " + this.modelOutputName
-						+ ". Consider one of the available model outputs: "
-						+ onnxModelOutputs.stream().collect(Collectors.joining(", ")));
+	/**
+	 * Returns how long the first inference took, which is the warm-up inference when a
+	 * warm-up text is set. The first inference is also observed as
+	 * {@link #FIRST_INFERENCE_OBSERVATION_NAME}.
+	 * @return the duration of the first inference, or {@code null} before any inference
+	 */
+	public @Nullable Duration getFirstInferenceDuration() {
+		return this.firstInferenceDuration;
 	}
 
 	/**
@@ -267,8 +473,15 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 			}
 		}
 		finally {
-			if (this.session != null) {
-				this.session.close();
+			try {
+				if (this.session != null) {
+					this.session.close();
+				}
+			}
+			finally {
+				for (OrtSession additionalSession : this.additionalSessions) {
+					additionalSession.close();
+				}
 			}
 		}
 	}
@@ -324,55 +537,15 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 			.observation(this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
 					this.observationRegistry)
 			.observe(() -> {
-				List<float[]> resultEmbeddings = new ArrayList<>();
+				List<float[]> resultEmbeddings;
 
 				try {
-
-					Encoding[] encodings = this.tokenizer.batchEncode(request.getInstructions());
-
-					long[][] input_ids0 = new long[encodings.length][];
-					long[][] attention_mask0 = new long[encodings.length][];
-					long[][] token_type_ids0 = new long[encodings.length][];
-
-					for (int i = 0; i < encodings.length; i++) {
-						input_ids0[i] = encodings[i].getIds();
-						attention_mask0[i] = encodings[i].getAttentionMask();
-						token_type_ids0[i] = encodings[i].getTypeIds();
+					if (this.maxBatchTokens > 0) {
+						resultEmbeddings = embedInMicroBatches(request.getInstructions());
 					}
-
-					try (OnnxTensor inputIds = OnnxTensor.createTensor(this.environment, input_ids0);
-							OnnxTensor attentionMask = OnnxTensor.createTensor(this.environment, attention_mask0);
-							OnnxTensor tokenTypeIds = OnnxTensor.createTensor(this.environment, token_type_ids0);) {
-
-						Map<String, OnnxTensor> modelInputs = Map.of("input_ids", inputIds, "attention_mask",
-								attentionMask, "token_type_ids", tokenTypeIds);
-
-						modelInputs = removeUnknownModelInputs(modelInputs);
-
-						// The Run result object is AutoCloseable to prevent references
-						// from leaking out. Once the Result object is
-						// closed, all it’s child OnnxValues are closed too.
-						try (OrtSession.Result results = this.session.run(modelInputs)) {
-
-							// OnnxValue lastHiddenState = results.get(0);
-							OnnxValue lastHiddenState = results.get(this.modelOutputName).get();
-
-							// 0 - batch_size (1..x)
-							// 1 - sequence_length (128)
-							// 2 - embedding dimensions (384)
-							float[][][] tokenEmbeddings = (float[][][]) lastHiddenState.getValue();
-
-							try (NDManager manager = NDManager.newBaseManager()) {
-								NDArray ndTokenEmbeddings = create(tokenEmbeddings, manager);
-								NDArray ndAttentionMask = manager.create(attention_mask0);
-
-								NDArray embedding = meanPooling(ndTokenEmbeddings, ndAttentionMask);
-
-								for (int i = 0; i < embedding.size(0); i++) {
-									resultEmbeddings.add(embedding.get(i).toFloatArray());
-								}
-							}
-						}
+					else {
+						resultEmbeddings = embedBatch(this.tokenizer.batchEncode(request.getInstructions()),
+								this.session);
 					}
 				}
 				catch (OrtException ex) {
@@ -389,47 +562,184 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 			});
 	}
 
-	private Map<String, OnnxTensor> removeUnknownModelInputs(Map<String, OnnxTensor> modelInputs) {
+	/**
+	 * Embeds the inputs sorted by length, in micro-batches of at most
+	 * {@link #maxBatchTokens} padded tokens. Micro-batches are picked up by one worker
+	 * per session; the first worker runs on the calling thread.
+	 */
+	private List<float[]> embedInMicroBatches(List<String> texts) throws OrtException {
+		if (texts.isEmpty()) {
+			return List.of();
+		}
+		Encoding[] encodings = new Encoding[texts.size()];
+		Integer[] order = new Integer[texts.size()];
+		for (int i = 0; i < texts.size(); i++) {
+			encodings[i] = this.tokenizer.encode(texts.get(i));
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparingInt(i -> encodings[i].getIds().length));
+
+		List<int[]> microBatches = new ArrayList<>();
+		int from = 0;
+		for (int to = 1; to <= order.length; to++) {
+			int length = (to < order.length) ? encodings[order[to]].getIds().length : 0;
+			if (to == order.length || (long) (to - from + 1) * length > this.maxBatchTokens) {
+				int[] microBatch = new int[to - from];
+				for (int i = from; i < to; i++) {
+					microBatch[i - from] = order[i];
+				}
+				microBatches.add(microBatch);
+				from = to;
+			}
+		}
 
-		return modelInputs.entrySet()
-			.stream()
-			.filter(a -> this.onnxModelInputs.contains(a.getKey()))
-			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+		float[][] embeddings = new float[texts.size()][];
+		AtomicInteger next = new AtomicInteger();
+		int additionalWorkers = Math.min(this.additionalSessions.size(), microBatches.size() - 1);
+		List<CompletableFuture<Void>> workers = new ArrayList<>();
+		for (OrtSession additionalSession : this.additionalSessions.subList(0, additionalWorkers)) {
+			workers.add(CompletableFuture.runAsync(() -> {
+				try {
+					embedMicroBatches(microBatches, next, encodings, embeddings, additionalSession);
+				}
+				catch (OrtException ex) {
+					throw new CompletionException(ex);
+				}
+			}, this.executor));
+		}
+		try {
+			embedMicroBatches(microBatches, next, encodings, embeddings, this.session);
+		}
+		finally {
+			for (CompletableFuture<Void> worker : workers) {
+				try {
+					worker.join();
+				}
+				catch (CompletionException ex) {
+					if (ex.getCause() instanceof OrtException ortException) {
+						throw ortException;
+					}
+					throw ex;
+				}
+			}
+		}
+		return Arrays.asList(embeddings);
+	}
 
+	private void embedMicroBatches(List<int[]> microBatches, AtomicInteger next, Encoding[] encodings,
+			float[][] embeddings, OrtSession session) throws OrtException {
+		for (int index = next.getAndIncrement(); index < microBatches.size(); index = next.getAndIncrement()) {
+			int[] microBatch = microBatches.get(index);
+			Encoding[] batch = new Encoding[microBatch.length];
+			for (int i = 0; i < microBatch.length; i++) {
+				batch[i] = encodings[microBatch[i]];
+			}
+			List<float[]> batchEmbeddings = embedBatch(batch, session);
+			for (int i = 0; i < microBatch.length; i++) {
+				embeddings[microBatch[i]] = batchEmbeddings.get(i);
+			}
+		}
 	}
 
-	// Build a NDArray from 3D float array.
-	private NDArray create(float[][][] data3d, NDManager manager) {
+	/**
+	 * Runs the encodings as one batch, padded to the longest encoding, and mean pools the
+	 * token embeddings of each input.
+	 */
+	private List<float[]> embedBatch(Encoding[] encodings, OrtSession session) throws OrtException {
+		int sequenceLength = 0;
+		for (Encoding encoding : encodings) {
+			sequenceLength = Math.max(sequenceLength, encoding.getIds().length);
+		}
 
-		FloatBuffer buffer = FloatBuffer.allocate(data3d.length * data3d[0].length * data3d[0][0].length);
+		long[][] input_ids0 = new long[encodings.length][];
+		long[][] attention_mask0 = new long[encodings.length][];
+		long[][] token_type_ids0 = new long[encodings.length][];
 
-		for (float[][] data2d : data3d) {
-			for (float[] data1d : data2d) {
-				buffer.put(data1d);
-			}
+		for (int i = 0; i < encodings.length; i++) {
+			input_ids0[i] = Arrays.copyOf(encodings[i].getIds(), sequenceLength);
+			attention_mask0[i] = Arrays.copyOf(encodings[i].getAttentionMask(), sequenceLength);
+			token_type_ids0[i] = Arrays.copyOf(encodings[i].getTypeIds(), sequenceLength);
 		}
-		buffer.rewind();
 
-		return manager.create(buffer, new Shape(data3d.length, data3d[0].length, data3d[0][0].length));
-	}
+		try (OnnxTensor inputIds = OnnxTensor.createTensor(this.environment, input_ids0);
+				OnnxTensor attentionMask = OnnxTensor.createTensor(this.environment, attention_mask0);
+				OnnxTensor tokenTypeIds = OnnxTensor.createTensor(this.environment, token_type_ids0);) {
+
+			Map<String, OnnxTensor> modelInputs = Map.of("input_ids", inputIds, "attention_mask", attentionMask,
+					"token_type_ids", tokenTypeIds);
+
+			Map<String, OnnxTensor> knownModelInputs = removeUnknownModelInputs(modelInputs);
 
-	private NDArray meanPooling(NDArray tokenEmbeddings, NDArray attentionMask) {
+			// The Run result object is AutoCloseable to prevent references
+			// from leaking out. Once the Result object is
+			// closed, all it’s child OnnxValues are closed too.
+			try (OrtSession.Result results = this.firstInferenceStarted.compareAndSet(false, true)
+					? runFirstInference(session, knownModelInputs) : session.run(knownModelInputs)) {
+				OnnxValue lastHiddenState = results.get(this.modelOutputName).get();
 
-		NDArray attentionMaskExpanded = attentionMask.expandDims(-1)
-			.broadcast(tokenEmbeddings.getShape())
-			.toType(DataType.FLOAT32, false);
+				// 0 - batch_size (1..x)
+				// 1 - sequence_length (128)
+				// 2 - embedding dimensions (384)
+				OnnxTensor tokenEmbeddings = (OnnxTensor) lastHiddenState;
+				long[] shape = ((TensorInfo) tokenEmbeddings.getInfo()).getShape();
+				FloatBuffer buffer = tokenEmbeddings.getFloatBuffer();
+				Assert.state(buffer != null, "The model output " + this.modelOutputName + " is not a float tensor");
 
-		// Multiply token embeddings with expanded attention mask
-		NDArray weightedEmbeddings = tokenEmbeddings.mul(attentionMaskExpanded);
+				return meanPooling(buffer, (int) shape[1], (int) shape[2], attention_mask0);
+			}
+		}
+	}
+
+	private OrtSession.Result runFirstInference(OrtSession session, Map<String, OnnxTensor> modelInputs)
+			throws OrtException {
+		long inferenceStart = System.nanoTime();
+		OrtSession.Result results = Observation
+			.createNotStarted(FIRST_INFERENCE_OBSERVATION_NAME, this.observationRegistry)
+			.observeChecked(() -> session.run(modelInputs));
+		Duration inferenceDuration = Duration.ofNanos(System.nanoTime() - inferenceStart);
+		this.firstInferenceDuration = inferenceDuration;
+		logger.info("First inference completed in " + inferenceDuration.toMillis() + " ms");
+		return Objects.requireNonNull(results);
+	}
 
-		// Sum along the appropriate axis
-		NDArray sumEmbeddings = weightedEmbeddings.sum(new int[] { EMBEDDING_AXIS });
+	private Map<String, OnnxTensor> removeUnknownModelInputs(Map<String, OnnxTensor> modelInputs) {
 
-		// Clamp the attention mask sum to avoid division by zero
-		NDArray sumMask = attentionMaskExpanded.sum(new int[] { EMBEDDING_AXIS }).clip(1e-9f, Float.MAX_VALUE);
+		return modelInputs.entrySet()
+			.stream()
+			.filter(a -> this.onnxModelInputs.contains(a.getKey()))
+			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
-		// Divide sum embeddings by sum mask
-		return sumEmbeddings.div(sumMask);
+	}
+
+	/**
+	 * Averages the token embeddings of each input, weighted by the attention mask,
+	 * directly on the flat {@code [batch, sequence, dimensions]} model output.
+	 */
+	private static List<float[]> meanPooling(FloatBuffer tokenEmbeddings, int sequenceLength, int dimensions,
+			long[][] attentionMask) {
+		List<float[]> embeddings = new ArrayList<>(attentionMask.length);
+		for (int i = 0; i < attentionMask.length; i++) {
+			float[] sum = new float[dimensions];
+			float maskSum = 0;
+			for (int token = 0; token < sequenceLength; token++) {
+				float weight = attentionMask[i][token];
+				if (weight == 0) {
+					continue;
+				}
+				int offset = (i * sequenceLength + token) * dimensions;
+				for (int d = 0; d < dimensions; d++) {
+					sum[d] += tokenEmbeddings.get(offset + d) * weight;
+				}
+				maskSum += weight;
+			}
+			// Clamp the attention mask sum to avoid division by zero
+			float divisor = Math.max(maskSum, 1e-9f);
+			for (int d = 0; d < dimensions; d++) {
+				sum[d] /= divisor;
+			}
+			embeddings.add(sum);
+		}
+		return embeddings;
 	}
 
 	/**
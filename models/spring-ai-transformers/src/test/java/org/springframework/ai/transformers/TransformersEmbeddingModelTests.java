@@ -16,19 +16,25 @@
 
 package org.springframework.ai.transformers;
 
+import java.nio.file.Path;
 import java.text.DecimalFormat;
 import java.util.List;
 
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.onnxruntime.OrtSession;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
 import org.springframework.ai.embedding.EmbeddingResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -78,6 +84,55 @@ public class TransformersEmbeddingModelTests {
 		assertThat(embed.get(0)).isNotEqualTo(embed.get(1));
 	}
 
+	@Test
+	void embedListInMicroBatches() throws Exception {
+		TransformersEmbeddingModel embeddingModel = new TransformersEmbeddingModel();
+		embeddingModel.afterPropertiesSet();
+		List<String> texts = List.of("Hello world", "World is big", "A considerably longer sentence about the world",
+				"Hi");
+		List<float[]> expected = embeddingModel.embed(texts);
+
+		try (TransformersEmbeddingModel batchingModel = new TransformersEmbeddingModel()) {
+			batchingModel.setMaxBatchTokens(16);
+			batchingModel.setSessionPoolSize(2);
+			batchingModel.afterPropertiesSet();
+			List<float[]> embed = batchingModel.embed(texts);
+
+			assertThat(embed).hasSize(texts.size());
+			for (int i = 0; i < texts.size(); i++) {
+				assertThat(embed.get(i)).containsExactly(expected.get(i), within(1e-5f));
+			}
+		}
+	}
+
+	@Test
+	void warmUpRecordsStartupTimings(@TempDir Path tempDir) throws Exception {
+		String optimizedModel = tempDir.resolve("model.opt.onnx").toString();
+		for (int startup = 0; startup < 2; startup++) {
+			TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+			try (TransformersEmbeddingModel embeddingModel = new TransformersEmbeddingModel(MetadataMode.NONE,
+					observationRegistry)) {
+				embeddingModel.setOptimizedModelPath(optimizedModel);
+				embeddingModel.setWarmUpText("warm up");
+				embeddingModel.afterPropertiesSet();
+
+				assertThat(embeddingModel.getStartupDuration()).isNotNull();
+				assertThat(embeddingModel.getFirstInferenceDuration()).isNotNull();
+				TestObservationRegistryAssert.assertThat(observationRegistry)
+					.hasObservationWithNameEqualTo(TransformersEmbeddingModel.STARTUP_OBSERVATION_NAME)
+					.that()
+					.hasBeenStopped();
+				TestObservationRegistryAssert.assertThat(observationRegistry)
+					.hasObservationWithNameEqualTo(TransformersEmbeddingModel.FIRST_INFERENCE_OBSERVATION_NAME)
+					.that()
+					.hasBeenStopped();
+				assertThat(tempDir.resolve("model.opt.onnx")).isRegularFile();
+				assertThat(DF.format(embeddingModel.embed("Hello world")[0]))
+					.isEqualTo(DF.format(-0.19744634628295898));
+			}
+		}
+	}
+
 	@Test
 	void embedForResponse() throws Exception {
 		TransformersEmbeddingModel embeddingModel = new TransformersEmbeddingModel();
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.converter.BeanOutputConverter;
+
+/**
+ * Benchmarks {@link BeanOutputConverter#convert(String)} on plain and markdown fenced
+ * model output.
+ *
+ * @since 2.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanOutputConverterBenchmark {
+
+	private static final String JSON = """
+			{
+				"actor": "Tom Hanks",
+				"movies": [
+					{"title": "Forrest Gump", "year": 1994, "genres": ["Drama", "Romance"]},
+					{"title": "Cast Away", "year": 2000, "genres": ["Adventure", "Drama"]},
+					{"title": "Apollo 13", "year": 1995, "genres": ["Adventure", "Drama", "History"]},
+					{"title": "Big", "year": 1988, "genres": ["Comedy", "Drama", "Fantasy"]}
+				]
+			}""";
+
+	private static final String FENCED_JSON = "```json\n" + JSON + "\n```";
+
+	private final BeanOutputConverter<ActorsFilms> converter = new BeanOutputConverter<>(ActorsFilms.class);
+
+	@Benchmark
+	public ActorsFilms convert() {
+		return this.converter.convert(JSON);
+	}
+
+	@Benchmark
+	public ActorsFilms convertFenced() {
+		return this.converter.convert(FENCED_JSON);
+	}
+
+	public record ActorsFilms(String actor, List<Movie> movies) {
+
+	}
+
+	public record Movie(String title, int year, List<String> genres) {
+
+	}
+
+}
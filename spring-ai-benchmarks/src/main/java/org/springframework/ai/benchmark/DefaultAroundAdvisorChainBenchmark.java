@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.DefaultAroundAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.core.Ordered;
+
+/**
+ * Benchmarks dispatching a call through a {@link DefaultAroundAdvisorChain} of
+ * pass-through advisors ending in a stub model advisor.
+ *
+ * @since 2.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultAroundAdvisorChainBenchmark {
+
+	@Param({ "1", "5", "20" })
+	private int advisorCount;
+
+	private final List<CallAdvisor> advisors = new ArrayList<>();
+
+	private final ChatClientRequest request = ChatClientRequest.builder().prompt(new Prompt("Hello")).build();
+
+	@Setup
+	public void setUp() {
+		this.advisors.clear();
+		for (int i = 0; i < this.advisorCount; i++) {
+			this.advisors.add(new PassThroughAdvisor("advisor-" + i, i));
+		}
+		this.advisors.add(new StubModelAdvisor());
+	}
+
+	@Benchmark
+	public ChatClientResponse nextCall() {
+		return DefaultAroundAdvisorChain.builder(ObservationRegistry.NOOP)
+			.pushAll(this.advisors)
+			.build()
+			.nextCall(this.request);
+	}
+
+	private static final class PassThroughAdvisor implements CallAdvisor {
+
+		private final String name;
+
+		private final int order;
+
+		PassThroughAdvisor(String name, int order) {
+			this.name = name;
+			this.order = order;
+		}
+
+		@Override
+		public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+			return callAdvisorChain.nextCall(chatClientRequest);
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public int getOrder() {
+			return this.order;
+		}
+
+	}
+
+	private static final class StubModelAdvisor implements CallAdvisor {
+
+		private final ChatResponse chatResponse = new ChatResponse(
+				List.of(new Generation(new AssistantMessage("Hello from the stub model"))));
+
+		@Override
+		public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+			return ChatClientResponse.builder()
+				.chatResponse(this.chatResponse)
+				.context(chatClientRequest.context())
+				.build();
+		}
+
+		@Override
+		public String getName() {
+			return "stub-model";
+		}
+
+		@Override
+		public int getOrder() {
+			return Ordered.LOWEST_PRECEDENCE;
+		}
+
+	}
+
+}
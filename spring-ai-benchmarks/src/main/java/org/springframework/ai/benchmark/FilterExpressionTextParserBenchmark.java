@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser;
+
+/**
+ * Benchmarks {@link FilterExpressionTextParser#parse(String)}, both on a cold cache and
+ * for repeated expressions served from the parser cache.
+ *
+ * @since 2.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterExpressionTextParserBenchmark {
+
+	@Param({ "category == 'c3'", "category in ['c1', 'c3', 'c5'] && year >= 2010",
+			"(category == 'c3' || author == 'a7') && year >= 2010 && tag not in ['x', 'y']" })
+	@SuppressWarnings("NullAway.Init")
+	private String filter;
+
+	private final FilterExpressionTextParser parser = new FilterExpressionTextParser();
+
+	@Benchmark
+	public Filter.Expression parse() {
+		this.parser.clearCache();
+		return this.parser.parse(this.filter);
+	}
+
+	@Benchmark
+	public Filter.Expression parseCached() {
+		return this.parser.parse(this.filter);
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.knuddels.jtokkit.api.IntArrayList;
+
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+
+/**
+ * {@link TokenTextSplitter} using the previous splitting algorithm, which boxes the token
+ * list, decodes each chunk from a sub list and re-encodes the truncated chunk text to
+ * find out how many tokens it consumed. Kept as a baseline for
+ * {@link TokenTextSplitterBenchmark}.
+ *
+ * @since 2.0.1
+ */
+class LegacyTokenTextSplitter extends TokenTextSplitter {
+
+	private static final int MIN_CHUNK_SIZE_CHARS = 350;
+
+	private static final int MIN_CHUNK_LENGTH_TO_EMBED = 5;
+
+	private static final int MAX_NUM_CHUNKS = 10000;
+
+	private final Encoding encoding = Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.CL100K_BASE);
+
+	@SuppressWarnings("removal")
+	LegacyTokenTextSplitter() {
+		super(EncodingType.CL100K_BASE, true);
+	}
+
+	@Override
+	protected List<String> doSplit(String text, int chunkSize) {
+		if (text.trim().isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		List<Integer> tokens = this.encoding.encode(text).boxed();
+		List<String> chunks = new ArrayList<>();
+		int num_chunks = 0;
+		while (!tokens.isEmpty() && num_chunks < MAX_NUM_CHUNKS) {
+			List<Integer> chunk = tokens.subList(0, Math.min(chunkSize, tokens.size()));
+			String chunkText = decodeTokens(chunk);
+
+			if (chunkText.trim().isEmpty()) {
+				tokens = tokens.subList(chunk.size(), tokens.size());
+				continue;
+			}
+
+			if (tokens.size() > chunkSize) {
+				int lastPunctuation = getLastPunctuationIndex(chunkText);
+				if (lastPunctuation != -1 && lastPunctuation > MIN_CHUNK_SIZE_CHARS) {
+					chunkText = chunkText.substring(0, lastPunctuation + 1);
+				}
+			}
+
+			String chunkTextToAppend = chunkText.trim();
+			if (chunkTextToAppend.length() > MIN_CHUNK_LENGTH_TO_EMBED) {
+				chunks.add(chunkTextToAppend);
+			}
+
+			tokens = tokens.subList(this.encoding.encode(chunkText).size(), tokens.size());
+
+			num_chunks++;
+		}
+
+		if (!tokens.isEmpty()) {
+			String remaining_text = decodeTokens(tokens).replace(System.lineSeparator(), " ").trim();
+			if (remaining_text.length() > MIN_CHUNK_LENGTH_TO_EMBED) {
+				chunks.add(remaining_text);
+			}
+		}
+
+		return chunks;
+	}
+
+	private String decodeTokens(List<Integer> tokens) {
+		var tokensIntArray = new IntArrayList(tokens.size());
+		tokens.forEach(tokensIntArray::add);
+		return this.encoding.decode(tokensIntArray);
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.model.MessageAggregator;
+
+/**
+ * Benchmarks {@link MessageAggregator} over long streams of small chat response chunks.
+ *
+ * @since 2.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageAggregatorBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	private int chunks;
+
+	private final MessageAggregator aggregator = new MessageAggregator();
+
+	private final List<ChatResponse> responses = new ArrayList<>();
+
+	@Setup
+	public void setUp() {
+		this.responses.clear();
+		for (int i = 0; i < this.chunks; i++) {
+			this.responses.add(new ChatResponse(List.of(new Generation(new AssistantMessage("token" + i + " ")))));
+		}
+	}
+
+	@Benchmark
+	public ChatResponse aggregate() {
+		AtomicReference<ChatResponse> aggregated = new AtomicReference<>();
+		this.aggregator.aggregate(Flux.fromIterable(this.responses), aggregated::set).blockLast();
+		return aggregated.get();
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+
+/**
+ * Benchmarks {@link SimpleVectorStore} similarity search over stores of various sizes,
+ * with and without a metadata filter.
+ *
+ * @since 2.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleVectorStoreSearchBenchmark {
+
+	private static final int DIMENSIONS = 384;
+
+	@Param({ "1000", "10000", "100000" })
+	private int size;
+
+	@Param({ "EXACT", "HNSW" })
+	@SuppressWarnings("NullAway.Init")
+	private SimpleVectorStore.IndexType indexType;
+
+	@SuppressWarnings("NullAway.Init")
+	private SimpleVectorStore vectorStore;
+
+	@SuppressWarnings("NullAway.Init")
+	private SearchRequest searchRequest;
+
+	@SuppressWarnings("NullAway.Init")
+	private SearchRequest filteredSearchRequest;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.vectorStore = SimpleVectorStore.builder(new StubEmbeddingModel(DIMENSIONS))
+			.indexType(this.indexType)
+			.build();
+		List<Document> documents = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; i++) {
+			documents.add(new Document("document " + i, Map.of("category", "c" + (i % 10), "year", 2000 + (i % 25))));
+		}
+		this.vectorStore.add(documents);
+		this.searchRequest = SearchRequest.builder().query("query text").topK(10).similarityThresholdAll().build();
+		this.filteredSearchRequest = SearchRequest.from(this.searchRequest)
+			.filterExpression("category == 'c3' && year >= 2010")
+			.build();
+	}
+
+	@Benchmark
+	public List<Document> search() {
+		return this.vectorStore.similaritySearch(this.searchRequest);
+	}
+
+	@Benchmark
+	public List<Document> filteredSearch() {
+		return this.vectorStore.similaritySearch(this.filteredSearchRequest);
+	}
+
+}
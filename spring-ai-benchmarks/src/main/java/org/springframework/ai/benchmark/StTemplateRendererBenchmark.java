@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.template.TemplateRenderer;
+import org.springframework.ai.template.ValidationMode;
+import org.springframework.ai.template.st.StTemplateRenderer;
+
+/**
+ * Benchmarks {@link StTemplateRenderer#apply(String, Map)} on a typical RAG prompt
+ * template, with and without variable validation.
+ *
+ * @since 2.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StTemplateRendererBenchmark {
+
+	private static final String TEMPLATE = """
+			{query}
+
+			Context information is below, surrounded by ---------------------
+
+			---------------------
+			{question_answer_context}
+			---------------------
+
+			Given the context and provided history information and not prior knowledge,
+			reply to the user comment. If the answer is not in the context, inform
+			the user that you can't answer the question.
+			""";
+
+	private final Map<String, Object> variables = Map.of("query", "What is Spring AI?", "question_answer_context",
+			"Spring AI is an application framework for AI engineering. ".repeat(50));
+
+	private final TemplateRenderer renderer = StTemplateRenderer.builder().build();
+
+	private final TemplateRenderer nonValidatingRenderer = StTemplateRenderer.builder()
+		.validationMode(ValidationMode.NONE)
+		.build();
+
+	@Benchmark
+	public String apply() {
+		return this.renderer.apply(TEMPLATE, this.variables);
+	}
+
+	@Benchmark
+	public String applyWithoutValidation() {
+		return this.nonValidatingRenderer.apply(TEMPLATE, this.variables);
+	}
+
+}
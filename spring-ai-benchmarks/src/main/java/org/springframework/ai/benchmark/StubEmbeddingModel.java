@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+/**
+ * {@link EmbeddingModel} returning deterministic pseudo-random unit vectors seeded by the
+ * hash of the input text, so that benchmarks never reach a remote model.
+ *
+ * @since 2.0.1
+ */
+public class StubEmbeddingModel implements EmbeddingModel {
+
+	private final int dimensions;
+
+	public StubEmbeddingModel(int dimensions) {
+		this.dimensions = dimensions;
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		List<String> instructions = request.getInstructions();
+		List<Embedding> embeddings = new ArrayList<>(instructions.size());
+		for (int i = 0; i < instructions.size(); i++) {
+			embeddings.add(new Embedding(embed(instructions.get(i)), i));
+		}
+		return new EmbeddingResponse(embeddings);
+	}
+
+	@Override
+	public float[] embed(String text) {
+		return vector(text.hashCode(), this.dimensions);
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		return embed(String.valueOf(document.getText()));
+	}
+
+	@Override
+	public int dimensions() {
+		return this.dimensions;
+	}
+
+	/**
+	 * Returns a unit vector whose components are derived from the given seed.
+	 * @param seed the random seed
+	 * @param dimensions the number of dimensions
+	 * @return the normalized vector
+	 */
+	public static float[] vector(long seed, int dimensions) {
+		SplittableRandom random = new SplittableRandom(seed);
+		float[] vector = new float[dimensions];
+		double norm = 0;
+		for (int i = 0; i < dimensions; i++) {
+			vector[i] = (float) (random.nextDouble() * 2 - 1);
+			norm += vector[i] * vector[i];
+		}
+		float scale = (float) (1 / Math.sqrt(norm));
+		for (int i = 0; i < dimensions; i++) {
+			vector[i] *= scale;
+		}
+		return vector;
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.TokenCountBatchingStrategy;
+
+/**
+ * Benchmarks {@link TokenCountBatchingStrategy} with serial and parallel token
+ * estimation.
+ *
+ * @since 2.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenCountBatchingStrategyBenchmark {
+
+	@Param({ "1000", "10000" })
+	private int documentCount;
+
+	private final TokenCountBatchingStrategy serial = TokenCountBatchingStrategy.builder().build();
+
+	private final TokenCountBatchingStrategy parallel = TokenCountBatchingStrategy.builder()
+		.parallelEstimation(true)
+		.build();
+
+	private final List<Document> documents = new ArrayList<>();
+
+	@Setup
+	public void setUp() {
+		this.documents.clear();
+		for (int i = 0; i < this.documentCount; i++) {
+			this.documents.add(new Document("Document " + i + " describes how Spring AI batches documents "
+					+ "before sending them to an embedding model.", Map.of("source", "doc-" + i)));
+		}
+	}
+
+	@Benchmark
+	public List<List<Document>> batch() {
+		return this.serial.batch(this.documents);
+	}
+
+	@Benchmark
+	public List<List<Document>> batchParallel() {
+		return this.parallel.batch(this.documents);
+	}
+
+}
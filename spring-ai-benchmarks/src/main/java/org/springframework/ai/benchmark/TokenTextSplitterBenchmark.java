@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+
+/**
+ * Benchmarks {@link TokenTextSplitter} against the previous splitting algorithm on
+ * documents of various lengths.
+ *
+ * @since 2.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenTextSplitterBenchmark {
+
+	private static final String SENTENCE = "Spring AI provides portable abstractions over chat, embedding and "
+			+ "vector store providers, so that applications can switch models without rewriting their code. ";
+
+	@Param({ "10000", "100000", "1000000" })
+	private int characters;
+
+	private final TokenTextSplitter splitter = TokenTextSplitter.builder().build();
+
+	private final TokenTextSplitter legacySplitter = new LegacyTokenTextSplitter();
+
+	@SuppressWarnings("NullAway.Init")
+	private Document document;
+
+	@Setup
+	public void setUp() {
+		StringBuilder text = new StringBuilder(this.characters + SENTENCE.length());
+		while (text.length() < this.characters) {
+			text.append(SENTENCE);
+		}
+		this.document = new Document(text.toString());
+	}
+
+	@Benchmark
+	public List<Document> split() {
+		return this.splitter.split(this.document);
+	}
+
+	@Benchmark
+	public List<Document> splitLegacy() {
+		return this.legacySplitter.split(this.document);
+	}
+
+}
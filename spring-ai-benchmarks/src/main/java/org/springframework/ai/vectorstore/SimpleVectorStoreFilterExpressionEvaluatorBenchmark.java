@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser;
+
+/**
+ * Benchmarks {@link SimpleVectorStoreFilterExpressionEvaluator}, comparing per-document
+ * evaluation of the expression tree against a predicate compiled once.
+ *
+ * @since 2.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleVectorStoreFilterExpressionEvaluatorBenchmark {
+
+	private static final int DOCUMENTS = 10_000;
+
+	@Param({ "category == 'c3'", "category in ['c1', 'c3', 'c5'] && year >= 2010",
+			"(category == 'c3' || author == 'a7') && year >= 2010 && tag not in ['x', 'y']" })
+	@SuppressWarnings("NullAway.Init")
+	private String filter;
+
+	private final SimpleVectorStoreFilterExpressionEvaluator evaluator = new SimpleVectorStoreFilterExpressionEvaluator();
+
+	private final List<Map<String, Object>> metadata = new ArrayList<>(DOCUMENTS);
+
+	@SuppressWarnings("NullAway.Init")
+	private Filter.Expression expression;
+
+	@SuppressWarnings("NullAway.Init")
+	private Predicate<Map<String, Object>> predicate;
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < DOCUMENTS; i++) {
+			this.metadata.add(Map.of("category", "c" + (i % 10), "author", "a" + (i % 13), "year", 2000 + (i % 25),
+					"tag", (i % 2 == 0) ? "x" : "z"));
+		}
+		this.expression = new FilterExpressionTextParser().parse(this.filter);
+		this.predicate = this.evaluator.compile(this.expression);
+	}
+
+	@Benchmark
+	public int evaluate() {
+		int matches = 0;
+		for (Map<String, Object> documentMetadata : this.metadata) {
+			if (this.evaluator.evaluate(this.expression, documentMetadata)) {
+				matches++;
+			}
+		}
+		return matches;
+	}
+
+	@Benchmark
+	public int compiled() {
+		int matches = 0;
+		for (Map<String, Object> documentMetadata : this.metadata) {
+			if (this.predicate.test(documentMetadata)) {
+				matches++;
+			}
+		}
+		return matches;
+	}
+
+}
@@ -18,9 +18,10 @@ package org.springframework.ai.chat.client.advisor;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.chat.client.ChatClientMessageAggregator;
 import org.springframework.ai.chat.client.ChatClientRequest;
@@ -40,7 +41,6 @@ import org.springframework.ai.model.tool.ToolCallingChatOptions;
 import org.springframework.ai.model.tool.ToolCallingManager;
 import org.springframework.ai.model.tool.ToolExecutionEligibilityChecker;
 import org.springframework.ai.model.tool.ToolExecutionResult;
-import org.springframework.ai.model.tool.internal.ToolCallReactiveContextHolder;
 import org.springframework.core.Ordered;
 import org.springframework.util.Assert;
 
@@ -356,15 +356,27 @@ public class ToolCallingAdvisor implements CallAdvisor, StreamAdvisor, ToolAdvis
 		Assert.notNull(chatResponse, "redundant check that should never fail, but here to help NullAway");
 		final ChatClientResponse finalAggregatedResponse = aggregatedResponse;
 
-		// Execute tool calls on bounded elastic scheduler (tool execution is blocking)
-		Flux<ChatClientResponse> toolCallFlux = Flux.deferContextual(ctx -> {
-			ToolExecutionResult toolExecutionResult;
-			try {
-				ToolCallReactiveContextHolder.setContext(ctx);
-				toolExecutionResult = this.toolCallingManager.executeToolCalls(new Prompt(fullTurnHistory, optionsCopy),
-						chatResponse);
-			}
-			catch (ToolCallLimitExceededException ex) {
+		// Execute tool calls asynchronously: asynchronous tool callbacks never park a
+		// thread, and blocking ones are offloaded by the tool calling manager.
+		return this.toolCallingManager.executeToolCallsAsync(new Prompt(fullTurnHistory, optionsCopy), chatResponse)
+			.map(toolExecutionResult -> {
+				if (toolExecutionResult.returnDirect()) {
+					// Return tool execution result directly to the application client
+					ChatClientResponse directResponse = finalAggregatedResponse.mutate()
+						.chatResponse(ChatResponse.builder()
+							.from(chatResponse)
+							.generations(ToolExecutionResult.buildGenerations(toolExecutionResult))
+							.build())
+						.build();
+					return Flux.just(usageAccumulator.applyAccumulatedUsage(directResponse));
+				}
+				// Recursive call with updated conversation history
+				List<Message> nextInstructions = this.doGetNextInstructionsForToolCallStream(finalRequest,
+						finalAggregatedResponse, toolExecutionResult);
+				return this.internalStream(streamAdvisorChain, originalRequest, optionsCopy, nextInstructions,
+						toolExecutionResult.conversationHistory(), usageAccumulator);
+			})
+			.onErrorResume(ToolCallLimitExceededException.class, ex -> {
 				// A configured tool call limit was hit. Return the breach as a single
 				// generation - rather than mixing it with any successful calls from
 				// the same batch as if they were equally valid alternative answers -
@@ -376,31 +388,9 @@ public class ToolCallingAdvisor implements CallAdvisor, StreamAdvisor, ToolAdvis
 						.generations(List.of(ex.buildGeneration()))
 						.build())
 					.build();
-				return Flux.just(usageAccumulator.applyAccumulatedUsage(limitResponse));
-			}
-			finally {
-				ToolCallReactiveContextHolder.clearContext();
-			}
-
-			if (toolExecutionResult.returnDirect()) {
-				// Return tool execution result directly to the application client
-				ChatClientResponse directResponse = finalAggregatedResponse.mutate()
-					.chatResponse(ChatResponse.builder()
-						.from(chatResponse)
-						.generations(ToolExecutionResult.buildGenerations(toolExecutionResult))
-						.build())
-					.build();
-				return Flux.just(usageAccumulator.applyAccumulatedUsage(directResponse));
-			}
-			else {
-				// Recursive call with updated conversation history
-				List<Message> nextInstructions = this.doGetNextInstructionsForToolCallStream(finalRequest,
-						finalAggregatedResponse, toolExecutionResult);
-				return this.internalStream(streamAdvisorChain, originalRequest, optionsCopy, nextInstructions,
-						toolExecutionResult.conversationHistory(), usageAccumulator);
-			}
-		});
-		return toolCallFlux.subscribeOn(Schedulers.boundedElastic());
+				return Mono.just(Flux.just(usageAccumulator.applyAccumulatedUsage(limitResponse)));
+			})
+			.flatMapMany(Function.identity());
 	}
 
 	/**
@@ -30,6 +30,7 @@ import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
 import io.micrometer.tracing.test.simple.SimpleSpan;
 import io.micrometer.tracing.test.simple.SimpleTracer;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import reactor.core.publisher.Flux;
 
 import org.springframework.ai.chat.client.ChatClientRequest;
@@ -89,7 +90,7 @@ class ToolCallingAdvisorSpanHierarchyTests {
 
 		// Mocked tool execution: one tool round, then the loop continues to the LLM
 		// again.
-		ToolCallingManager toolCallingManager = mock(ToolCallingManager.class);
+		ToolCallingManager toolCallingManager = mock(ToolCallingManager.class, Answers.CALLS_REAL_METHODS);
 		List<Message> conversationHistory = List.of(new UserMessage("What is the weather in Denver?"),
 				AssistantMessage.builder().content("").build(), ToolResponseMessage.builder().build());
 		when(toolCallingManager.executeToolCalls(any(Prompt.class), any(ChatResponse.class)))
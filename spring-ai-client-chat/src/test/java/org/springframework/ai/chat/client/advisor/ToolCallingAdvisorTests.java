@@ -24,6 +24,7 @@ import java.util.function.BiFunction;
 import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -76,7 +77,9 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class ToolCallingAdvisorTests {
 
-	@Mock
+	// Real default methods, so that the streaming path's executeToolCallsAsync()
+	// delegates to the stubbed executeToolCalls().
+	@Mock(answer = Answers.CALLS_REAL_METHODS)
 	private ToolCallingManager toolCallingManager;
 
 	@Mock
@@ -30,6 +30,7 @@ import tools.jackson.databind.annotation.JsonPOJOBuilder;
 import org.springframework.ai.content.Media;
 import org.springframework.ai.document.id.IdGenerator;
 import org.springframework.ai.document.id.RandomIdGenerator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -165,6 +166,13 @@ public class Document {
 	@JsonIgnore
 	private ContentFormatter contentFormatter = DEFAULT_CONTENT_FORMATTER;
 
+	/**
+	 * Ephemeral formatted content and token count kept by {@link #cacheFormattedContent}
+	 * and {@link #cacheTokenCount}.
+	 */
+	@JsonIgnore
+	private volatile @Nullable FormattedContent formattedContent;
+
 	/**
 	 * Creates a text document with a generated ID and empty metadata.
 	 * @param text the text content of the document
@@ -299,7 +307,7 @@ public class Document {
 	 */
 	public String getFormattedContent(MetadataMode metadataMode) {
 		Assert.notNull(metadataMode, "Metadata mode must not be null");
-		return this.contentFormatter.format(this, metadataMode);
+		return getFormattedContent(this.contentFormatter, metadataMode);
 	}
 
 	/**
@@ -308,9 +316,62 @@ public class Document {
 	public String getFormattedContent(ContentFormatter formatter, MetadataMode metadataMode) {
 		Assert.notNull(formatter, "formatter must not be null");
 		Assert.notNull(metadataMode, "Metadata mode must not be null");
+		FormattedContent cached = this.formattedContent;
+		if (cached != null && cached.matches(formatter, metadataMode, this.metadata)) {
+			return cached.content();
+		}
 		return formatter.format(this, metadataMode);
 	}
 
+	/**
+	 * Formats the content like
+	 * {@link #getFormattedContent(ContentFormatter, MetadataMode)} and keeps the result
+	 * on this document. Later calls with the same formatter and metadata mode return it
+	 * without formatting again, as long as the metadata is not changed. Only the most
+	 * recently cached content is kept.
+	 * @param formatter the formatter to use
+	 * @param metadataMode controls which metadata entries are included in the output
+	 * @return the formatted content
+	 */
+	public String cacheFormattedContent(ContentFormatter formatter, MetadataMode metadataMode) {
+		return cachedFormattedContent(formatter, metadataMode).content();
+	}
+
+	/**
+	 * Estimates the number of tokens of the content formatted like
+	 * {@link #cacheFormattedContent(ContentFormatter, MetadataMode)} and keeps both on
+	 * this document. Later calls with the same formatter, metadata mode and estimator
+	 * return the count without formatting or estimating again, as long as the metadata is
+	 * not changed.
+	 * @param formatter the formatter to use
+	 * @param metadataMode controls which metadata entries are included in the output
+	 * @param estimator the estimator counting the tokens of the formatted content
+	 * @return the estimated number of tokens
+	 * @since 2.0.1
+	 */
+	public int cacheTokenCount(ContentFormatter formatter, MetadataMode metadataMode, TokenCountEstimator estimator) {
+		Assert.notNull(estimator, "estimator must not be null");
+		FormattedContent cached = cachedFormattedContent(formatter, metadataMode);
+		if (cached.tokenCountEstimator() == estimator) {
+			return cached.tokenCount();
+		}
+		int tokenCount = estimator.estimate(cached.content());
+		this.formattedContent = cached.withTokenCount(estimator, tokenCount);
+		return tokenCount;
+	}
+
+	private FormattedContent cachedFormattedContent(ContentFormatter formatter, MetadataMode metadataMode) {
+		Assert.notNull(formatter, "formatter must not be null");
+		Assert.notNull(metadataMode, "Metadata mode must not be null");
+		FormattedContent cached = this.formattedContent;
+		if (cached != null && cached.matches(formatter, metadataMode, this.metadata)) {
+			return cached;
+		}
+		cached = new FormattedContent(formatter, metadataMode, this.metadata, formatter.format(this, metadataMode));
+		this.formattedContent = cached;
+		return cached;
+	}
+
 	/**
 	 * Returns the metadata associated with this document.
 	 * <p>
@@ -533,4 +594,86 @@ public class Document {
 
 	}
 
+	/**
+	 * Formatted content together with the metadata entries it was formatted from. The
+	 * entries are compared by reference, so any {@code put} on the metadata, including
+	 * one with a {@code null} value, invalidates the content without a deep comparison of
+	 * the values.
+	 */
+	private static final class FormattedContent {
+
+		private final ContentFormatter formatter;
+
+		private final MetadataMode metadataMode;
+
+		private final String[] keys;
+
+		private final @Nullable Object[] values;
+
+		private final String content;
+
+		private final @Nullable TokenCountEstimator tokenCountEstimator;
+
+		private final int tokenCount;
+
+		FormattedContent(ContentFormatter formatter, MetadataMode metadataMode, Map<String, Object> metadata,
+				String content) {
+			this.formatter = formatter;
+			this.metadataMode = metadataMode;
+			this.keys = new String[metadata.size()];
+			this.values = new Object[metadata.size()];
+			int i = 0;
+			for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+				this.keys[i] = entry.getKey();
+				this.values[i] = entry.getValue();
+				i++;
+			}
+			this.content = content;
+			this.tokenCountEstimator = null;
+			this.tokenCount = 0;
+		}
+
+		private FormattedContent(FormattedContent formattedContent, TokenCountEstimator tokenCountEstimator,
+				int tokenCount) {
+			this.formatter = formattedContent.formatter;
+			this.metadataMode = formattedContent.metadataMode;
+			this.keys = formattedContent.keys;
+			this.values = formattedContent.values;
+			this.content = formattedContent.content;
+			this.tokenCountEstimator = tokenCountEstimator;
+			this.tokenCount = tokenCount;
+		}
+
+		String content() {
+			return this.content;
+		}
+
+		@Nullable TokenCountEstimator tokenCountEstimator() {
+			return this.tokenCountEstimator;
+		}
+
+		int tokenCount() {
+			return this.tokenCount;
+		}
+
+		FormattedContent withTokenCount(TokenCountEstimator tokenCountEstimator, int tokenCount) {
+			return new FormattedContent(this, tokenCountEstimator, tokenCount);
+		}
+
+		boolean matches(ContentFormatter formatter, MetadataMode metadataMode, Map<String, Object> metadata) {
+			if (this.formatter != formatter || this.metadataMode != metadataMode
+					|| this.keys.length != metadata.size()) {
+				return false;
+			}
+			for (int i = 0; i < this.keys.length; i++) {
+				Object value = metadata.get(this.keys[i]);
+				if (value != this.values[i] || (value == null && !metadata.containsKey(this.keys[i]))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
 }
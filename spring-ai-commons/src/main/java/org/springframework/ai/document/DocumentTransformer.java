@@ -25,4 +25,15 @@ public interface DocumentTransformer extends Function<List<Document>, List<Docum
 		return apply(transform);
 	}
 
+	/**
+	 * Returns a transformer that applies this transformer to slices of the documents in
+	 * parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool},
+	 * preserving the order of the output.
+	 * @return the parallel transformer
+	 * @see ParallelDocumentTransformer
+	 */
+	default DocumentTransformer parallel() {
+		return ParallelDocumentTransformer.builder(this).build();
+	}
+
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link DocumentTransformer} decorator that applies a delegate transformer to slices of
+ * the incoming documents concurrently.
+ *
+ * <p>
+ * The documents are cut into consecutive slices of {@code sliceSize} documents, each
+ * slice is transformed on the configured executor, and the results are concatenated in
+ * the order of the slices, so the output has the same order a sequential run would
+ * produce. Inputs no larger than a single slice are transformed on the calling thread.
+ * The default executor is the {@link ForkJoinPool#commonPool() common pool}, which suits
+ * CPU-bound transformers such as text splitters; transformers that call remote models are
+ * better served by a dedicated executor.
+ *
+ * <p>
+ * The delegate must be thread-safe. By default, it must also transform every document
+ * independently of the others in the same list, as the text splitters and the keyword
+ * enricher do. Transformers that read the neighbours of a document, such as a summary
+ * enricher producing previous or next section summaries, see a truncated neighbourhood at
+ * slice boundaries unless the slices {@link Builder#overlap(int) overlap}: each slice is
+ * then handed to the delegate together with copies of the adjacent documents, whose
+ * results are discarded. Overlapping slices require the delegate to return exactly one
+ * document per input document, in order, and transform the adjacent documents more than
+ * once.
+ *
+ * @since 2.0.1
+ */
+public final class ParallelDocumentTransformer implements DocumentTransformer {
+
+	public static final int DEFAULT_SLICE_SIZE = 16;
+
+	private final DocumentTransformer delegate;
+
+	private final Executor executor;
+
+	private final int sliceSize;
+
+	private final int overlap;
+
+	private ParallelDocumentTransformer(Builder builder) {
+		this.delegate = builder.delegate;
+		this.executor = builder.executor;
+		this.sliceSize = builder.sliceSize;
+		this.overlap = builder.overlap;
+	}
+
+	@Override
+	public List<Document> apply(List<Document> documents) {
+		Assert.notNull(documents, "documents must not be null");
+		if (documents.size() <= this.sliceSize) {
+			return this.delegate.apply(documents);
+		}
+		List<CompletableFuture<List<Document>>> slices = new ArrayList<>();
+		for (int from = 0; from < documents.size(); from += this.sliceSize) {
+			int to = Math.min(documents.size(), from + this.sliceSize);
+			int sliceFrom = Math.max(0, from - this.overlap);
+			int sliceTo = Math.min(documents.size(), to + this.overlap);
+			List<Document> slice = new ArrayList<>(sliceTo - sliceFrom);
+			for (int i = sliceFrom; i < sliceTo; i++) {
+				// Adjacent documents are copied, so that they are only ever modified by
+				// the slice that owns them
+				Document document = documents.get(i);
+				slice.add((i < from || i >= to) ? document.mutate().build() : document);
+			}
+			int leading = from - sliceFrom;
+			int owned = to - from;
+			slices.add(CompletableFuture.supplyAsync(() -> transform(slice, leading, owned), this.executor));
+		}
+		List<Document> transformed = new ArrayList<>(documents.size());
+		try {
+			for (CompletableFuture<List<Document>> slice : slices) {
+				transformed.addAll(slice.join());
+			}
+		}
+		catch (CompletionException ex) {
+			slices.forEach(slice -> slice.cancel(false));
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+		return transformed;
+	}
+
+	private List<Document> transform(List<Document> slice, int leading, int owned) {
+		List<Document> transformed = this.delegate.apply(slice);
+		if (this.overlap == 0) {
+			return transformed;
+		}
+		Assert.state(transformed.size() == slice.size(),
+				"Overlapping slices require one transformed document per input document");
+		return transformed.subList(leading, leading + owned);
+	}
+
+	public static Builder builder(DocumentTransformer delegate) {
+		return new Builder(delegate);
+	}
+
+	public static final class Builder {
+
+		private final DocumentTransformer delegate;
+
+		private Executor executor = ForkJoinPool.commonPool();
+
+		private int sliceSize = DEFAULT_SLICE_SIZE;
+
+		private int overlap;
+
+		private Builder(DocumentTransformer delegate) {
+			Assert.notNull(delegate, "delegate must not be null");
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Sets the executor the slices are transformed on. Defaults to the
+		 * {@link ForkJoinPool#commonPool() common pool}.
+		 * @param executor the executor to use
+		 * @return the builder instance
+		 */
+		public Builder executor(Executor executor) {
+			Assert.notNull(executor, "executor must not be null");
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Sets the number of documents handed to the delegate in one task.
+		 * @param sliceSize the number of documents per slice
+		 * @return the builder instance
+		 */
+		public Builder sliceSize(int sliceSize) {
+			Assert.isTrue(sliceSize > 0, "sliceSize must be greater than zero");
+			this.sliceSize = sliceSize;
+			return this;
+		}
+
+		/**
+		 * Sets the number of adjacent documents on either side of a slice that the
+		 * delegate receives as context, for transformers that read the neighbours of a
+		 * document. Defaults to {@code 0}.
+		 * @param overlap the number of adjacent documents per side
+		 * @return the builder instance
+		 */
+		public Builder overlap(int overlap) {
+			Assert.isTrue(overlap >= 0, "overlap must not be negative");
+			this.overlap = overlap;
+			return this;
+		}
+
+		public ParallelDocumentTransformer build() {
+			return new ParallelDocumentTransformer(this);
+		}
+
+	}
+
+}
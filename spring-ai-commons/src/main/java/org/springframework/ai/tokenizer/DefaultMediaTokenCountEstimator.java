@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.tokenizer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * {@link MediaTokenCountEstimator} that prices images with an {@link ImageTokenCostModel}
+ * and every other payload by its size.
+ *
+ * <p>
+ * The dimensions of PNG, JPEG, GIF and WebP images are read from their headers, without
+ * decoding the image. Payloads that are not images, or whose dimensions cannot be read,
+ * are estimated at one token per {@code bytesPerToken} bytes. The default of one byte per
+ * token matches the number of tokens a base64 encoding of random binary data produces.
+ *
+ * @since 2.0.1
+ */
+public class DefaultMediaTokenCountEstimator implements MediaTokenCountEstimator {
+
+	public static final int DEFAULT_BYTES_PER_TOKEN = 1;
+
+	private final ImageTokenCostModel imageCostModel;
+
+	private final int bytesPerToken;
+
+	/**
+	 * Creates a new estimator that prices images with {@link ImageTokenCostModel#OPENAI}.
+	 */
+	public DefaultMediaTokenCountEstimator() {
+		this(ImageTokenCostModel.OPENAI);
+	}
+
+	/**
+	 * Creates a new estimator.
+	 * @param imageCostModel the cost model used for images
+	 */
+	public DefaultMediaTokenCountEstimator(ImageTokenCostModel imageCostModel) {
+		this(imageCostModel, DEFAULT_BYTES_PER_TOKEN);
+	}
+
+	/**
+	 * Creates a new estimator.
+	 * @param imageCostModel the cost model used for images
+	 * @param bytesPerToken the number of bytes counted as one token for payloads that are
+	 * not priced as images
+	 */
+	public DefaultMediaTokenCountEstimator(ImageTokenCostModel imageCostModel, int bytesPerToken) {
+		Assert.notNull(imageCostModel, "imageCostModel must not be null");
+		Assert.isTrue(bytesPerToken > 0, "bytesPerToken must be positive");
+		this.imageCostModel = imageCostModel;
+		this.bytesPerToken = bytesPerToken;
+	}
+
+	@Override
+	public int estimate(MimeType mimeType, byte[] data) {
+		if ("image".equals(mimeType.getType())) {
+			int[] dimensions = readImageDimensions(data);
+			if (dimensions != null) {
+				return this.imageCostModel.estimate(dimensions[0], dimensions[1]);
+			}
+		}
+		return (data.length + this.bytesPerToken - 1) / this.bytesPerToken;
+	}
+
+	/**
+	 * Reads the width and height of a PNG, GIF, JPEG or WebP image from its header.
+	 * @param data the image
+	 * @return the width and height, or {@code null} if the format is not recognized
+	 */
+	static int @Nullable [] readImageDimensions(byte[] data) {
+		int @Nullable [] dimensions = null;
+		if (startsWith(data, 0, 0x89, 'P', 'N', 'G') && data.length >= 24) {
+			dimensions = new int[] { int32BigEndian(data, 16), int32BigEndian(data, 20) };
+		}
+		else if (startsWith(data, 0, 'G', 'I', 'F', '8') && data.length >= 10) {
+			dimensions = new int[] { uint16LittleEndian(data, 6), uint16LittleEndian(data, 8) };
+		}
+		else if (startsWith(data, 0, 0xFF, 0xD8)) {
+			dimensions = readJpegDimensions(data);
+		}
+		else if (startsWith(data, 0, 'R', 'I', 'F', 'F') && startsWith(data, 8, 'W', 'E', 'B', 'P')) {
+			dimensions = readWebpDimensions(data);
+		}
+		if (dimensions == null || dimensions[0] <= 0 || dimensions[1] <= 0) {
+			return null;
+		}
+		return dimensions;
+	}
+
+	private static int @Nullable [] readJpegDimensions(byte[] data) {
+		int position = 2;
+		while (position + 9 < data.length) {
+			if ((data[position] & 0xFF) != 0xFF) {
+				return null;
+			}
+			int marker = data[position + 1] & 0xFF;
+			if (marker == 0xFF) {
+				position++;
+			}
+			else if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) {
+				position += 2;
+			}
+			else if (marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC) {
+				return new int[] { uint16BigEndian(data, position + 7), uint16BigEndian(data, position + 5) };
+			}
+			else {
+				position += 2 + uint16BigEndian(data, position + 2);
+			}
+		}
+		return null;
+	}
+
+	private static int @Nullable [] readWebpDimensions(byte[] data) {
+		if (data.length < 30) {
+			return null;
+		}
+		if (startsWith(data, 12, 'V', 'P', '8', ' ')) {
+			return new int[] { uint16LittleEndian(data, 26) & 0x3FFF, uint16LittleEndian(data, 28) & 0x3FFF };
+		}
+		if (startsWith(data, 12, 'V', 'P', '8', 'L')) {
+			int b1 = data[22] & 0xFF;
+			int b2 = data[23] & 0xFF;
+			int b3 = data[24] & 0xFF;
+			int width = 1 + (((b1 & 0x3F) << 8) | (data[21] & 0xFF));
+			int height = 1 + (((b3 & 0x0F) << 10) | (b2 << 2) | ((b1 & 0xC0) >> 6));
+			return new int[] { width, height };
+		}
+		if (startsWith(data, 12, 'V', 'P', '8', 'X')) {
+			return new int[] { 1 + uint24LittleEndian(data, 24), 1 + uint24LittleEndian(data, 27) };
+		}
+		return null;
+	}
+
+	private static boolean startsWith(byte[] data, int offset, int... prefix) {
+		if (data.length < offset + prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if ((data[offset + i] & 0xFF) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int int32BigEndian(byte[] data, int offset) {
+		return ((data[offset] & 0xFF) << 24) | ((data[offset + 1] & 0xFF) << 16) | ((data[offset + 2] & 0xFF) << 8)
+				| (data[offset + 3] & 0xFF);
+	}
+
+	private static int uint16BigEndian(byte[] data, int offset) {
+		return ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF);
+	}
+
+	private static int uint16LittleEndian(byte[] data, int offset) {
+		return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8);
+	}
+
+	private static int uint24LittleEndian(byte[] data, int offset) {
+		return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) | ((data[offset + 2] & 0xFF) << 16);
+	}
+
+}
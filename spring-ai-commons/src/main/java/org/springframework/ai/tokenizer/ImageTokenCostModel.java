@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.tokenizer;
+
+/**
+ * Computes the number of tokens a model charges for an image from its dimensions.
+ *
+ * @since 2.0.1
+ */
+@FunctionalInterface
+public interface ImageTokenCostModel {
+
+	/**
+	 * OpenAI high detail images: the image is scaled to fit 2048x2048, then its shortest
+	 * side to 768 pixels, and costs 170 tokens per 512x512 tile plus 85 tokens.
+	 */
+	ImageTokenCostModel OPENAI = (width, height) -> {
+		double scale = Math.min(1.0, 2048.0 / Math.max(width, height));
+		scale *= Math.min(1.0, 768.0 / (Math.min(width, height) * scale));
+		long tiles = tiles(width * scale, 512) * tiles(height * scale, 512);
+		return saturatedCast(85 + 170 * tiles);
+	};
+
+	/**
+	 * Anthropic images: the image is scaled so that its longest side is at most 1568
+	 * pixels and costs one token per 750 pixels.
+	 */
+	ImageTokenCostModel ANTHROPIC = (width, height) -> {
+		double scale = Math.min(1.0, 1568.0 / Math.max(width, height));
+		return saturatedCast((long) Math.ceil(width * scale * height * scale / 750));
+	};
+
+	/**
+	 * Gemini images: images up to 384x384 pixels cost 258 tokens, larger images cost 258
+	 * tokens per 768x768 tile.
+	 */
+	ImageTokenCostModel GEMINI = (width, height) -> {
+		if (width <= 384 && height <= 384) {
+			return 258;
+		}
+		return saturatedCast(258 * tiles(width, 768) * tiles(height, 768));
+	};
+
+	/**
+	 * Returns the number of tokens of an image with the given dimensions.
+	 * @param width the width of the image in pixels
+	 * @param height the height of the image in pixels
+	 * @return the number of tokens
+	 */
+	int estimate(int width, int height);
+
+	private static long tiles(double length, int tileSize) {
+		return Math.max(1, (long) Math.ceil(length / tileSize));
+	}
+
+	private static int saturatedCast(long value) {
+		return (int) Math.min(Integer.MAX_VALUE, value);
+	}
+
+}
@@ -16,7 +16,8 @@
 
 package org.springframework.ai.tokenizer;
 
-import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.knuddels.jtokkit.Encodings;
 import com.knuddels.jtokkit.api.Encoding;
@@ -25,12 +26,18 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.ai.content.Media;
 import org.springframework.ai.content.MediaContent;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
 /**
  * Estimates the number of tokens in a given text or message using the JTokkit encoding
  * library.
  *
+ * <p>
+ * Binary media payloads are estimated by a {@link MediaTokenCountEstimator} rather than
+ * tokenized. Token counts of texts can optionally be cached, which makes repeated
+ * estimations over a growing conversation history only tokenize the new messages.
+ *
  * @author Christian Tzolov
  * @author Soby Chacko
  * @since 1.0.0
@@ -42,6 +49,10 @@ public class JTokkitTokenCountEstimator implements TokenCountEstimator {
 	 */
 	private final Encoding estimator;
 
+	private final MediaTokenCountEstimator mediaTokenCountEstimator;
+
+	private final @Nullable Map<String, Integer> textTokenCounts;
+
 	/**
 	 * Creates a new JTokkitTokenCountEstimator with default CL100K_BASE encoding.
 	 */
@@ -54,7 +65,31 @@ public class JTokkitTokenCountEstimator implements TokenCountEstimator {
 	 * @param tokenEncodingType the encoding type to use for token counting
 	 */
 	public JTokkitTokenCountEstimator(final EncodingType tokenEncodingType) {
+		this(tokenEncodingType, new DefaultMediaTokenCountEstimator(), 0);
+	}
+
+	/**
+	 * Creates a new JTokkitTokenCountEstimator.
+	 * @param tokenEncodingType the encoding type to use for token counting
+	 * @param mediaTokenCountEstimator the estimator used for binary media payloads
+	 * @param textCacheSize the number of text token counts to cache, or {@code 0} to
+	 * disable caching
+	 */
+	public JTokkitTokenCountEstimator(final EncodingType tokenEncodingType,
+			final MediaTokenCountEstimator mediaTokenCountEstimator, final int textCacheSize) {
+		Assert.notNull(tokenEncodingType, "tokenEncodingType must not be null");
+		Assert.notNull(mediaTokenCountEstimator, "mediaTokenCountEstimator must not be null");
+		Assert.isTrue(textCacheSize >= 0, "textCacheSize must not be negative");
 		this.estimator = Encodings.newLazyEncodingRegistry().getEncoding(tokenEncodingType);
+		this.mediaTokenCountEstimator = mediaTokenCountEstimator;
+		this.textTokenCounts = (textCacheSize > 0) ? new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+				return size() > textCacheSize;
+			}
+
+		} : null;
 	}
 
 	@Override
@@ -62,7 +97,22 @@ public class JTokkitTokenCountEstimator implements TokenCountEstimator {
 		if (text == null) {
 			return 0;
 		}
-		return this.estimator.countTokens(text);
+		Map<String, Integer> cache = this.textTokenCounts;
+		if (cache == null) {
+			return this.estimator.countTokens(text);
+		}
+		Integer cached;
+		synchronized (cache) {
+			cached = cache.get(text);
+		}
+		if (cached != null) {
+			return cached;
+		}
+		int tokenCount = this.estimator.countTokens(text);
+		synchronized (cache) {
+			cache.put(text, tokenCount);
+		}
+		return tokenCount;
 	}
 
 	@Override
@@ -81,8 +131,7 @@ public class JTokkitTokenCountEstimator implements TokenCountEstimator {
 					tokenCount += this.estimate(textData);
 				}
 				else if (media.getData() instanceof byte[] binaryData) {
-					String base64 = Base64.getEncoder().encodeToString(binaryData);
-					tokenCount += this.estimate(base64);
+					tokenCount += this.mediaTokenCountEstimator.estimate(media.getMimeType(), binaryData);
 				}
 			}
 		}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.tokenizer;
+
+import org.springframework.util.MimeType;
+
+/**
+ * Estimates the number of tokens a model charges for a binary media payload, such as an
+ * image or an audio clip, without encoding the payload.
+ *
+ * @since 2.0.1
+ * @see DefaultMediaTokenCountEstimator
+ */
+@FunctionalInterface
+public interface MediaTokenCountEstimator {
+
+	/**
+	 * Estimates the number of tokens of the given media payload.
+	 * @param mimeType the mime type of the payload
+	 * @param data the payload
+	 * @return the estimated number of tokens
+	 */
+	int estimate(MimeType mimeType, byte[] data);
+
+}
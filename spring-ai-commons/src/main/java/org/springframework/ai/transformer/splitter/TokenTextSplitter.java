@@ -25,6 +25,7 @@ import com.knuddels.jtokkit.api.EncodingRegistry;
 import com.knuddels.jtokkit.api.EncodingType;
 import com.knuddels.jtokkit.api.IntArrayList;
 
+import org.springframework.ai.util.ParsingUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -151,6 +152,11 @@ public class TokenTextSplitter extends TextSplitter {
 	 * size ({@code tokens.size() > chunkSize}). Text that exactly matches or is smaller
 	 * than the chunk size is returned as a single chunk without punctuation-based
 	 * truncation.
+	 * <p>
+	 * The text is encoded once. Chunks are decoded from windows over the primitive token
+	 * list, and when a chunk is truncated at a punctuation mark the number of tokens it
+	 * consumes is found by mapping the truncated text back onto the token byte lengths,
+	 * rather than by encoding it again.
 	 * @param text the text to split
 	 * @param chunkSize the target chunk size in tokens
 	 * @return list of text chunks
@@ -160,29 +166,33 @@ public class TokenTextSplitter extends TextSplitter {
 			return new ArrayList<>();
 		}
 
-		List<Integer> tokens = getEncodedTokens(text);
+		IntArrayList tokens = getEncodedTokens(text);
+		IntArrayList window = new IntArrayList(Math.min(chunkSize, tokens.size()));
 		List<String> chunks = new ArrayList<>();
+		int start = 0;
 		int num_chunks = 0;
-		while (!tokens.isEmpty() && num_chunks < this.maxNumChunks) {
-			List<Integer> chunk = tokens.subList(0, Math.min(chunkSize, tokens.size()));
-			String chunkText = decodeTokens(chunk);
+		while (start < tokens.size() && num_chunks < this.maxNumChunks) {
+			int end = Math.min(start + chunkSize, tokens.size());
+			String chunkText = decodeTokens(tokens, start, end, window);
 
 			// Skip the chunk if it is empty or whitespace
 			if (chunkText.trim().isEmpty()) {
-				tokens = tokens.subList(chunk.size(), tokens.size());
+				start = end;
 				continue;
 			}
 
+			int consumed = end - start;
 			// Only apply punctuation-based truncation if we have more tokens than the
 			// chunk size
 			// This prevents unnecessary splitting of small texts
-			if (tokens.size() > chunkSize) {
+			if (tokens.size() - start > chunkSize) {
 				// Find the last period or punctuation mark in the chunk
 				int lastPunctuation = getLastPunctuationIndex(chunkText);
 
 				if (lastPunctuation != -1 && lastPunctuation > this.minChunkSizeChars) {
 					// Truncate the chunk text at the punctuation mark
 					chunkText = chunkText.substring(0, lastPunctuation + 1);
+					consumed = countTokensCovering(tokens, start, end, ParsingUtils.utf8Length(chunkText), window);
 				}
 			}
 
@@ -192,15 +202,17 @@ public class TokenTextSplitter extends TextSplitter {
 				chunks.add(chunkTextToAppend);
 			}
 
-			// Remove the tokens corresponding to the chunk text from the remaining tokens
-			tokens = tokens.subList(getEncodedTokens(chunkText).size(), tokens.size());
+			// Skip the tokens corresponding to the chunk text
+			start += consumed;
 
 			num_chunks++;
 		}
 
 		// Handle the remaining tokens
-		if (!tokens.isEmpty()) {
-			String remaining_text = decodeTokens(tokens).replace(System.lineSeparator(), " ").trim();
+		if (start < tokens.size()) {
+			String remaining_text = decodeTokens(tokens, start, tokens.size(), window)
+				.replace(System.lineSeparator(), " ")
+				.trim();
 			if (remaining_text.length() > this.minChunkLengthToEmbed) {
 				chunks.add(remaining_text);
 			}
@@ -219,16 +231,38 @@ public class TokenTextSplitter extends TextSplitter {
 		return maxLastPunctuation;
 	}
 
-	private List<Integer> getEncodedTokens(String text) {
+	private IntArrayList getEncodedTokens(String text) {
 		Assert.notNull(text, "Text must not be null");
-		return this.encoding.encode(text).boxed();
+		return this.encoding.encode(text);
+	}
+
+	/**
+	 * Decodes the tokens in {@code [from, to)}, using {@code window} as scratch space.
+	 */
+	private String decodeTokens(IntArrayList tokens, int from, int to, IntArrayList window) {
+		window.clear();
+		for (int i = from; i < to; i++) {
+			window.add(tokens.get(i));
+		}
+		return this.encoding.decode(window);
 	}
 
-	private String decodeTokens(List<Integer> tokens) {
-		Assert.notNull(tokens, "Tokens must not be null");
-		var tokensIntArray = new IntArrayList(tokens.size());
-		tokens.forEach(tokensIntArray::add);
-		return this.encoding.decode(tokensIntArray);
+	/**
+	 * Returns how many tokens, starting at {@code from}, are needed to cover the given
+	 * number of UTF-8 bytes. A token that straddles the boundary is counted, which
+	 * matches the tokens an encoding of the truncated text would produce.
+	 */
+	private int countTokensCovering(IntArrayList tokens, int from, int to, long byteLength, IntArrayList window) {
+		int bytes = 0;
+		for (int i = from; i < to; i++) {
+			window.clear();
+			window.add(tokens.get(i));
+			bytes += this.encoding.decodeBytes(window).length;
+			if (bytes >= byteLength) {
+				return i - from + 1;
+			}
+		}
+		return to - from;
 	}
 
 	public static final class Builder {
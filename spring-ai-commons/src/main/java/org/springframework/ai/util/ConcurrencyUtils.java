@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Utility methods for running blocking model and tool calls concurrently. Mainly for use
+ * within Spring AI.
+ *
+ * @since 2.0.1
+ */
+public abstract class ConcurrencyUtils {
+
+	/**
+	 * Creates the executor used when no executor has been configured: a
+	 * {@link SimpleAsyncTaskExecutor} with daemon threads, which uses virtual threads
+	 * when running on Java 21 or later.
+	 * @param threadNamePrefix the prefix of the names of the created threads
+	 * @return a new executor
+	 */
+	public static Executor defaultExecutor(String threadNamePrefix) {
+		Assert.hasText(threadNamePrefix, "threadNamePrefix must not be null or empty");
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		executor.setDaemon(true);
+		if (isVirtualThreadsAvailable()) {
+			executor.setVirtualThreads(true);
+		}
+		return executor;
+	}
+
+	/**
+	 * Whether the running JVM supports virtual threads, that is Java 21 or later.
+	 * @return {@code true} if the {@link #defaultExecutor default executor} uses virtual
+	 * threads
+	 */
+	public static boolean isVirtualThreadsAvailable() {
+		return Runtime.version().feature() >= 21;
+	}
+
+	/**
+	 * Runs one task per index on the given executor, with at most {@code maxInFlight}
+	 * tasks outstanding at any time.
+	 * <p>
+	 * The calling thread submits the tasks in index order and blocks as soon as the limit
+	 * is reached. The first task that throws stops further submissions; its failure is
+	 * rethrown once the submitted tasks have completed. Tasks that must not stop the
+	 * others handle their own failures.
+	 * @param executor the executor running the tasks
+	 * @param maxInFlight the maximum number of outstanding tasks
+	 * @param taskCount the number of tasks
+	 * @param task the task to run for every index
+	 * @param gate awaited before every submission, or {@code null}
+	 * @param activity describes the tasks in failure messages, such as
+	 * {@code "embedding documents"}
+	 * @throws RuntimeException the failure of the first failed task
+	 * @throws IllegalStateException if the calling thread is interrupted
+	 */
+	public static void runBounded(Executor executor, int maxInFlight, int taskCount, BoundedTask task,
+			@Nullable SubmissionGate gate, String activity) {
+		Assert.notNull(executor, "executor must not be null");
+		Assert.isTrue(maxInFlight > 0, "maxInFlight must be positive");
+		Assert.notNull(task, "task must not be null");
+		Semaphore inFlight = new Semaphore(maxInFlight);
+		AtomicReference<@Nullable RuntimeException> failure = new AtomicReference<>();
+		BooleanSupplier failed = () -> failure.get() != null;
+		List<CompletableFuture<Void>> pending = new ArrayList<>(taskCount);
+		try {
+			for (int i = 0; i < taskCount; i++) {
+				inFlight.acquire();
+				if (gate != null) {
+					gate.await();
+				}
+				if (failed.getAsBoolean()) {
+					inFlight.release();
+					break;
+				}
+				int index = i;
+				try {
+					pending.add(CompletableFuture.runAsync(() -> {
+						try {
+							task.run(index, failed);
+						}
+						catch (RuntimeException ex) {
+							failure.compareAndSet(null, ex);
+						}
+						finally {
+							inFlight.release();
+						}
+					}, executor));
+				}
+				catch (RejectedExecutionException ex) {
+					inFlight.release();
+					failure.compareAndSet(null, ex);
+					break;
+				}
+			}
+			for (CompletableFuture<Void> future : pending) {
+				future.get();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			failure.compareAndSet(null, new IllegalStateException("Interrupted while " + activity, ex));
+		}
+		catch (ExecutionException ex) {
+			failure.compareAndSet(null, new IllegalStateException("Failed while " + activity, ex.getCause()));
+		}
+		RuntimeException ex = failure.get();
+		if (ex != null) {
+			throw ex;
+		}
+	}
+
+	/**
+	 * A task run by {@link #runBounded}.
+	 */
+	@FunctionalInterface
+	public interface BoundedTask {
+
+		/**
+		 * Runs the task for an index.
+		 * @param index the index of the task
+		 * @param failed reports whether another task has already failed, for tasks that
+		 * can give up early, for example instead of retrying
+		 */
+		void run(int index, BooleanSupplier failed);
+
+	}
+
+	/**
+	 * Awaited by {@link #runBounded} before every submission, for example to honour a
+	 * rate limit.
+	 */
+	@FunctionalInterface
+	public interface SubmissionGate {
+
+		/**
+		 * Blocks until the next task may be submitted.
+		 * @throws InterruptedException if the calling thread is interrupted
+		 */
+		void await() throws InterruptedException;
+
+	}
+
+}
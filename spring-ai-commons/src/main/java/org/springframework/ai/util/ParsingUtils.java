@@ -79,6 +79,35 @@ public abstract class ParsingUtils {
 		return StringUtils.collectionToDelimitedString(splitCamelCaseToLower(source), delimiter);
 	}
 
+	/**
+	 * Returns the number of bytes the given text takes when encoded as UTF-8, without
+	 * encoding it.
+	 * @param text must not be {@literal null}.
+	 * @return the UTF-8 length of the text in bytes
+	 * @since 2.0.1
+	 */
+	public static long utf8Length(CharSequence text) {
+		long length = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				length++;
+			}
+			else if (c < 0x800) {
+				length += 2;
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+					&& Character.isLowSurrogate(text.charAt(i + 1))) {
+				length += 4;
+				i++;
+			}
+			else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
 	private static List<String> split(String source, boolean toLower) {
 
 		Assert.notNull(source, "Source string must not be null");
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ParallelDocumentTransformer}.
+ */
+class ParallelDocumentTransformerTests {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void tearDown() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	void outputMatchesSequentialTransformation() {
+		TokenTextSplitter splitter = TokenTextSplitter.builder().withChunkSize(20).withMinChunkSizeChars(10).build();
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			documents.add(Document.builder()
+				.id("doc-" + i)
+				.text(("Document " + i + " has a few sentences. It is split into chunks. ").repeat(1 + i % 5))
+				.build());
+		}
+
+		List<Document> sequential = splitter.apply(documents);
+		List<Document> parallel = ParallelDocumentTransformer.builder(splitter)
+			.executor(this.executorService)
+			.sliceSize(7)
+			.build()
+			.apply(documents);
+
+		assertThat(parallel).extracting(Document::getText)
+			.containsExactlyElementsOf(sequential.stream().map(Document::getText).toList());
+		assertThat(parallel).extracting(document -> document.getMetadata().get("parent_document_id"))
+			.containsExactlyElementsOf(
+					sequential.stream().map(document -> document.getMetadata().get("parent_document_id")).toList());
+	}
+
+	@Test
+	void overlappingSlicesSeeTheNeighboursOfEveryDocument() {
+		DocumentTransformer neighbours = documents -> {
+			for (int i = 0; i < documents.size(); i++) {
+				Map<String, Object> metadata = documents.get(i).getMetadata();
+				metadata.put("previous", (i > 0) ? documents.get(i - 1).getText() : "none");
+				metadata.put("next", (i < documents.size() - 1) ? documents.get(i + 1).getText() : "none");
+			}
+			return documents;
+		};
+		List<Document> sequential = new ArrayList<>();
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			sequential.add(new Document("text " + i));
+			documents.add(new Document("text " + i));
+		}
+		neighbours.apply(sequential);
+
+		List<Document> transformed = ParallelDocumentTransformer.builder(neighbours)
+			.executor(this.executorService)
+			.sliceSize(3)
+			.overlap(1)
+			.build()
+			.apply(documents);
+
+		assertThat(transformed).containsExactlyElementsOf(documents);
+		assertThat(transformed).extracting(Document::getMetadata)
+			.containsExactlyElementsOf(sequential.stream().map(Document::getMetadata).toList());
+	}
+
+	@Test
+	void overlappingSlicesRequireOneDocumentPerInput() {
+		TokenTextSplitter splitter = TokenTextSplitter.builder().withChunkSize(5).withMinChunkSizeChars(1).build();
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			documents.add(new Document("Document " + i + " has a few sentences. It is split into chunks."));
+		}
+
+		assertThatThrownBy(
+				() -> ParallelDocumentTransformer.builder(splitter).sliceSize(3).overlap(1).build().apply(documents))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("one transformed document per input document");
+	}
+
+	@Test
+	void slicesRunOnTheExecutor() {
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		DocumentTransformer recording = documents -> {
+			threads.add(Thread.currentThread().getName());
+			return documents;
+		};
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			documents.add(new Document("text " + i));
+		}
+
+		ParallelDocumentTransformer.builder(recording).sliceSize(20).build().apply(documents);
+		assertThat(threads).containsExactly(Thread.currentThread().getName());
+
+		threads.clear();
+		List<Document> transformed = ParallelDocumentTransformer.builder(recording)
+			.executor(this.executorService)
+			.sliceSize(2)
+			.build()
+			.apply(documents);
+		assertThat(transformed).containsExactlyElementsOf(documents);
+		assertThat(threads).doesNotContain(Thread.currentThread().getName());
+	}
+
+	@Test
+	void failureOfASliceIsRethrown() {
+		DocumentTransformer failing = documents -> {
+			if (documents.get(0).getText().equals("text 4")) {
+				throw new IllegalStateException("Cannot transform");
+			}
+			return documents;
+		};
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			documents.add(new Document("text " + i));
+		}
+
+		assertThatThrownBy(() -> ParallelDocumentTransformer.builder(failing).sliceSize(2).build().apply(documents))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Cannot transform");
+	}
+
+	@Test
+	void parallelReturnsDecorator() {
+		DocumentTransformer identity = documents -> documents;
+		assertThat(identity.parallel()).isInstanceOf(ParallelDocumentTransformer.class);
+	}
+
+}
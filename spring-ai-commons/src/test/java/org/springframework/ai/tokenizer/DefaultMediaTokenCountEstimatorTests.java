@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.tokenizer;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import com.knuddels.jtokkit.api.EncodingType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.ai.content.Media;
+import org.springframework.ai.content.MediaContent;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultMediaTokenCountEstimatorTests {
+
+	@ParameterizedTest
+	@ValueSource(strings = { "png", "jpg", "gif" })
+	void readsImageDimensionsFromHeader(String format) throws IOException {
+		byte[] image = image(format, 1024, 300);
+
+		assertThat(DefaultMediaTokenCountEstimator.readImageDimensions(image)).containsExactly(1024, 300);
+	}
+
+	@Test
+	void readsWebpDimensionsFromHeader() {
+		byte[] image = new byte[30];
+		System.arraycopy("RIFF".getBytes(), 0, image, 0, 4);
+		System.arraycopy("WEBPVP8X".getBytes(), 0, image, 8, 8);
+		image[24] = (byte) 0xFF;
+		image[25] = 0x03;
+		image[27] = (byte) 0xFF;
+		image[28] = 0x01;
+
+		assertThat(DefaultMediaTokenCountEstimator.readImageDimensions(image)).containsExactly(1024, 512);
+	}
+
+	@Test
+	void unknownImageFormatHasNoDimensions() {
+		assertThat(DefaultMediaTokenCountEstimator.readImageDimensions(new byte[64])).isNull();
+	}
+
+	@Test
+	void imagesArePricedByCostModel() throws IOException {
+		byte[] image = image("png", 1024, 1024);
+
+		assertThat(new DefaultMediaTokenCountEstimator().estimate(MimeTypeUtils.IMAGE_PNG, image)).isEqualTo(765);
+		assertThat(new DefaultMediaTokenCountEstimator(ImageTokenCostModel.ANTHROPIC).estimate(MimeTypeUtils.IMAGE_PNG,
+				image))
+			.isEqualTo(1399);
+		assertThat(new DefaultMediaTokenCountEstimator(ImageTokenCostModel.GEMINI).estimate(MimeTypeUtils.IMAGE_PNG,
+				image))
+			.isEqualTo(1032);
+	}
+
+	@Test
+	void otherPayloadsArePricedBySize() {
+		MimeType audio = MimeType.valueOf("audio/wav");
+
+		assertThat(new DefaultMediaTokenCountEstimator().estimate(audio, new byte[1000])).isEqualTo(1000);
+		assertThat(new DefaultMediaTokenCountEstimator(ImageTokenCostModel.OPENAI, 4).estimate(audio, new byte[1001]))
+			.isEqualTo(251);
+	}
+
+	@Test
+	void jtokkitEstimatorDoesNotTokenizeBinaryMedia() throws IOException {
+		Media media = Media.builder().mimeType(MimeTypeUtils.IMAGE_PNG).data(image("png", 512, 512)).build();
+		MediaContent content = new MediaContent() {
+
+			@Override
+			public String getText() {
+				return "describe this image";
+			}
+
+			@Override
+			public Map<String, Object> getMetadata() {
+				return Map.of();
+			}
+
+			@Override
+			public List<Media> getMedia() {
+				return List.of(media);
+			}
+
+		};
+		JTokkitTokenCountEstimator estimator = new JTokkitTokenCountEstimator();
+
+		assertThat(estimator.estimate(content)).isEqualTo(estimator.estimate("describe this image")
+				+ estimator.estimate(MimeTypeUtils.IMAGE_PNG.toString()) + 85 + 170);
+	}
+
+	@Test
+	void jtokkitEstimatorCachesTextTokenCounts() {
+		JTokkitTokenCountEstimator cached = new JTokkitTokenCountEstimator(EncodingType.CL100K_BASE,
+				new DefaultMediaTokenCountEstimator(), 2);
+		JTokkitTokenCountEstimator uncached = new JTokkitTokenCountEstimator();
+
+		for (String text : List.of("first message", "second message", "first message", "third message")) {
+			assertThat(cached.estimate(text)).isEqualTo(uncached.estimate(text));
+		}
+	}
+
+	private static byte[] image(String format, int width, int height) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, output);
+		return output.toByteArray();
+	}
+
+}
@@ -168,6 +168,22 @@ public class TokenTextSplitterTest {
 		assertThat(splitted.get(0).getText()).endsWith(".");
 	}
 
+	@Test
+	public void testTruncatedChunksResumeAfterPunctuationWithMultiByteText() {
+		TokenTextSplitter splitter = TokenTextSplitter.builder()
+			.withKeepSeparator(true)
+			.withChunkSize(20)
+			.withMinChunkSizeChars(5)
+			.withMinChunkLengthToEmbed(0)
+			.build();
+
+		String sentence = "Grüße aus Köln, 日本語のテキスト 😀 und mehr Wörter. ";
+		List<String> chunks = splitter.doSplit(sentence.repeat(12), 20);
+
+		assertThat(chunks).hasSizeGreaterThan(1);
+		assertThat(String.join(" ", chunks).replace(" ", "")).isEqualTo(sentence.repeat(12).replace(" ", ""));
+	}
+
 	@Test
 	public void testTokenTextSplitterWithCustomPunctuationMarks() {
 		var contentFormatter1 = DefaultContentFormatter.defaultConfig();
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ConcurrencyUtils}.
+ */
+class ConcurrencyUtilsTests {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	void runBoundedRunsEveryTaskWithinTheLimit() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicIntegerArray runs = new AtomicIntegerArray(20);
+		AtomicInteger gates = new AtomicInteger();
+
+		ConcurrencyUtils.runBounded(this.executorService, 3, 20, (index, failed) -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			sleep(5);
+			runs.incrementAndGet(index);
+			running.decrementAndGet();
+		}, gates::incrementAndGet, "testing");
+
+		assertThat(maxRunning.get()).isBetween(1, 3);
+		assertThat(gates).hasValue(20);
+		for (int i = 0; i < runs.length(); i++) {
+			assertThat(runs.get(i)).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void runBoundedStopsSubmittingAfterTheFirstFailure() {
+		AtomicInteger started = new AtomicInteger();
+
+		assertThatThrownBy(() -> ConcurrencyUtils.runBounded(this.executorService, 1, 10, (index, failed) -> {
+			started.incrementAndGet();
+			if (index == 2) {
+				throw new IllegalStateException("Task " + index + " failed");
+			}
+		}, null, "testing")).isInstanceOf(IllegalStateException.class).hasMessage("Task 2 failed");
+		assertThat(started).hasValue(3);
+	}
+
+	@Test
+	void runBoundedRethrowsRejectedSubmissions() {
+		this.executorService.shutdown();
+
+		assertThatThrownBy(() -> ConcurrencyUtils.runBounded(this.executorService, 2, 2, (index, failed) -> {
+		}, null, "testing")).isInstanceOf(RejectedExecutionException.class);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.ai.util;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -106,4 +107,11 @@ class ParsingUtilsTests {
 			.isInstanceOf(IllegalArgumentException.class);
 	}
 
+	@Test
+	void utf8LengthMatchesEncodedLength() {
+		for (String text : List.of("", "hello", "h\u00e9llo", "\u65e5\u672c\u8a9e", "emoji \uD83D\uDE00")) {
+			assertThat(ParsingUtils.utf8Length(text)).as(text).isEqualTo(text.getBytes(StandardCharsets.UTF_8).length);
+		}
+	}
+
 }
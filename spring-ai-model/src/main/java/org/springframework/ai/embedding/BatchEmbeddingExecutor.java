@@ -0,0 +1,251 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.util.ConcurrencyUtils;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Embeds the sub-batches produced by a {@link BatchingStrategy} concurrently instead of
+ * one after another.
+ *
+ * <p>
+ * At most {@code maxInFlightBatches} embedding requests are outstanding at any time. The
+ * calling thread submits the batches in order and blocks as soon as that limit is
+ * reached, which keeps a slow provider from being flooded with requests. The embeddings
+ * are returned in the order of the incoming documents, regardless of the order in which
+ * the batches complete.
+ *
+ * <p>
+ * Batches are attempted once by default, as most provider models already retry individual
+ * HTTP calls on transient failures. When {@code maxAttempts} is raised, a failed batch is
+ * retried with an exponential backoff as long as the failure is accepted by the
+ * configured retry predicate, and the number of attempts multiplies with the ones of the
+ * model. Once a batch fails for good no further batches are submitted and the failure is
+ * rethrown to the caller.
+ *
+ * <p>
+ * By default the batches run on a {@link SimpleAsyncTaskExecutor}, which uses virtual
+ * threads when running on Java 21 or later.
+ *
+ * @since 2.0.1
+ * @see EmbeddingModel#embed(List, EmbeddingOptions, BatchingStrategy,
+ * BatchEmbeddingExecutor)
+ */
+public final class BatchEmbeddingExecutor {
+
+	public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 1;
+
+	public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(1);
+
+	private final Executor executor;
+
+	private final int maxInFlightBatches;
+
+	private final int maxAttempts;
+
+	private final Duration initialBackoff;
+
+	private final Predicate<Throwable> retryOn;
+
+	private BatchEmbeddingExecutor(Builder builder) {
+		this.executor = (builder.executor != null) ? builder.executor
+				: ConcurrencyUtils.defaultExecutor("embedding-batch-");
+		this.maxInFlightBatches = builder.maxInFlightBatches;
+		this.maxAttempts = builder.maxAttempts;
+		this.initialBackoff = builder.initialBackoff;
+		this.retryOn = builder.retryOn;
+	}
+
+	/**
+	 * Embeds the given documents with the given model.
+	 * @param embeddingModel the model used to embed each sub-batch
+	 * @param documents the documents to embed
+	 * @param options the options passed with every embedding request
+	 * @param batchingStrategy the strategy used to split the documents into sub-batches
+	 * @return the embeddings, in the same order as the documents
+	 */
+	public List<float[]> embed(EmbeddingModel embeddingModel, List<Document> documents,
+			@Nullable EmbeddingOptions options, BatchingStrategy batchingStrategy) {
+		Assert.notNull(embeddingModel, "EmbeddingModel must not be null");
+		Assert.notNull(documents, "Documents must not be null");
+		Assert.notNull(batchingStrategy, "BatchingStrategy must not be null");
+		List<List<Document>> batches = batchingStrategy.batch(documents);
+		AtomicReferenceArray<List<float[]>> results = new AtomicReferenceArray<>(batches.size());
+		if (batches.size() == 1) {
+			results.set(0, embedWithRetry(embeddingModel, batches.get(0), options, () -> false));
+		}
+		else if (!batches.isEmpty()) {
+			embedConcurrently(embeddingModel, batches, options, results);
+		}
+		List<float[]> embeddings = new ArrayList<>(documents.size());
+		for (int i = 0; i < results.length(); i++) {
+			embeddings.addAll(results.get(i));
+		}
+		Assert.isTrue(embeddings.size() == documents.size(),
+				"Embeddings must have the same number as that of the documents");
+		return embeddings;
+	}
+
+	private void embedConcurrently(EmbeddingModel embeddingModel, List<List<Document>> batches,
+			@Nullable EmbeddingOptions options, AtomicReferenceArray<List<float[]>> results) {
+		ConcurrencyUtils.runBounded(this.executor, this.maxInFlightBatches, batches.size(),
+				(index, failed) -> results.set(index,
+						embedWithRetry(embeddingModel, batches.get(index), options, failed)),
+				null, "embedding documents");
+	}
+
+	private List<float[]> embedWithRetry(EmbeddingModel embeddingModel, List<Document> batch,
+			@Nullable EmbeddingOptions options, BooleanSupplier failed) {
+		for (int attempt = 1;; attempt++) {
+			try {
+				return embedBatch(embeddingModel, batch, options);
+			}
+			catch (RuntimeException ex) {
+				if (attempt >= this.maxAttempts || failed.getAsBoolean() || !this.retryOn.test(ex)) {
+					throw ex;
+				}
+				backoff(attempt, ex);
+			}
+		}
+	}
+
+	private static List<float[]> embedBatch(EmbeddingModel embeddingModel, List<Document> batch,
+			@Nullable EmbeddingOptions options) {
+		List<String> texts = batch.stream().map(embeddingModel::getEmbeddingContent).toList();
+		EmbeddingResponse response = embeddingModel.call(new EmbeddingRequest(texts, options));
+		List<Embedding> results = response.getResults();
+		Assert.state(results.size() == batch.size(), "Embeddings must have the same number as that of the documents");
+		List<float[]> embeddings = new ArrayList<>(results.size());
+		for (Embedding embedding : results) {
+			embeddings.add(embedding.getOutput());
+		}
+		return embeddings;
+	}
+
+	private void backoff(int attempt, RuntimeException cause) {
+		long millis = this.initialBackoff.toMillis() << Math.min(attempt - 1, 16);
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			cause.addSuppressed(ex);
+			throw cause;
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static final class Builder {
+
+		private @Nullable Executor executor;
+
+		private int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
+
+		private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+		private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+
+		private Predicate<Throwable> retryOn = ex -> true;
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the executor the batches are submitted to. Defaults to a
+		 * {@link SimpleAsyncTaskExecutor} that uses virtual threads when available.
+		 * @param executor the executor to use
+		 * @return the builder instance
+		 */
+		public Builder executor(Executor executor) {
+			Assert.notNull(executor, "Executor must not be null");
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of batches being embedded at the same time.
+		 * @param maxInFlightBatches the maximum number of concurrent embedding requests
+		 * @return the builder instance
+		 */
+		public Builder maxInFlightBatches(int maxInFlightBatches) {
+			Assert.isTrue(maxInFlightBatches > 0, "maxInFlightBatches must be positive");
+			this.maxInFlightBatches = maxInFlightBatches;
+			return this;
+		}
+
+		/**
+		 * Sets the number of times a batch is attempted before its failure is rethrown.
+		 * Defaults to {@code 1}, which disables retries.
+		 * @param maxAttempts the maximum number of attempts per batch
+		 * @return the builder instance
+		 */
+		public Builder maxAttempts(int maxAttempts) {
+			Assert.isTrue(maxAttempts > 0, "maxAttempts must be positive");
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * Sets the delay before the first retry of a batch. The delay doubles with every
+		 * further attempt.
+		 * @param initialBackoff the initial backoff
+		 * @return the builder instance
+		 */
+		public Builder initialBackoff(Duration initialBackoff) {
+			Assert.notNull(initialBackoff, "initialBackoff must not be null");
+			Assert.isTrue(!initialBackoff.isNegative(), "initialBackoff must not be negative");
+			this.initialBackoff = initialBackoff;
+			return this;
+		}
+
+		/**
+		 * Sets the predicate deciding whether a failed batch is retried, when more than
+		 * one attempt is configured. By default every failure is retried.
+		 * @param retryOn the predicate tested against the failure of a batch
+		 * @return the builder instance
+		 */
+		public Builder retryOn(Predicate<Throwable> retryOn) {
+			Assert.notNull(retryOn, "retryOn must not be null");
+			this.retryOn = retryOn;
+			return this;
+		}
+
+		public BatchEmbeddingExecutor build() {
+			return new BatchEmbeddingExecutor(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ai.document.Document;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingModel} decorator that coalesces concurrent {@link #embed(String)}
+ * calls, such as the query embeddings of concurrent similarity searches, into a single
+ * request to the delegate model.
+ *
+ * <p>
+ * The first caller that finds no open batch becomes its leader: it waits up to
+ * {@code maxWait} for other callers to join, or until {@code maxBatchSize} texts have
+ * been collected, and then sends the batch from its own thread. Callers asking for a text
+ * that is already part of an open or in-flight batch share its result instead of adding
+ * it again. No background threads are used.
+ *
+ * <p>
+ * Every other operation is passed straight to the delegate.
+ *
+ * @since 2.0.1
+ */
+public final class CoalescingEmbeddingModel implements EmbeddingModel {
+
+	public static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+	public static final Duration DEFAULT_MAX_WAIT = Duration.ofMillis(5);
+
+	private final EmbeddingModel delegate;
+
+	private final int maxBatchSize;
+
+	private final long maxWaitNanos;
+
+	private final Object lock = new Object();
+
+	private final Map<String, CompletableFuture<float[]>> inFlight = new HashMap<>();
+
+	private @Nullable Map<String, CompletableFuture<float[]>> openBatch;
+
+	private CoalescingEmbeddingModel(Builder builder) {
+		this.delegate = builder.delegate;
+		this.maxBatchSize = builder.maxBatchSize;
+		this.maxWaitNanos = builder.maxWait.toNanos();
+	}
+
+	@Override
+	public float[] embed(String text) {
+		Assert.notNull(text, "Text must not be null");
+		CompletableFuture<float[]> result;
+		@Nullable Map<String, CompletableFuture<float[]>> ledBatch = null;
+		synchronized (this.lock) {
+			CompletableFuture<float[]> existing = this.inFlight.get(text);
+			if (existing != null) {
+				result = existing;
+			}
+			else {
+				Map<String, CompletableFuture<float[]>> batch = this.openBatch;
+				if (batch == null) {
+					batch = new LinkedHashMap<>();
+					this.openBatch = batch;
+					ledBatch = batch;
+				}
+				result = new CompletableFuture<>();
+				batch.put(text, result);
+				this.inFlight.put(text, result);
+				if (batch.size() >= this.maxBatchSize) {
+					this.openBatch = null;
+					this.lock.notifyAll();
+				}
+			}
+		}
+		if (ledBatch != null) {
+			awaitBatch(ledBatch);
+			dispatch(ledBatch);
+		}
+		try {
+			return result.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+	}
+
+	private void awaitBatch(Map<String, CompletableFuture<float[]>> batch) {
+		synchronized (this.lock) {
+			long deadline = System.nanoTime() + this.maxWaitNanos;
+			try {
+				long remaining = this.maxWaitNanos;
+				while (this.openBatch == batch && remaining > 0) {
+					TimeUnit.NANOSECONDS.timedWait(this.lock, remaining);
+					remaining = deadline - System.nanoTime();
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			if (this.openBatch == batch) {
+				this.openBatch = null;
+			}
+		}
+	}
+
+	private void dispatch(Map<String, CompletableFuture<float[]>> batch) {
+		try {
+			List<String> texts = new ArrayList<>(batch.keySet());
+			List<Embedding> results = this.delegate
+				.call(new EmbeddingRequest(texts, EmbeddingOptions.builder().build()))
+				.getResults();
+			Assert.state(results.size() == texts.size(), "Embeddings must have the same number as that of the texts");
+			int index = 0;
+			for (CompletableFuture<float[]> future : batch.values()) {
+				future.complete(results.get(index++).getOutput());
+			}
+		}
+		catch (Throwable ex) {
+			// Waiting callers must be released whatever the failure, including errors
+			batch.values().forEach(future -> future.completeExceptionally(ex));
+			throw ex;
+		}
+		finally {
+			synchronized (this.lock) {
+				batch.forEach(this.inFlight::remove);
+			}
+		}
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		return this.delegate.call(request);
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		return this.delegate.embed(document);
+	}
+
+	@Override
+	public @Nullable String getEmbeddingContent(Document document) {
+		return this.delegate.getEmbeddingContent(document);
+	}
+
+	@Override
+	public int dimensions() {
+		return this.delegate.dimensions();
+	}
+
+	public static Builder builder(EmbeddingModel delegate) {
+		return new Builder(delegate);
+	}
+
+	public static final class Builder {
+
+		private final EmbeddingModel delegate;
+
+		private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+		private Duration maxWait = DEFAULT_MAX_WAIT;
+
+		private Builder(EmbeddingModel delegate) {
+			Assert.notNull(delegate, "EmbeddingModel must not be null");
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Sets the maximum number of distinct texts sent in one request.
+		 * @param maxBatchSize the maximum batch size
+		 * @return the builder instance
+		 */
+		public Builder maxBatchSize(int maxBatchSize) {
+			Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be positive");
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
+		/**
+		 * Sets how long the first caller of a batch waits for others to join it.
+		 * @param maxWait the maximum wait
+		 * @return the builder instance
+		 */
+		public Builder maxWait(Duration maxWait) {
+			Assert.notNull(maxWait, "maxWait must not be null");
+			Assert.isTrue(!maxWait.isNegative(), "maxWait must not be negative");
+			this.maxWait = maxWait;
+			return this;
+		}
+
+		public CoalescingEmbeddingModel build() {
+			return new CoalescingEmbeddingModel(this);
+		}
+
+	}
+
+}
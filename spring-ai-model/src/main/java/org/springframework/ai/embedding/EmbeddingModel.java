@@ -117,6 +117,25 @@ public interface EmbeddingModel extends Model<EmbeddingRequest, EmbeddingRespons
 		return embeddings;
 	}
 
+	/**
+	 * Embeds a batch of {@link Document}s into vectors based on a
+	 * {@link BatchingStrategy}, sending the sub-batches concurrently through the given
+	 * {@link BatchEmbeddingExecutor}.
+	 * @param documents list of {@link Document}s.
+	 * @param options {@link EmbeddingOptions}.
+	 * @param batchingStrategy {@link BatchingStrategy}.
+	 * @param batchExecutor the {@link BatchEmbeddingExecutor} that bounds the number of
+	 * concurrent requests and retries failed sub-batches.
+	 * @return a list of float[] that represents the vectors for the incoming
+	 * {@link Document}s, in the same order as the {@link Document} list.
+	 * @since 2.0.1
+	 */
+	default List<float[]> embed(List<Document> documents, @Nullable EmbeddingOptions options,
+			BatchingStrategy batchingStrategy, BatchEmbeddingExecutor batchExecutor) {
+		Assert.notNull(batchExecutor, "BatchEmbeddingExecutor must not be null");
+		return batchExecutor.embed(this, documents, options, batchingStrategy);
+	}
+
 	/**
 	 * Embeds a batch of texts into vectors and returns the {@link EmbeddingResponse}.
 	 * @param texts list of texts to embed.
@@ -18,14 +18,17 @@ package org.springframework.ai.embedding;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import com.knuddels.jtokkit.api.EncodingType;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.ai.document.ContentFormatter;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.MetadataMode;
 import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
 import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.ai.util.ParsingUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -44,6 +47,16 @@ import org.springframework.util.Assert;
  * The strategy batches documents based on their token counts, ensuring that each batch
  * does not exceed the calculated max input token count.
  *
+ * Strategies created with the {@link #builder() builder} can additionally bound the
+ * number of documents and the UTF-8 payload size of a batch, estimate token counts in
+ * parallel, and keep the formatted content and its token count on each document (see
+ * {@link Document#cacheTokenCount}). Batching the same documents again then neither
+ * formats nor counts them again, and an embedding model that formats documents with their
+ * own content formatter and the same metadata mode reuses the cached content. The builder
+ * defaults to {@link MetadataMode#EMBED}, the default of most embedding models; set the
+ * {@link Builder#metadataMode(MetadataMode) metadata mode} of the embedding model in use
+ * for its content to be reused.
+ *
  * @author Soby Chacko
  * @author Mark Pollack
  * @author Laura Trotta
@@ -72,6 +85,14 @@ public class TokenCountBatchingStrategy implements BatchingStrategy {
 
 	private final MetadataMode metadataMode;
 
+	private final int maxBatchSize;
+
+	private final long maxBatchBytes;
+
+	private final boolean parallelEstimation;
+
+	private final boolean cacheFormattedContent;
+
 	public TokenCountBatchingStrategy() {
 		this(EncodingType.CL100K_BASE, MAX_INPUT_TOKEN_COUNT, DEFAULT_TOKEN_COUNT_RESERVE_PERCENTAGE);
 	}
@@ -99,15 +120,8 @@ public class TokenCountBatchingStrategy implements BatchingStrategy {
 	 */
 	public TokenCountBatchingStrategy(EncodingType encodingType, int maxInputTokenCount, double reservePercentage,
 			ContentFormatter contentFormatter, MetadataMode metadataMode) {
-		Assert.notNull(encodingType, "EncodingType must not be null");
-		Assert.isTrue(maxInputTokenCount > 0, "MaxInputTokenCount must be greater than 0");
-		Assert.isTrue(reservePercentage >= 0 && reservePercentage < 1, "ReservePercentage must be in range [0, 1)");
-		Assert.notNull(contentFormatter, "ContentFormatter must not be null");
-		Assert.notNull(metadataMode, "MetadataMode must not be null");
-		this.tokenCountEstimator = new JTokkitTokenCountEstimator(encodingType);
-		this.maxInputTokenCount = (int) Math.round(maxInputTokenCount * (1 - reservePercentage));
-		this.contentFormatter = contentFormatter;
-		this.metadataMode = metadataMode;
+		this(new JTokkitTokenCountEstimator(encodingType), maxInputTokenCount, reservePercentage, contentFormatter,
+				metadataMode);
 	}
 
 	/**
@@ -122,39 +136,89 @@ public class TokenCountBatchingStrategy implements BatchingStrategy {
 	 */
 	public TokenCountBatchingStrategy(TokenCountEstimator tokenCountEstimator, int maxInputTokenCount,
 			double reservePercentage, ContentFormatter contentFormatter, MetadataMode metadataMode) {
+		this(tokenCountEstimator, maxInputTokenCount, reservePercentage, contentFormatter, metadataMode,
+				Integer.MAX_VALUE, Long.MAX_VALUE, false, false);
+	}
+
+	private TokenCountBatchingStrategy(TokenCountEstimator tokenCountEstimator, int maxInputTokenCount,
+			double reservePercentage, ContentFormatter contentFormatter, MetadataMode metadataMode, int maxBatchSize,
+			long maxBatchBytes, boolean parallelEstimation, boolean cacheFormattedContent) {
 		Assert.notNull(tokenCountEstimator, "TokenCountEstimator must not be null");
 		Assert.isTrue(maxInputTokenCount > 0, "MaxInputTokenCount must be greater than 0");
 		Assert.isTrue(reservePercentage >= 0 && reservePercentage < 1, "ReservePercentage must be in range [0, 1)");
 		Assert.notNull(contentFormatter, "ContentFormatter must not be null");
 		Assert.notNull(metadataMode, "MetadataMode must not be null");
+		Assert.isTrue(maxBatchSize > 0, "MaxBatchSize must be greater than 0");
+		Assert.isTrue(maxBatchBytes > 0, "MaxBatchBytes must be greater than 0");
 		this.tokenCountEstimator = tokenCountEstimator;
 		this.maxInputTokenCount = (int) Math.round(maxInputTokenCount * (1 - reservePercentage));
 		this.contentFormatter = contentFormatter;
 		this.metadataMode = metadataMode;
+		this.maxBatchSize = maxBatchSize;
+		this.maxBatchBytes = maxBatchBytes;
+		this.parallelEstimation = parallelEstimation;
+		this.cacheFormattedContent = cacheFormattedContent;
+	}
+
+	public static Builder builder() {
+		return new Builder();
 	}
 
 	@Override
 	public List<List<Document>> batch(List<Document> documents) {
+		int[] tokenCounts = new int[documents.size()];
+		long[] byteCounts = new long[documents.size()];
+		IntStream indexes = IntStream.range(0, documents.size());
+		if (this.parallelEstimation) {
+			indexes = indexes.parallel();
+		}
+		indexes.forEach(i -> {
+			Document document = documents.get(i);
+			if (this.cacheFormattedContent) {
+				tokenCounts[i] = document.cacheTokenCount(this.contentFormatter, this.metadataMode,
+						this.tokenCountEstimator);
+				if (this.maxBatchBytes != Long.MAX_VALUE) {
+					byteCounts[i] = ParsingUtils
+						.utf8Length(document.getFormattedContent(this.contentFormatter, this.metadataMode));
+				}
+			}
+			else {
+				String content = document.getFormattedContent(this.contentFormatter, this.metadataMode);
+				tokenCounts[i] = this.tokenCountEstimator.estimate(content);
+				if (this.maxBatchBytes != Long.MAX_VALUE) {
+					byteCounts[i] = ParsingUtils.utf8Length(content);
+				}
+			}
+		});
+
 		List<List<Document>> batches = new ArrayList<>();
 		int currentSize = 0;
+		long currentBytes = 0;
 		List<Document> currentBatch = new ArrayList<>();
 
 		// Do not collect the documents into a Map keyed by Document: equal documents
 		// would collapse to a single entry and be silently dropped from the batches.
-		for (Document document : documents) {
-			int tokenCount = this.tokenCountEstimator
-				.estimate(document.getFormattedContent(this.contentFormatter, this.metadataMode));
+		for (int i = 0; i < documents.size(); i++) {
+			int tokenCount = tokenCounts[i];
+			long byteCount = byteCounts[i];
 			if (tokenCount > this.maxInputTokenCount) {
 				throw new IllegalArgumentException(
 						"Tokens in a single document exceeds the maximum number of allowed input tokens");
 			}
+			if (byteCount > this.maxBatchBytes) {
+				throw new IllegalArgumentException(
+						"Size of a single document exceeds the maximum number of allowed bytes per batch");
+			}
 			currentSize += tokenCount;
-			if (currentSize > this.maxInputTokenCount) {
+			currentBytes += byteCount;
+			if (currentSize > this.maxInputTokenCount || currentBytes > this.maxBatchBytes
+					|| currentBatch.size() == this.maxBatchSize) {
 				batches.add(currentBatch);
 				currentBatch = new ArrayList<>();
 				currentSize = tokenCount;
+				currentBytes = byteCount;
 			}
-			currentBatch.add(document);
+			currentBatch.add(documents.get(i));
 		}
 		if (!currentBatch.isEmpty()) {
 			batches.add(currentBatch);
@@ -162,4 +226,123 @@ public class TokenCountBatchingStrategy implements BatchingStrategy {
 		return batches;
 	}
 
+	/**
+	 * Builder for {@link TokenCountBatchingStrategy}.
+	 */
+	public static final class Builder {
+
+		private @Nullable TokenCountEstimator tokenCountEstimator;
+
+		private int maxInputTokenCount = MAX_INPUT_TOKEN_COUNT;
+
+		private double reservePercentage = DEFAULT_TOKEN_COUNT_RESERVE_PERCENTAGE;
+
+		private ContentFormatter contentFormatter = Document.DEFAULT_CONTENT_FORMATTER;
+
+		private MetadataMode metadataMode = MetadataMode.EMBED;
+
+		private int maxBatchSize = Integer.MAX_VALUE;
+
+		private long maxBatchBytes = Long.MAX_VALUE;
+
+		private boolean parallelEstimation;
+
+		private boolean cacheFormattedContent;
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the estimator used to count the tokens of each document. Defaults to a
+		 * {@link JTokkitTokenCountEstimator} using {@link EncodingType#CL100K_BASE}.
+		 * @param tokenCountEstimator the estimator to use
+		 * @return this builder
+		 */
+		public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+			this.tokenCountEstimator = tokenCountEstimator;
+			return this;
+		}
+
+		public Builder maxInputTokenCount(int maxInputTokenCount) {
+			this.maxInputTokenCount = maxInputTokenCount;
+			return this;
+		}
+
+		public Builder reservePercentage(double reservePercentage) {
+			this.reservePercentage = reservePercentage;
+			return this;
+		}
+
+		public Builder contentFormatter(ContentFormatter contentFormatter) {
+			this.contentFormatter = contentFormatter;
+			return this;
+		}
+
+		/**
+		 * Sets the metadata mode the documents are formatted with before their tokens are
+		 * counted. Defaults to {@link MetadataMode#EMBED}, which should match the
+		 * metadata mode of the embedding model.
+		 * @param metadataMode the metadata mode to use
+		 * @return this builder
+		 */
+		public Builder metadataMode(MetadataMode metadataMode) {
+			this.metadataMode = metadataMode;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of documents in a batch, such as the 2048 inputs
+		 * accepted by an OpenAI embedding request.
+		 * @param maxBatchSize the maximum number of documents in a batch
+		 * @return this builder
+		 */
+		public Builder maxBatchSize(int maxBatchSize) {
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum UTF-8 encoded size of the formatted content of a batch.
+		 * @param maxBatchBytes the maximum number of bytes in a batch
+		 * @return this builder
+		 */
+		public Builder maxBatchBytes(long maxBatchBytes) {
+			this.maxBatchBytes = maxBatchBytes;
+			return this;
+		}
+
+		/**
+		 * Sets whether the documents are formatted and their tokens counted in parallel,
+		 * on the common fork-join pool. The estimator must be thread-safe.
+		 * @param parallelEstimation whether to estimate in parallel
+		 * @return this builder
+		 */
+		public Builder parallelEstimation(boolean parallelEstimation) {
+			this.parallelEstimation = parallelEstimation;
+			return this;
+		}
+
+		/**
+		 * Sets whether the formatted content and its token count are kept on each
+		 * document, so that later stages using the same formatter and metadata mode do
+		 * not format or count it again.
+		 * @param cacheFormattedContent whether to keep the formatted content
+		 * @return this builder
+		 * @see Document#cacheTokenCount
+		 */
+		public Builder cacheFormattedContent(boolean cacheFormattedContent) {
+			this.cacheFormattedContent = cacheFormattedContent;
+			return this;
+		}
+
+		public TokenCountBatchingStrategy build() {
+			TokenCountEstimator estimator = (this.tokenCountEstimator != null) ? this.tokenCountEstimator
+					: new JTokkitTokenCountEstimator(EncodingType.CL100K_BASE);
+			return new TokenCountBatchingStrategy(estimator, this.maxInputTokenCount, this.reservePercentage,
+					this.contentFormatter, this.metadataMode, this.maxBatchSize, this.maxBatchBytes,
+					this.parallelEstimation, this.cacheFormattedContent);
+		}
+
+	}
+
 }
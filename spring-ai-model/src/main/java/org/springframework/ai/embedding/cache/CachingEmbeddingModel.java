@@ -0,0 +1,335 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.ObservationFilter;
+import io.micrometer.observation.ObservationRegistry;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.ai.chat.metadata.EmptyUsage;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.embedding.EmbeddingResponseMetadata;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationContext;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationDocumentation;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link EmbeddingModel} decorator that remembers the embeddings computed by a delegate
+ * model in an {@link EmbeddingCache}.
+ *
+ * <p>
+ * Every input is keyed by a SHA-256 hash of the cache namespace, the requested model, all
+ * request options and the input text. Requests that do not name a model are keyed by the
+ * {@link Builder#defaultModel(String) configured default model} of the delegate, if any;
+ * the cache never calls the delegate just to find out which model it uses. Only the
+ * inputs missing from the cache are sent to the delegate, in a single request, and
+ * identical inputs within a request are embedded once. The namespace defaults to the
+ * class name of the delegate and should be set explicitly when several differently
+ * configured models share a cache.
+ *
+ * <p>
+ * The metadata of every response carries the number of cache hits and misses under
+ * {@link #CACHE_HITS_METADATA_KEY} and {@link #CACHE_MISSES_METADATA_KEY}. The cache does
+ * not observe calls itself: when the {@link ObservationRegistry} of the delegate is
+ * configured, these counts are added as high cardinality key values to the embedding
+ * model observation of the delegate. Calls answered entirely from the cache reach no
+ * model and are not observed.
+ *
+ * @since 2.0.1
+ */
+public final class CachingEmbeddingModel implements EmbeddingModel {
+
+	/**
+	 * Response metadata key holding the number of inputs served from the cache.
+	 */
+	public static final String CACHE_HITS_METADATA_KEY = "cache-hits";
+
+	/**
+	 * Response metadata key holding the number of inputs sent to the delegate model.
+	 */
+	public static final String CACHE_MISSES_METADATA_KEY = "cache-misses";
+
+	/**
+	 * Cache hits and misses of the delegate call in progress on the current thread.
+	 */
+	private static final ThreadLocal<int @Nullable []> CACHE_COUNTS = new ThreadLocal<>();
+
+	private static final ObservationFilter CACHE_COUNTS_FILTER = context -> {
+		int[] counts = CACHE_COUNTS.get();
+		if (counts != null && context instanceof EmbeddingModelObservationContext) {
+			context.addHighCardinalityKeyValue(
+					KeyValue.of(EmbeddingModelObservationDocumentation.HighCardinalityKeyNames.CACHE_HITS,
+							String.valueOf(counts[0])));
+			context.addHighCardinalityKeyValue(
+					KeyValue.of(EmbeddingModelObservationDocumentation.HighCardinalityKeyNames.CACHE_MISSES,
+							String.valueOf(counts[1])));
+		}
+		return context;
+	};
+
+	private static final Set<ObservationRegistry> FILTERED_REGISTRIES = Collections
+		.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	private static final JsonMapper OPTIONS_JSON_MAPPER = JsonMapper.builder()
+		.enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+		.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+		.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+		.build();
+
+	private final EmbeddingModel delegate;
+
+	private final EmbeddingCache cache;
+
+	private final String namespace;
+
+	private final @Nullable String defaultModel;
+
+	private CachingEmbeddingModel(Builder builder) {
+		this.delegate = builder.delegate;
+		this.cache = builder.cache;
+		this.namespace = (builder.namespace != null) ? builder.namespace : builder.delegate.getClass().getName();
+		this.defaultModel = builder.defaultModel;
+		ObservationRegistry observationRegistry = builder.observationRegistry;
+		if (!observationRegistry.isNoop() && FILTERED_REGISTRIES.add(observationRegistry)) {
+			observationRegistry.observationConfig().observationFilter(CACHE_COUNTS_FILTER);
+		}
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		Assert.notNull(request, "EmbeddingRequest must not be null");
+		List<String> inputs = request.getInstructions();
+		MessageDigest requestDigest = requestDigest(request.getOptions());
+		List<String> keys = new ArrayList<>(inputs.size());
+		for (String input : inputs) {
+			keys.add(key(requestDigest, input));
+		}
+		Map<String, float[]> embeddings = new HashMap<>(this.cache.getAll(keys));
+		int hits = 0;
+		Map<String, String> misses = new LinkedHashMap<>();
+		for (int i = 0; i < inputs.size(); i++) {
+			if (embeddings.containsKey(keys.get(i))) {
+				hits++;
+			}
+			else {
+				misses.putIfAbsent(keys.get(i), inputs.get(i));
+			}
+		}
+		String model = "";
+		if (!misses.isEmpty()) {
+			EmbeddingResponse response;
+			CACHE_COUNTS.set(new int[] { hits, inputs.size() - hits });
+			try {
+				response = this.delegate
+					.call(new EmbeddingRequest(new ArrayList<>(misses.values()), request.getOptions()));
+			}
+			finally {
+				CACHE_COUNTS.remove();
+			}
+			List<Embedding> results = response.getResults();
+			Assert.state(results.size() == misses.size(),
+					"Embeddings must have the same number as that of the requested inputs");
+			Map<String, float[]> computed = new HashMap<>();
+			int index = 0;
+			for (String key : misses.keySet()) {
+				computed.put(key, results.get(index++).getOutput());
+			}
+			this.cache.putAll(computed);
+			embeddings.putAll(computed);
+			model = response.getMetadata().getModel();
+		}
+		List<Embedding> results = new ArrayList<>(inputs.size());
+		for (int i = 0; i < keys.size(); i++) {
+			results.add(new Embedding(Objects.requireNonNull(embeddings.get(keys.get(i))), i));
+		}
+		return new EmbeddingResponse(results, new EmbeddingResponseMetadata(model, new EmptyUsage(),
+				Map.of(CACHE_HITS_METADATA_KEY, hits, CACHE_MISSES_METADATA_KEY, inputs.size() - hits)));
+	}
+
+	/**
+	 * Returns a digest over the parts of the key shared by all inputs of a request.
+	 */
+	private MessageDigest requestDigest(@Nullable EmbeddingOptions options) {
+		String model = (options != null) ? options.getModel() : null;
+		MessageDigest digest = sha256();
+		update(digest, this.namespace);
+		update(digest, StringUtils.hasText(model) ? model : this.defaultModel);
+		update(digest, serialize(options));
+		return digest;
+	}
+
+	private String key(MessageDigest requestDigest, @Nullable String input) {
+		MessageDigest digest;
+		try {
+			digest = (MessageDigest) requestDigest.clone();
+		}
+		catch (CloneNotSupportedException ex) {
+			throw new IllegalStateException("SHA-256 digests cannot be cloned", ex);
+		}
+		update(digest, input);
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static @Nullable String serialize(@Nullable EmbeddingOptions options) {
+		if (options == null) {
+			return null;
+		}
+		try {
+			return options.getClass().getName() + OPTIONS_JSON_MAPPER.writeValueAsString(options);
+		}
+		catch (JacksonException ex) {
+			// Options that cannot be serialized are keyed by their string form, at worst
+			// missing the cache for equal options
+			return options.getClass().getName() + options;
+		}
+	}
+
+	private static void update(MessageDigest digest, @Nullable String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not available", ex);
+		}
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		Assert.notNull(document, "Document must not be null");
+		String content = Objects.requireNonNullElse(getEmbeddingContent(document), "");
+		return call(new EmbeddingRequest(List.of(content), EmbeddingOptions.builder().build())).getResult().getOutput();
+	}
+
+	@Override
+	public @Nullable String getEmbeddingContent(Document document) {
+		return this.delegate.getEmbeddingContent(document);
+	}
+
+	@Override
+	public int dimensions() {
+		return this.delegate.dimensions();
+	}
+
+	public static Builder builder(EmbeddingModel delegate) {
+		return new Builder(delegate);
+	}
+
+	public static final class Builder {
+
+		private final EmbeddingModel delegate;
+
+		private EmbeddingCache cache = new InMemoryEmbeddingCache();
+
+		private @Nullable String namespace;
+
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		private @Nullable String defaultModel;
+
+		private Builder(EmbeddingModel delegate) {
+			Assert.notNull(delegate, "EmbeddingModel must not be null");
+			this.delegate = delegate;
+		}
+
+		/**
+		 * Sets the cache storing the embeddings. Defaults to an
+		 * {@link InMemoryEmbeddingCache}.
+		 * @param cache the cache to use
+		 * @return the builder instance
+		 */
+		public Builder cache(EmbeddingCache cache) {
+			Assert.notNull(cache, "EmbeddingCache must not be null");
+			this.cache = cache;
+			return this;
+		}
+
+		/**
+		 * Sets the namespace that is part of every cache key. Defaults to the class name
+		 * of the delegate model.
+		 * @param namespace the namespace to use
+		 * @return the builder instance
+		 */
+		public Builder namespace(String namespace) {
+			Assert.hasText(namespace, "namespace must not be null or empty");
+			this.namespace = namespace;
+			return this;
+		}
+
+		/**
+		 * Sets the model used by the delegate for requests that do not name one, which is
+		 * part of their cache keys. When not set, such requests are keyed by the
+		 * namespace and their options only.
+		 * @param defaultModel the default model of the delegate
+		 * @return the builder instance
+		 */
+		public Builder defaultModel(String defaultModel) {
+			Assert.hasText(defaultModel, "defaultModel must not be null or empty");
+			this.defaultModel = defaultModel;
+			return this;
+		}
+
+		/**
+		 * Sets the registry that observes the delegate, whose embedding model
+		 * observations are enriched with the cache hits and misses of each call.
+		 * @param observationRegistry the observation registry of the delegate
+		 * @return the builder instance
+		 */
+		public Builder observationRegistry(ObservationRegistry observationRegistry) {
+			Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+			this.observationRegistry = observationRegistry;
+			return this;
+		}
+
+		public CachingEmbeddingModel build() {
+			return new CachingEmbeddingModel(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Storage for embeddings computed by a {@link CachingEmbeddingModel}, keyed by a hash of
+ * the embedded content and the options it was embedded with.
+ *
+ * <p>
+ * Implementations must be thread-safe. They may evict entries at any time.
+ *
+ * @since 2.0.1
+ * @see InMemoryEmbeddingCache
+ * @see MappedFileEmbeddingCache
+ */
+public interface EmbeddingCache {
+
+	/**
+	 * Returns the embedding stored under the given key.
+	 * @param key the cache key
+	 * @return the embedding, or {@code null} if none is stored
+	 */
+	float @Nullable [] get(String key);
+
+	/**
+	 * Returns the embeddings stored under the given keys. Keys without an embedding are
+	 * absent from the returned map.
+	 * @param keys the cache keys
+	 * @return the embeddings found, by key
+	 */
+	default Map<String, float[]> getAll(List<String> keys) {
+		Map<String, float[]> found = new HashMap<>();
+		for (String key : keys) {
+			float[] embedding = get(key);
+			if (embedding != null) {
+				found.put(key, embedding);
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Stores an embedding under the given key.
+	 * @param key the cache key
+	 * @param embedding the embedding to store
+	 */
+	void put(String key, float[] embedding);
+
+	/**
+	 * Stores the given embeddings.
+	 * @param embeddings the embeddings to store, by key
+	 */
+	default void putAll(Map<String, float[]> embeddings) {
+		embeddings.forEach(this::put);
+	}
+
+	/**
+	 * Removes every embedding from the cache.
+	 */
+	void clear();
+
+}
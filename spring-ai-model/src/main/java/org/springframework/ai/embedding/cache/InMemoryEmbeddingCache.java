@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingCache} that keeps up to a fixed number of embeddings on the heap and
+ * evicts the least recently used one when full. Embeddings are copied on the way in and
+ * out, so callers cannot modify the cached vectors.
+ *
+ * @since 2.0.1
+ */
+public final class InMemoryEmbeddingCache implements EmbeddingCache {
+
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+	private final Map<String, float[]> embeddings;
+
+	public InMemoryEmbeddingCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Creates a new cache.
+	 * @param maxEntries the maximum number of embeddings kept
+	 */
+	public InMemoryEmbeddingCache(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+		this.embeddings = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+				return size() > maxEntries;
+			}
+
+		};
+	}
+
+	@Override
+	public synchronized float @Nullable [] get(String key) {
+		float[] embedding = this.embeddings.get(key);
+		return (embedding != null) ? embedding.clone() : null;
+	}
+
+	@Override
+	public synchronized void put(String key, float[] embedding) {
+		Assert.hasText(key, "key must not be null or empty");
+		Assert.notNull(embedding, "embedding must not be null");
+		this.embeddings.put(key, embedding.clone());
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.embeddings.clear();
+	}
+
+	/**
+	 * Returns the number of embeddings currently cached.
+	 * @return the number of cached embeddings
+	 */
+	public synchronized int size() {
+		return this.embeddings.size();
+	}
+
+}
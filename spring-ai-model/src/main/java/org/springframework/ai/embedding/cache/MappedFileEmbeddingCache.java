@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingCache} that persists embeddings in memory-mapped segment files in a
+ * local directory, so a cache survives restarts of the application.
+ *
+ * <p>
+ * Each segment is a file of fixed size that is mapped once and filled with records of the
+ * form {@code [int keyLength][key UTF-8][int dimensions][float32 * dimensions]},
+ * little-endian. The key length of a record is written last, and a zero key length marks
+ * the end of a segment, so a record torn by a crash is ignored when the segments are
+ * scanned on startup. Only the key to location index is kept on the heap; embeddings are
+ * read straight from the mapped segments.
+ *
+ * <p>
+ * Entries are never evicted. {@link #clear()} empties the cache and reuses the existing
+ * segment files.
+ *
+ * @since 2.0.1
+ */
+public final class MappedFileEmbeddingCache implements EmbeddingCache, Closeable {
+
+	private static final Log logger = LogFactory.getLog(MappedFileEmbeddingCache.class);
+
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	private static final String SEGMENT_FILE_NAME = "embeddings-%06d.seg";
+
+	private final Path directory;
+
+	private final int segmentSize;
+
+	private final List<MappedByteBuffer> segments = new CopyOnWriteArrayList<>();
+
+	private final Map<String, Long> locations = new ConcurrentHashMap<>();
+
+	private int currentSegment;
+
+	private int writeOffset;
+
+	/**
+	 * Opens or creates a cache in the given directory with the default segment size.
+	 * @param directory the directory holding the segment files
+	 */
+	public MappedFileEmbeddingCache(Path directory) {
+		this(directory, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * Opens or creates a cache in the given directory.
+	 * @param directory the directory holding the segment files
+	 * @param segmentSize the size of each segment file in bytes, which bounds the size of
+	 * a single record
+	 */
+	public MappedFileEmbeddingCache(Path directory, int segmentSize) {
+		Assert.notNull(directory, "directory must not be null");
+		Assert.isTrue(segmentSize >= 1024, "segmentSize must be at least 1024 bytes");
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		try {
+			Files.createDirectories(directory);
+			for (int index = 0; Files.exists(segmentFile(index)); index++) {
+				MappedByteBuffer segment = map(index);
+				this.segments.add(segment);
+				this.currentSegment = index;
+				this.writeOffset = scan(index, segment);
+			}
+		}
+		catch (IOException ex) {
+			logger.error("IOException occurred while opening the embedding cache.", ex);
+			throw new RuntimeException(ex);
+		}
+	}
+
+	@Override
+	public float @Nullable [] get(String key) {
+		Long location = this.locations.get(key);
+		if (location == null) {
+			return null;
+		}
+		MappedByteBuffer segment = this.segments.get((int) (location >>> 32));
+		int offset = location.intValue();
+		int dimensionsOffset = offset + Integer.BYTES + segment.getInt(offset);
+		float[] embedding = new float[segment.getInt(dimensionsOffset)];
+		segment.slice(dimensionsOffset + Integer.BYTES, embedding.length * Float.BYTES)
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.asFloatBuffer()
+			.get(embedding);
+		return embedding;
+	}
+
+	@Override
+	public synchronized void put(String key, float[] embedding) {
+		Assert.hasText(key, "key must not be null or empty");
+		Assert.notNull(embedding, "embedding must not be null");
+		if (this.locations.containsKey(key)) {
+			return;
+		}
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		long recordSize = 2L * Integer.BYTES + keyBytes.length + (long) embedding.length * Float.BYTES;
+		Assert.isTrue(recordSize <= this.segmentSize, "Embedding does not fit into a cache segment");
+		if (this.segments.isEmpty() || this.writeOffset + recordSize > this.segmentSize) {
+			nextSegment();
+		}
+		MappedByteBuffer segment = this.segments.get(this.currentSegment);
+		int offset = this.writeOffset;
+		int end = offset + (int) recordSize;
+		segment.put(offset + Integer.BYTES, keyBytes);
+		segment.putInt(offset + Integer.BYTES + keyBytes.length, embedding.length);
+		segment.slice(end - embedding.length * Float.BYTES, embedding.length * Float.BYTES)
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.asFloatBuffer()
+			.put(embedding);
+		if (end + Integer.BYTES <= this.segmentSize) {
+			segment.putInt(end, 0);
+		}
+		segment.putInt(offset, keyBytes.length);
+		this.locations.put(key, ((long) this.currentSegment << 32) | offset);
+		this.writeOffset = end;
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.locations.clear();
+		for (MappedByteBuffer segment : this.segments) {
+			segment.putInt(0, 0);
+		}
+		this.currentSegment = 0;
+		this.writeOffset = 0;
+	}
+
+	/**
+	 * Returns the number of embeddings currently cached.
+	 * @return the number of cached embeddings
+	 */
+	public int size() {
+		return this.locations.size();
+	}
+
+	/**
+	 * Forces every segment to be written to the storage device.
+	 */
+	public synchronized void flush() {
+		for (MappedByteBuffer segment : this.segments) {
+			segment.force();
+		}
+	}
+
+	@Override
+	public void close() {
+		flush();
+	}
+
+	private void nextSegment() {
+		int next = this.segments.isEmpty() ? 0 : this.currentSegment + 1;
+		if (next == this.segments.size()) {
+			try {
+				this.segments.add(map(next));
+			}
+			catch (IOException ex) {
+				logger.error("IOException occurred while creating an embedding cache segment.", ex);
+				throw new RuntimeException(ex);
+			}
+		}
+		this.currentSegment = next;
+		this.writeOffset = 0;
+	}
+
+	private int scan(int index, MappedByteBuffer segment) {
+		int offset = 0;
+		while (offset + Integer.BYTES <= this.segmentSize) {
+			int keyLength = segment.getInt(offset);
+			if (keyLength <= 0 || offset + 2L * Integer.BYTES + keyLength > this.segmentSize) {
+				break;
+			}
+			int dimensions = segment.getInt(offset + Integer.BYTES + keyLength);
+			long end = offset + 2L * Integer.BYTES + keyLength + (long) dimensions * Float.BYTES;
+			if (dimensions < 0 || end > this.segmentSize) {
+				break;
+			}
+			byte[] keyBytes = new byte[keyLength];
+			segment.get(offset + Integer.BYTES, keyBytes);
+			this.locations.put(new String(keyBytes, StandardCharsets.UTF_8), ((long) index << 32) | offset);
+			offset = (int) end;
+		}
+		return offset;
+	}
+
+	private MappedByteBuffer map(int index) throws IOException {
+		try (FileChannel channel = FileChannel.open(segmentFile(index), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.segmentSize);
+			segment.order(ByteOrder.LITTLE_ENDIAN);
+			return segment;
+		}
+	}
+
+	private Path segmentFile(int index) {
+		return this.directory.resolve(SEGMENT_FILE_NAME.formatted(index));
+	}
+
+}
@@ -134,6 +134,29 @@ public enum EmbeddingModelObservationDocumentation implements ObservationDocumen
 			public String asString() {
 				return AiObservationAttributes.USAGE_TOTAL_TOKENS.value();
 			}
+		},
+
+		// Cache
+
+		/**
+		 * The number of inputs answered from an embedding cache.
+		 */
+		CACHE_HITS {
+			@Override
+			public String asString() {
+				return "spring.ai.embedding.cache.hits";
+			}
+		},
+
+		/**
+		 * The number of inputs that had to be sent to the embedding model because they
+		 * were missing from an embedding cache.
+		 */
+		CACHE_MISSES {
+			@Override
+			public String asString() {
+				return "spring.ai.embedding.cache.misses";
+			}
 		}
 
 	}
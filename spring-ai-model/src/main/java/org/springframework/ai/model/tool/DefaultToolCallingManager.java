@@ -16,6 +16,7 @@
 
 package org.springframework.ai.model.tool;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -24,12 +25,21 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
 
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.Message;
@@ -39,6 +49,7 @@ import org.springframework.ai.chat.model.Generation;
 import org.springframework.ai.chat.model.ToolContext;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.model.tool.internal.ToolCallReactiveContextHolder;
+import org.springframework.ai.tool.AsyncToolCallback;
 import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.definition.ToolDefinition;
 import org.springframework.ai.tool.execution.DefaultToolExecutionExceptionProcessor;
@@ -49,7 +60,10 @@ import org.springframework.ai.tool.observation.ToolCallingObservationContext;
 import org.springframework.ai.tool.observation.ToolCallingObservationConvention;
 import org.springframework.ai.tool.observation.ToolCallingObservationDocumentation;
 import org.springframework.ai.tool.resolution.DelegatingToolCallbackResolver;
+import org.springframework.ai.tool.resolution.ToolCallbackRegistry;
 import org.springframework.ai.tool.resolution.ToolCallbackResolver;
+import org.springframework.ai.util.ConcurrencyUtils;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -111,6 +125,14 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 
 	private final ToolCallLimits toolCallLimits;
 
+	private final boolean parallelToolExecution;
+
+	private final Executor toolExecutor;
+
+	private final Scheduler toolScheduler;
+
+	private final ToolCallResultCache toolCallResultCache;
+
 	private ToolCallingObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
 	public DefaultToolCallingManager(ObservationRegistry observationRegistry, ToolCallbackResolver toolCallbackResolver,
@@ -122,25 +144,44 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 
 	DefaultToolCallingManager(ObservationRegistry observationRegistry, ToolCallbackResolver toolCallbackResolver,
 			ToolExecutionExceptionProcessor toolExecutionExceptionProcessor, ToolCallLimits toolCallLimits) {
+		this(observationRegistry, toolCallbackResolver, toolExecutionExceptionProcessor, toolCallLimits, false, null,
+				new ToolCallResultCache());
+	}
+
+	DefaultToolCallingManager(ObservationRegistry observationRegistry, ToolCallbackResolver toolCallbackResolver,
+			ToolExecutionExceptionProcessor toolExecutionExceptionProcessor, ToolCallLimits toolCallLimits,
+			boolean parallelToolExecution, @Nullable Executor toolExecutor, ToolCallResultCache toolCallResultCache) {
 		Assert.notNull(observationRegistry, "observationRegistry cannot be null");
 		Assert.notNull(toolCallbackResolver, "toolCallbackResolver cannot be null");
 		Assert.notNull(toolExecutionExceptionProcessor, "toolCallExceptionConverter cannot be null");
 		Assert.notNull(toolCallLimits, "toolCallLimits cannot be null");
+		Assert.notNull(toolCallResultCache, "toolCallResultCache cannot be null");
 
 		this.observationRegistry = observationRegistry;
 		this.toolCallbackResolver = toolCallbackResolver;
 		this.toolExecutionExceptionProcessor = toolExecutionExceptionProcessor;
 		this.toolCallLimits = toolCallLimits;
+		this.parallelToolExecution = parallelToolExecution;
+		if (toolExecutor != null) {
+			this.toolExecutor = toolExecutor;
+			this.toolScheduler = Schedulers.fromExecutor(toolExecutor);
+		}
+		else {
+			// Without virtual threads the default executor starts a platform thread per
+			// call, so blocking tool callbacks are offloaded to the bounded elastic
+			// scheduler instead
+			this.toolExecutor = ConcurrencyUtils.defaultExecutor("tool-call-");
+			this.toolScheduler = ConcurrencyUtils.isVirtualThreadsAvailable()
+					? Schedulers.fromExecutor(this.toolExecutor) : Schedulers.boundedElastic();
+		}
+		this.toolCallResultCache = toolCallResultCache;
 	}
 
 	@Override
 	public List<ToolDefinition> resolveToolDefinitions(ToolCallingChatOptions chatOptions) {
 		Assert.notNull(chatOptions, "chatOptions cannot be null");
 
-		List<ToolCallback> toolCallbacks = new ArrayList<>(
-				!CollectionUtils.isEmpty(chatOptions.getToolCallbacks()) ? chatOptions.getToolCallbacks() : List.of());
-
-		return toolCallbacks.stream().map(ToolCallback::getToolDefinition).toList();
+		return chatOptions.getToolCallbackRegistry().getToolDefinitions();
 	}
 
 	@Override
@@ -148,6 +189,61 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 		Assert.notNull(prompt, "prompt cannot be null");
 		Assert.notNull(chatResponse, "chatResponse cannot be null");
 
+		AssistantMessage assistantMessage = getToolCallMessage(chatResponse);
+
+		ToolContext toolContext = buildToolContext(prompt, assistantMessage);
+
+		ToolCallPlan toolCallPlan = planToolCalls(prompt, assistantMessage);
+
+		for (List<PendingToolCall> toolCallGroup : groupToolCalls(toolCallPlan.toolCalls())) {
+			executeToolCallGroup(toolCallGroup, toolCallPlan.toolResponses(), toolContext);
+		}
+
+		return buildToolExecutionResult(prompt, assistantMessage, toolCallPlan);
+	}
+
+	/**
+	 * Execute the tool calls requested by the model without blocking the subscribing
+	 * thread. Calls to {@link AsyncToolCallback}s are subscribed to directly, while any
+	 * other tool callback is run on the {@link Builder#toolExecutor(Executor) tool
+	 * executor}, or, when none is configured and virtual threads are not available, on
+	 * the bounded elastic scheduler. Tool calls are otherwise executed as in
+	 * {@link #executeToolCalls(Prompt, ChatResponse)}.
+	 */
+	@Override
+	public Mono<ToolExecutionResult> executeToolCallsAsync(Prompt prompt, ChatResponse chatResponse) {
+		Assert.notNull(prompt, "prompt cannot be null");
+		Assert.notNull(chatResponse, "chatResponse cannot be null");
+
+		return Mono.deferContextual(ctx -> {
+			AssistantMessage assistantMessage = getToolCallMessage(chatResponse);
+
+			ToolContext toolContext = buildToolContext(prompt, assistantMessage);
+
+			ToolCallPlan toolCallPlan;
+			ToolCallReactiveContextHolder.setContext(ctx);
+			try {
+				toolCallPlan = planToolCalls(prompt, assistantMessage);
+			}
+			finally {
+				ToolCallReactiveContextHolder.clearContext();
+			}
+
+			List<PendingToolCall> toolCalls = toolCallPlan.toolCalls();
+			return Flux.fromIterable(groupToolCalls(toolCalls))
+				.concatMap(toolCallGroup -> Flux.fromIterable(toolCallGroup)
+					.flatMapSequential(pendingToolCall -> executeToolCallAsync(pendingToolCall, toolContext)))
+				.collectList()
+				.map(toolResponses -> {
+					for (int i = 0; i < toolResponses.size(); i++) {
+						toolCallPlan.toolResponses()[toolCalls.get(i).index()] = toolResponses.get(i);
+					}
+					return buildToolExecutionResult(prompt, assistantMessage, toolCallPlan);
+				});
+		});
+	}
+
+	private static AssistantMessage getToolCallMessage(ChatResponse chatResponse) {
 		Optional<Generation> toolCallGeneration = chatResponse.getResults()
 			.stream()
 			.filter(g -> !CollectionUtils.isEmpty(g.getOutput().getToolCalls()))
@@ -157,20 +253,7 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 			throw new IllegalStateException("No tool call requested by the chat model");
 		}
 
-		AssistantMessage assistantMessage = toolCallGeneration.get().getOutput();
-
-		ToolContext toolContext = buildToolContext(prompt, assistantMessage);
-
-		InternalToolExecutionResult internalToolExecutionResult = executeToolCall(prompt, assistantMessage,
-				toolContext);
-
-		List<Message> conversationHistory = buildConversationHistoryAfterToolExecution(prompt.getInstructions(),
-				assistantMessage, internalToolExecutionResult.toolResponseMessage());
-
-		return ToolExecutionResult.builder()
-			.conversationHistory(conversationHistory)
-			.returnDirect(internalToolExecutionResult.returnDirect())
-			.build();
+		return toolCallGeneration.get().getOutput();
 	}
 
 	private static ToolContext buildToolContext(Prompt prompt, AssistantMessage assistantMessage) {
@@ -185,25 +268,29 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 	}
 
 	/**
-	 * Execute the tool call and return the response message.
+	 * Account for limits and resolve the tool callbacks in the order the model requested
+	 * the tool calls. Planning stops at the first tool call that exceeds a limit with
+	 * {@link ToolCallLimitBehavior#THROW} or whose tool callback cannot be resolved; the
+	 * tool calls planned before it are still executed.
 	 */
-	private InternalToolExecutionResult executeToolCall(Prompt prompt, AssistantMessage assistantMessage,
-			ToolContext toolContext) {
-		List<ToolCallback> toolCallbacks = List.of();
+	private ToolCallPlan planToolCalls(Prompt prompt, AssistantMessage assistantMessage) {
+		ToolCallbackRegistry toolCallbackRegistry = ToolCallbackRegistry.empty();
 		if (prompt.getOptions() instanceof ToolCallingChatOptions toolCallingChatOptions) {
-			if (!CollectionUtils.isEmpty(toolCallingChatOptions.getToolCallbacks())) {
-				toolCallbacks = toolCallingChatOptions.getToolCallbacks();
-			}
+			toolCallbackRegistry = toolCallingChatOptions.getToolCallbackRegistry();
 		}
 
-		List<ToolResponseMessage.ToolResponse> toolResponses = new ArrayList<>();
+		List<AssistantMessage.ToolCall> toolCalls = assistantMessage.getToolCalls();
+		ToolResponseMessage.@Nullable ToolResponse[] toolResponses = new ToolResponseMessage.ToolResponse[toolCalls
+			.size()];
+		List<PendingToolCall> pendingToolCalls = new ArrayList<>();
 
 		Boolean returnDirect = null;
 
 		Map<String, Integer> toolCallCounts = ToolCallLimits.countPriorToolCalls(prompt.getInstructions());
 		int totalToolCallCount = toolCallCounts.values().stream().mapToInt(Integer::intValue).sum();
 
-		for (AssistantMessage.ToolCall toolCall : assistantMessage.getToolCalls()) {
+		for (int i = 0; i < toolCalls.size(); i++) {
+			AssistantMessage.ToolCall toolCall = toolCalls.get(i);
 
 			if (logger.isDebugEnabled()) {
 				logger.debug("Executing tool call: " + toolCall.name());
@@ -216,20 +303,11 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 
 			ToolCallLimits.Breach limitBreach = this.toolCallLimits.check(toolName, toolCallCount, totalToolCallCount);
 			if (limitBreach != null) {
-				toolResponses.add(new ToolResponseMessage.ToolResponse(toolCall.id(), toolName, limitBreach.message()));
+				toolResponses[i] = new ToolResponseMessage.ToolResponse(toolCall.id(), toolName, limitBreach.message());
 
 				if (this.toolCallLimits.onLimitExceeded() == ToolCallLimitBehavior.THROW) {
-					ToolResponseMessage partialToolResponseMessage = ToolResponseMessage.builder()
-						.responses(toolResponses)
-						.build();
-					List<Message> partialConversationHistory = buildConversationHistoryAfterToolExecution(
-							prompt.getInstructions(), assistantMessage, partialToolResponseMessage);
-					ToolExecutionResult partialToolExecutionResult = ToolExecutionResult.builder()
-						.conversationHistory(partialConversationHistory)
-						.returnDirect(Objects.requireNonNullElse(returnDirect, false))
-						.build();
-					throw new ToolCallLimitExceededException(limitBreach.toolName(), limitBreach.limit(),
-							partialToolExecutionResult);
+					return new ToolCallPlan(pendingToolCalls, toolResponses,
+							Objects.requireNonNullElse(returnDirect, false), limitBreach, null);
 				}
 
 				// ToolCallLimitBehavior.RETURN_ERROR_RESPONSE: skip invoking this tool
@@ -252,17 +330,14 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 				finalToolInputArguments = toolInputArguments;
 			}
 
-			ToolCallback toolCallback = toolCallbacks.stream()
-				.filter(tool -> toolName.equals(tool.getToolDefinition().name()))
-				.findFirst()
-				.orElseGet(() -> this.toolCallbackResolver.resolve(toolName));
+			ToolCallback toolCallback = toolCallbackRegistry.resolve(toolName);
+			if (toolCallback == null) {
+				toolCallback = this.toolCallbackResolver.resolve(toolName);
+			}
 
 			if (toolCallback == null) {
-				if (logger.isWarnEnabled()) {
-					logger.warn(POSSIBLE_LLM_TOOL_NAME_CHANGE_WARNING_START + toolName
-							+ POSSIBLE_LLM_TOOL_NAME_CHANGE_WARNING_END);
-				}
-				throw new IllegalStateException("No ToolCallback found for tool name: " + toolName);
+				return new ToolCallPlan(pendingToolCalls, toolResponses,
+						Objects.requireNonNullElse(returnDirect, false), null, toolName);
 			}
 
 			if (returnDirect == null) {
@@ -276,39 +351,249 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 			// Reactor context captured in ToolCallReactiveContextHolder. In blocking mode
 			// that holder is never populated, so fall back to the observation currently
 			// in scope on the calling thread to keep the observation hierarchy intact.
+			// It is resolved here, on the calling thread, so that tool calls executed in
+			// parallel are attached to the same parent.
 			Observation parent = ToolCallReactiveContextHolder.getContext()
 				.getOrDefault(ObservationThreadLocalAccessor.KEY, this.observationRegistry.getCurrentObservation());
 
-			ToolCallingObservationContext observationContext = ToolCallingObservationContext.builder()
-				.toolDefinition(toolCallback.getToolDefinition())
-				.toolMetadata(toolCallback.getToolMetadata())
-				.toolCallId(toolCall.id())
-				.toolType(toolCall.type())
-				.toolCallArguments(finalToolInputArguments)
-				.build();
+			pendingToolCalls.add(new PendingToolCall(i, toolCall, toolCallback, finalToolInputArguments, parent));
+		}
+
+		return new ToolCallPlan(pendingToolCalls, toolResponses, Objects.requireNonNullElse(returnDirect, false), null,
+				null);
+	}
+
+	/**
+	 * Split the planned tool calls into the groups they are executed in, one after the
+	 * other. When parallel tool execution is enabled, consecutive calls to tools whose
+	 * {@link org.springframework.ai.tool.metadata.ToolMetadata#parallelSafe()} is
+	 * {@code true} form a group whose calls run concurrently, while any other tool call
+	 * forms a group of its own.
+	 */
+	private List<List<PendingToolCall>> groupToolCalls(List<PendingToolCall> pendingToolCalls) {
+		List<List<PendingToolCall>> toolCallGroups = new ArrayList<>();
+		List<PendingToolCall> parallelToolCalls = new ArrayList<>();
+		for (PendingToolCall pendingToolCall : pendingToolCalls) {
+			if (this.parallelToolExecution && pendingToolCall.toolCallback().getToolMetadata().parallelSafe()) {
+				parallelToolCalls.add(pendingToolCall);
+				continue;
+			}
+			if (!parallelToolCalls.isEmpty()) {
+				toolCallGroups.add(parallelToolCalls);
+				parallelToolCalls = new ArrayList<>();
+			}
+			toolCallGroups.add(List.of(pendingToolCall));
+		}
+		if (!parallelToolCalls.isEmpty()) {
+			toolCallGroups.add(parallelToolCalls);
+		}
+		return toolCallGroups;
+	}
+
+	/**
+	 * Build the result of the executed tool calls, or throw the failure that stopped the
+	 * planning of the tool calls. Tool responses always keep the order of the tool calls.
+	 */
+	private ToolExecutionResult buildToolExecutionResult(Prompt prompt, AssistantMessage assistantMessage,
+			ToolCallPlan toolCallPlan) {
+		ToolResponseMessage toolResponseMessage = ToolResponseMessage.builder()
+			.responses(completedToolResponses(toolCallPlan.toolResponses()))
+			.build();
+
+		List<Message> conversationHistory = buildConversationHistoryAfterToolExecution(prompt.getInstructions(),
+				assistantMessage, toolResponseMessage);
+
+		ToolExecutionResult toolExecutionResult = ToolExecutionResult.builder()
+			.conversationHistory(conversationHistory)
+			.returnDirect(toolCallPlan.returnDirect())
+			.build();
+
+		ToolCallLimits.Breach limitBreach = toolCallPlan.limitBreach();
+		if (limitBreach != null) {
+			throw new ToolCallLimitExceededException(limitBreach.toolName(), limitBreach.limit(), toolExecutionResult);
+		}
 
-			String toolCallResult = ToolCallingObservationDocumentation.TOOL_CALL
+		String unresolvedToolName = toolCallPlan.unresolvedToolName();
+		if (unresolvedToolName != null) {
+			if (logger.isWarnEnabled()) {
+				logger.warn(POSSIBLE_LLM_TOOL_NAME_CHANGE_WARNING_START + unresolvedToolName
+						+ POSSIBLE_LLM_TOOL_NAME_CHANGE_WARNING_END);
+			}
+			throw new IllegalStateException("No ToolCallback found for tool name: " + unresolvedToolName);
+		}
+
+		return toolExecutionResult;
+	}
+
+	/**
+	 * Run the given group of tool calls and store their responses at the index of the
+	 * corresponding tool call. A group of several tool calls runs concurrently on the
+	 * tool executor, waiting for all of them to complete before rethrowing the failure of
+	 * the first failed tool call, if any.
+	 */
+	private void executeToolCallGroup(List<PendingToolCall> pendingToolCalls,
+			ToolResponseMessage.@Nullable ToolResponse[] toolResponses, ToolContext toolContext) {
+		if (pendingToolCalls.size() == 1) {
+			PendingToolCall pendingToolCall = pendingToolCalls.get(0);
+			toolResponses[pendingToolCall.index()] = executeToolCall(pendingToolCall, toolContext);
+			return;
+		}
+
+		ContextView reactiveContext = ToolCallReactiveContextHolder.getContext();
+		List<CompletableFuture<ToolResponseMessage.ToolResponse>> futures = new ArrayList<>(pendingToolCalls.size());
+		for (PendingToolCall pendingToolCall : pendingToolCalls) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				ToolCallReactiveContextHolder.setContext(reactiveContext);
+				try {
+					return executeToolCall(pendingToolCall, toolContext);
+				}
+				finally {
+					ToolCallReactiveContextHolder.clearContext();
+				}
+			}, this.toolExecutor));
+		}
+
+		@Nullable Throwable failure = null;
+		for (int i = 0; i < futures.size(); i++) {
+			try {
+				toolResponses[pendingToolCalls.get(i).index()] = futures.get(i).join();
+			}
+			catch (CompletionException ex) {
+				if (failure == null) {
+					failure = (ex.getCause() != null) ? ex.getCause() : ex;
+				}
+			}
+		}
+
+		if (failure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (failure instanceof Error error) {
+			throw error;
+		}
+		if (failure != null) {
+			throw new IllegalStateException("Tool call failed", failure);
+		}
+	}
+
+	private ToolResponseMessage.ToolResponse executeToolCall(PendingToolCall pendingToolCall, ToolContext toolContext) {
+		AssistantMessage.ToolCall toolCall = pendingToolCall.toolCall();
+		ToolCallback toolCallback = pendingToolCall.toolCallback();
+		String toolInputArguments = pendingToolCall.toolInputArguments();
+
+		ToolCallingObservationContext observationContext = buildObservationContext(pendingToolCall);
+
+		String toolCallResult = ToolCallingObservationDocumentation.TOOL_CALL
+			.observation(this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
+					this.observationRegistry)
+			.parentObservation(pendingToolCall.parentObservation())
+			.observe(() -> {
+				String toolResult;
+				try {
+					toolResult = callToolCallback(toolCallback, toolInputArguments, toolContext, observationContext);
+				}
+				catch (ToolExecutionException ex) {
+					toolResult = this.toolExecutionExceptionProcessor.process(ex);
+				}
+				observationContext.setToolCallResult(toolResult);
+				return toolResult;
+			});
+
+		return new ToolResponseMessage.ToolResponse(toolCall.id(), toolCall.name(),
+				toolCallResult != null ? toolCallResult : "");
+	}
+
+	private Mono<ToolResponseMessage.ToolResponse> executeToolCallAsync(PendingToolCall pendingToolCall,
+			ToolContext toolContext) {
+		if (!(pendingToolCall.toolCallback() instanceof AsyncToolCallback asyncToolCallback)) {
+			// Blocking tool callbacks are offloaded to the tool executor so that they
+			// never block the subscribing thread.
+			return Mono.deferContextual(ctx -> Mono.fromCallable(() -> {
+				ToolCallReactiveContextHolder.setContext(ctx);
+				try {
+					return executeToolCall(pendingToolCall, toolContext);
+				}
+				finally {
+					ToolCallReactiveContextHolder.clearContext();
+				}
+			})).subscribeOn(this.toolScheduler);
+		}
+
+		AssistantMessage.ToolCall toolCall = pendingToolCall.toolCall();
+		String toolInputArguments = pendingToolCall.toolInputArguments();
+
+		return Mono.defer(() -> {
+			ToolCallingObservationContext observationContext = buildObservationContext(pendingToolCall);
+			Observation observation = ToolCallingObservationDocumentation.TOOL_CALL
 				.observation(this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
 						this.observationRegistry)
-				.parentObservation(parent)
-				.observe(() -> {
-					String toolResult;
-					try {
-						toolResult = toolCallback.call(finalToolInputArguments, toolContext);
-					}
-					catch (ToolExecutionException ex) {
-						toolResult = this.toolExecutionExceptionProcessor.process(ex);
-					}
-					observationContext.setToolCallResult(toolResult);
-					return toolResult;
-				});
+				.parentObservation(pendingToolCall.parentObservation())
+				.start();
+
+			return callToolCallbackAsync(asyncToolCallback, toolInputArguments, toolContext, observationContext)
+				.onErrorResume(ToolExecutionException.class,
+						ex -> Mono.fromCallable(() -> this.toolExecutionExceptionProcessor.process(ex)))
+				.doOnNext(observationContext::setToolCallResult)
+				.doOnError(observation::error)
+				.doFinally(signalType -> observation.stop())
+				.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
+		}).map(toolCallResult -> new ToolResponseMessage.ToolResponse(toolCall.id(), toolCall.name(), toolCallResult));
+	}
 
-			toolResponses.add(new ToolResponseMessage.ToolResponse(toolCall.id(), toolName,
-					toolCallResult != null ? toolCallResult : ""));
+	private ToolCallingObservationContext buildObservationContext(PendingToolCall pendingToolCall) {
+		AssistantMessage.ToolCall toolCall = pendingToolCall.toolCall();
+		ToolCallback toolCallback = pendingToolCall.toolCallback();
+		return ToolCallingObservationContext.builder()
+			.toolDefinition(toolCallback.getToolDefinition())
+			.toolMetadata(toolCallback.getToolMetadata())
+			.toolCallId(toolCall.id())
+			.toolType(toolCall.type())
+			.toolCallArguments(pendingToolCall.toolInputArguments())
+			.build();
+	}
+
+	private String callToolCallback(ToolCallback toolCallback, String toolInputArguments, ToolContext toolContext,
+			ToolCallingObservationContext observationContext) {
+		Duration resultCacheTtl = toolCallback.getToolMetadata().resultCacheTtl();
+		if (resultCacheTtl.isZero() || resultCacheTtl.isNegative()) {
+			return toolCallback.call(toolInputArguments, toolContext);
 		}
+		ToolCallResultCache.Lookup lookup = this.toolCallResultCache.getOrCall(toolCallback.getToolDefinition().name(),
+				toolInputArguments, resultCacheTtl, () -> toolCallback.call(toolInputArguments, toolContext));
+		observationContext.setResultCacheStatus(resultCacheStatus(lookup));
+		return lookup.result();
+	}
 
-		return new InternalToolExecutionResult(ToolResponseMessage.builder().responses(toolResponses).build(),
-				Objects.requireNonNullElse(returnDirect, false));
+	private Mono<String> callToolCallbackAsync(AsyncToolCallback toolCallback, String toolInputArguments,
+			ToolContext toolContext, ToolCallingObservationContext observationContext) {
+		Duration resultCacheTtl = toolCallback.getToolMetadata().resultCacheTtl();
+		if (resultCacheTtl.isZero() || resultCacheTtl.isNegative()) {
+			return toolCallback.callAsync(toolInputArguments, toolContext).defaultIfEmpty("");
+		}
+		return this.toolCallResultCache
+			.getOrCallAsync(toolCallback.getToolDefinition().name(), toolInputArguments, resultCacheTtl,
+					() -> toolCallback.callAsync(toolInputArguments, toolContext))
+			.map(lookup -> {
+				observationContext.setResultCacheStatus(resultCacheStatus(lookup));
+				return lookup.result();
+			});
+	}
+
+	private static ToolCallingObservationContext.ResultCacheStatus resultCacheStatus(
+			ToolCallResultCache.Lookup lookup) {
+		return lookup.hit() ? ToolCallingObservationContext.ResultCacheStatus.HIT
+				: ToolCallingObservationContext.ResultCacheStatus.MISS;
+	}
+
+	private static List<ToolResponseMessage.ToolResponse> completedToolResponses(
+			ToolResponseMessage.@Nullable ToolResponse[] toolResponses) {
+		List<ToolResponseMessage.ToolResponse> completed = new ArrayList<>(toolResponses.length);
+		for (ToolResponseMessage.ToolResponse toolResponse : toolResponses) {
+			if (toolResponse != null) {
+				completed.add(toolResponse);
+			}
+		}
+		return completed;
 	}
 
 	private List<Message> buildConversationHistoryAfterToolExecution(List<Message> previousMessages,
@@ -327,7 +612,13 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 		return new Builder();
 	}
 
-	private record InternalToolExecutionResult(ToolResponseMessage toolResponseMessage, boolean returnDirect) {
+	private record ToolCallPlan(List<PendingToolCall> toolCalls,
+			ToolResponseMessage.@Nullable ToolResponse[] toolResponses, boolean returnDirect,
+			ToolCallLimits.@Nullable Breach limitBreach, @Nullable String unresolvedToolName) {
+	}
+
+	private record PendingToolCall(int index, AssistantMessage.ToolCall toolCall, ToolCallback toolCallback,
+			String toolInputArguments, @Nullable Observation parentObservation) {
 	}
 
 	public final static class Builder {
@@ -348,6 +639,12 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 
 		private ToolCallLimitBehavior onLimitExceeded = ToolCallLimitBehavior.THROW;
 
+		private boolean parallelToolExecution = false;
+
+		private @Nullable Executor toolExecutor;
+
+		private @Nullable ToolCallResultCache toolCallResultCache;
+
 		private Builder() {
 		}
 
@@ -448,11 +745,52 @@ public final class DefaultToolCallingManager implements ToolCallingManager {
 			return this;
 		}
 
+		/**
+		 * Whether tool calls requested together by the model may run concurrently. Only
+		 * calls to tools whose
+		 * {@link org.springframework.ai.tool.metadata.ToolMetadata#parallelSafe()} is
+		 * {@code true} are run in parallel; other tool calls keep running one at a time,
+		 * in the order requested. Defaults to {@code false}.
+		 */
+		public Builder parallelToolExecution(boolean parallelToolExecution) {
+			this.parallelToolExecution = parallelToolExecution;
+			return this;
+		}
+
+		/**
+		 * The executor used to run tool calls in parallel, and to offload blocking tool
+		 * callbacks when tool calls are executed asynchronously. Defaults to a
+		 * {@link SimpleAsyncTaskExecutor} that uses virtual threads when available;
+		 * without virtual threads, blocking tool callbacks executed asynchronously run on
+		 * the bounded elastic scheduler.
+		 */
+		public Builder toolExecutor(Executor toolExecutor) {
+			Assert.notNull(toolExecutor, "toolExecutor cannot be null");
+			this.toolExecutor = toolExecutor;
+			return this;
+		}
+
+		/**
+		 * The cache holding the results of calls to tools that opt in through
+		 * {@link org.springframework.ai.tool.metadata.ToolMetadata#resultCacheTtl()}.
+		 * Defaults to a cache of {@link ToolCallResultCache#DEFAULT_MAX_ENTRIES} entries
+		 * owned by the manager. A cache can be shared between managers so that concurrent
+		 * conversations reuse each other's results.
+		 */
+		public Builder toolCallResultCache(ToolCallResultCache toolCallResultCache) {
+			Assert.notNull(toolCallResultCache, "toolCallResultCache cannot be null");
+			this.toolCallResultCache = toolCallResultCache;
+			return this;
+		}
+
 		public DefaultToolCallingManager build() {
 			ToolCallLimits toolCallLimits = new ToolCallLimits(this.defaultMaxCallsPerTool, this.maxCallsPerTool,
 					this.toolsExcludedFromLimit, this.maxTotalToolCalls, this.onLimitExceeded);
+			ToolCallResultCache resultCache = (this.toolCallResultCache != null) ? this.toolCallResultCache
+					: new ToolCallResultCache();
 			return new DefaultToolCallingManager(this.observationRegistry, this.toolCallbackResolver,
-					this.toolExecutionExceptionProcessor, toolCallLimits);
+					this.toolExecutionExceptionProcessor, toolCallLimits, this.parallelToolExecution, this.toolExecutor,
+					resultCache);
 		}
 
 	}
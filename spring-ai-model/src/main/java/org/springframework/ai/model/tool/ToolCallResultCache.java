@@ -0,0 +1,287 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.tool;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.util.Assert;
+
+/**
+ * Cache for the results of tool calls, used by {@link DefaultToolCallingManager} for
+ * tools that opt in through
+ * {@link org.springframework.ai.tool.metadata.ToolMetadata#resultCacheTtl()}.
+ * <p>
+ * Calls are keyed by the tool name and the tool arguments, canonicalized so that property
+ * order and whitespace do not matter. Concurrent calls with the same key are collapsed
+ * into a single execution whose result is shared. Failed calls are not cached. When the
+ * execution is cancelled, the waiting calls retry the tool call instead of failing. When
+ * the cache is full, the least recently used entry is evicted.
+ *
+ * @since 2.0.1
+ */
+public final class ToolCallResultCache {
+
+	/**
+	 * Default maximum number of cached tool call results.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+	private static final JsonMapper CANONICAL_JSON_MAPPER = JsonMapper.builder()
+		.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+		.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+		.build();
+
+	private final Map<Key, Entry> entries;
+
+	private final Clock clock;
+
+	public ToolCallResultCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	public ToolCallResultCache(int maxEntries) {
+		this(maxEntries, Clock.systemUTC());
+	}
+
+	ToolCallResultCache(int maxEntries, Clock clock) {
+		Assert.isTrue(maxEntries > 0, "maxEntries must be greater than 0");
+		Assert.notNull(clock, "clock cannot be null");
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > maxEntries;
+			}
+
+		};
+		this.clock = clock;
+	}
+
+	/**
+	 * Return the cached result of a call to the given tool with the given arguments, or
+	 * call the tool and cache its result for the given time to live.
+	 * @param toolName the name of the tool
+	 * @param toolInput the tool arguments, as JSON
+	 * @param timeToLive how long the result can be reused
+	 * @param toolCall calls the tool
+	 * @return the tool call result and whether it was served from the cache
+	 */
+	public Lookup getOrCall(String toolName, String toolInput, Duration timeToLive, Supplier<String> toolCall) {
+		Assert.hasText(toolName, "toolName cannot be null or empty");
+		Assert.notNull(toolInput, "toolInput cannot be null");
+		Assert.notNull(timeToLive, "timeToLive cannot be null");
+		Assert.isTrue(timeToLive.compareTo(Duration.ZERO) > 0, "timeToLive must be positive");
+		Assert.notNull(toolCall, "toolCall cannot be null");
+
+		Key key = new Key(toolName, canonicalize(toolInput));
+		Entry candidate = new Entry();
+		Entry entry = claim(key, candidate);
+		while (entry != candidate) {
+			try {
+				return new Lookup(join(entry.result), true);
+			}
+			catch (AbandonedCallException ex) {
+				entry = claim(key, candidate);
+			}
+		}
+
+		String result;
+		try {
+			result = toolCall.get();
+		}
+		catch (RuntimeException | Error ex) {
+			fail(key, candidate, ex);
+			throw ex;
+		}
+		complete(candidate, result, timeToLive);
+		return new Lookup(result, false);
+	}
+
+	/**
+	 * Emit the cached result of a call to the given tool with the given arguments, or
+	 * subscribe to the tool call and cache its result for the given time to live. Waiting
+	 * for a concurrent call with the same arguments does not block a thread.
+	 * @param toolName the name of the tool
+	 * @param toolInput the tool arguments, as JSON
+	 * @param timeToLive how long the result can be reused
+	 * @param toolCall calls the tool
+	 * @return the tool call result and whether it was served from the cache
+	 */
+	public Mono<Lookup> getOrCallAsync(String toolName, String toolInput, Duration timeToLive,
+			Supplier<Mono<String>> toolCall) {
+		Assert.hasText(toolName, "toolName cannot be null or empty");
+		Assert.notNull(toolInput, "toolInput cannot be null");
+		Assert.notNull(timeToLive, "timeToLive cannot be null");
+		Assert.isTrue(timeToLive.compareTo(Duration.ZERO) > 0, "timeToLive must be positive");
+		Assert.notNull(toolCall, "toolCall cannot be null");
+
+		return Mono.defer(() -> getOrCallAsync(new Key(toolName, canonicalize(toolInput)), timeToLive, toolCall));
+	}
+
+	private Mono<Lookup> getOrCallAsync(Key key, Duration timeToLive, Supplier<Mono<String>> toolCall) {
+		Entry candidate = new Entry();
+		Entry entry = claim(key, candidate);
+		if (entry != candidate) {
+			return Mono.fromFuture(entry.result, true)
+				.map(result -> new Lookup(result, true))
+				.onErrorResume(AbandonedCallException.class,
+						ex -> Mono.defer(() -> getOrCallAsync(key, timeToLive, toolCall)));
+		}
+
+		return Mono.defer(toolCall)
+			.defaultIfEmpty("")
+			.doOnNext(result -> complete(candidate, result, timeToLive))
+			.doOnError(ex -> fail(key, candidate, ex))
+			.doOnCancel(() -> abandon(key, candidate))
+			.map(result -> new Lookup(result, false));
+	}
+
+	/**
+	 * Remove all cached tool call results.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * Return the number of cached tool call results, including calls still in progress.
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Return the entry for the given key, or register the given candidate when there is
+	 * none or it expired, in which case the caller has to call the tool.
+	 */
+	private Entry claim(Key key, Entry candidate) {
+		long now = this.clock.millis();
+		synchronized (this.entries) {
+			Entry entry = this.entries.get(key);
+			if (entry != null && !entry.isExpired(now)) {
+				return entry;
+			}
+			this.entries.put(key, candidate);
+			return candidate;
+		}
+	}
+
+	private void complete(Entry entry, String result, Duration timeToLive) {
+		entry.expiresAt = this.clock.millis() + timeToLive.toMillis();
+		entry.result.complete(result);
+	}
+
+	private void fail(Key key, Entry entry, Throwable failure) {
+		if (entry.result.completeExceptionally(failure)) {
+			remove(key, entry);
+		}
+	}
+
+	/**
+	 * Give up on a tool call whose caller cancelled: the entry is removed first, so that
+	 * the waiting calls, which are released with an {@link AbandonedCallException}, retry
+	 * the tool call rather than wait on this entry again.
+	 */
+	private void abandon(Key key, Entry entry) {
+		if (entry.result.isDone()) {
+			return;
+		}
+		remove(key, entry);
+		entry.result.completeExceptionally(new AbandonedCallException());
+	}
+
+	private void remove(Key key, Entry entry) {
+		synchronized (this.entries) {
+			this.entries.remove(key, entry);
+		}
+	}
+
+	private static String join(CompletableFuture<String> result) {
+		try {
+			return result.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+	}
+
+	private static String canonicalize(String toolInput) {
+		try {
+			return CANONICAL_JSON_MAPPER.writeValueAsString(CANONICAL_JSON_MAPPER.readValue(toolInput, Object.class));
+		}
+		catch (RuntimeException ex) {
+			return toolInput;
+		}
+	}
+
+	/**
+	 * The result of a cached tool call.
+	 *
+	 * @param result the tool call result
+	 * @param hit whether the result was reused from an earlier or concurrent call
+	 */
+	public record Lookup(String result, boolean hit) {
+	}
+
+	private record Key(String toolName, String toolInput) {
+	}
+
+	/**
+	 * Releases the calls waiting on a tool call whose caller cancelled.
+	 */
+	private static final class AbandonedCallException extends RuntimeException {
+
+		AbandonedCallException() {
+			super("Tool call abandoned", null, false, false);
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final CompletableFuture<String> result = new CompletableFuture<>();
+
+		private volatile long expiresAt;
+
+		boolean isExpired(long now) {
+			return this.result.isDone() && now >= this.expiresAt;
+		}
+
+	}
+
+}
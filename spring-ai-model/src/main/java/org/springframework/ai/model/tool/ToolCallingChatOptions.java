@@ -23,6 +23,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.resolution.ToolCallbackRegistry;
 import org.springframework.ai.tool.support.ToolUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -43,6 +44,18 @@ public interface ToolCallingChatOptions extends ChatOptions {
 	 */
 	@Nullable List<ToolCallback> getToolCallbacks();
 
+	/**
+	 * Return a {@link ToolCallbackRegistry} for the {@link #getToolCallbacks() tool
+	 * callbacks}. Options with immutable tool callbacks should build the registry once
+	 * and return the same instance on every call, so that it is not rebuilt on every turn
+	 * of a conversation.
+	 * @return the tool callback registry
+	 * @since 2.0.1
+	 */
+	default ToolCallbackRegistry getToolCallbackRegistry() {
+		return ToolCallbackRegistry.of(getToolCallbacks());
+	}
+
 	/**
 	 * Get the configured tool context.
 	 * @return the tool context map.
@@ -18,8 +18,12 @@ package org.springframework.ai.model.tool;
 
 import java.util.List;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.internal.ToolCallReactiveContextHolder;
 import org.springframework.ai.tool.definition.ToolDefinition;
 
 /**
@@ -40,6 +44,24 @@ public interface ToolCallingManager {
 	 */
 	ToolExecutionResult executeToolCalls(Prompt prompt, ChatResponse chatResponse);
 
+	/**
+	 * Execute the tool calls requested by the model without blocking the subscribing
+	 * thread. By default, {@link #executeToolCalls(Prompt, ChatResponse)} is run on the
+	 * bounded elastic scheduler.
+	 * @since 2.0.1
+	 */
+	default Mono<ToolExecutionResult> executeToolCallsAsync(Prompt prompt, ChatResponse chatResponse) {
+		return Mono.deferContextual(ctx -> {
+			ToolCallReactiveContextHolder.setContext(ctx);
+			try {
+				return Mono.just(executeToolCalls(prompt, chatResponse));
+			}
+			finally {
+				ToolCallReactiveContextHolder.clearContext();
+			}
+		}).subscribeOn(Schedulers.boundedElastic());
+	}
+
 	/**
 	 * Create a default {@link ToolCallingManager} builder.
 	 */
@@ -25,6 +25,7 @@ import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.model.Generation;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
@@ -60,17 +61,37 @@ public class KeywordMetadataEnricher implements DocumentTransformer {
 	 */
 	private final PromptTemplate keywordsTemplate;
 
+	/**
+	 * Runs the keyword extraction calls concurrently, or {@code null} to call the model
+	 * for one document after the other.
+	 */
+	private final @Nullable MetadataEnrichmentExecutor enrichmentExecutor;
+
 	/**
 	 * Create a new {@link KeywordMetadataEnricher} instance.
 	 * @param chatModel the model predictor to use for keyword extraction.
 	 * @param keywordCount the number of keywords to extract.
 	 */
 	public KeywordMetadataEnricher(ChatModel chatModel, int keywordCount) {
+		this(chatModel, keywordCount, null);
+	}
+
+	/**
+	 * Create a new {@link KeywordMetadataEnricher} instance.
+	 * @param chatModel the model predictor to use for keyword extraction.
+	 * @param keywordCount the number of keywords to extract.
+	 * @param enrichmentExecutor the executor used to extract the keywords of several
+	 * documents concurrently, or {@code null} to process the documents sequentially.
+	 * @since 2.0.1
+	 */
+	public KeywordMetadataEnricher(ChatModel chatModel, int keywordCount,
+			@Nullable MetadataEnrichmentExecutor enrichmentExecutor) {
 		Assert.notNull(chatModel, "chatModel must not be null");
 		Assert.isTrue(keywordCount >= 1, "keywordCount must be >= 1");
 
 		this.chatModel = chatModel;
 		this.keywordsTemplate = new PromptTemplate(String.format(KEYWORDS_TEMPLATE, keywordCount));
+		this.enrichmentExecutor = enrichmentExecutor;
 	}
 
 	/**
@@ -79,33 +100,62 @@ public class KeywordMetadataEnricher implements DocumentTransformer {
 	 * @param keywordsTemplate the prompt template to use for keyword extraction.
 	 */
 	public KeywordMetadataEnricher(ChatModel chatModel, PromptTemplate keywordsTemplate) {
+		this(chatModel, keywordsTemplate, null);
+	}
+
+	/**
+	 * Create a new {@link KeywordMetadataEnricher} instance.
+	 * @param chatModel the model predictor to use for keyword extraction.
+	 * @param keywordsTemplate the prompt template to use for keyword extraction.
+	 * @param enrichmentExecutor the executor used to extract the keywords of several
+	 * documents concurrently, or {@code null} to process the documents sequentially.
+	 * @since 2.0.1
+	 */
+	public KeywordMetadataEnricher(ChatModel chatModel, PromptTemplate keywordsTemplate,
+			@Nullable MetadataEnrichmentExecutor enrichmentExecutor) {
 		Assert.notNull(chatModel, "chatModel must not be null");
 		Assert.notNull(keywordsTemplate, "keywordsTemplate must not be null");
 
 		this.chatModel = chatModel;
 		this.keywordsTemplate = keywordsTemplate;
+		this.enrichmentExecutor = enrichmentExecutor;
 	}
 
 	@Override
 	public List<Document> apply(List<Document> documents) {
-		for (Document document : documents) {
-			String text = document.getText();
-			Map<String, Object> vars = new HashMap<>();
-			if (text != null) {
-				vars.put(CONTEXT_STR_PLACEHOLDER, text);
-			}
-			Prompt prompt = this.keywordsTemplate.create(vars);
-			Generation generation = this.chatModel.call(prompt).getResult();
-			if (generation != null) {
-				String keywords = generation.getOutput().getText();
-				if (keywords != null) {
-					document.getMetadata().put(EXCERPT_KEYWORDS_METADATA_KEY, keywords);
-				}
+		if (this.enrichmentExecutor != null) {
+			List<@Nullable ChatResponse> responses = this.enrichmentExecutor.call(documents,
+					document -> this.chatModel.call(createPrompt(document)));
+			for (int i = 0; i < documents.size(); i++) {
+				addKeywords(documents.get(i), responses.get(i));
 			}
+			return documents;
+		}
+		for (Document document : documents) {
+			addKeywords(document, this.chatModel.call(createPrompt(document)));
 		}
 		return documents;
 	}
 
+	private Prompt createPrompt(Document document) {
+		String text = document.getText();
+		Map<String, Object> vars = new HashMap<>();
+		if (text != null) {
+			vars.put(CONTEXT_STR_PLACEHOLDER, text);
+		}
+		return this.keywordsTemplate.create(vars);
+	}
+
+	private static void addKeywords(Document document, @Nullable ChatResponse response) {
+		Generation generation = (response != null) ? response.getResult() : null;
+		if (generation != null) {
+			String keywords = generation.getOutput().getText();
+			if (keywords != null) {
+				document.getMetadata().put(EXCERPT_KEYWORDS_METADATA_KEY, keywords);
+			}
+		}
+	}
+
 	// Exposed for testing purposes
 	PromptTemplate getKeywordsTemplate() {
 		return this.keywordsTemplate;
@@ -123,6 +173,8 @@ public class KeywordMetadataEnricher implements DocumentTransformer {
 
 		private @Nullable PromptTemplate keywordsTemplate;
 
+		private @Nullable MetadataEnrichmentExecutor enrichmentExecutor;
+
 		public Builder(ChatModel chatModel) {
 			Assert.notNull(chatModel, "The chatModel must not be null");
 			this.chatModel = chatModel;
@@ -140,6 +192,12 @@ public class KeywordMetadataEnricher implements DocumentTransformer {
 			return this;
 		}
 
+		public Builder enrichmentExecutor(MetadataEnrichmentExecutor enrichmentExecutor) {
+			Assert.notNull(enrichmentExecutor, "The enrichmentExecutor must not be null");
+			this.enrichmentExecutor = enrichmentExecutor;
+			return this;
+		}
+
 		public KeywordMetadataEnricher build() {
 			if (this.keywordsTemplate != null) {
 
@@ -147,10 +205,10 @@ public class KeywordMetadataEnricher implements DocumentTransformer {
 					logger.warn("keywordCount will be ignored as keywordsTemplate is set.");
 				}
 
-				return new KeywordMetadataEnricher(this.chatModel, this.keywordsTemplate);
+				return new KeywordMetadataEnricher(this.chatModel, this.keywordsTemplate, this.enrichmentExecutor);
 			}
 
-			return new KeywordMetadataEnricher(this.chatModel, this.keywordCount);
+			return new KeywordMetadataEnricher(this.chatModel, this.keywordCount, this.enrichmentExecutor);
 		}
 
 	}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.transformer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.util.ConcurrencyUtils;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the chat model calls of a metadata enricher, such as
+ * {@link KeywordMetadataEnricher} or {@link SummaryMetadataEnricher}, concurrently.
+ *
+ * <p>
+ * At most {@code maxInFlightRequests} calls are outstanding at any time; the calling
+ * thread blocks before submitting more. When a response reports through its
+ * {@link RateLimit} metadata that no requests or tokens remain, no further calls are
+ * submitted until the reported reset time has passed. Responses are returned in the order
+ * of the documents.
+ *
+ * <p>
+ * By default the first failed call stops the enrichment and is rethrown. With
+ * {@code continueOnError} enabled, failed documents are reported to the {@link Listener},
+ * left without a response, and the remaining documents are still enriched.
+ *
+ * @since 2.0.1
+ */
+public final class MetadataEnrichmentExecutor {
+
+	public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 4;
+
+	private final Executor executor;
+
+	private final int maxInFlightRequests;
+
+	private final boolean continueOnError;
+
+	private final Listener listener;
+
+	private MetadataEnrichmentExecutor(Builder builder) {
+		this.executor = (builder.executor != null) ? builder.executor
+				: ConcurrencyUtils.defaultExecutor("metadata-enrichment-");
+		this.maxInFlightRequests = builder.maxInFlightRequests;
+		this.continueOnError = builder.continueOnError;
+		this.listener = builder.listener;
+	}
+
+	/**
+	 * Calls the chat model once for each document.
+	 * @param documents the documents to enrich
+	 * @param call the chat model call made for a document
+	 * @return the responses, in the order of the documents, with {@code null} for the
+	 * documents whose call failed
+	 */
+	public List<@Nullable ChatResponse> call(List<Document> documents, Function<Document, ChatResponse> call) {
+		Assert.notNull(documents, "documents must not be null");
+		Assert.notNull(call, "call must not be null");
+		AtomicReferenceArray<@Nullable ChatResponse> responses = new AtomicReferenceArray<>(documents.size());
+		AtomicLong pausedUntil = new AtomicLong(System.nanoTime());
+		AtomicInteger completed = new AtomicInteger();
+		ConcurrencyUtils.runBounded(this.executor, this.maxInFlightRequests, documents.size(), (index, failed) -> {
+			Document document = documents.get(index);
+			try {
+				ChatResponse response = call.apply(document);
+				responses.set(index, response);
+				pauseIfExhausted(response, pausedUntil);
+				this.listener.onEnriched(document, completed.incrementAndGet(), documents.size());
+			}
+			catch (RuntimeException ex) {
+				if (!this.continueOnError) {
+					throw ex;
+				}
+				this.listener.onFailed(document, ex, completed.incrementAndGet(), documents.size());
+			}
+		}, () -> awaitRateLimit(pausedUntil), "enriching documents");
+		List<@Nullable ChatResponse> result = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			result.add(responses.get(i));
+		}
+		return result;
+	}
+
+	private void pauseIfExhausted(ChatResponse response, AtomicLong pausedUntil) {
+		RateLimit rateLimit = response.getMetadata().getRateLimit();
+		Duration pause = Duration.ZERO;
+		if (isExhausted(rateLimit.getRequestsLimit(), rateLimit.getRequestsRemaining())) {
+			pause = max(pause, rateLimit.getRequestsReset());
+		}
+		if (isExhausted(rateLimit.getTokensLimit(), rateLimit.getTokensRemaining())) {
+			pause = max(pause, rateLimit.getTokensReset());
+		}
+		if (!pause.isZero()) {
+			this.listener.onRateLimited(pause);
+			long until = System.nanoTime() + pause.toNanos();
+			pausedUntil.accumulateAndGet(until, (current, next) -> (next - current > 0) ? next : current);
+		}
+	}
+
+	private static boolean isExhausted(@Nullable Long limit, @Nullable Long remaining) {
+		return limit != null && limit > 0 && Objects.equals(remaining, 0L);
+	}
+
+	private static Duration max(Duration current, @Nullable Duration candidate) {
+		return (candidate != null && candidate.compareTo(current) > 0) ? candidate : current;
+	}
+
+	private static void awaitRateLimit(AtomicLong pausedUntil) throws InterruptedException {
+		long remaining = pausedUntil.get() - System.nanoTime();
+		while (remaining > 0) {
+			Thread.sleep(Math.max(1, remaining / 1_000_000));
+			remaining = pausedUntil.get() - System.nanoTime();
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Callback notified about the progress of an enrichment. Callbacks are invoked from
+	 * the threads running the chat model calls and should return quickly.
+	 */
+	public interface Listener {
+
+		/**
+		 * Called when the chat model call for a document has completed.
+		 * @param document the enriched document
+		 * @param completed the number of documents processed so far
+		 * @param total the number of documents being enriched
+		 */
+		default void onEnriched(Document document, int completed, int total) {
+		}
+
+		/**
+		 * Called when the chat model call for a document has failed and
+		 * {@code continueOnError} is enabled.
+		 * @param document the document that could not be enriched
+		 * @param failure the failure of the call
+		 * @param completed the number of documents processed so far
+		 * @param total the number of documents being enriched
+		 */
+		default void onFailed(Document document, RuntimeException failure, int completed, int total) {
+		}
+
+		/**
+		 * Called when a response reports an exhausted rate limit.
+		 * @param pause how long no further calls are submitted
+		 */
+		default void onRateLimited(Duration pause) {
+		}
+
+	}
+
+	public static final class Builder {
+
+		private @Nullable Executor executor;
+
+		private int maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+
+		private boolean continueOnError;
+
+		private Listener listener = new Listener() {
+		};
+
+		private Builder() {
+		}
+
+		/**
+		 * Sets the executor running the chat model calls. Defaults to a
+		 * {@link SimpleAsyncTaskExecutor} that uses virtual threads when available.
+		 * @param executor the executor to use
+		 * @return the builder instance
+		 */
+		public Builder executor(Executor executor) {
+			Assert.notNull(executor, "executor must not be null");
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of concurrent chat model calls.
+		 * @param maxInFlightRequests the maximum number of concurrent calls
+		 * @return the builder instance
+		 */
+		public Builder maxInFlightRequests(int maxInFlightRequests) {
+			Assert.isTrue(maxInFlightRequests > 0, "maxInFlightRequests must be positive");
+			this.maxInFlightRequests = maxInFlightRequests;
+			return this;
+		}
+
+		/**
+		 * Sets whether the remaining documents are still enriched after a call failed.
+		 * @param continueOnError whether to continue after a failed call
+		 * @return the builder instance
+		 */
+		public Builder continueOnError(boolean continueOnError) {
+			this.continueOnError = continueOnError;
+			return this;
+		}
+
+		public Builder listener(Listener listener) {
+			Assert.notNull(listener, "listener must not be null");
+			this.listener = listener;
+			return this;
+		}
+
+		public MetadataEnrichmentExecutor build() {
+			return new MetadataEnrichmentExecutor(this);
+		}
+
+	}
+
+}
@@ -22,13 +22,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.model.Generation;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.DocumentTransformer;
 import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.document.ParallelDocumentTransformer;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
@@ -74,12 +78,34 @@ public class SummaryMetadataEnricher implements DocumentTransformer {
 	 */
 	private final String summaryTemplate;
 
+	/**
+	 * Runs the summary extraction calls concurrently, or {@code null} to call the model
+	 * for one document after the other.
+	 */
+	private final @Nullable MetadataEnrichmentExecutor enrichmentExecutor;
+
 	public SummaryMetadataEnricher(ChatModel chatModel, List<SummaryType> summaryTypes) {
 		this(chatModel, summaryTypes, DEFAULT_SUMMARY_EXTRACT_TEMPLATE, MetadataMode.ALL);
 	}
 
 	public SummaryMetadataEnricher(ChatModel chatModel, List<SummaryType> summaryTypes, String summaryTemplate,
 			MetadataMode metadataMode) {
+		this(chatModel, summaryTypes, summaryTemplate, metadataMode, null);
+	}
+
+	/**
+	 * Create a new {@link SummaryMetadataEnricher} instance.
+	 * @param chatModel the model used to summarize the documents
+	 * @param summaryTypes the summaries to add to every document
+	 * @param summaryTemplate the prompt template used for summary extraction
+	 * @param metadataMode the metadata included in the summarized content
+	 * @param enrichmentExecutor the executor used to summarize several documents
+	 * concurrently, or {@code null} to process the documents sequentially. Documents
+	 * whose summary could not be extracted get an empty summary.
+	 * @since 2.0.1
+	 */
+	public SummaryMetadataEnricher(ChatModel chatModel, List<SummaryType> summaryTypes, String summaryTemplate,
+			MetadataMode metadataMode, @Nullable MetadataEnrichmentExecutor enrichmentExecutor) {
 		Assert.notNull(chatModel, "ChatModel must not be null");
 		Assert.hasText(summaryTemplate, "Summary template must not be empty");
 
@@ -87,21 +113,25 @@ public class SummaryMetadataEnricher implements DocumentTransformer {
 		this.summaryTypes = CollectionUtils.isEmpty(summaryTypes) ? List.of(SummaryType.CURRENT) : summaryTypes;
 		this.metadataMode = metadataMode;
 		this.summaryTemplate = summaryTemplate;
+		this.enrichmentExecutor = enrichmentExecutor;
 	}
 
 	@Override
 	public List<Document> apply(List<Document> documents) {
 
 		List<String> documentSummaries = new ArrayList<>();
-		for (Document document : documents) {
-
-			var documentContext = document.getFormattedContent(this.metadataMode);
-
-			Prompt prompt = new PromptTemplate(this.summaryTemplate)
-				.create(Map.of(CONTEXT_STR_PLACEHOLDER, documentContext));
-			Generation generation = this.chatModel.call(prompt).getResult();
-			documentSummaries
-				.add(generation != null ? Objects.requireNonNullElse(generation.getOutput().getText(), "") : "");
+		if (this.enrichmentExecutor != null) {
+			List<@Nullable ChatResponse> responses = this.enrichmentExecutor.call(documents,
+					document -> this.chatModel.call(createPrompt(document)));
+			for (@Nullable
+			ChatResponse response : responses) {
+				documentSummaries.add(getSummary(response));
+			}
+		}
+		else {
+			for (Document document : documents) {
+				documentSummaries.add(getSummary(this.chatModel.call(createPrompt(document))));
+			}
 		}
 
 		for (int i = 0; i < documentSummaries.size(); i++) {
@@ -112,6 +142,30 @@ public class SummaryMetadataEnricher implements DocumentTransformer {
 		return documents;
 	}
 
+	/**
+	 * Returns a transformer that summarizes slices of the documents in parallel. When
+	 * previous or next section summaries are requested, every slice also summarizes the
+	 * document on either side of it, so that the documents at slice boundaries get the
+	 * same summaries as in a sequential run.
+	 * @return the parallel transformer
+	 */
+	@Override
+	public DocumentTransformer parallel() {
+		boolean neighbours = this.summaryTypes.contains(SummaryType.PREVIOUS)
+				|| this.summaryTypes.contains(SummaryType.NEXT);
+		return ParallelDocumentTransformer.builder(this).overlap(neighbours ? 1 : 0).build();
+	}
+
+	private Prompt createPrompt(Document document) {
+		var documentContext = document.getFormattedContent(this.metadataMode);
+		return new PromptTemplate(this.summaryTemplate).create(Map.of(CONTEXT_STR_PLACEHOLDER, documentContext));
+	}
+
+	private static String getSummary(@Nullable ChatResponse response) {
+		Generation generation = (response != null) ? response.getResult() : null;
+		return generation != null ? Objects.requireNonNullElse(generation.getOutput().getText(), "") : "";
+	}
+
 	private Map<String, Object> getSummaryMetadata(int i, List<String> documentSummaries) {
 		Map<String, Object> summaryMetadata = new HashMap<>();
 		if (i > 0 && this.summaryTypes.contains(SummaryType.PREVIOUS)) {
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.tool;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.model.tool.internal.ToolCallReactiveContextHolder;
+
+/**
+ * A {@link ToolCallback} whose execution does not block the calling thread. Tool calling
+ * managers executing tool calls asynchronously subscribe to
+ * {@link #callAsync(String, ToolContext)} rather than parking a thread on
+ * {@link #call(String, ToolContext)}, which blocks until the asynchronous result is
+ * available.
+ * <p>
+ * Tools built on a {@link java.util.concurrent.CompletionStage} can adapt it with
+ * {@link Mono#fromCompletionStage(java.util.concurrent.CompletionStage)}.
+ *
+ * @since 2.0.1
+ */
+public interface AsyncToolCallback extends ToolCallback {
+
+	/**
+	 * Execute the tool with the given input and context, and emit the result to send back
+	 * to the AI model. Errors to be converted into a result for the AI model should be
+	 * signaled as {@link org.springframework.ai.tool.execution.ToolExecutionException}.
+	 */
+	Mono<String> callAsync(String toolInput, @Nullable ToolContext toolContext);
+
+	@Override
+	default String call(String toolInput) {
+		return call(toolInput, null);
+	}
+
+	@Override
+	default String call(String toolInput, @Nullable ToolContext toolContext) {
+		String result = callAsync(toolInput, toolContext)
+			.contextWrite(ctx -> ctx.putAll(ToolCallReactiveContextHolder.getContext()))
+			.block();
+		return (result != null) ? result : "";
+	}
+
+}
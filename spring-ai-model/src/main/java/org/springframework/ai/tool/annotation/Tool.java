@@ -63,6 +63,21 @@ public @interface Tool {
 	 */
 	boolean returnDirect() default false;
 
+	/**
+	 * Whether the tool can safely run concurrently with other tool calls requested by the
+	 * model in the same response.
+	 * @since 2.0.1
+	 */
+	boolean parallelSafe() default false;
+
+	/**
+	 * How many seconds the result of a call can be reused for later calls with the same
+	 * arguments. Results are not cached when {@code 0}. Only suitable for idempotent
+	 * tools.
+	 * @since 2.0.1
+	 */
+	long resultCacheTtlSeconds() default 0;
+
 	/**
 	 * The class to use to convert the tool call result to a String.
 	 */
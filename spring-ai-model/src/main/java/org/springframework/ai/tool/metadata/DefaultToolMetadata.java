@@ -16,13 +16,31 @@
 
 package org.springframework.ai.tool.metadata;
 
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
 /**
  * Default implementation of {@link ToolMetadata}.
  *
  * @author Thomas Vitale
  * @since 1.0.0
  */
-public record DefaultToolMetadata(boolean returnDirect) implements ToolMetadata {
+public record DefaultToolMetadata(boolean returnDirect, boolean parallelSafe,
+		Duration resultCacheTtl) implements ToolMetadata {
+
+	public DefaultToolMetadata {
+		Assert.notNull(resultCacheTtl, "resultCacheTtl cannot be null");
+		Assert.isTrue(!resultCacheTtl.isNegative(), "resultCacheTtl cannot be negative");
+	}
+
+	public DefaultToolMetadata(boolean returnDirect) {
+		this(returnDirect, false);
+	}
+
+	public DefaultToolMetadata(boolean returnDirect, boolean parallelSafe) {
+		this(returnDirect, parallelSafe, Duration.ZERO);
+	}
 
 	public static Builder builder() {
 		return new Builder();
@@ -32,6 +50,10 @@ public record DefaultToolMetadata(boolean returnDirect) implements ToolMetadata
 
 		private boolean returnDirect = false;
 
+		private boolean parallelSafe = false;
+
+		private Duration resultCacheTtl = Duration.ZERO;
+
 		private Builder() {
 		}
 
@@ -40,8 +62,18 @@ public record DefaultToolMetadata(boolean returnDirect) implements ToolMetadata
 			return this;
 		}
 
+		public Builder parallelSafe(boolean parallelSafe) {
+			this.parallelSafe = parallelSafe;
+			return this;
+		}
+
+		public Builder resultCacheTtl(Duration resultCacheTtl) {
+			this.resultCacheTtl = resultCacheTtl;
+			return this;
+		}
+
 		public ToolMetadata build() {
-			return new DefaultToolMetadata(this.returnDirect);
+			return new DefaultToolMetadata(this.returnDirect, this.parallelSafe, this.resultCacheTtl);
 		}
 
 	}
@@ -17,6 +17,7 @@
 package org.springframework.ai.tool.metadata;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 
 import org.springframework.ai.tool.support.ToolUtils;
 import org.springframework.util.Assert;
@@ -36,6 +37,27 @@ public interface ToolMetadata {
 		return false;
 	}
 
+	/**
+	 * Whether the tool can safely run concurrently with other tool calls requested by the
+	 * model in the same response. Only honored when parallel tool execution is enabled on
+	 * the {@link org.springframework.ai.model.tool.DefaultToolCallingManager}.
+	 * @since 2.0.1
+	 */
+	default boolean parallelSafe() {
+		return false;
+	}
+
+	/**
+	 * How long the result of a call to the tool can be reused for later calls with the
+	 * same arguments, or {@link Duration#ZERO} if results should not be cached. Only
+	 * suitable for idempotent tools whose result does not depend on the
+	 * {@link org.springframework.ai.chat.model.ToolContext}.
+	 * @since 2.0.1
+	 */
+	default Duration resultCacheTtl() {
+		return Duration.ZERO;
+	}
+
 	/**
 	 * Create a default {@link ToolMetadata} builder.
 	 */
@@ -48,7 +70,11 @@ public interface ToolMetadata {
 	 */
 	static ToolMetadata from(Method method) {
 		Assert.notNull(method, "method cannot be null");
-		return DefaultToolMetadata.builder().returnDirect(ToolUtils.getToolReturnDirect(method)).build();
+		return DefaultToolMetadata.builder()
+			.returnDirect(ToolUtils.getToolReturnDirect(method))
+			.parallelSafe(ToolUtils.getToolParallelSafe(method))
+			.resultCacheTtl(ToolUtils.getToolResultCacheTtl(method))
+			.build();
 	}
 
 }
@@ -16,10 +16,15 @@
 
 package org.springframework.ai.tool.method;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -27,6 +32,10 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
 
 import org.springframework.ai.chat.model.ToolContext;
 import org.springframework.ai.tool.ToolCallback;
@@ -35,6 +44,7 @@ import org.springframework.ai.tool.execution.DefaultToolCallResultConverter;
 import org.springframework.ai.tool.execution.ToolCallResultConverter;
 import org.springframework.ai.tool.execution.ToolExecutionException;
 import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.ai.util.JacksonUtils;
 import org.springframework.ai.util.JsonHelper;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.util.Assert;
@@ -43,13 +53,20 @@ import org.springframework.util.CollectionUtils;
 
 /**
  * A {@link ToolCallback} implementation to invoke methods as tools.
+ * <p>
+ * The parameter types and a {@link MethodHandle} for the tool method are resolved once,
+ * when the callback is created. Each call then reads the tool input as a stream of JSON
+ * tokens, decoding every property straight into the type of the matching method
+ * parameter, and invokes the method through the handle.
  *
  * @author Thomas Vitale
  * @since 1.0.0
  */
 public final class MethodToolCallback implements ToolCallback {
 
-	private static final JsonHelper jsonHelper = new JsonHelper();
+	private static final JsonMapper jsonMapper = JacksonUtils.getDefaultJsonMapper();
+
+	private static final JsonHelper jsonHelper = new JsonHelper(jsonMapper);
 
 	private static final Log logger = LogFactory.getLog(MethodToolCallback.class);
 
@@ -67,6 +84,16 @@ public final class MethodToolCallback implements ToolCallback {
 
 	private final ToolCallResultConverter toolCallResultConverter;
 
+	private final Parameter[] parameters;
+
+	private final @Nullable JavaType[] parameterTypes;
+
+	private final Map<String, Integer> parameterIndexes;
+
+	private final boolean toolContextAccepted;
+
+	private final @Nullable MethodHandle methodHandle;
+
 	public MethodToolCallback(ToolDefinition toolDefinition, @Nullable ToolMetadata toolMetadata, Method toolMethod,
 			@Nullable Object toolObject, @Nullable ToolCallResultConverter toolCallResultConverter) {
 		Assert.notNull(toolDefinition, "toolDefinition cannot be null");
@@ -79,6 +106,44 @@ public final class MethodToolCallback implements ToolCallback {
 		this.toolObject = toolObject;
 		this.toolCallResultConverter = toolCallResultConverter != null ? toolCallResultConverter
 				: DEFAULT_RESULT_CONVERTER;
+		this.parameters = toolMethod.getParameters();
+		this.parameterTypes = new JavaType[this.parameters.length];
+		this.parameterIndexes = new HashMap<>();
+		boolean toolContextAccepted = false;
+		for (int i = 0; i < this.parameters.length; i++) {
+			Parameter parameter = this.parameters[i];
+			if (ClassUtils.isAssignable(ToolContext.class, parameter.getType())) {
+				toolContextAccepted = true;
+			}
+			else {
+				this.parameterTypes[i] = jsonMapper.constructType(parameter.getParameterizedType());
+				this.parameterIndexes.put(parameter.getName(), i);
+			}
+		}
+		this.toolContextAccepted = toolContextAccepted;
+		this.methodHandle = createMethodHandle(toolMethod, toolObject);
+	}
+
+	private static @Nullable MethodHandle createMethodHandle(Method toolMethod, @Nullable Object toolObject) {
+		try {
+			if (!Modifier.isPublic(toolMethod.getModifiers())
+					|| !Modifier.isPublic(toolMethod.getDeclaringClass().getModifiers())
+					|| (toolObject != null && !Modifier.isPublic(toolObject.getClass().getModifiers()))) {
+				toolMethod.setAccessible(true);
+			}
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(toolMethod).asFixedArity();
+			if (!Modifier.isStatic(toolMethod.getModifiers())) {
+				methodHandle = methodHandle.bindTo(toolObject);
+			}
+			return methodHandle.asSpreader(Object[].class, toolMethod.getParameterCount())
+				.asType(MethodType.methodType(Object.class, Object[].class));
+		}
+		catch (IllegalAccessException | RuntimeException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Falling back to reflective invocation for tool method: " + toolMethod, ex);
+			}
+			return null;
+		}
 	}
 
 	@Override
@@ -106,10 +171,7 @@ public final class MethodToolCallback implements ToolCallback {
 
 		this.validateToolContextSupport(toolContext);
 
-		Map<String, Object> toolArguments = this.extractToolArguments(toolInput);
-		Assert.state(toolArguments != null, "toolArguments must not be null");
-
-		Object[] methodArguments = this.buildMethodArguments(toolArguments, toolContext);
+		@Nullable Object[] methodArguments = this.readMethodArguments(toolInput, toolContext);
 
 		Object result = this.callMethod(methodArguments);
 
@@ -124,13 +186,68 @@ public final class MethodToolCallback implements ToolCallback {
 
 	private void validateToolContextSupport(@Nullable ToolContext toolContext) {
 		var isNonEmptyToolContextProvided = toolContext != null && !CollectionUtils.isEmpty(toolContext.getContext());
-		var isToolContextAcceptedByMethod = Stream.of(this.toolMethod.getParameterTypes())
-			.anyMatch(type -> ClassUtils.isAssignable(ToolContext.class, type));
-		if (isToolContextAcceptedByMethod && !isNonEmptyToolContextProvided) {
+		if (this.toolContextAccepted && !isNonEmptyToolContextProvided) {
 			throw new IllegalArgumentException("ToolContext is required by the method as an argument");
 		}
 	}
 
+	/**
+	 * Decode the tool input into method arguments, reading each property of the JSON
+	 * object directly as the type of the method parameter with the same name. Input that
+	 * is not a JSON object is handed to the generic {@link Map} based conversion, so that
+	 * it fails the same way.
+	 */
+	private @Nullable Object[] readMethodArguments(String toolInput, @Nullable ToolContext toolContext) {
+		@Nullable Object[] methodArguments = new Object[this.parameters.length];
+		try (JsonParser parser = jsonMapper.createParser(toolInput)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				Map<String, Object> toolArguments = this.extractToolArguments(toolInput);
+				Assert.state(toolArguments != null, "toolArguments must not be null");
+				return this.buildMethodArguments(toolArguments, toolContext);
+			}
+			for (JsonToken token = parser.nextToken(); token == JsonToken.PROPERTY_NAME; token = parser.nextToken()) {
+				Integer index = this.parameterIndexes.get(parser.currentName());
+				JsonToken valueToken = parser.nextToken();
+				if (index == null) {
+					parser.skipChildren();
+				}
+				else {
+					methodArguments[index] = readTypedArgument(parser, valueToken, index);
+				}
+			}
+		}
+		catch (JacksonException ex) {
+			logger.warn("Conversion from JSON failed", ex);
+			throw new ToolExecutionException(this.getToolDefinition(), ex);
+		}
+		for (int i = 0; i < this.parameters.length; i++) {
+			if (this.parameterTypes[i] == null) {
+				methodArguments[i] = toolContext;
+			}
+		}
+		return methodArguments;
+	}
+
+	private @Nullable Object readTypedArgument(JsonParser parser, JsonToken token, int index) {
+		JavaType type = this.parameterTypes[index];
+		Assert.state(type != null, "type must not be null");
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (token != JsonToken.VALUE_STRING) {
+			return jsonMapper.readValue(parser, type);
+		}
+		// Models sometimes send structured arguments as a JSON encoded string, which the
+		// generic conversion unwraps.
+		String value = parser.getString();
+		try {
+			return jsonMapper.readValue(parser, type);
+		}
+		catch (JacksonException ex) {
+			return buildTypedArgument(value, this.parameters[index].getParameterizedType());
+		}
+	}
+
 	private @Nullable Map<String, Object> extractToolArguments(String toolInput) {
 		try {
 			return jsonHelper.fromJson(toolInput, new ParameterizedTypeReference<>() {
@@ -175,8 +292,34 @@ public final class MethodToolCallback implements ToolCallback {
 		}
 	}
 
+	private @Nullable Object callMethod(@Nullable Object[] methodArguments) {
+		MethodHandle methodHandle = this.methodHandle;
+		if (methodHandle == null || hasMissingPrimitiveArgument(methodArguments)) {
+			return callMethodReflectively(methodArguments);
+		}
+		try {
+			return (Object) methodHandle.invokeExact(methodArguments);
+		}
+		catch (Throwable ex) {
+			throw new ToolExecutionException(this.toolDefinition, ex);
+		}
+	}
+
+	/**
+	 * Whether a primitive parameter has no value, in which case reflective invocation is
+	 * used to report the mismatch as before.
+	 */
+	private boolean hasMissingPrimitiveArgument(@Nullable Object[] methodArguments) {
+		for (int i = 0; i < methodArguments.length; i++) {
+			if (methodArguments[i] == null && this.parameters[i].getType().isPrimitive()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@SuppressWarnings("NullAway") // ex.getCause() is guaranteed to be non-null
-	private @Nullable Object callMethod(Object[] methodArguments) {
+	private @Nullable Object callMethodReflectively(@Nullable Object[] methodArguments) {
 		if (isObjectNotPublic() || isMethodNotPublic()) {
 			this.toolMethod.setAccessible(true);
 		}
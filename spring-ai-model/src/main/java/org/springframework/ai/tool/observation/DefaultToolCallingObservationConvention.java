@@ -58,7 +58,7 @@ public class DefaultToolCallingObservationConvention implements ToolCallingObser
 	@Override
 	public KeyValues getLowCardinalityKeyValues(ToolCallingObservationContext context) {
 		return KeyValues.of(aiOperationType(context), aiProvider(context), springAiKind(context), toolType(context),
-				toolDefinitionName(context));
+				toolDefinitionName(context), toolResultCache(context));
 	}
 
 	protected KeyValue toolType(ToolCallingObservationContext context) {
@@ -85,6 +85,11 @@ public class DefaultToolCallingObservationConvention implements ToolCallingObser
 		return KeyValue.of(ToolCallingObservationDocumentation.LowCardinalityKeyNames.TOOL_DEFINITION_NAME, toolName);
 	}
 
+	protected KeyValue toolResultCache(ToolCallingObservationContext context) {
+		return KeyValue.of(ToolCallingObservationDocumentation.LowCardinalityKeyNames.TOOL_RESULT_CACHE,
+				context.getResultCacheStatus().value());
+	}
+
 	@Override
 	public KeyValues getHighCardinalityKeyValues(ToolCallingObservationContext context) {
 		var keyValues = KeyValues.empty();
@@ -50,6 +50,8 @@ public final class ToolCallingObservationContext extends Observation.Context {
 
 	private @Nullable String toolCallResult;
 
+	private ResultCacheStatus resultCacheStatus = ResultCacheStatus.NONE;
+
 	private ToolCallingObservationContext(ToolDefinition toolDefinition, ToolMetadata toolMetadata,
 			@Nullable String toolType, @Nullable String toolCallId, @Nullable String toolCallArguments,
 			@Nullable String toolCallResult) {
@@ -96,10 +98,54 @@ public final class ToolCallingObservationContext extends Observation.Context {
 		this.toolCallResult = toolCallResult;
 	}
 
+	public ResultCacheStatus getResultCacheStatus() {
+		return this.resultCacheStatus;
+	}
+
+	public void setResultCacheStatus(ResultCacheStatus resultCacheStatus) {
+		Assert.notNull(resultCacheStatus, "resultCacheStatus cannot be null");
+		this.resultCacheStatus = resultCacheStatus;
+	}
+
 	public static Builder builder() {
 		return new Builder();
 	}
 
+	/**
+	 * Whether the result of the tool call was served from the tool call result cache.
+	 *
+	 * @since 2.0.1
+	 */
+	public enum ResultCacheStatus {
+
+		/**
+		 * The tool does not cache its results.
+		 */
+		NONE("none"),
+
+		/**
+		 * The result was reused from an earlier or concurrent call with the same
+		 * arguments.
+		 */
+		HIT("hit"),
+
+		/**
+		 * The tool was called and its result cached.
+		 */
+		MISS("miss");
+
+		private final String value;
+
+		ResultCacheStatus(String value) {
+			this.value = value;
+		}
+
+		public String value() {
+			return this.value;
+		}
+
+	}
+
 	public static final class Builder {
 
 		private @Nullable ToolDefinition toolDefinition;
@@ -107,6 +107,16 @@ public enum ToolCallingObservationDocumentation implements ObservationDocumentat
 			}
 		},
 
+		/**
+		 * Whether the tool call result was served from the result cache.
+		 */
+		TOOL_RESULT_CACHE {
+			@Override
+			public String asString() {
+				return "spring.ai.tool.result.cache";
+			}
+		},
+
 	}
 
 	/**
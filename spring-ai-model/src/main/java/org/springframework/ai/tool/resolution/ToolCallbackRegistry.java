@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.tool.resolution;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.util.Assert;
+
+/**
+ * An immutable set of tool callbacks indexed by tool name, together with their tool
+ * definitions. Registries are meant to be built once for a given list of tool callbacks
+ * and reused across turns and requests, see
+ * {@link org.springframework.ai.model.tool.ToolCallingChatOptions#getToolCallbackRegistry()}.
+ * <p>
+ * When several tool callbacks share the same name, the first one wins, as when looking
+ * them up in the list.
+ *
+ * @since 2.0.1
+ */
+public final class ToolCallbackRegistry implements ToolCallbackResolver {
+
+	private static final ToolCallbackRegistry EMPTY = new ToolCallbackRegistry(List.of());
+
+	private final List<ToolCallback> toolCallbacks;
+
+	private final Map<String, ToolCallback> toolCallbacksByName;
+
+	private final List<ToolDefinition> toolDefinitions;
+
+	private ToolCallbackRegistry(List<ToolCallback> toolCallbacks) {
+		this.toolCallbacks = List.copyOf(toolCallbacks);
+		this.toolCallbacksByName = new HashMap<>(this.toolCallbacks.size() * 2);
+		List<ToolDefinition> toolDefinitions = new ArrayList<>(this.toolCallbacks.size());
+		for (ToolCallback toolCallback : this.toolCallbacks) {
+			ToolDefinition toolDefinition = toolCallback.getToolDefinition();
+			this.toolCallbacksByName.putIfAbsent(toolDefinition.name(), toolCallback);
+			toolDefinitions.add(toolDefinition);
+		}
+		this.toolDefinitions = List.copyOf(toolDefinitions);
+	}
+
+	/**
+	 * Create a registry for the given tool callbacks.
+	 * @param toolCallbacks the tool callbacks, or {@code null} for none
+	 * @return the registry
+	 */
+	public static ToolCallbackRegistry of(@Nullable List<ToolCallback> toolCallbacks) {
+		if (toolCallbacks == null || toolCallbacks.isEmpty()) {
+			return EMPTY;
+		}
+		Assert.noNullElements(toolCallbacks, "toolCallbacks cannot contain null elements");
+		return new ToolCallbackRegistry(toolCallbacks);
+	}
+
+	/**
+	 * Return a registry without tool callbacks.
+	 */
+	public static ToolCallbackRegistry empty() {
+		return EMPTY;
+	}
+
+	@Override
+	public @Nullable ToolCallback resolve(String toolName) {
+		Assert.hasText(toolName, "toolName cannot be null or empty");
+		return this.toolCallbacksByName.get(toolName);
+	}
+
+	/**
+	 * Return the tool callbacks, in registration order.
+	 */
+	public List<ToolCallback> getToolCallbacks() {
+		return this.toolCallbacks;
+	}
+
+	/**
+	 * Return the definitions of the tool callbacks, in registration order.
+	 */
+	public List<ToolDefinition> getToolDefinitions() {
+		return this.toolDefinitions;
+	}
+
+	public boolean isEmpty() {
+		return this.toolCallbacks.isEmpty();
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.ai.tool.support;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -88,6 +89,19 @@ public final class ToolUtils {
 		return tool != null && tool.returnDirect();
 	}
 
+	public static boolean getToolParallelSafe(Method method) {
+		Assert.notNull(method, "method cannot be null");
+		var tool = AnnotatedElementUtils.findMergedAnnotation(method, Tool.class);
+		return tool != null && tool.parallelSafe();
+	}
+
+	public static Duration getToolResultCacheTtl(Method method) {
+		Assert.notNull(method, "method cannot be null");
+		var tool = AnnotatedElementUtils.findMergedAnnotation(method, Tool.class);
+		return (tool != null && tool.resultCacheTtlSeconds() > 0) ? Duration.ofSeconds(tool.resultCacheTtlSeconds())
+				: Duration.ZERO;
+	}
+
 	public static ToolCallResultConverter getToolCallResultConverter(Method method) {
 		Assert.notNull(method, "method cannot be null");
 		var tool = AnnotatedElementUtils.findMergedAnnotation(method, Tool.class);
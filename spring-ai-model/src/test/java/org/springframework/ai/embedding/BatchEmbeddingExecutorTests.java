@@ -0,0 +1,213 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link BatchEmbeddingExecutor}.
+ */
+class BatchEmbeddingExecutorTests {
+
+	private static final BatchingStrategy PAIRS = documents -> {
+		List<List<Document>> batches = new ArrayList<>();
+		for (int i = 0; i < documents.size(); i += 2) {
+			batches.add(documents.subList(i, Math.min(documents.size(), i + 2)));
+		}
+		return batches;
+	};
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	void embeddingsAreReturnedInInputOrder() {
+		CountingEmbeddingModel model = new CountingEmbeddingModel(texts -> {
+			sleep(Integer.parseInt(texts.get(0)) % 3 == 0 ? 20 : 1);
+			return null;
+		});
+		BatchEmbeddingExecutor batchExecutor = BatchEmbeddingExecutor.builder()
+			.executor(this.executorService)
+			.maxInFlightBatches(3)
+			.build();
+
+		List<float[]> embeddings = model.embed(documents(41), null, PAIRS, batchExecutor);
+
+		assertThat(embeddings).hasSize(41);
+		for (int i = 0; i < embeddings.size(); i++) {
+			assertThat(embeddings.get(i)).containsExactly(i);
+		}
+		assertThat(model.calls).hasValue(21);
+		assertThat(model.maxInFlight.get()).isBetween(2, 3);
+	}
+
+	@Test
+	void failedBatchIsRetried() {
+		Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+		CountingEmbeddingModel model = new CountingEmbeddingModel(texts -> {
+			if (attempts.computeIfAbsent(texts.get(0), key -> new AtomicInteger()).incrementAndGet() < 3) {
+				return new IllegalStateException("Service unavailable");
+			}
+			return null;
+		});
+		BatchEmbeddingExecutor batchExecutor = BatchEmbeddingExecutor.builder()
+			.executor(this.executorService)
+			.maxAttempts(3)
+			.initialBackoff(Duration.ofMillis(1))
+			.build();
+
+		List<float[]> embeddings = batchExecutor.embed(model, documents(6), null, PAIRS);
+
+		assertThat(embeddings).hasSize(6);
+		assertThat(embeddings.get(5)).containsExactly(5);
+		assertThat(attempts).hasSize(3).allSatisfy((text, count) -> assertThat(count).hasValue(3));
+	}
+
+	@Test
+	void failureIsRethrownWhenNotRetryable() {
+		CountingEmbeddingModel model = new CountingEmbeddingModel(
+				texts -> texts.contains("4") ? new IllegalArgumentException("Bad input") : null);
+		BatchEmbeddingExecutor batchExecutor = BatchEmbeddingExecutor.builder()
+			.executor(this.executorService)
+			.maxInFlightBatches(1)
+			.maxAttempts(3)
+			.retryOn(ex -> !(ex instanceof IllegalArgumentException))
+			.build();
+
+		assertThatThrownBy(() -> batchExecutor.embed(model, documents(10), null, PAIRS))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Bad input");
+		assertThat(model.calls).hasValue(3);
+	}
+
+	@Test
+	void failureIsRethrownAfterLastAttempt() {
+		CountingEmbeddingModel model = new CountingEmbeddingModel(texts -> new IllegalStateException("Down"));
+		BatchEmbeddingExecutor batchExecutor = BatchEmbeddingExecutor.builder()
+			.maxAttempts(2)
+			.initialBackoff(Duration.ZERO)
+			.build();
+
+		assertThatThrownBy(() -> batchExecutor.embed(model, documents(2), null, PAIRS))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Down");
+		assertThat(model.calls).hasValue(2);
+	}
+
+	@Test
+	void failedBatchIsNotRetriedByDefault() {
+		CountingEmbeddingModel model = new CountingEmbeddingModel(texts -> new IllegalStateException("Down"));
+		BatchEmbeddingExecutor batchExecutor = BatchEmbeddingExecutor.builder().build();
+
+		assertThatThrownBy(() -> batchExecutor.embed(model, documents(2), null, PAIRS))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Down");
+		assertThat(model.calls).hasValue(1);
+	}
+
+	@Test
+	void builderRejectsInvalidSettings() {
+		BatchEmbeddingExecutor.Builder builder = BatchEmbeddingExecutor.builder();
+		assertThatThrownBy(() -> builder.maxInFlightBatches(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> builder.maxAttempts(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> builder.initialBackoff(Duration.ofMillis(-1)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document(String.valueOf(i)));
+		}
+		return documents;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Embeds every text into a single-element vector holding its numeric value, failing
+	 * with the exception returned by the given function, if any.
+	 */
+	private static final class CountingEmbeddingModel implements EmbeddingModel {
+
+		private final Function<List<String>, RuntimeException> failure;
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+
+		CountingEmbeddingModel(Function<List<String>, RuntimeException> failure) {
+			this.failure = failure;
+		}
+
+		@Override
+		public EmbeddingResponse call(EmbeddingRequest request) {
+			this.calls.incrementAndGet();
+			this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+			try {
+				RuntimeException ex = this.failure.apply(request.getInstructions());
+				if (ex != null) {
+					throw ex;
+				}
+				List<Embedding> embeddings = new ArrayList<>();
+				for (String text : request.getInstructions()) {
+					embeddings.add(new Embedding(new float[] { Float.parseFloat(text) }, embeddings.size()));
+				}
+				return new EmbeddingResponse(embeddings);
+			}
+			finally {
+				this.inFlight.decrementAndGet();
+			}
+		}
+
+		@Override
+		public float[] embed(Document document) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
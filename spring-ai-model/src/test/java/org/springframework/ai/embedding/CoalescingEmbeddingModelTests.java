@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CoalescingEmbeddingModel}.
+ */
+class CoalescingEmbeddingModelTests {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+	private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	void concurrentQueriesAreSentAsOneDeduplicatedRequest() throws Exception {
+		CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder(lengthModel())
+			.maxWait(Duration.ofMillis(500))
+			.build();
+
+		List<Future<float[]>> results = embedConcurrently(model, "a", "bb", "a", "ccc", "bb", "dddd");
+
+		assertThat(this.requests).hasSize(1);
+		assertThat(this.requests.get(0)).containsExactlyInAnyOrder("a", "bb", "ccc", "dddd");
+		assertThat(results.get(0).get()).containsExactly(1);
+		assertThat(results.get(2).get()).containsExactly(1);
+		assertThat(results.get(5).get()).containsExactly(4);
+	}
+
+	@Test
+	void fullBatchesAreSentWithoutWaiting() throws Exception {
+		CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder(lengthModel())
+			.maxBatchSize(2)
+			.maxWait(Duration.ofSeconds(30))
+			.build();
+
+		long start = System.nanoTime();
+		List<Future<float[]>> results = embedConcurrently(model, "a", "bb", "ccc", "dddd");
+		for (Future<float[]> result : results) {
+			result.get();
+		}
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+		assertThat(this.requests).hasSize(2).allSatisfy(request -> assertThat(request).hasSize(2));
+	}
+
+	@Test
+	void sequentialQueriesDoNotWaitForOthers() {
+		CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder(lengthModel()).maxWait(Duration.ZERO).build();
+
+		assertThat(model.embed("a")).containsExactly(1);
+		assertThat(model.embed("a")).containsExactly(1);
+		assertThat(this.requests).hasSize(2);
+	}
+
+	@Test
+	void failureIsPropagatedToEveryCaller() throws Exception {
+		EmbeddingModel failing = new TestEmbeddingModel() {
+
+			@Override
+			public EmbeddingResponse call(EmbeddingRequest request) {
+				throw new IllegalStateException("Service unavailable");
+			}
+
+		};
+		CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder(failing)
+			.maxWait(Duration.ofMillis(100))
+			.build();
+
+		List<Future<float[]>> results = embedConcurrently(model, "a", "b");
+
+		for (Future<float[]> result : results) {
+			assertThatThrownBy(result::get).hasRootCauseInstanceOf(IllegalStateException.class)
+				.hasRootCauseMessage("Service unavailable");
+		}
+	}
+
+	@Test
+	void errorIsPropagatedToEveryCaller() throws Exception {
+		EmbeddingModel failing = new TestEmbeddingModel() {
+
+			@Override
+			public EmbeddingResponse call(EmbeddingRequest request) {
+				throw new StackOverflowError("Too deep");
+			}
+
+		};
+		CoalescingEmbeddingModel model = CoalescingEmbeddingModel.builder(failing)
+			.maxWait(Duration.ofMillis(100))
+			.build();
+
+		List<Future<float[]>> results = embedConcurrently(model, "a", "b", "a");
+
+		for (Future<float[]> result : results) {
+			assertThat(result).isDone();
+			assertThatThrownBy(result::get).hasRootCauseInstanceOf(StackOverflowError.class)
+				.hasRootCauseMessage("Too deep");
+		}
+	}
+
+	private List<Future<float[]>> embedConcurrently(EmbeddingModel model, String... texts) throws Exception {
+		CountDownLatch ready = new CountDownLatch(texts.length);
+		CountDownLatch go = new CountDownLatch(1);
+		List<Future<float[]>> results = new ArrayList<>();
+		for (String text : texts) {
+			results.add(this.executorService.submit(() -> {
+				ready.countDown();
+				go.await();
+				return model.embed(text);
+			}));
+		}
+		ready.await();
+		go.countDown();
+		for (Future<float[]> result : results) {
+			try {
+				result.get();
+			}
+			catch (Exception ex) {
+				// asserted by the caller
+			}
+		}
+		return results;
+	}
+
+	private EmbeddingModel lengthModel() {
+		return new TestEmbeddingModel() {
+
+			@Override
+			public EmbeddingResponse call(EmbeddingRequest request) {
+				CoalescingEmbeddingModelTests.this.requests.add(request.getInstructions());
+				List<Embedding> embeddings = new ArrayList<>();
+				for (String text : request.getInstructions()) {
+					embeddings.add(new Embedding(new float[] { text.length() }, embeddings.size()));
+				}
+				return new EmbeddingResponse(embeddings);
+			}
+
+		};
+	}
+
+	private abstract static class TestEmbeddingModel implements EmbeddingModel {
+
+		@Override
+		public float[] embed(Document document) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -18,18 +18,28 @@ package org.springframework.ai.embedding;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import com.knuddels.jtokkit.api.EncodingType;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.document.ContentFormatter;
 import org.springframework.ai.document.Document;
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Basic unit test for {@link TokenCountBatchingStrategy}.
@@ -104,4 +114,102 @@ public class TokenCountBatchingStrategyTests {
 		assertThat(totalDocs).isEqualTo(2);
 	}
 
+	@Test
+	void batchRespectsMaxBatchSize() {
+		TokenCountBatchingStrategy strategy = TokenCountBatchingStrategy.builder().maxBatchSize(2).build();
+
+		List<List<Document>> batches = strategy.batch(List.of(new Document("one"), new Document("two"),
+				new Document("three"), new Document("four"), new Document("five")));
+
+		assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+	}
+
+	@Test
+	void batchRespectsMaxBatchBytes() {
+		// The default formatter prefixes the text with two new lines
+		TokenCountBatchingStrategy strategy = TokenCountBatchingStrategy.builder().maxBatchBytes(14).build();
+
+		List<List<Document>> batches = strategy
+			.batch(List.of(new Document("äöü"), new Document("abcd"), new Document("efgh")));
+
+		assertThat(batches).extracting(List::size).containsExactly(2, 1);
+		assertThatThrownBy(() -> strategy.batch(List.of(new Document("more than fourteen bytes"))))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void parallelEstimationProducesSameBatches() {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			documents.add(new Document("Document number " + i + " with some text"));
+		}
+		TokenCountBatchingStrategy serial = TokenCountBatchingStrategy.builder().maxInputTokenCount(100).build();
+		TokenCountBatchingStrategy parallel = TokenCountBatchingStrategy.builder()
+			.maxInputTokenCount(100)
+			.parallelEstimation(true)
+			.build();
+
+		assertThat(parallel.batch(documents)).isEqualTo(serial.batch(documents));
+	}
+
+	@Test
+	void batchCachesFormattedContentOnDocuments() {
+		ContentFormatter formatter = mock(ContentFormatter.class);
+		given(formatter.format(any(), any())).willReturn("formatted");
+		Document document = new Document("text");
+		TokenCountBatchingStrategy strategy = TokenCountBatchingStrategy.builder()
+			.contentFormatter(formatter)
+			.cacheFormattedContent(true)
+			.build();
+
+		strategy.batch(List.of(document));
+
+		assertThat(document.getFormattedContent(formatter, MetadataMode.EMBED)).isEqualTo("formatted");
+		verify(formatter, times(1)).format(document, MetadataMode.EMBED);
+
+		document.getMetadata().put("key", "value");
+		document.getFormattedContent(formatter, MetadataMode.EMBED);
+		verify(formatter, times(2)).format(document, MetadataMode.EMBED);
+	}
+
+	@Test
+	void batchCachesTokenCountsOnDocuments() {
+		TokenCountEstimator estimator = mock(TokenCountEstimator.class);
+		given(estimator.estimate(anyString())).willReturn(3);
+		Document document = new Document("text");
+		TokenCountBatchingStrategy strategy = TokenCountBatchingStrategy.builder()
+			.tokenCountEstimator(estimator)
+			.cacheFormattedContent(true)
+			.build();
+
+		strategy.batch(List.of(document));
+		strategy.batch(List.of(document));
+		verify(estimator, times(1)).estimate(anyString());
+
+		document.getMetadata().put("key", "value");
+		strategy.batch(List.of(document));
+		verify(estimator, times(2)).estimate(anyString());
+	}
+
+	@Test
+	void batchCachesFormattedContentOfDocumentsWithNullMetadataValues() {
+		ContentFormatter formatter = mock(ContentFormatter.class);
+		given(formatter.format(any(), any())).willReturn("formatted");
+		Document document = new Document("text");
+		document.getMetadata().put("key", null);
+		TokenCountBatchingStrategy strategy = TokenCountBatchingStrategy.builder()
+			.contentFormatter(formatter)
+			.cacheFormattedContent(true)
+			.build();
+
+		strategy.batch(List.of(document));
+
+		assertThat(document.getFormattedContent(formatter, MetadataMode.EMBED)).isEqualTo("formatted");
+		verify(formatter, times(1)).format(document, MetadataMode.EMBED);
+
+		document.getMetadata().put("key", "value");
+		document.getFormattedContent(formatter, MetadataMode.EMBED);
+		verify(formatter, times(2)).format(document, MetadataMode.EMBED);
+	}
+
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.metadata.EmptyUsage;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.embedding.EmbeddingResponseMetadata;
+import org.springframework.ai.embedding.observation.DefaultEmbeddingModelObservationConvention;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationContext;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationDocumentation;
+import org.springframework.ai.embedding.observation.EmbeddingModelObservationDocumentation.HighCardinalityKeyNames;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CachingEmbeddingModel}.
+ */
+class CachingEmbeddingModelTests {
+
+	private final RecordingEmbeddingModel delegate = new RecordingEmbeddingModel();
+
+	@Test
+	void onlyCacheMissesAreSentToTheDelegate() {
+		CachingEmbeddingModel model = CachingEmbeddingModel.builder(this.delegate).defaultModel("length").build();
+
+		model.embed(List.of("a", "bb"));
+		EmbeddingResponse response = model.embedForResponse(List.of("bb", "ccc", "a", "ccc"));
+
+		assertThat(this.delegate.requests).containsExactly(List.of("a", "bb"), List.of("ccc"));
+		assertThat(response.getResults()).extracting(Embedding::getOutput)
+			.containsExactly(new float[] { 2 }, new float[] { 3 }, new float[] { 1 }, new float[] { 3 });
+		assertThat(response.getResults()).extracting(Embedding::getIndex).containsExactly(0, 1, 2, 3);
+		assertThat((Integer) response.getMetadata().get(CachingEmbeddingModel.CACHE_HITS_METADATA_KEY)).isEqualTo(2);
+		assertThat((Integer) response.getMetadata().get(CachingEmbeddingModel.CACHE_MISSES_METADATA_KEY)).isEqualTo(2);
+	}
+
+	@Test
+	void optionsArePartOfTheCacheKey() {
+		CachingEmbeddingModel model = CachingEmbeddingModel.builder(this.delegate).defaultModel("length").build();
+
+		model.call(new EmbeddingRequest(List.of("a"), EmbeddingOptions.builder().model("small").build()));
+		model.call(new EmbeddingRequest(List.of("a"), EmbeddingOptions.builder().model("large").build()));
+		model.call(new EmbeddingRequest(List.of("a"), EmbeddingOptions.builder().model("large").dimensions(8).build()));
+		model.call(new EmbeddingRequest(List.of("a"), EmbeddingOptions.builder().model("small").build()));
+
+		assertThat(this.delegate.requests).hasSize(3);
+	}
+
+	@Test
+	void allOptionsArePartOfTheCacheKey() {
+		CachingEmbeddingModel model = CachingEmbeddingModel.builder(this.delegate).defaultModel("length").build();
+
+		model.call(new EmbeddingRequest(List.of("a"), new FormatOptions("float")));
+		model.call(new EmbeddingRequest(List.of("a"), new FormatOptions("base64")));
+		model.call(new EmbeddingRequest(List.of("a"), new FormatOptions("float")));
+
+		assertThat(this.delegate.requests).hasSize(2);
+	}
+
+	@Test
+	void configuredDefaultModelIsPartOfTheCacheKey() {
+		InMemoryEmbeddingCache cache = new InMemoryEmbeddingCache();
+		CachingEmbeddingModel.builder(this.delegate).cache(cache).defaultModel("length").build().embed(List.of("a"));
+		CachingEmbeddingModel model = CachingEmbeddingModel.builder(this.delegate)
+			.cache(cache)
+			.defaultModel("other")
+			.build();
+		model.embed(List.of("a"));
+		model.embed(List.of("a"));
+
+		assertThat(this.delegate.requests).containsExactly(List.of("a"), List.of("a"));
+	}
+
+	@Test
+	void missingDefaultModelDoesNotCallTheDelegate() {
+		CachingEmbeddingModel model = CachingEmbeddingModel.builder(this.delegate).build();
+
+		model.embed(List.of("a"));
+		model.embed(List.of("a"));
+
+		assertThat(this.delegate.requests).containsExactly(List.of("a"));
+	}
+
+	@Test
+	void documentsAreEmbeddedThroughTheCache() {
+		InMemoryEmbeddingCache cache = new InMemoryEmbeddingCache();
+		CachingEmbeddingModel model = CachingEmbeddingModel.builder(this.delegate)
+			.defaultModel("length")
+			.cache(cache)
+			.build();
+
+		assertThat(model.embed(new Document("dddd"))).containsExactly(4);
+		assertThat(model.embed(new Document("dddd"))).containsExactly(4);
+
+		assertThat(this.delegate.requests).hasSize(1);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void inMemoryCacheEvictsLeastRecentlyUsedEntries() {
+		InMemoryEmbeddingCache cache = new InMemoryEmbeddingCache(2);
+		cache.put("a", new float[] { 1 });
+		cache.put("b", new float[] { 2 });
+		cache.get("a");
+		cache.put("c", new float[] { 3 });
+
+		assertThat(cache.get("a")).containsExactly(1);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void inMemoryCacheKeepsItsOwnCopies() {
+		InMemoryEmbeddingCache cache = new InMemoryEmbeddingCache();
+		float[] embedding = { 1 };
+		cache.put("a", embedding);
+		embedding[0] = 2;
+		cache.get("a")[0] = 3;
+
+		assertThat(cache.get("a")).containsExactly(1);
+	}
+
+	@Test
+	void cacheHitsAndMissesAreObserved() {
+		TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+		this.delegate.observationRegistry = observationRegistry;
+		CachingEmbeddingModel model = CachingEmbeddingModel.builder(this.delegate)
+			.defaultModel("length")
+			.observationRegistry(observationRegistry)
+			.build();
+
+		model.embed(List.of("a"));
+		model.embed(List.of("a", "bb"));
+		model.embed(List.of("bb"));
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasNumberOfObservationsWithNameEqualTo(DefaultEmbeddingModelObservationConvention.DEFAULT_NAME, 2)
+			.hasAnObservationWithAKeyValue(HighCardinalityKeyNames.CACHE_HITS.asString(), "0")
+			.hasAnObservationWithAKeyValue(HighCardinalityKeyNames.CACHE_HITS.asString(), "1")
+			.hasAnObservationWithAKeyValue(HighCardinalityKeyNames.CACHE_MISSES.asString(), "1");
+	}
+
+	private record FormatOptions(String encodingFormat) implements EmbeddingOptions {
+
+		@Override
+		public @Nullable String getModel() {
+			return null;
+		}
+
+		@Override
+		public @Nullable Integer getDimensions() {
+			return null;
+		}
+
+		public String getEncodingFormat() {
+			return this.encodingFormat;
+		}
+
+	}
+
+	/**
+	 * Embeds every text into a single-element vector holding its length.
+	 */
+	private static final class RecordingEmbeddingModel implements EmbeddingModel {
+
+		private final List<List<String>> requests = new ArrayList<>();
+
+		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+		@Override
+		public EmbeddingResponse call(EmbeddingRequest request) {
+			EmbeddingModelObservationContext observationContext = EmbeddingModelObservationContext.builder()
+				.embeddingRequest(request)
+				.provider("length")
+				.build();
+			return EmbeddingModelObservationDocumentation.EMBEDDING_MODEL_OPERATION
+				.observation(null, new DefaultEmbeddingModelObservationConvention(), () -> observationContext,
+						this.observationRegistry)
+				.observe(() -> {
+					this.requests.add(request.getInstructions());
+					List<Embedding> embeddings = new ArrayList<>();
+					for (String text : request.getInstructions()) {
+						embeddings.add(new Embedding(new float[] { text.length() }, embeddings.size()));
+					}
+					EmbeddingResponse response = new EmbeddingResponse(embeddings,
+							new EmbeddingResponseMetadata("length", new EmptyUsage()));
+					observationContext.setResponse(response);
+					return response;
+				});
+		}
+
+		@Override
+		public float[] embed(Document document) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding.cache;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link MappedFileEmbeddingCache}.
+ */
+class MappedFileEmbeddingCacheTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void embeddingsSurviveReopening() {
+		try (MappedFileEmbeddingCache cache = new MappedFileEmbeddingCache(this.tempDir, 1024)) {
+			for (int i = 0; i < 60; i++) {
+				cache.put("key-" + i, new float[] { i, i + 0.5f, 2 * i, 1f / (i + 1) });
+			}
+			cache.put("key-0", new float[] { 42 });
+		}
+
+		try (MappedFileEmbeddingCache cache = new MappedFileEmbeddingCache(this.tempDir, 1024)) {
+			assertThat(cache.size()).isEqualTo(60);
+			assertThat(cache.get("key-0")).containsExactly(0f, 0.5f, 0f, 1f);
+			assertThat(cache.get("key-59")).containsExactly(59f, 59.5f, 118f, 1f / 60);
+			assertThat(cache.getAll(List.of("key-3", "missing"))).containsOnlyKeys("key-3");
+
+			cache.put("key-60", new float[] { 60 });
+			assertThat(cache.get("key-60")).containsExactly(60f);
+		}
+		assertThat(this.tempDir.toFile().list()).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	void clearEmptiesTheCacheOnDisk() {
+		try (MappedFileEmbeddingCache cache = new MappedFileEmbeddingCache(this.tempDir, 1024)) {
+			for (int i = 0; i < 50; i++) {
+				cache.put("key-" + i, new float[] { i });
+			}
+			cache.clear();
+			assertThat(cache.get("key-1")).isNull();
+			cache.put("fresh", new float[] { 7 });
+		}
+
+		try (MappedFileEmbeddingCache cache = new MappedFileEmbeddingCache(this.tempDir, 1024)) {
+			assertThat(cache.size()).isEqualTo(1);
+			assertThat(cache.get("fresh")).containsExactly(7f);
+		}
+	}
+
+	@Test
+	void rejectsEmbeddingsLargerThanASegment() {
+		try (MappedFileEmbeddingCache cache = new MappedFileEmbeddingCache(this.tempDir, 1024)) {
+			assertThatThrownBy(() -> cache.put("big", new float[512])).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+}
@@ -17,15 +17,25 @@
 package org.springframework.ai.model.tool;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationHandler;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.ObservationView;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.ToolResponseMessage;
@@ -35,6 +45,7 @@ import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.model.Generation;
 import org.springframework.ai.chat.model.ToolContext;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.tool.AsyncToolCallback;
 import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.definition.DefaultToolDefinition;
 import org.springframework.ai.tool.definition.ToolDefinition;
@@ -45,6 +56,7 @@ import org.springframework.ai.tool.method.MethodToolCallback;
 import org.springframework.ai.tool.observation.ToolCallingObservationContext;
 import org.springframework.ai.tool.resolution.StaticToolCallbackResolver;
 import org.springframework.ai.tool.resolution.ToolCallbackResolver;
+import org.springframework.ai.util.ConcurrencyUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -116,6 +128,23 @@ class DefaultToolCallingManagerTests {
 		assertThat(toolDefinitions).containsExactly(toolCallback.getToolDefinition());
 	}
 
+	@Test
+	void whenSameChatOptionsAcrossTurnsThenToolDefinitionsReused() {
+		ToolCallingChatOptions chatOptions = ToolCallingChatOptions.builder()
+			.toolCallbacks(new TestToolCallback("toolA"))
+			.build();
+		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder().build();
+
+		List<ToolDefinition> first = toolCallingManager.resolveToolDefinitions(chatOptions);
+		List<ToolDefinition> second = toolCallingManager.resolveToolDefinitions(chatOptions);
+		List<ToolDefinition> refreshed = toolCallingManager
+			.resolveToolDefinitions(chatOptions.mutate().toolCallbacks(new TestToolCallback("toolA")).build());
+
+		assertThat(second).isSameAs(first);
+		assertThat(chatOptions.getToolCallbackRegistry()).isSameAs(chatOptions.getToolCallbackRegistry());
+		assertThat(refreshed).isNotSameAs(first);
+	}
+
 	// EXECUTE TOOL CALLS
 
 	@Test
@@ -384,6 +413,244 @@ class DefaultToolCallingManagerTests {
 		assertThat(capturedParents).containsExactly(parentObservation);
 	}
 
+	@Test
+	void whenParallelToolExecutionThenParallelSafeToolCallsRunConcurrentlyInOrder() {
+		CountDownLatch latch = new CountDownLatch(3);
+		List<ToolCallback> toolCallbacks = List.of(new ConcurrentToolCallback("toolA", true, latch),
+				new ConcurrentToolCallback("toolB", true, latch), new ConcurrentToolCallback("toolC", true, latch));
+
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		List<ObservationView> capturedParents = Collections.synchronizedList(new ArrayList<>());
+		observationRegistry.observationConfig()
+			.observationHandler(new ObservationHandler<ToolCallingObservationContext>() {
+				@Override
+				public void onStart(ToolCallingObservationContext context) {
+					capturedParents.add(context.getParentObservation());
+				}
+
+				@Override
+				public boolean supportsContext(Observation.Context context) {
+					return context instanceof ToolCallingObservationContext;
+				}
+			});
+
+		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder()
+			.observationRegistry(observationRegistry)
+			.toolCallbackResolver(new StaticToolCallbackResolver(toolCallbacks))
+			.parallelToolExecution(true)
+			.build();
+
+		Observation parentObservation = Observation.start("parent", observationRegistry);
+		ToolExecutionResult toolExecutionResult;
+		try (Observation.Scope ignored = parentObservation.openScope()) {
+			toolExecutionResult = toolCallingManager.executeToolCalls(
+					new Prompt(new UserMessage("Hello"), ToolCallingChatOptions.builder().build()),
+					toolCallsResponse("toolA", "toolB", "toolC"));
+		}
+		finally {
+			parentObservation.stop();
+		}
+
+		ToolResponseMessage lastMessage = (ToolResponseMessage) toolExecutionResult.conversationHistory()
+			.get(toolExecutionResult.conversationHistory().size() - 1);
+		assertThat(lastMessage.getResponses()).extracting(ToolResponse::responseData)
+			.containsExactly("toolA:concurrent", "toolB:concurrent", "toolC:concurrent");
+		assertThat(capturedParents).containsExactly(parentObservation, parentObservation, parentObservation);
+	}
+
+	@Test
+	void whenParallelToolExecutionThenToolCallsNotParallelSafeRunSequentially() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		ToolCallback unsafe = new TrackingToolCallback("unsafe", false, running, maxRunning);
+		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder()
+			.toolCallbackResolver(new StaticToolCallbackResolver(List.of(unsafe)))
+			.parallelToolExecution(true)
+			.build();
+
+		ToolExecutionResult toolExecutionResult = toolCallingManager.executeToolCalls(
+				new Prompt(new UserMessage("Hello"), ToolCallingChatOptions.builder().build()),
+				toolCallsResponse("unsafe", "unsafe", "unsafe"));
+
+		ToolResponseMessage lastMessage = (ToolResponseMessage) toolExecutionResult.conversationHistory()
+			.get(toolExecutionResult.conversationHistory().size() - 1);
+		assertThat(lastMessage.getResponses()).hasSize(3);
+		assertThat(maxRunning).hasValue(1);
+	}
+
+	@Test
+	void whenToolCachesResultsThenIdenticalToolCallsExecuteOnce() {
+		AtomicInteger calls = new AtomicInteger();
+		ToolCallback cached = new CountingToolCallback("cached", Duration.ofMinutes(1), calls);
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		List<ToolCallingObservationContext.ResultCacheStatus> cacheStatuses = new ArrayList<>();
+		observationRegistry.observationConfig()
+			.observationHandler(new ObservationHandler<ToolCallingObservationContext>() {
+				@Override
+				public void onStop(ToolCallingObservationContext context) {
+					cacheStatuses.add(context.getResultCacheStatus());
+				}
+
+				@Override
+				public boolean supportsContext(Observation.Context context) {
+					return context instanceof ToolCallingObservationContext;
+				}
+			});
+		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder()
+			.observationRegistry(observationRegistry)
+			.toolCallbackResolver(new StaticToolCallbackResolver(List.of(cached, new TestToolCallback("plain"))))
+			.build();
+
+		ToolExecutionResult toolExecutionResult = toolCallingManager.executeToolCalls(
+				new Prompt(new UserMessage("Hello"), ToolCallingChatOptions.builder().build()),
+				toolCallsResponse("cached", "cached", "plain"));
+
+		ToolResponseMessage lastMessage = (ToolResponseMessage) toolExecutionResult.conversationHistory()
+			.get(toolExecutionResult.conversationHistory().size() - 1);
+		assertThat(lastMessage.getResponses()).extracting(ToolResponse::responseData)
+			.containsExactly("cached:1", "cached:1", "Mission accomplished!");
+		assertThat(calls).hasValue(1);
+		assertThat(cacheStatuses).containsExactly(ToolCallingObservationContext.ResultCacheStatus.MISS,
+				ToolCallingObservationContext.ResultCacheStatus.HIT,
+				ToolCallingObservationContext.ResultCacheStatus.NONE);
+	}
+
+	// ASYNC EXECUTION
+
+	@Test
+	void whenAsyncExecutionThenAsyncToolCallbacksSubscribedWithoutBlocking() {
+		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder()
+			.toolCallbackResolver(new StaticToolCallbackResolver(
+					List.of(new TestAsyncToolCallback("asyncA"), new TestToolCallback("plain"))))
+			.build();
+
+		ToolExecutionResult toolExecutionResult = toolCallingManager
+			.executeToolCallsAsync(new Prompt(new UserMessage("Hello"), ToolCallingChatOptions.builder().build()),
+					toolCallsResponse("asyncA", "plain", "asyncA"))
+			.block();
+
+		assertThat(toolExecutionResult).isNotNull();
+		ToolResponseMessage lastMessage = (ToolResponseMessage) toolExecutionResult.conversationHistory()
+			.get(toolExecutionResult.conversationHistory().size() - 1);
+		assertThat(lastMessage.getResponses()).extracting(ToolResponse::id).containsExactly("id0", "id1", "id2");
+		assertThat(lastMessage.getResponses()).extracting(ToolResponse::responseData)
+			.containsExactly("asyncA:async", "Mission accomplished!", "asyncA:async");
+	}
+
+	@Test
+	void whenAsyncExecutionThenBlockingToolCallbacksRunOnToolExecutor() {
+		AtomicInteger executions = new AtomicInteger();
+		Executor toolExecutor = command -> {
+			executions.incrementAndGet();
+			ForkJoinPool.commonPool().execute(command);
+		};
+		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder()
+			.toolCallbackResolver(new StaticToolCallbackResolver(List.of(new TestToolCallback("plain"))))
+			.toolExecutor(toolExecutor)
+			.build();
+
+		ToolExecutionResult toolExecutionResult = toolCallingManager
+			.executeToolCallsAsync(new Prompt(new UserMessage("Hello"), ToolCallingChatOptions.builder().build()),
+					toolCallsResponse("plain"))
+			.block();
+
+		assertThat(toolExecutionResult).isNotNull();
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void whenAsyncExecutionWithDefaultExecutorThenBlockingToolCallbacksAvoidPlatformThreadPerCall() {
+		AtomicReference<Thread> toolThread = new AtomicReference<>();
+		ToolCallback toolCallback = new TestToolCallback("plain") {
+
+			@Override
+			public String call(String toolInput) {
+				toolThread.set(Thread.currentThread());
+				return super.call(toolInput);
+			}
+
+		};
+		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder()
+			.toolCallbackResolver(new StaticToolCallbackResolver(List.of(toolCallback)))
+			.build();
+
+		toolCallingManager
+			.executeToolCallsAsync(new Prompt(new UserMessage("Hello"), ToolCallingChatOptions.builder().build()),
+					toolCallsResponse("plain"))
+			.block();
+
+		if (ConcurrencyUtils.isVirtualThreadsAvailable()) {
+			assertThat(toolThread.get().getName()).startsWith("tool-call-");
+		}
+		else {
+			assertThat(toolThread.get().getName()).startsWith("boundedElastic-");
+		}
+	}
+
+	@Test
+	void whenAsyncToolCallbackFailsThenExceptionProcessed() {
+		ToolCallback toolCallback = new TestAsyncToolCallback("asyncA") {
+			@Override
+			public Mono<String> callAsync(String toolInput, @Nullable ToolContext toolContext) {
+				return Mono.error(new ToolExecutionException(getToolDefinition(),
+						new IllegalStateException("You failed this city!")));
+			}
+		};
+		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder()
+			.toolCallbackResolver(new StaticToolCallbackResolver(List.of(toolCallback)))
+			.build();
+
+		ToolExecutionResult toolExecutionResult = toolCallingManager
+			.executeToolCallsAsync(new Prompt(new UserMessage("Hello"), ToolCallingChatOptions.builder().build()),
+					toolCallsResponse("asyncA"))
+			.block();
+
+		assertThat(toolExecutionResult).isNotNull();
+		assertThat(toolExecutionResult.conversationHistory()).contains(ToolResponseMessage.builder()
+			.responses(List.of(new ToolResponse("id0", "asyncA", "You failed this city!")))
+			.build());
+	}
+
+	@Test
+	void whenAsyncExecutionExceedsMaxCallsPerToolThenErrorWithPartialResult() {
+		AtomicInteger calls = new AtomicInteger();
+		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder()
+			.toolCallbackResolver(new StaticToolCallbackResolver(List.of(new TestAsyncToolCallback("asyncA") {
+				@Override
+				public Mono<String> callAsync(String toolInput, @Nullable ToolContext toolContext) {
+					return super.callAsync(toolInput, toolContext).doOnNext(result -> calls.incrementAndGet());
+				}
+			})))
+			.maxCallsPerTool("asyncA", 1)
+			.build();
+
+		Mono<ToolExecutionResult> toolExecutionResult = toolCallingManager.executeToolCallsAsync(
+				new Prompt(new UserMessage("Hello"), ToolCallingChatOptions.builder().build()),
+				toolCallsResponse("asyncA", "asyncA"));
+
+		assertThat(calls).hasValue(0);
+		assertThatExceptionOfType(ToolCallLimitExceededException.class).isThrownBy(toolExecutionResult::block)
+			.satisfies(ex -> {
+				ToolResponseMessage partialMessage = (ToolResponseMessage) ex.getPartialToolExecutionResult()
+					.conversationHistory()
+					.get(2);
+				assertThat(partialMessage.getResponses()).hasSize(2);
+				assertThat(partialMessage.getResponses().get(0).responseData()).isEqualTo("asyncA:async");
+			});
+		assertThat(calls).hasValue(1);
+	}
+
+	private static ChatResponse toolCallsResponse(String... toolNames) {
+		List<AssistantMessage.ToolCall> toolCalls = new ArrayList<>();
+		for (int i = 0; i < toolNames.length; i++) {
+			toolCalls.add(new AssistantMessage.ToolCall("id" + i, "function", toolNames[i], "{}"));
+		}
+		return ChatResponse.builder()
+			.generations(List.of(new Generation(
+					AssistantMessage.builder().content("").properties(Map.of()).toolCalls(toolCalls).build())))
+			.build();
+	}
+
 	@Test
 	void whenMixedMethodToolCallsInChatResponseThenExecute() throws NoSuchMethodException {
 		ToolCallingManager toolCallingManager = DefaultToolCallingManager.builder().build();
@@ -809,8 +1076,12 @@ class DefaultToolCallingManagerTests {
 		}
 
 		TestToolCallback(String name, boolean returnDirect) {
+			this(name, ToolMetadata.builder().returnDirect(returnDirect).build());
+		}
+
+		TestToolCallback(String name, ToolMetadata toolMetadata) {
 			this.toolDefinition = DefaultToolDefinition.builder().name(name).inputSchema("{}").build();
-			this.toolMetadata = ToolMetadata.builder().returnDirect(returnDirect).build();
+			this.toolMetadata = toolMetadata;
 		}
 
 		@Override
@@ -830,6 +1101,101 @@ class DefaultToolCallingManagerTests {
 
 	}
 
+	static class ConcurrentToolCallback extends TestToolCallback {
+
+		private final CountDownLatch latch;
+
+		ConcurrentToolCallback(String name, boolean parallelSafe, CountDownLatch latch) {
+			super(name, ToolMetadata.builder().parallelSafe(parallelSafe).build());
+			this.latch = latch;
+		}
+
+		@Override
+		public String call(String toolInput) {
+			this.latch.countDown();
+			try {
+				boolean concurrent = this.latch.await(5, TimeUnit.SECONDS);
+				return getToolDefinition().name() + (concurrent ? ":concurrent" : ":sequential");
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			}
+		}
+
+	}
+
+	static class TrackingToolCallback extends TestToolCallback {
+
+		private final AtomicInteger running;
+
+		private final AtomicInteger maxRunning;
+
+		TrackingToolCallback(String name, boolean parallelSafe, AtomicInteger running, AtomicInteger maxRunning) {
+			super(name, ToolMetadata.builder().parallelSafe(parallelSafe).build());
+			this.running = running;
+			this.maxRunning = maxRunning;
+		}
+
+		@Override
+		public String call(String toolInput) {
+			this.maxRunning.accumulateAndGet(this.running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(20);
+				return "done";
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			}
+			finally {
+				this.running.decrementAndGet();
+			}
+		}
+
+	}
+
+	static class CountingToolCallback extends TestToolCallback {
+
+		private final AtomicInteger calls;
+
+		CountingToolCallback(String name, Duration resultCacheTtl, AtomicInteger calls) {
+			super(name, ToolMetadata.builder().resultCacheTtl(resultCacheTtl).build());
+			this.calls = calls;
+		}
+
+		@Override
+		public String call(String toolInput) {
+			return getToolDefinition().name() + ":" + this.calls.incrementAndGet();
+		}
+
+	}
+
+	static class TestAsyncToolCallback implements AsyncToolCallback {
+
+		private final ToolDefinition toolDefinition;
+
+		TestAsyncToolCallback(String name) {
+			this.toolDefinition = DefaultToolDefinition.builder().name(name).inputSchema("{}").build();
+		}
+
+		@Override
+		public ToolDefinition getToolDefinition() {
+			return this.toolDefinition;
+		}
+
+		@Override
+		public Mono<String> callAsync(String toolInput, @Nullable ToolContext toolContext) {
+			return Mono.delay(Duration.ofMillis(10)).map(tick -> this.toolDefinition.name() + ":async");
+		}
+
+		@Override
+		public String call(String toolInput, @Nullable ToolContext toolContext) {
+			throw new UnsupportedOperationException("Tool calls must not block");
+		}
+
+	}
+
 	static class FailingToolCallback implements ToolCallback {
 
 		private final ToolDefinition toolDefinition;
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.tool;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ToolCallResultCache}.
+ */
+class ToolCallResultCacheTests {
+
+	private static final Duration TTL = Duration.ofMinutes(1);
+
+	@Test
+	void whenArgumentsDifferOnlyInFormattingThenResultReused() {
+		ToolCallResultCache cache = new ToolCallResultCache();
+		AtomicInteger calls = new AtomicInteger();
+
+		ToolCallResultCache.Lookup first = cache.getOrCall("rates", "{\"from\":\"EUR\",\"to\":\"USD\"}", TTL,
+				() -> "rate" + calls.incrementAndGet());
+		ToolCallResultCache.Lookup second = cache.getOrCall("rates", "{ \"to\": \"USD\",\n \"from\": \"EUR\" }", TTL,
+				() -> "rate" + calls.incrementAndGet());
+
+		assertThat(first).isEqualTo(new ToolCallResultCache.Lookup("rate1", false));
+		assertThat(second).isEqualTo(new ToolCallResultCache.Lookup("rate1", true));
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void whenArgumentsOrToolDifferThenToolCalled() {
+		ToolCallResultCache cache = new ToolCallResultCache();
+		AtomicInteger calls = new AtomicInteger();
+
+		cache.getOrCall("rates", "{\"amount\":0.1}", TTL, () -> "a" + calls.incrementAndGet());
+		cache.getOrCall("rates", "{\"amount\":0.10000000000000000001}", TTL, () -> "b" + calls.incrementAndGet());
+		cache.getOrCall("catalog", "{\"amount\":0.1}", TTL, () -> "c" + calls.incrementAndGet());
+
+		assertThat(calls).hasValue(3);
+		assertThat(cache.size()).isEqualTo(3);
+	}
+
+	@Test
+	void whenTimeToLiveElapsedThenToolCalledAgain() {
+		MutableClock clock = new MutableClock();
+		ToolCallResultCache cache = new ToolCallResultCache(10, clock);
+		AtomicInteger calls = new AtomicInteger();
+
+		cache.getOrCall("rates", "{}", TTL, () -> "rate" + calls.incrementAndGet());
+		clock.advance(TTL.minusSeconds(1));
+		assertThat(cache.getOrCall("rates", "{}", TTL, () -> "rate" + calls.incrementAndGet()).result())
+			.isEqualTo("rate1");
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(cache.getOrCall("rates", "{}", TTL, () -> "rate" + calls.incrementAndGet()).result())
+			.isEqualTo("rate2");
+	}
+
+	@Test
+	void whenToolCallFailsThenFailureNotCached() {
+		ToolCallResultCache cache = new ToolCallResultCache();
+
+		assertThatThrownBy(() -> cache.getOrCall("rates", "{}", TTL, () -> {
+			throw new IllegalStateException("unavailable");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getOrCall("rates", "{}", TTL, () -> "rate").hit()).isFalse();
+	}
+
+	@Test
+	void whenConcurrentIdenticalCallsThenToolCalledOnce() throws Exception {
+		ToolCallResultCache cache = new ToolCallResultCache();
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<ToolCallResultCache.Lookup> owner = CompletableFuture
+			.supplyAsync(() -> cache.getOrCall("rates", "{}", TTL, () -> {
+				calls.incrementAndGet();
+				started.countDown();
+				await(release);
+				return "rate";
+			}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<ToolCallResultCache.Lookup> waiter = CompletableFuture
+			.supplyAsync(() -> cache.getOrCall("rates", "{}", TTL, () -> "rate" + calls.incrementAndGet()));
+		release.countDown();
+
+		assertThat(owner.get(5, TimeUnit.SECONDS)).isEqualTo(new ToolCallResultCache.Lookup("rate", false));
+		assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo(new ToolCallResultCache.Lookup("rate", true));
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void whenConcurrentIdenticalAsyncCallsThenToolSubscribedOnce() {
+		ToolCallResultCache cache = new ToolCallResultCache();
+		AtomicInteger calls = new AtomicInteger();
+		Sinks.One<String> toolResult = Sinks.one();
+
+		CompletableFuture<ToolCallResultCache.Lookup> owner = cache.getOrCallAsync("rates", "{}", TTL, () -> {
+			calls.incrementAndGet();
+			return toolResult.asMono();
+		}).toFuture();
+		CompletableFuture<ToolCallResultCache.Lookup> waiter = cache
+			.getOrCallAsync("rates", "{}", TTL, () -> Mono.fromCallable(() -> "rate" + calls.incrementAndGet()))
+			.toFuture();
+		assertThat(waiter).isNotDone();
+		toolResult.tryEmitValue("rate");
+
+		assertThat(owner.join()).isEqualTo(new ToolCallResultCache.Lookup("rate", false));
+		assertThat(waiter.join()).isEqualTo(new ToolCallResultCache.Lookup("rate", true));
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void whenAsyncToolCallFailsThenFailureNotCached() {
+		ToolCallResultCache cache = new ToolCallResultCache();
+
+		assertThatThrownBy(() -> cache
+			.getOrCallAsync("rates", "{}", TTL, () -> Mono.error(new IllegalStateException("unavailable")))
+			.block()).isInstanceOf(IllegalStateException.class);
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void whenAsyncToolCallCancelledThenWaitingCallRetries() {
+		ToolCallResultCache cache = new ToolCallResultCache();
+		AtomicInteger calls = new AtomicInteger();
+
+		Disposable owner = cache.getOrCallAsync("rates", "{}", TTL, () -> {
+			calls.incrementAndGet();
+			return Mono.never();
+		}).subscribe();
+		CompletableFuture<ToolCallResultCache.Lookup> waiter = cache
+			.getOrCallAsync("rates", "{}", TTL, () -> Mono.fromCallable(() -> "rate" + calls.incrementAndGet()))
+			.toFuture();
+		assertThat(waiter).isNotDone();
+		owner.dispose();
+
+		assertThat(waiter.join()).isEqualTo(new ToolCallResultCache.Lookup("rate2", false));
+		assertThat(cache.getOrCall("rates", "{}", TTL, () -> "rate" + calls.incrementAndGet()))
+			.isEqualTo(new ToolCallResultCache.Lookup("rate2", true));
+	}
+
+	@Test
+	void whenFullThenLeastRecentlyUsedEntryEvicted() {
+		ToolCallResultCache cache = new ToolCallResultCache(2);
+		AtomicInteger calls = new AtomicInteger();
+
+		cache.getOrCall("tool0", "{}", TTL, () -> "result" + calls.incrementAndGet());
+		cache.getOrCall("tool1", "{}", TTL, () -> "result" + calls.incrementAndGet());
+		cache.getOrCall("tool0", "{}", TTL, () -> "result" + calls.incrementAndGet());
+		cache.getOrCall("tool2", "{}", TTL, () -> "result" + calls.incrementAndGet());
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getOrCall("tool0", "{}", TTL, () -> "result" + calls.incrementAndGet()).hit()).isTrue();
+		assertThat(cache.getOrCall("tool1", "{}", TTL, () -> "result" + calls.incrementAndGet()).hit()).isFalse();
+		cache.clear();
+		assertThat(cache.size()).isZero();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
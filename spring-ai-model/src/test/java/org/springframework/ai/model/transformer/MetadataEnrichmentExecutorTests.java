@@ -0,0 +1,234 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.transformer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.document.Document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetadataEnrichmentExecutorTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void callReturnsResponsesInDocumentOrderWithBoundedConcurrency() {
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		MetadataEnrichmentExecutor enrichmentExecutor = MetadataEnrichmentExecutor.builder()
+			.executor(this.executor)
+			.maxInFlightRequests(2)
+			.build();
+
+		List<@Nullable ChatResponse> responses = enrichmentExecutor.call(documents(10), document -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(5);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			inFlight.decrementAndGet();
+			return response("summary of " + document.getText());
+		});
+
+		assertThat(responses).hasSize(10);
+		for (int i = 0; i < 10; i++) {
+			assertThat(text(responses.get(i))).isEqualTo("summary of doc" + i);
+		}
+		assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void callRethrowsFirstFailureByDefault() {
+		MetadataEnrichmentExecutor enrichmentExecutor = MetadataEnrichmentExecutor.builder()
+			.executor(this.executor)
+			.build();
+
+		assertThatThrownBy(() -> enrichmentExecutor.call(documents(5), document -> {
+			if ("doc2".equals(document.getText())) {
+				throw new IllegalStateException("model unavailable");
+			}
+			return response("ok");
+		})).isInstanceOf(IllegalStateException.class).hasMessage("model unavailable");
+	}
+
+	@Test
+	void callContinuesAfterFailureWhenConfigured() {
+		List<String> failed = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger enriched = new AtomicInteger();
+		MetadataEnrichmentExecutor enrichmentExecutor = MetadataEnrichmentExecutor.builder()
+			.executor(this.executor)
+			.continueOnError(true)
+			.listener(new MetadataEnrichmentExecutor.Listener() {
+
+				@Override
+				public void onEnriched(Document document, int completed, int total) {
+					enriched.incrementAndGet();
+				}
+
+				@Override
+				public void onFailed(Document document, RuntimeException failure, int completed, int total) {
+					failed.add(document.getText());
+				}
+
+			})
+			.build();
+
+		List<@Nullable ChatResponse> responses = enrichmentExecutor.call(documents(5), document -> {
+			if ("doc2".equals(document.getText())) {
+				throw new IllegalStateException("model unavailable");
+			}
+			return response("ok");
+		});
+
+		assertThat(responses).hasSize(5);
+		assertThat(responses.get(2)).isNull();
+		assertThat(enriched.get()).isEqualTo(4);
+		assertThat(failed).containsExactly("doc2");
+	}
+
+	@Test
+	void callPausesWhenRateLimitIsExhausted() {
+		List<Duration> pauses = Collections.synchronizedList(new ArrayList<>());
+		MetadataEnrichmentExecutor enrichmentExecutor = MetadataEnrichmentExecutor.builder()
+			.executor(this.executor)
+			.maxInFlightRequests(1)
+			.listener(new MetadataEnrichmentExecutor.Listener() {
+
+				@Override
+				public void onRateLimited(Duration pause) {
+					pauses.add(pause);
+				}
+
+			})
+			.build();
+		AtomicInteger calls = new AtomicInteger();
+
+		long start = System.nanoTime();
+		enrichmentExecutor.call(documents(2), document -> {
+			if (calls.getAndIncrement() == 0) {
+				return exhausted(Duration.ofMillis(200));
+			}
+			return response("ok");
+		});
+
+		assertThat(pauses).containsExactly(Duration.ofMillis(200));
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+	}
+
+	@Test
+	void keywordEnricherUsesEnrichmentExecutor() {
+		ChatModel chatModel = new ChatModel() {
+
+			@Override
+			public ChatResponse call(Prompt prompt) {
+				return response(prompt.getContents().startsWith("doc1") ? "one" : "other");
+			}
+
+		};
+		KeywordMetadataEnricher enricher = KeywordMetadataEnricher.builder(chatModel)
+			.keywordCount(3)
+			.enrichmentExecutor(MetadataEnrichmentExecutor.builder().executor(this.executor).build())
+			.build();
+
+		List<Document> enriched = enricher.apply(documents(3));
+
+		assertThat(enriched)
+			.extracting(document -> document.getMetadata().get(KeywordMetadataEnricher.EXCERPT_KEYWORDS_METADATA_KEY))
+			.containsExactly("other", "one", "other");
+	}
+
+	private static List<Document> documents(int count) {
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			documents.add(new Document("doc" + i));
+		}
+		return documents;
+	}
+
+	private static ChatResponse response(String text) {
+		return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+	}
+
+	private static ChatResponse exhausted(Duration reset) {
+		RateLimit rateLimit = new RateLimit() {
+
+			@Override
+			public Long getRequestsLimit() {
+				return 10L;
+			}
+
+			@Override
+			public Long getRequestsRemaining() {
+				return 0L;
+			}
+
+			@Override
+			public Duration getRequestsReset() {
+				return reset;
+			}
+
+			@Override
+			public Long getTokensLimit() {
+				return 1000L;
+			}
+
+			@Override
+			public Long getTokensRemaining() {
+				return 500L;
+			}
+
+			@Override
+			public Duration getTokensReset() {
+				return Duration.ZERO;
+			}
+
+		};
+		return new ChatResponse(List.of(new Generation(new AssistantMessage("ok"))),
+				ChatResponseMetadata.builder().rateLimit(rateLimit).build());
+	}
+
+	private static @Nullable String text(@Nullable ChatResponse response) {
+		return response.getResult().getOutput().getText();
+	}
+
+}
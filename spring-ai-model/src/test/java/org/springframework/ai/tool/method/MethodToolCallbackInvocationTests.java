@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.tool.method;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for decoding tool input and invoking the method of a {@link MethodToolCallback}.
+ */
+class MethodToolCallbackInvocationTests {
+
+	private final ToolCallback[] toolCallbacks = MethodToolCallbackProvider.builder()
+		.toolObjects(new PackagePrivateTools())
+		.build()
+		.getToolCallbacks();
+
+	@Test
+	void whenPropertiesInAnyOrderThenArgumentsMatchedByName() {
+		assertThat(toolCallback("describe").call("""
+				{"tags": ["a", "b"], "unknown": {"nested": [1, 2]}, "count": 3, "name": "item"}
+				""")).isEqualTo("\"item x3 [a, b]\"");
+	}
+
+	@Test
+	void whenStructuredArgumentSentAsJsonStringThenDecoded() {
+		assertThat(toolCallback("describe").call("""
+				{"name": "item", "count": 1, "tags": "[\\"a\\"]"}
+				""")).isEqualTo("\"item x1 [a]\"");
+	}
+
+	@Test
+	void whenArgumentHasWrongTypeThenThrowToolExecutionException() {
+		assertThatThrownBy(() -> toolCallback("describe").call("""
+				{"name": "item", "count": 1, "tags": {"a": 1}}
+				""")).isInstanceOf(ToolExecutionException.class);
+	}
+
+	@Test
+	void whenToolMethodThrowsThenThrowToolExecutionException() {
+		assertThatThrownBy(() -> toolCallback("fail").call("{}")).isInstanceOf(ToolExecutionException.class)
+			.hasMessageContaining("Failed on purpose");
+	}
+
+	@Test
+	void whenPrimitiveArgumentMissingThenThrowIllegalArgumentException() {
+		assertThatThrownBy(() -> toolCallback("describe").call("""
+				{"name": "item", "tags": []}
+				""")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private ToolCallback toolCallback(String name) {
+		for (ToolCallback toolCallback : this.toolCallbacks) {
+			if (toolCallback.getToolDefinition().name().equals(name)) {
+				return toolCallback;
+			}
+		}
+		throw new IllegalArgumentException(name);
+	}
+
+	static class PackagePrivateTools {
+
+		@Tool(description = "Describe an item")
+		String describe(String name, int count, List<String> tags) {
+			return name + " x" + count + " " + tags;
+		}
+
+		@Tool(description = "Always fails")
+		void fail() {
+			throw new IllegalStateException("Failed on purpose");
+		}
+
+	}
+
+}
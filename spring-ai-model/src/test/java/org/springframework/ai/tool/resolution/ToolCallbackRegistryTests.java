@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.tool.resolution;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ToolCallbackRegistry}.
+ */
+class ToolCallbackRegistryTests {
+
+	private final ToolCallback toolA = toolCallback("toolA", "First tool");
+
+	private final ToolCallback toolB = toolCallback("toolB", "Second tool");
+
+	@Test
+	void whenResolveThenReturnToolCallbackByName() {
+		ToolCallbackRegistry registry = ToolCallbackRegistry.of(List.of(this.toolA, this.toolB));
+
+		assertThat(registry.resolve("toolB")).isSameAs(this.toolB);
+		assertThat(registry.resolve("unknown")).isNull();
+		assertThat(registry.getToolDefinitions()).extracting(ToolDefinition::name).containsExactly("toolA", "toolB");
+	}
+
+	@Test
+	void whenDuplicateNamesThenFirstToolCallbackWins() {
+		ToolCallback duplicate = toolCallback("toolA", "Duplicate tool");
+		ToolCallbackRegistry registry = ToolCallbackRegistry.of(List.of(this.toolA, duplicate));
+
+		assertThat(registry.resolve("toolA")).isSameAs(this.toolA);
+		assertThat(registry.getToolCallbacks()).containsExactly(this.toolA, duplicate);
+	}
+
+	private static ToolCallback toolCallback(String name, String description) {
+		ToolDefinition toolDefinition = ToolDefinition.builder()
+			.name(name)
+			.description(description)
+			.inputSchema("{\"type\":\"object\"}")
+			.build();
+		return new ToolCallback() {
+
+			@Override
+			public ToolDefinition getToolDefinition() {
+				return toolDefinition;
+			}
+
+			@Override
+			public String call(String toolInput) {
+				return name;
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.nio.FloatBuffer;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link SimpleVectorStoreScoringEngine} backed by the incubating Java Vector API. Each
+ * kernel processes {@link FloatVector#SPECIES_PREFERRED} lanes per iteration with fused
+ * multiply-add and reduces the lanes once at the end.
+ *
+ * <p>
+ * This class must only be loaded when the {@code jdk.incubator.vector} module is present;
+ * use {@link SimpleVectorStoreScoringEngine#bestAvailable()} instead of referencing it
+ * directly. Vectors held in direct buffers are delegated to the scalar engine.
+ */
+final class SimpleVectorStoreVectorApiScoringEngine implements SimpleVectorStoreScoringEngine {
+
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+	SimpleVectorStoreVectorApiScoringEngine() {
+	}
+
+	@Override
+	public float dotProduct(float[] x, float[] y) {
+		return dotProduct(x, y, 0);
+	}
+
+	@Override
+	public float dotProduct(float[] query, FloatBuffer vectors, int offset) {
+		if (vectors.hasArray()) {
+			return dotProduct(query, vectors.array(), vectors.arrayOffset() + offset);
+		}
+		return SimpleVectorStoreScoringEngine.scalar().dotProduct(query, vectors, offset);
+	}
+
+	@Override
+	public float squaredDistance(float[] x, float[] y) {
+		return squaredDistance(x, y, 0);
+	}
+
+	@Override
+	public float squaredDistance(float[] query, FloatBuffer vectors, int offset) {
+		if (vectors.hasArray()) {
+			return squaredDistance(query, vectors.array(), vectors.arrayOffset() + offset);
+		}
+		return SimpleVectorStoreScoringEngine.scalar().squaredDistance(query, vectors, offset);
+	}
+
+	private static float dotProduct(float[] query, float[] data, int offset) {
+		int length = query.length;
+		int bound = SPECIES.loopBound(length);
+		FloatVector sum = FloatVector.zero(SPECIES);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			FloatVector q = FloatVector.fromArray(SPECIES, query, i);
+			FloatVector d = FloatVector.fromArray(SPECIES, data, offset + i);
+			sum = q.fma(d, sum);
+		}
+		float result = sum.reduceLanes(VectorOperators.ADD);
+		for (; i < length; i++) {
+			result += query[i] * data[offset + i];
+		}
+		return result;
+	}
+
+	private static float squaredDistance(float[] query, float[] data, int offset) {
+		int length = query.length;
+		int bound = SPECIES.loopBound(length);
+		FloatVector sum = FloatVector.zero(SPECIES);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			FloatVector diff = FloatVector.fromArray(SPECIES, query, i)
+				.sub(FloatVector.fromArray(SPECIES, data, offset + i));
+			sum = diff.fma(diff, sum);
+		}
+		float result = sum.reduceLanes(VectorOperators.ADD);
+		for (; i < length; i++) {
+			float diff = query[i] - data[offset + i];
+			result += diff * diff;
+		}
+		return result;
+	}
+
+}
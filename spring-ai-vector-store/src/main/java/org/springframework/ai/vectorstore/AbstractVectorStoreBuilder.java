@@ -16,13 +16,17 @@
 
 package org.springframework.ai.vectorstore;
 
+import java.util.concurrent.Executor;
+
 import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.ai.embedding.BatchingStrategy;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.TokenCountBatchingStrategy;
+import org.springframework.ai.util.ConcurrencyUtils;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationConvention;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.Assert;
 
 /**
@@ -43,6 +47,10 @@ public abstract class AbstractVectorStoreBuilder<T extends AbstractVectorStoreBu
 
 	protected BatchingStrategy batchingStrategy = new TokenCountBatchingStrategy();
 
+	protected int ingestionChunkSize = 1000;
+
+	protected @Nullable Executor ingestionExecutor;
+
 	public AbstractVectorStoreBuilder(EmbeddingModel embeddingModel) {
 		Assert.notNull(embeddingModel, "EmbeddingModel must be configured");
 		this.embeddingModel = embeddingModel;
@@ -56,6 +64,17 @@ public abstract class AbstractVectorStoreBuilder<T extends AbstractVectorStoreBu
 		return this.batchingStrategy;
 	}
 
+	public int getIngestionChunkSize() {
+		return this.ingestionChunkSize;
+	}
+
+	public Executor getIngestionExecutor() {
+		if (this.ingestionExecutor != null) {
+			return this.ingestionExecutor;
+		}
+		return ConcurrencyUtils.defaultExecutor("vector-store-ingestion-");
+	}
+
 	public ObservationRegistry getObservationRegistry() {
 		return this.observationRegistry;
 	}
@@ -98,4 +117,28 @@ public abstract class AbstractVectorStoreBuilder<T extends AbstractVectorStoreBu
 		return self();
 	}
 
+	/**
+	 * Sets the number of documents pulled from the source and written together during a
+	 * streaming ingestion. Defaults to 1000.
+	 * @param ingestionChunkSize the number of documents per chunk
+	 * @return the builder instance
+	 */
+	public T ingestionChunkSize(int ingestionChunkSize) {
+		Assert.isTrue(ingestionChunkSize > 0, "ingestionChunkSize must be positive");
+		this.ingestionChunkSize = ingestionChunkSize;
+		return self();
+	}
+
+	/**
+	 * Sets the executor that writes chunks during a streaming ingestion. Defaults to a
+	 * {@link SimpleAsyncTaskExecutor} that uses virtual threads when available.
+	 * @param ingestionExecutor the executor to use
+	 * @return the builder instance
+	 */
+	public T ingestionExecutor(Executor ingestionExecutor) {
+		Assert.notNull(ingestionExecutor, "ingestionExecutor must not be null");
+		this.ingestionExecutor = ingestionExecutor;
+		return self();
+	}
+
 }
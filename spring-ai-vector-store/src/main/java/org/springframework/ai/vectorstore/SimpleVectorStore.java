@@ -25,18 +25,24 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
-import java.util.Comparator;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.json.JsonMapper;
@@ -48,8 +54,10 @@ import org.springframework.ai.observation.conventions.VectorStoreSimilarityMetri
 import org.springframework.ai.util.JacksonUtils;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
+import org.springframework.ai.vectorstore.observation.PrecomputedEmbeddingsWriter;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
 
 /**
  * A simple, in-memory implementation of the <a href=
@@ -63,14 +71,32 @@ import org.springframework.core.io.Resource;
  * metadata, and embedding vector.
  *
  * <p>
- * Similarity search is performed using cosine similarity over all stored vectors. Filter
- * expressions on document metadata are evaluated via
- * {@link SimpleVectorStoreFilterExpressionEvaluator}.
+ * Similarity search is performed using cosine similarity over all stored vectors, or
+ * another {@link SimilarityMetric} computed by a pluggable
+ * {@link SimpleVectorStoreScoringEngine}. Filter expressions on document metadata are
+ * evaluated via {@link SimpleVectorStoreFilterExpressionEvaluator}, after being narrowed
+ * by the optional keyword and range indexes declared on metadata keys with
+ * {@link SimpleVectorStoreBuilder#keywordMetadataIndex} and
+ * {@link SimpleVectorStoreBuilder#rangeMetadataIndex}. Alternatively, an in-process HNSW
+ * graph can be enabled with {@link IndexType#HNSW} to answer approximate nearest
+ * neighbour queries in sub-linear time; {@link #exactSimilaritySearch(SearchRequest)}
+ * remains available to measure the recall of the approximate index. Exact searches keep
+ * only the best {@code topK} candidates while scanning and can optionally run over a
+ * contiguous, pre-normalised vector buffer (see {@link VectorStorage}) that can be split
+ * into segments scanned in parallel on a {@link ForkJoinPool}, or over int8 or product
+ * quantized copies of the vectors whose best candidates are re-ranked with full
+ * precision.
  *
  * <p>
  * The store can be persisted to and restored from a JSON file via the
  * {@link #save(java.io.File)} and {@link #load(java.io.File)} /
- * {@link #load(org.springframework.core.io.Resource)} methods.
+ * {@link #load(org.springframework.core.io.Resource)} methods. Large stores are better
+ * persisted with {@link #saveSnapshot(java.io.File)}, which writes a compact binary
+ * snapshot whose embedding section is memory-mapped by
+ * {@link #loadSnapshot(java.io.File)}. To persist changes as they happen, configure a
+ * write-ahead log directory with {@link SimpleVectorStoreBuilder#writeAheadLog}: adds and
+ * deletes are then appended to an append-only log that is compacted into a snapshot in
+ * the background and replayed when the store is built again.
  *
  * <p>
  * <b>NOTE</b>: This implementation is not designed for production use and should only be
@@ -87,7 +113,8 @@ import org.springframework.core.io.Resource;
  * @author David Yu
  * @since 1.0.0
  */
-public class SimpleVectorStore extends AbstractObservationVectorStore {
+public class SimpleVectorStore extends AbstractObservationVectorStore
+		implements PrecomputedEmbeddingsWriter, AutoCloseable {
 
 	private static final Log logger = LogFactory.getLog(SimpleVectorStore.class);
 
@@ -95,12 +122,66 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 
 	private final SimpleVectorStoreFilterExpressionEvaluator filterExpressionEvaluator;
 
+	private final IndexType indexType;
+
+	private final int hnswM;
+
+	private final int hnswEfConstruction;
+
+	private final int hnswEfSearch;
+
+	private final VectorStorage vectorStorage;
+
+	private final SimpleVectorStoreScorer scorer;
+
+	private final @Nullable ForkJoinPool searchPool;
+
+	private final int searchSegmentSize;
+
+	private final int rerankFactor;
+
+	private final int productQuantizationSubspaces;
+
+	private final SimpleVectorStoreMetadataIndex metadataIndex;
+
+	private final @Nullable SimpleVectorStoreWriteAheadLog writeAheadLog;
+
 	protected Map<String, SimpleVectorStoreContent> store = new ConcurrentHashMap<>();
 
+	private volatile @Nullable SimpleVectorStoreIndex index;
+
 	protected SimpleVectorStore(SimpleVectorStoreBuilder builder) {
 		super(builder);
 		this.jsonMapper = JsonMapper.builder().addModules(JacksonUtils.instantiateAvailableModules()).build();
 		this.filterExpressionEvaluator = new SimpleVectorStoreFilterExpressionEvaluator();
+		this.indexType = builder.indexType;
+		this.hnswM = builder.hnswM;
+		this.hnswEfConstruction = builder.hnswEfConstruction;
+		this.hnswEfSearch = builder.hnswEfSearch;
+		this.vectorStorage = builder.vectorStorage;
+		this.scorer = new SimpleVectorStoreScorer(builder.similarityMetric, builder.scoringEngine);
+		this.searchPool = builder.searchPool;
+		this.searchSegmentSize = builder.searchSegmentSize;
+		this.rerankFactor = builder.rerankFactor;
+		this.productQuantizationSubspaces = builder.productQuantizationSubspaces;
+		this.metadataIndex = new SimpleVectorStoreMetadataIndex(builder.keywordMetadataIndexes,
+				builder.rangeMetadataIndexes);
+		if (builder.writeAheadLog != null) {
+			this.writeAheadLog = new SimpleVectorStoreWriteAheadLog(builder.writeAheadLog, this.jsonMapper,
+					builder.syncWriteAheadLog, builder.compactionThreshold, () -> this.store.values(),
+					this::embeddingOf);
+			try {
+				this.store = new ConcurrentHashMap<>(this.writeAheadLog.recover());
+			}
+			catch (IOException ex) {
+				throw new RuntimeException("Failed to recover the vector store from " + builder.writeAheadLog, ex);
+			}
+			rebuildIndex();
+		}
+		else {
+			this.writeAheadLog = null;
+			this.index = createIndex();
+		}
 	}
 
 	/**
@@ -118,29 +199,121 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 			throw new IllegalArgumentException("Documents list cannot be empty");
 		}
 
+		List<float[]> embeddings = new ArrayList<>(documents.size());
 		for (Document document : documents) {
 			if (logger.isInfoEnabled()) {
 				logger.info("Calling EmbeddingModel for document id = " + document.getId());
 			}
-			float[] embedding = this.embeddingModel.embed(document);
-			SimpleVectorStoreContent storeContent = new SimpleVectorStoreContent(document.getId(),
-					Objects.requireNonNullElse(document.getText(), ""), document.getMetadata(), embedding);
-			this.store.put(document.getId(), storeContent);
+			embeddings.add(this.embeddingModel.embed(document));
+		}
+		doAdd(documents, embeddings);
+	}
+
+	@Override
+	public void doAdd(List<Document> documents, List<float[]> embeddings) {
+		Assert.isTrue(documents.size() == embeddings.size(),
+				"Embeddings must have the same number as that of the documents");
+		List<SimpleVectorStoreContent> contents = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
+			contents.add(new SimpleVectorStoreContent(document.getId(),
+					Objects.requireNonNullElse(document.getText(), ""), document.getMetadata(), embeddings.get(i)));
+		}
+		if (this.writeAheadLog != null) {
+			this.writeAheadLog.appendAdd(contents, () -> applyAdd(contents));
+		}
+		else {
+			applyAdd(contents);
+		}
+	}
+
+	private void applyAdd(List<SimpleVectorStoreContent> contents) {
+		SimpleVectorStoreIndex index = this.index;
+		for (SimpleVectorStoreContent content : contents) {
+			// The index rejects vectors it cannot hold before the document is stored
+			if (index != null) {
+				index.add(content.getId(), content.embedding());
+			}
+			SimpleVectorStoreContent stored = detach(content);
+			if (this.metadataIndex.isEmpty()) {
+				this.store.put(content.getId(), stored);
+			}
+			else {
+				synchronized (this.metadataIndex) {
+					SimpleVectorStoreContent previous = this.store.put(content.getId(), stored);
+					if (previous != null) {
+						this.metadataIndex.remove(previous.getId(), previous.getMetadata());
+					}
+					this.metadataIndex.add(content.getId(), content.getMetadata());
+				}
+			}
 		}
 	}
 
 	@Override
 	public void doDelete(List<String> idList) {
+		if (this.writeAheadLog != null) {
+			this.writeAheadLog.appendDelete(idList, () -> applyDelete(idList));
+		}
+		else {
+			applyDelete(idList);
+		}
+	}
+
+	/**
+	 * Drops the embedding of a content whose vector is held by the index.
+	 */
+	private SimpleVectorStoreContent detach(SimpleVectorStoreContent content) {
+		return detachesEmbeddings() ? content.withoutEmbedding() : content;
+	}
+
+	/**
+	 * Whether the configured index holds the only copy of the vectors, in memory-mapped
+	 * files.
+	 */
+	private boolean detachesEmbeddings() {
+		return this.indexType != IndexType.HNSW && (this.vectorStorage == VectorStorage.SCALAR_QUANTIZED
+				|| this.vectorStorage == VectorStorage.PRODUCT_QUANTIZED);
+	}
+
+	/**
+	 * Returns the embedding of a stored content, reading it back from the index when the
+	 * content does not hold it.
+	 * @return the embedding, or {@code null} if the document has been removed
+	 */
+	private float @Nullable [] embeddingOf(SimpleVectorStoreContent content) {
+		if (content.hasEmbedding()) {
+			return content.embedding();
+		}
+		SimpleVectorStoreIndex index = this.index;
+		return (index != null) ? index.vector(content.getId()) : null;
+	}
+
+	private void applyDelete(List<String> idList) {
+		SimpleVectorStoreIndex index = this.index;
 		for (String id : idList) {
-			this.store.remove(id);
+			if (this.metadataIndex.isEmpty()) {
+				this.store.remove(id);
+			}
+			else {
+				synchronized (this.metadataIndex) {
+					SimpleVectorStoreContent removed = this.store.remove(id);
+					if (removed != null) {
+						this.metadataIndex.remove(id, removed.getMetadata());
+					}
+				}
+			}
+			if (index != null) {
+				index.remove(id);
+			}
 		}
 	}
 
 	@Override
 	public void doDelete(Filter.Expression filterExpression) {
-		List<String> idList = this.store.values()
-			.stream()
-			.filter(document -> doFilterPredicate(filterExpression).test(document))
+		Predicate<SimpleVectorStoreContent> filterPredicate = doFilterPredicate(filterExpression);
+		List<String> idList = candidateContents(this.metadataIndex.candidates(filterExpression)).stream()
+			.filter(filterPredicate)
 			.map(SimpleVectorStoreContent::getId)
 			.toList();
 		this.doDelete(idList);
@@ -148,23 +321,95 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
+		SimpleVectorStoreIndex index = this.index;
+		Set<String> candidates = (request.getFilterExpression() != null)
+				? this.metadataIndex.candidates(request.getFilterExpression()) : null;
+		if (index == null || (candidates != null && candidates.size() <= this.store.size() / 4)) {
+			return exactSearch(request, candidates);
+		}
 		float[] userQueryEmbedding = getUserQueryEmbedding(request.getQuery());
-		return this.store.values()
-			.stream()
-			.filter(document -> doFilterPredicate(request.getFilterExpression()).test(document))
-			.map(content -> content
-				.toDocument(EmbeddingMath.cosineSimilarity(userQueryEmbedding, content.getEmbedding())))
-			.filter(document -> document.getScore() != null && document.getScore() >= request.getSimilarityThreshold())
-			.sorted(Comparator.comparing(Document::getScore).reversed())
-			.limit(request.getTopK())
-			.toList();
+		Predicate<SimpleVectorStoreContent> filterPredicate = doFilterPredicate(request.getFilterExpression());
+		Predicate<String> idFilter = (request.getFilterExpression() != null) ? id -> {
+			SimpleVectorStoreContent content = this.store.get(id);
+			return content != null && filterPredicate.test(content);
+		} : null;
+		List<Document> documents = new ArrayList<>();
+		for (SimpleVectorStoreIndex.ScoredId match : index.search(userQueryEmbedding, request.getTopK(),
+				request.getSimilarityThreshold(), idFilter)) {
+			SimpleVectorStoreContent content = this.store.get(match.id());
+			if (content != null) {
+				documents.add(content.toDocument(match.score()));
+			}
+		}
+		return documents;
+	}
+
+	/**
+	 * Performs a brute-force similarity search that scores every stored vector, ignoring
+	 * any configured approximate index. Useful to measure the recall of
+	 * {@link IndexType#HNSW} against the exact result set.
+	 * @param request the search request
+	 * @return the exact top-k matches ordered by descending similarity
+	 */
+	public List<Document> exactSimilaritySearch(SearchRequest request) {
+		Set<String> candidates = (request.getFilterExpression() != null)
+				? this.metadataIndex.candidates(request.getFilterExpression()) : null;
+		return exactSearch(request, candidates);
+	}
+
+	/**
+	 * Scores the given candidates, or every stored vector when no candidates have been
+	 * planned by the metadata indexes.
+	 */
+	private List<Document> exactSearch(SearchRequest request, @Nullable Set<String> candidates) {
+		int capacity = Math.min(request.getTopK(), (candidates != null) ? candidates.size() : this.store.size());
+		if (capacity == 0) {
+			return List.of();
+		}
+		float[] userQueryEmbedding = getUserQueryEmbedding(request.getQuery());
+		double queryMagnitude = this.scorer.magnitude(userQueryEmbedding);
+		Predicate<SimpleVectorStoreContent> filterPredicate = doFilterPredicate(request.getFilterExpression());
+		SimpleVectorStoreTopK<SimpleVectorStoreContent> best = new SimpleVectorStoreTopK<>(capacity);
+		for (SimpleVectorStoreContent content : candidateContents(candidates)) {
+			if (!filterPredicate.test(content)) {
+				continue;
+			}
+			float[] embedding = embeddingOf(content);
+			if (embedding == null) {
+				continue;
+			}
+			double score = this.scorer.score(userQueryEmbedding, queryMagnitude, embedding, content.magnitude());
+			if (score >= request.getSimilarityThreshold()) {
+				best.offer(content, score);
+			}
+		}
+		List<Document> documents = new ArrayList<>(best.size());
+		for (SimpleVectorStoreTopK.Entry<SimpleVectorStoreContent> entry : best.drainDescending()) {
+			documents.add(entry.item().toDocument(entry.score()));
+		}
+		return documents;
+	}
+
+	private Collection<SimpleVectorStoreContent> candidateContents(@Nullable Set<String> candidates) {
+		if (candidates == null) {
+			return this.store.values();
+		}
+		List<SimpleVectorStoreContent> contents = new ArrayList<>(candidates.size());
+		for (String id : candidates) {
+			SimpleVectorStoreContent content = this.store.get(id);
+			if (content != null) {
+				contents.add(content);
+			}
+		}
+		return contents;
 	}
 
 	private Predicate<SimpleVectorStoreContent> doFilterPredicate(Filter.@Nullable Expression filterExpression) {
 		if (filterExpression == null) {
 			return document -> true;
 		}
-		return document -> this.filterExpressionEvaluator.evaluate(filterExpression, document.getMetadata());
+		Predicate<Map<String, Object>> metadataPredicate = this.filterExpressionEvaluator.compile(filterExpression);
+		return document -> metadataPredicate.test(document.getMetadata());
 	}
 
 	/**
@@ -172,7 +417,6 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 	 * @param file the file to save the vector store content
 	 */
 	public void save(File file) {
-		String json = getVectorDbAsJson();
 		try {
 			if (!file.exists()) {
 				if (logger.isInfoEnabled()) {
@@ -193,8 +437,7 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 			}
 			try (OutputStream stream = new FileOutputStream(file);
 					Writer writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8)) {
-				writer.write(json);
-				writer.flush();
+				writeVectorDbAsJson(writer);
 			}
 		}
 		catch (IOException ex) {
@@ -219,7 +462,8 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 		TypeReference<HashMap<String, SimpleVectorStoreContent>> typeRef = new TypeReference<>() {
 
 		};
-		this.store = this.jsonMapper.readValue(file, typeRef);
+		this.store = new ConcurrentHashMap<>(this.jsonMapper.readValue(file, typeRef));
+		storeReplaced();
 	}
 
 	/**
@@ -231,17 +475,164 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 
 		};
 		try {
-			this.store = this.jsonMapper.readValue(resource.getInputStream(), typeRef);
+			this.store = new ConcurrentHashMap<>(this.jsonMapper.readValue(resource.getInputStream(), typeRef));
+		}
+		catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		storeReplaced();
+	}
+
+	private @Nullable SimpleVectorStoreIndex createIndex() {
+		if (this.indexType == IndexType.HNSW) {
+			return new SimpleVectorStoreHnswIndex(this.hnswM, this.hnswEfConstruction, this.hnswEfSearch, 42L,
+					this.scorer);
+		}
+		return switch (this.vectorStorage) {
+			case MAP -> null;
+			case SLAB -> new SimpleVectorStoreVectorSlab(false, this.scorer, this.searchPool, this.searchSegmentSize);
+			case OFF_HEAP_SLAB ->
+				new SimpleVectorStoreVectorSlab(true, this.scorer, this.searchPool, this.searchSegmentSize);
+			case SCALAR_QUANTIZED -> new SimpleVectorStoreQuantizedIndex(SimpleVectorStoreScalarQuantizer::new,
+					this.scorer, this.rerankFactor);
+			case PRODUCT_QUANTIZED ->
+				new SimpleVectorStoreQuantizedIndex(dimensions -> new SimpleVectorStoreProductQuantizer(dimensions,
+						this.productQuantizationSubspaces, 42L), this.scorer, this.rerankFactor);
+		};
+	}
+
+	/**
+	 * Writes a snapshot of the store into the write-ahead log directory and deletes the
+	 * log segments it supersedes. Compaction also runs in the background once the current
+	 * log segment grows past the configured threshold.
+	 * @throws IllegalStateException if the store has no write-ahead log
+	 */
+	public void compact() {
+		Assert.state(this.writeAheadLog != null, "SimpleVectorStore has no write-ahead log configured");
+		try {
+			this.writeAheadLog.compact();
 		}
 		catch (IOException ex) {
+			logger.error("IOException occurred while compacting vector store write-ahead log.", ex);
 			throw new RuntimeException(ex);
 		}
 	}
 
-	private String getVectorDbAsJson() {
+	/**
+	 * Closes the write-ahead log, if one is configured, after waiting for a running
+	 * compaction to finish. A closed store can still be searched, but changes to a store
+	 * with a write-ahead log fail.
+	 */
+	@Override
+	public void close() {
+		if (this.writeAheadLog != null) {
+			try {
+				this.writeAheadLog.close();
+			}
+			catch (IOException ex) {
+				logger.error("IOException occurred while closing vector store write-ahead log.", ex);
+				throw new RuntimeException(ex);
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the index after the whole store content has been replaced and, when a
+	 * write-ahead log is configured, persists the new content as its snapshot.
+	 */
+	private void storeReplaced() {
+		rebuildIndex();
+		if (this.writeAheadLog != null) {
+			compact();
+		}
+	}
+
+	private void rebuildIndex() {
+		synchronized (this.metadataIndex) {
+			this.metadataIndex.clear();
+			this.store.values().forEach(content -> this.metadataIndex.add(content.getId(), content.getMetadata()));
+		}
+		SimpleVectorStoreIndex index = createIndex();
+		if (index != null) {
+			this.store.values().forEach(content -> index.add(content.getId(), content.embedding()));
+		}
+		this.index = index;
+		if (detachesEmbeddings()) {
+			this.store.replaceAll((id, content) -> content.withoutEmbedding());
+		}
+	}
+
+	/**
+	 * Save the vector store content into a file in a compact binary snapshot format. The
+	 * embeddings are written as packed float32 values, separately from the document text
+	 * and metadata, and the store is streamed to disk without being serialized in memory
+	 * first. Snapshots are restored with {@link #loadSnapshot(File)}.
+	 * @param file the file to save the vector store content
+	 */
+	public void saveSnapshot(File file) {
+		try {
+			SimpleVectorStoreSnapshot.write(this.store.values(), this::embeddingOf, file.toPath(), this.jsonMapper);
+		}
+		catch (IOException ex) {
+			logger.error("IOException occurred while saving vector store snapshot.", ex);
+			throw new RuntimeException(ex);
+		}
+	}
+
+	/**
+	 * Load the vector store content from a binary snapshot file written by
+	 * {@link #saveSnapshot(File)}. The embedding section of the file is memory-mapped and
+	 * copied directly into the store, which makes loading large stores considerably
+	 * faster than {@link #load(File)}.
+	 * @param file the file to load the vector store content
+	 */
+	public void loadSnapshot(File file) {
+		try {
+			this.store = new ConcurrentHashMap<>(SimpleVectorStoreSnapshot.read(file.toPath(), this.jsonMapper));
+		}
+		catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		storeReplaced();
+	}
+
+	/**
+	 * Load the vector store content from a binary snapshot resource written by
+	 * {@link #saveSnapshot(File)}. Resources backed by a file are memory-mapped; other
+	 * resources are streamed.
+	 * @param resource the resource to load the vector store content
+	 */
+	public void loadSnapshot(Resource resource) {
+		try {
+			Map<String, SimpleVectorStoreContent> documents = resource.isFile()
+					? SimpleVectorStoreSnapshot.read(resource.getFile().toPath(), this.jsonMapper)
+					: SimpleVectorStoreSnapshot.read(resource.getInputStream(), this.jsonMapper);
+			this.store = new ConcurrentHashMap<>(documents);
+		}
+		catch (IOException ex) {
+			throw new RuntimeException(ex);
+		}
+		storeReplaced();
+	}
+
+	private void writeVectorDbAsJson(Writer writer) {
 		ObjectWriter objectWriter = this.jsonMapper.writerWithDefaultPrettyPrinter();
 		try {
-			return objectWriter.writeValueAsString(this.store);
+			if (!detachesEmbeddings()) {
+				objectWriter.writeValue(writer, this.store);
+				return;
+			}
+			try (JsonGenerator generator = objectWriter.createGenerator(writer)) {
+				generator.writeStartObject();
+				for (SimpleVectorStoreContent content : this.store.values()) {
+					float[] embedding = embeddingOf(content);
+					if (embedding != null) {
+						generator.writeName(content.getId());
+						generator.writePOJO(content.withEmbedding(embedding));
+					}
+				}
+				generator.writeEndObject();
+			}
 		}
 		catch (JacksonException ex) {
 			throw new RuntimeException("Error serializing documentMap to JSON.", ex);
@@ -258,7 +649,7 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 		return VectorStoreObservationContext.builder(VectorStoreProvider.SIMPLE.value(), operationName)
 			.dimensions(this.embeddingModel.dimensions())
 			.collectionName("in-memory-map")
-			.similarityMetric(VectorStoreSimilarityMetric.COSINE.value());
+			.similarityMetric(this.scorer.metric().observationMetric().value());
 	}
 
 	public static final class EmbeddingMath {
@@ -305,14 +696,359 @@ public class SimpleVectorStore extends AbstractObservationVectorStore {
 
 	}
 
+	/**
+	 * The index used to answer similarity searches.
+	 */
+	public enum IndexType {
+
+		/**
+		 * Brute-force scan of every stored vector. Returns exact results.
+		 */
+		EXACT,
+
+		/**
+		 * Approximate nearest neighbour search over an in-process Hierarchical Navigable
+		 * Small World graph.
+		 */
+		HNSW
+
+	}
+
+	/**
+	 * The similarity metric used to score stored vectors against the query. Higher scores
+	 * always mean more similar vectors.
+	 */
+	public enum SimilarityMetric {
+
+		/**
+		 * Cosine of the angle between the vectors, in {@code [-1, 1]}.
+		 */
+		COSINE(VectorStoreSimilarityMetric.COSINE),
+
+		/**
+		 * Raw dot product. Equivalent to cosine similarity for normalised embeddings but
+		 * skips the division by the magnitudes.
+		 */
+		DOT_PRODUCT(VectorStoreSimilarityMetric.DOT),
+
+		/**
+		 * Euclidean distance {@code d} mapped to the similarity {@code 1 / (1 + d)}, in
+		 * {@code (0, 1]}.
+		 */
+		EUCLIDEAN(VectorStoreSimilarityMetric.EUCLIDEAN);
+
+		private final VectorStoreSimilarityMetric observationMetric;
+
+		SimilarityMetric(VectorStoreSimilarityMetric observationMetric) {
+			this.observationMetric = observationMetric;
+		}
+
+		VectorStoreSimilarityMetric observationMetric() {
+			return this.observationMetric;
+		}
+
+	}
+
+	/**
+	 * How the vectors scanned by an {@link IndexType#EXACT} search are laid out in
+	 * memory.
+	 */
+	public enum VectorStorage {
+
+		/**
+		 * Vectors are scanned straight from the document map, one {@code float[]} per
+		 * document.
+		 */
+		MAP,
+
+		/**
+		 * Vectors are additionally packed into one contiguous heap buffer together with
+		 * their pre-computed norms.
+		 */
+		SLAB,
+
+		/**
+		 * Like {@link #SLAB}, but the buffer is allocated off-heap in a direct buffer.
+		 * Direct buffers are always scanned by the scalar engine, also when the Java
+		 * Vector API engine is available.
+		 */
+		OFF_HEAP_SLAB,
+
+		/**
+		 * Vectors are compressed to one signed byte per dimension plus a per-vector
+		 * scale. Searches scan the compressed vectors and re-rank the best candidates
+		 * against the full precision vectors, which are moved to memory-mapped temporary
+		 * files: the document map no longer holds the embeddings.
+		 */
+		SCALAR_QUANTIZED,
+
+		/**
+		 * Vectors are compressed with product quantization to one byte per subspace. The
+		 * codebooks are trained once the store holds enough vectors; until then vectors
+		 * are scanned exactly. Like {@link #SCALAR_QUANTIZED}, the full precision vectors
+		 * used to re-rank the best candidates are kept in memory-mapped files.
+		 */
+		PRODUCT_QUANTIZED
+
+	}
+
 	public static final class SimpleVectorStoreBuilder extends AbstractVectorStoreBuilder<SimpleVectorStoreBuilder> {
 
+		private IndexType indexType = IndexType.EXACT;
+
+		private int hnswM = 16;
+
+		private int hnswEfConstruction = 200;
+
+		private int hnswEfSearch = 64;
+
+		private VectorStorage vectorStorage = VectorStorage.MAP;
+
+		private SimilarityMetric similarityMetric = SimilarityMetric.COSINE;
+
+		private SimpleVectorStoreScoringEngine scoringEngine = SimpleVectorStoreScoringEngine.bestAvailable();
+
+		private @Nullable ForkJoinPool searchPool;
+
+		private int searchSegmentSize = 16_384;
+
+		private int rerankFactor = 4;
+
+		private int productQuantizationSubspaces;
+
+		private final Set<String> keywordMetadataIndexes = new LinkedHashSet<>();
+
+		private final Set<String> rangeMetadataIndexes = new LinkedHashSet<>();
+
+		private @Nullable Path writeAheadLog;
+
+		private boolean syncWriteAheadLog = true;
+
+		private long compactionThreshold = 64L * 1024 * 1024;
+
 		private SimpleVectorStoreBuilder(EmbeddingModel embeddingModel) {
 			super(embeddingModel);
 		}
 
+		/**
+		 * Sets the index used to answer similarity searches. Defaults to
+		 * {@link IndexType#EXACT}.
+		 * @param indexType the index type
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder indexType(IndexType indexType) {
+			Assert.notNull(indexType, "IndexType must not be null");
+			this.indexType = indexType;
+			return this;
+		}
+
+		/**
+		 * Sets the number of bi-directional links created for every node of the HNSW
+		 * graph. Higher values improve recall at the cost of memory and insertion time.
+		 * Defaults to {@code 16}.
+		 * @param m the maximum number of links per node and layer
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder hnswM(int m) {
+			Assert.isTrue(m >= 2, "M must be greater than or equal to 2");
+			this.hnswM = m;
+			return this;
+		}
+
+		/**
+		 * Sets the size of the candidate list used while inserting into the HNSW graph.
+		 * Defaults to {@code 200}.
+		 * @param efConstruction the construction candidate list size
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder hnswEfConstruction(int efConstruction) {
+			Assert.isTrue(efConstruction > 0, "efConstruction must be positive");
+			this.hnswEfConstruction = efConstruction;
+			return this;
+		}
+
+		/**
+		 * Sets the size of the candidate list used while searching the HNSW graph. The
+		 * effective value is never lower than the requested top-k. Defaults to
+		 * {@code 64}.
+		 * @param efSearch the search candidate list size
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder hnswEfSearch(int efSearch) {
+			Assert.isTrue(efSearch > 0, "efSearch must be positive");
+			this.hnswEfSearch = efSearch;
+			return this;
+		}
+
+		/**
+		 * Sets how the vectors scanned by {@link IndexType#EXACT} searches are laid out
+		 * in memory. Defaults to {@link VectorStorage#MAP}. The HNSW index keeps its own
+		 * copy of the vectors and only supports the default.
+		 * @param vectorStorage the vector storage
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder vectorStorage(VectorStorage vectorStorage) {
+			Assert.notNull(vectorStorage, "VectorStorage must not be null");
+			this.vectorStorage = vectorStorage;
+			return this;
+		}
+
+		/**
+		 * Sets the similarity metric used to score stored vectors. Defaults to
+		 * {@link SimilarityMetric#COSINE}.
+		 * @param similarityMetric the similarity metric
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder similarityMetric(SimilarityMetric similarityMetric) {
+			Assert.notNull(similarityMetric, "SimilarityMetric must not be null");
+			this.similarityMetric = similarityMetric;
+			return this;
+		}
+
+		/**
+		 * Sets the engine computing the vector kernels. Defaults to
+		 * {@link SimpleVectorStoreScoringEngine#bestAvailable()}. The Java Vector API
+		 * engine only vectorizes heap storage; {@link VectorStorage#OFF_HEAP_SLAB} is
+		 * scanned with the scalar kernels.
+		 * @param scoringEngine the scoring engine
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder scoringEngine(SimpleVectorStoreScoringEngine scoringEngine) {
+			Assert.notNull(scoringEngine, "SimpleVectorStoreScoringEngine must not be null");
+			this.scoringEngine = scoringEngine;
+			return this;
+		}
+
+		/**
+		 * Sets the pool used to scan the vector slab in parallel segments. Requires
+		 * {@link VectorStorage#SLAB} or {@link VectorStorage#OFF_HEAP_SLAB}. By default
+		 * searches run on the calling thread.
+		 * @param searchPool the pool running the segment scans
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder searchPool(ForkJoinPool searchPool) {
+			Assert.notNull(searchPool, "ForkJoinPool must not be null");
+			this.searchPool = searchPool;
+			return this;
+		}
+
+		/**
+		 * Sets the number of vectors scanned by a single parallel search task. Stores
+		 * with fewer vectors are scanned on the calling thread. Defaults to
+		 * {@code 16384}.
+		 * @param searchSegmentSize the number of vectors per segment
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder searchSegmentSize(int searchSegmentSize) {
+			Assert.isTrue(searchSegmentSize > 0, "searchSegmentSize must be positive");
+			this.searchSegmentSize = searchSegmentSize;
+			return this;
+		}
+
+		/**
+		 * Sets how many candidates found on the compressed vectors of
+		 * {@link VectorStorage#SCALAR_QUANTIZED} or
+		 * {@link VectorStorage#PRODUCT_QUANTIZED} storage are re-ranked with full
+		 * precision for every requested result. Higher values improve recall at the cost
+		 * of latency. Defaults to {@code 4}.
+		 * @param rerankFactor the number of re-ranked candidates per result
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder rerankFactor(int rerankFactor) {
+			Assert.isTrue(rerankFactor > 0, "rerankFactor must be positive");
+			this.rerankFactor = rerankFactor;
+			return this;
+		}
+
+		/**
+		 * Sets the number of subspaces of {@link VectorStorage#PRODUCT_QUANTIZED}
+		 * storage, which is also the size in bytes of a compressed vector. Must divide
+		 * the embedding dimensions. Defaults to one subspace per eight dimensions.
+		 * @param subspaces the number of subspaces
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder productQuantizationSubspaces(int subspaces) {
+			Assert.isTrue(subspaces > 0, "subspaces must be positive");
+			this.productQuantizationSubspaces = subspaces;
+			return this;
+		}
+
+		/**
+		 * Declares inverted indexes on the given metadata keys. Filters comparing an
+		 * indexed key for equality ({@code ==}, {@code IN}) are answered from the index,
+		 * so filtered searches and deletes only score or scan the documents holding the
+		 * requested values, e.g. the documents of a single tenant.
+		 * @param keys the metadata keys to index
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder keywordMetadataIndex(String... keys) {
+			Assert.noNullElements(keys, "keys must not contain null elements");
+			this.keywordMetadataIndexes.addAll(List.of(keys));
+			return this;
+		}
+
+		/**
+		 * Declares sorted indexes on the given numeric or date metadata keys. In addition
+		 * to equality, filters with a lower bound ({@code >}, {@code >=}) are answered
+		 * from the index. Upper bounds also match documents without the key and are
+		 * evaluated by scanning, unless combined with another indexed condition.
+		 * @param keys the metadata keys to index
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder rangeMetadataIndex(String... keys) {
+			Assert.noNullElements(keys, "keys must not contain null elements");
+			this.rangeMetadataIndexes.addAll(List.of(keys));
+			return this;
+		}
+
+		/**
+		 * Persists the store incrementally into the given directory. Every add and delete
+		 * is appended to a write-ahead log before it is applied, and the log is
+		 * periodically compacted into a binary snapshot. Building a store with an
+		 * existing directory restores its content by loading the snapshot and replaying
+		 * the log.
+		 * @param directory the directory holding the snapshot and the log segments
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder writeAheadLog(Path directory) {
+			Assert.notNull(directory, "directory must not be null");
+			this.writeAheadLog = directory;
+			return this;
+		}
+
+		/**
+		 * Sets whether every append to the write-ahead log is forced to the storage
+		 * device before the change is applied. Disabling it trades the durability of the
+		 * latest changes on power loss for higher write throughput. Defaults to
+		 * {@code true}.
+		 * @param syncWriteAheadLog whether appends are synced to disk
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder syncWriteAheadLog(boolean syncWriteAheadLog) {
+			this.syncWriteAheadLog = syncWriteAheadLog;
+			return this;
+		}
+
+		/**
+		 * Sets the size in bytes of the write-ahead log segment that triggers a
+		 * background compaction into a snapshot. Defaults to 64 MB.
+		 * @param compactionThreshold the segment size triggering a compaction
+		 * @return the builder instance
+		 */
+		public SimpleVectorStoreBuilder compactionThreshold(long compactionThreshold) {
+			Assert.isTrue(compactionThreshold > 0, "compactionThreshold must be positive");
+			this.compactionThreshold = compactionThreshold;
+			return this;
+		}
+
 		@Override
 		public SimpleVectorStore build() {
+			Assert.isTrue(this.indexType == IndexType.EXACT || this.vectorStorage == VectorStorage.MAP,
+					"VectorStorage " + this.vectorStorage + " is only supported by the EXACT index");
+			Assert.isTrue(
+					this.searchPool == null || this.vectorStorage == VectorStorage.SLAB
+							|| this.vectorStorage == VectorStorage.OFF_HEAP_SLAB,
+					"Parallel search requires SLAB or OFF_HEAP_SLAB vector storage");
 			return new SimpleVectorStore(this);
 		}
 
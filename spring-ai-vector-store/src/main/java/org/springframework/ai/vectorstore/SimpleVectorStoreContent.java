@@ -36,7 +36,9 @@ import org.springframework.util.Assert;
 /**
  * An immutable {@link Content} implementation representing content, metadata, and its
  * embeddings. This class is thread-safe and all its fields are final and deeply
- * immutable. The embedding vector is required for all instances of this class.
+ * immutable. The embedding vector is required to create an instance; when the vectors are
+ * held by an index of the store, the store only keeps a {@link #withoutEmbedding() copy
+ * without the embedding} and reads the vector back from the index.
  */
 final class SimpleVectorStoreContent implements Content {
 
@@ -46,7 +48,9 @@ final class SimpleVectorStoreContent implements Content {
 
 	private final Map<String, Object> metadata;
 
-	private final float[] embedding;
+	private final float @Nullable [] embedding;
+
+	private final double magnitude;
 
 	/**
 	 * Creates a new instance with the given content, empty metadata, and embedding
@@ -106,6 +110,16 @@ final class SimpleVectorStoreContent implements Content {
 		this.text = text;
 		this.metadata = Map.copyOf(metadata);
 		this.embedding = Arrays.copyOf(embedding, embedding.length);
+		this.magnitude = Math.sqrt(SimpleVectorStore.EmbeddingMath.norm(this.embedding));
+	}
+
+	private SimpleVectorStoreContent(String id, String text, Map<String, Object> metadata, float @Nullable [] embedding,
+			double magnitude) {
+		this.id = id;
+		this.text = text;
+		this.metadata = metadata;
+		this.embedding = embedding;
+		this.magnitude = magnitude;
 	}
 
 	public String getId() {
@@ -127,7 +141,52 @@ final class SimpleVectorStoreContent implements Content {
 	 * @return a new array containing the embedding vector
 	 */
 	public float[] getEmbedding() {
-		return Arrays.copyOf(this.embedding, this.embedding.length);
+		float[] embedding = embedding();
+		return Arrays.copyOf(embedding, embedding.length);
+	}
+
+	/**
+	 * Returns the embedding vector without copying it. Callers must not modify the
+	 * returned array.
+	 * @return the embedding vector
+	 * @throws IllegalStateException if the embedding has been removed
+	 */
+	float[] embedding() {
+		Assert.state(this.embedding != null, "The embedding of this content is held by the index");
+		return this.embedding;
+	}
+
+	/**
+	 * Returns whether this content holds its embedding vector.
+	 * @return {@code false} if the embedding has been removed
+	 */
+	boolean hasEmbedding() {
+		return this.embedding != null;
+	}
+
+	/**
+	 * Returns a copy of this content without its embedding vector, keeping its magnitude.
+	 * @return the content without embedding
+	 */
+	SimpleVectorStoreContent withoutEmbedding() {
+		return new SimpleVectorStoreContent(this.id, this.text, this.metadata, null, this.magnitude);
+	}
+
+	/**
+	 * Returns a copy of this content holding the given embedding vector.
+	 * @param embedding the embedding vector, owned by the returned content
+	 * @return the content with embedding
+	 */
+	SimpleVectorStoreContent withEmbedding(float[] embedding) {
+		return new SimpleVectorStoreContent(this.id, this.text, this.metadata, embedding, this.magnitude);
+	}
+
+	/**
+	 * Returns the euclidean magnitude of the embedding, computed once on construction.
+	 * @return the embedding magnitude
+	 */
+	double magnitude() {
+		return this.magnitude;
 	}
 
 	public Document toDocument(Double score) {
@@ -19,9 +19,13 @@ package org.springframework.ai.vectorstore;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 
 import org.jspecify.annotations.Nullable;
 
@@ -31,7 +35,9 @@ import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
 /**
  * Internal helper used by {@link SimpleVectorStore} to evaluate a
  * {@link Filter.Expression} AST directly against a document metadata map, without
- * converting to an intermediate string representation (e.g. SpEL or SQL).
+ * converting to an intermediate string representation (e.g. SpEL or SQL). Expressions are
+ * {@link #compile(Filter.Expression) compiled} once into a predicate that is then applied
+ * to every document.
  *
  * <p>
  * Supports all {@link Filter.ExpressionType} operations:
@@ -74,52 +80,114 @@ final class SimpleVectorStoreFilterExpressionEvaluator {
 	 * @return {@code true} if the metadata satisfies the expression
 	 */
 	public boolean evaluate(Filter.Expression expression, Map<String, Object> metadata) {
-		return evaluateExpression(expression, metadata);
+		return compile(expression).test(metadata);
 	}
 
-	private boolean evaluateOperand(Filter.Operand operand, Map<String, Object> metadata) {
+	/**
+	 * Compiles the given filter expression into a reusable predicate over document
+	 * metadata. The expression tree is walked once: keys are unquoted, constant values
+	 * are converted (including the formatting of {@link Date} values) and the values of
+	 * {@code IN} and {@code NIN} expressions are collected into hash sets where their
+	 * types allow it. Evaluating the returned predicate only reads the metadata map.
+	 * @param expression the filter expression to compile; must not be {@code null}
+	 * @return the predicate matching the metadata that satisfies the expression
+	 * @throws IllegalArgumentException if the expression is malformed
+	 */
+	public Predicate<Map<String, Object>> compile(Filter.Expression expression) {
+		return compileExpression(expression);
+	}
+
+	private Predicate<Map<String, Object>> compileOperand(Filter.Operand operand) {
 		if (operand instanceof Filter.Group group) {
-			return evaluateOperand(group.content(), metadata);
+			return compileOperand(group.content());
 		}
 		if (operand instanceof Filter.Expression expression) {
-			return evaluateExpression(expression, metadata);
+			return compileExpression(expression);
 		}
 		// Filter.Key and Filter.Value are leaf operands consumed directly by
-		// metadataValue() and filterValue() inside evaluateExpression(). They are never
+		// metadataKey() and filterValue() inside compileExpression(). They are never
 		// passed here as top-level boolean operands, so this branch is unreachable under
 		// normal usage.
 		throw new IllegalArgumentException("Unsupported operand type: " + operand.getClass().getName());
 	}
 
-	private boolean evaluateExpression(Filter.Expression expression, Map<String, Object> metadata) {
+	private Predicate<Map<String, Object>> compileExpression(Filter.Expression expression) {
 		return switch (expression.type()) {
-			case AND -> evaluateOperand(left(expression), metadata) && evaluateOperand(right(expression), metadata);
-			case OR -> evaluateOperand(left(expression), metadata) || evaluateOperand(right(expression), metadata);
+			case AND -> compileOperand(left(expression)).and(compileOperand(right(expression)));
+			case OR -> compileOperand(left(expression)).or(compileOperand(right(expression)));
 			// Unary operator: only the left operand is used. Ignore right operand
-			case NOT -> !evaluateOperand(left(expression), metadata);
-			case EQ -> compare(metadataValue(left(expression), metadata), filterValue(right(expression))) == 0;
-			case NE -> compare(metadataValue(left(expression), metadata), filterValue(right(expression))) != 0;
-			case GT -> compare(metadataValue(left(expression), metadata), filterValue(right(expression))) > 0;
-			case GTE -> compare(metadataValue(left(expression), metadata), filterValue(right(expression))) >= 0;
-			case LT -> compare(metadataValue(left(expression), metadata), filterValue(right(expression))) < 0;
-			case LTE -> compare(metadataValue(left(expression), metadata), filterValue(right(expression))) <= 0;
-			case IN -> {
-				Object metaVal = metadataValue(left(expression), metadata);
-				List<?> list = asList(filterValue(right(expression)), expression);
-				yield list.stream().anyMatch(item -> compare(metaVal, item) == 0);
-			}
-			case NIN -> {
-				Object metaVal = metadataValue(left(expression), metadata);
-				List<?> list = asList(filterValue(right(expression)), expression);
-				yield list.stream().noneMatch(item -> compare(metaVal, item) == 0);
-			}
+			case NOT -> compileOperand(left(expression)).negate();
+			case EQ -> compileComparison(expression, result -> result == 0);
+			case NE -> compileComparison(expression, result -> result != 0);
+			case GT -> compileComparison(expression, result -> result > 0);
+			case GTE -> compileComparison(expression, result -> result >= 0);
+			case LT -> compileComparison(expression, result -> result < 0);
+			case LTE -> compileComparison(expression, result -> result <= 0);
+			case IN -> compileMembership(expression);
+			case NIN -> compileMembership(expression).negate();
 			// Unary operators: only the left operand (the key) is used.
 			// A non-null right operand is silently ignored here.
-			case ISNULL -> metadataValue(left(expression), metadata) == null;
-			case ISNOTNULL -> metadataValue(left(expression), metadata) != null;
+			case ISNULL -> {
+				String key = metadataKey(left(expression));
+				yield metadata -> metadata.get(key) == null;
+			}
+			case ISNOTNULL -> {
+				String key = metadataKey(left(expression));
+				yield metadata -> metadata.get(key) != null;
+			}
 		};
 	}
 
+	private Predicate<Map<String, Object>> compileComparison(Filter.Expression expression, IntPredicate outcome) {
+		String key = metadataKey(left(expression));
+		Object value = filterValue(right(expression));
+		if (value instanceof Number number) {
+			double constant = number.doubleValue();
+			return metadata -> {
+				Object metaVal = metadata.get(key);
+				return outcome.test((metaVal instanceof Number n) ? Double.compare(n.doubleValue(), constant)
+						: compare(metaVal, value));
+			};
+		}
+		return metadata -> outcome.test(compare(metadata.get(key), value));
+	}
+
+	/**
+	 * Compiles an {@code IN} expression. Lists holding only strings or only numbers are
+	 * turned into hash sets, numbers being promoted to {@code double} as in
+	 * {@link #compare(Object, Object)}. Metadata values of other types, and lists of
+	 * other or mixed types, are compared element by element.
+	 */
+	private Predicate<Map<String, Object>> compileMembership(Filter.Expression expression) {
+		String key = metadataKey(left(expression));
+		List<?> list = asList(filterValue(right(expression)), expression);
+		Predicate<@Nullable Object> linear = metaVal -> {
+			for (Object item : list) {
+				if (compare(metaVal, item) == 0) {
+					return true;
+				}
+			}
+			return false;
+		};
+		if (!list.isEmpty() && list.stream().allMatch(String.class::isInstance)) {
+			Set<Object> strings = new HashSet<>(list);
+			return metadata -> {
+				Object metaVal = metadata.get(key);
+				return (metaVal instanceof String) ? strings.contains(metaVal) : linear.test(metaVal);
+			};
+		}
+		if (!list.isEmpty() && list.stream().allMatch(Number.class::isInstance)) {
+			Set<Double> numbers = new HashSet<>();
+			list.forEach(item -> numbers.add(((Number) item).doubleValue()));
+			return metadata -> {
+				Object metaVal = metadata.get(key);
+				return (metaVal instanceof Number number) ? numbers.contains(number.doubleValue())
+						: linear.test(metaVal);
+			};
+		}
+		return metadata -> linear.test(metadata.get(key));
+	}
+
 	private Filter.Operand left(Filter.Expression expression) {
 		Filter.Operand left = expression.left();
 		if (left == null) {
@@ -139,18 +207,18 @@ final class SimpleVectorStoreFilterExpressionEvaluator {
 	}
 
 	/**
-	 * Extracts the metadata value for the given {@link Filter.Key} operand. Outer quotes
+	 * Extracts the metadata key of the given {@link Filter.Key} operand. Outer quotes
 	 * ({@code "..."} or {@code '...'}) are stripped from the key name to match the format
 	 * used by {@link FilterExpressionBuilder} and the text parser.
 	 */
-	private @Nullable Object metadataValue(Filter.Operand operand, Map<String, Object> metadata) {
+	static String metadataKey(Filter.Operand operand) {
 		if (operand instanceof Filter.Key key) {
 			String k = key.key();
 			if (k.length() >= 2
 					&& ((k.startsWith("\"") && k.endsWith("\"")) || (k.startsWith("'") && k.endsWith("'")))) {
 				k = k.substring(1, k.length() - 1);
 			}
-			return metadata.get(k);
+			return k;
 		}
 		throw new IllegalArgumentException("Expected a Key operand but got: " + operand.getClass().getName());
 	}
@@ -160,7 +228,7 @@ final class SimpleVectorStoreFilterExpressionEvaluator {
 	 * instances are formatted to their ISO-8601 UTC string so they can be compared
 	 * directly with metadata strings stored in the same format.
 	 */
-	private Object filterValue(Filter.Operand operand) {
+	static Object filterValue(Filter.Operand operand) {
 		if (operand instanceof Filter.Value filterValue) {
 			Object value = filterValue.value();
 			return (value instanceof Date date) ? DATE_FORMATTER.format(date.toInstant()) : value;
@@ -0,0 +1,430 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Internal, in-process Hierarchical Navigable Small World (HNSW) graph used by
+ * {@link SimpleVectorStore} to answer similarity searches in sub-linear time.
+ *
+ * <p>
+ * Nodes are addressed by a dense ordinal and scored with the store's
+ * {@link SimpleVectorStoreScorer}, using a magnitude pre-computed once per vector.
+ * Deletions only mark a node as a tombstone: the node keeps its links so that searches
+ * and insertions can still route through it, but it is never returned as a match. Once
+ * tombstones outnumber live nodes the graph is rebuilt from the live nodes.
+ *
+ * <p>
+ * All mutations happen under a write lock while searches share a read lock, so the index
+ * is safe to use from concurrent {@code add}, {@code delete} and {@code similaritySearch}
+ * calls.
+ *
+ * @see <a href="https://arxiv.org/abs/1603.09320">Efficient and robust approximate
+ * nearest neighbor search using Hierarchical Navigable Small World graphs</a>
+ */
+final class SimpleVectorStoreHnswIndex implements SimpleVectorStoreIndex {
+
+	private static final int MIN_TOMBSTONES_BEFORE_REBUILD = 64;
+
+	private static final Comparator<ScoredNode> BY_SCORE = Comparator.comparingDouble(ScoredNode::score);
+
+	private final int m;
+
+	private final int maxM0;
+
+	private final int efConstruction;
+
+	private final int efSearch;
+
+	private final double levelMultiplier;
+
+	private final SplittableRandom random;
+
+	private final SimpleVectorStoreScorer scorer;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private List<Node> nodes = new ArrayList<>();
+
+	private Map<String, Integer> ordinals = new HashMap<>();
+
+	private int entryPoint = -1;
+
+	private int maxLevel = -1;
+
+	private int tombstones;
+
+	/**
+	 * Creates a new, empty index.
+	 * @param m the number of bi-directional links created for every new node on each
+	 * layer above the ground layer. The ground layer allows {@code 2 * m} links.
+	 * @param efConstruction the size of the dynamic candidate list used while inserting
+	 * @param efSearch the default size of the dynamic candidate list used while searching
+	 * @param seed the seed of the random generator used to assign node levels
+	 * @param scorer the scorer used to compare vectors
+	 */
+	SimpleVectorStoreHnswIndex(int m, int efConstruction, int efSearch, long seed, SimpleVectorStoreScorer scorer) {
+		Assert.isTrue(m >= 2, "M must be greater than or equal to 2");
+		Assert.isTrue(efConstruction > 0, "efConstruction must be positive");
+		Assert.isTrue(efSearch > 0, "efSearch must be positive");
+		this.m = m;
+		this.maxM0 = 2 * m;
+		this.efConstruction = efConstruction;
+		this.efSearch = efSearch;
+		this.levelMultiplier = 1.0 / Math.log(m);
+		this.random = new SplittableRandom(seed);
+		this.scorer = scorer;
+	}
+
+	@Override
+	public void add(String id, float[] vector) {
+		Assert.hasText(id, "id must not be null or empty");
+		Assert.notNull(vector, "vector must not be null");
+		this.lock.writeLock().lock();
+		try {
+			removeInternal(id);
+			insert(id, vector);
+			rebuildIfNeeded();
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Marks the vector with the given id as deleted. Unknown ids are ignored.
+	 * @param id the document id
+	 */
+	@Override
+	public void remove(String id) {
+		this.lock.writeLock().lock();
+		try {
+			removeInternal(id);
+			rebuildIfNeeded();
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.ordinals.size();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Searches the graph for the vectors most similar to the query. Nodes rejected by the
+	 * filter are still traversed so that the search can route through them.
+	 */
+	@Override
+	public List<ScoredId> search(float[] query, int topK, double similarityThreshold,
+			@Nullable Predicate<String> filter) {
+		this.lock.readLock().lock();
+		try {
+			if (this.entryPoint < 0 || topK <= 0) {
+				return List.of();
+			}
+			double queryMagnitude = this.scorer.magnitude(query);
+			int current = this.entryPoint;
+			for (int level = this.maxLevel; level > 0; level--) {
+				current = greedyClosest(query, queryMagnitude, current, level);
+			}
+			Predicate<Node> accept = (filter != null) ? node -> !node.deleted && filter.test(node.id)
+					: node -> !node.deleted;
+			PriorityQueue<ScoredNode> results = searchLayer(query, queryMagnitude, current,
+					Math.max(this.efSearch, topK), 0, accept);
+
+			List<ScoredNode> sorted = new ArrayList<>(results);
+			sorted.sort(BY_SCORE.reversed());
+			List<ScoredId> matches = new ArrayList<>(Math.min(topK, sorted.size()));
+			for (int i = 0; i < sorted.size() && i < topK; i++) {
+				ScoredNode scored = sorted.get(i);
+				if (scored.score() < similarityThreshold) {
+					break;
+				}
+				matches.add(new ScoredId(this.nodes.get(scored.node()).id, scored.score()));
+			}
+			return matches;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private void insert(String id, float[] vector) {
+		int ordinal = this.nodes.size();
+		int level = randomLevel();
+		Node node = new Node(id, vector.clone(), this.scorer.magnitude(vector), level, this.m, this.maxM0);
+		this.nodes.add(node);
+		this.ordinals.put(id, ordinal);
+
+		if (this.entryPoint < 0) {
+			this.entryPoint = ordinal;
+			this.maxLevel = level;
+			return;
+		}
+
+		int current = this.entryPoint;
+		for (int l = this.maxLevel; l > level; l--) {
+			current = greedyClosest(node.vector, node.magnitude, current, l);
+		}
+
+		for (int l = Math.min(level, this.maxLevel); l >= 0; l--) {
+			PriorityQueue<ScoredNode> candidates = searchLayer(node.vector, node.magnitude, current,
+					this.efConstruction, l, candidate -> true);
+			List<ScoredNode> sorted = new ArrayList<>(candidates);
+			sorted.sort(BY_SCORE.reversed());
+			List<ScoredNode> selected = selectNeighbors(sorted, this.m);
+			for (ScoredNode neighbor : selected) {
+				node.link(l, neighbor.node());
+				connect(neighbor.node(), ordinal, l);
+			}
+			if (!sorted.isEmpty()) {
+				current = sorted.get(0).node();
+			}
+		}
+
+		if (level > this.maxLevel) {
+			this.maxLevel = level;
+			this.entryPoint = ordinal;
+		}
+	}
+
+	private void connect(int from, int to, int level) {
+		Node node = this.nodes.get(from);
+		int maxLinks = (level == 0) ? this.maxM0 : this.m;
+		if (node.neighborCount(level) < maxLinks) {
+			node.link(level, to);
+			return;
+		}
+		List<ScoredNode> candidates = new ArrayList<>(maxLinks + 1);
+		candidates.add(new ScoredNode(to, similarity(node, this.nodes.get(to))));
+		int[] links = node.neighbors[level];
+		for (int i = 0; i < node.neighborCount(level); i++) {
+			candidates.add(new ScoredNode(links[i], similarity(node, this.nodes.get(links[i]))));
+		}
+		candidates.sort(BY_SCORE.reversed());
+		List<ScoredNode> selected = selectNeighbors(candidates, maxLinks);
+		node.clearLinks(level);
+		for (ScoredNode neighbor : selected) {
+			node.link(level, neighbor.node());
+		}
+	}
+
+	/**
+	 * Neighbour selection heuristic from the HNSW paper: a candidate is kept only if it
+	 * is closer to the base node than to any already selected neighbour, which favours
+	 * links that spread in different directions. Discarded candidates back-fill the list
+	 * up to {@code maxLinks} so that sparse regions keep enough connectivity.
+	 */
+	private List<ScoredNode> selectNeighbors(List<ScoredNode> candidatesByScoreDesc, int maxLinks) {
+		List<ScoredNode> selected = new ArrayList<>(maxLinks);
+		List<ScoredNode> discarded = new ArrayList<>();
+		for (ScoredNode candidate : candidatesByScoreDesc) {
+			if (selected.size() >= maxLinks) {
+				break;
+			}
+			Node candidateNode = this.nodes.get(candidate.node());
+			boolean diverse = true;
+			for (ScoredNode chosen : selected) {
+				if (similarity(candidateNode, this.nodes.get(chosen.node())) > candidate.score()) {
+					diverse = false;
+					break;
+				}
+			}
+			if (diverse) {
+				selected.add(candidate);
+			}
+			else {
+				discarded.add(candidate);
+			}
+		}
+		for (int i = 0; i < discarded.size() && selected.size() < maxLinks; i++) {
+			selected.add(discarded.get(i));
+		}
+		return selected;
+	}
+
+	private int greedyClosest(float[] query, double queryMagnitude, int start, int level) {
+		int current = start;
+		double currentScore = similarity(query, queryMagnitude, this.nodes.get(current));
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			Node node = this.nodes.get(current);
+			int[] links = node.neighbors[level];
+			for (int i = 0; i < node.neighborCount(level); i++) {
+				double score = similarity(query, queryMagnitude, this.nodes.get(links[i]));
+				if (score > currentScore) {
+					currentScore = score;
+					current = links[i];
+					changed = true;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Best-first search restricted to a single layer. Returns a min-heap holding up to
+	 * {@code ef} accepted nodes; rejected nodes are still expanded so that the search can
+	 * route through them.
+	 */
+	private PriorityQueue<ScoredNode> searchLayer(float[] query, double queryMagnitude, int start, int ef, int level,
+			Predicate<Node> accept) {
+		BitSet visited = new BitSet(this.nodes.size());
+		PriorityQueue<ScoredNode> candidates = new PriorityQueue<>(BY_SCORE.reversed());
+		PriorityQueue<ScoredNode> results = new PriorityQueue<>(BY_SCORE);
+
+		Node startNode = this.nodes.get(start);
+		ScoredNode first = new ScoredNode(start, similarity(query, queryMagnitude, startNode));
+		visited.set(start);
+		candidates.add(first);
+		if (accept.test(startNode)) {
+			results.add(first);
+		}
+
+		while (!candidates.isEmpty()) {
+			ScoredNode candidate = candidates.poll();
+			if (results.size() >= ef && candidate.score() < results.peek().score()) {
+				break;
+			}
+			Node node = this.nodes.get(candidate.node());
+			int[] links = node.neighbors[level];
+			for (int i = 0; i < node.neighborCount(level); i++) {
+				int neighbor = links[i];
+				if (visited.get(neighbor)) {
+					continue;
+				}
+				visited.set(neighbor);
+				Node neighborNode = this.nodes.get(neighbor);
+				double score = similarity(query, queryMagnitude, neighborNode);
+				if (results.size() < ef || score > results.peek().score()) {
+					ScoredNode scored = new ScoredNode(neighbor, score);
+					candidates.add(scored);
+					if (accept.test(neighborNode)) {
+						results.add(scored);
+						if (results.size() > ef) {
+							results.poll();
+						}
+					}
+				}
+			}
+		}
+		return results;
+	}
+
+	private void removeInternal(String id) {
+		Integer ordinal = this.ordinals.remove(id);
+		if (ordinal != null) {
+			this.nodes.get(ordinal).deleted = true;
+			this.tombstones++;
+		}
+	}
+
+	private void rebuildIfNeeded() {
+		if (this.tombstones < MIN_TOMBSTONES_BEFORE_REBUILD || this.tombstones <= this.ordinals.size()) {
+			return;
+		}
+		List<Node> live = this.nodes.stream().filter(node -> !node.deleted).toList();
+		this.nodes = new ArrayList<>(live.size());
+		this.ordinals = new HashMap<>();
+		this.entryPoint = -1;
+		this.maxLevel = -1;
+		this.tombstones = 0;
+		for (Node node : live) {
+			insert(node.id, node.vector);
+		}
+	}
+
+	private int randomLevel() {
+		double uniform = 1.0 - this.random.nextDouble();
+		return (int) (-Math.log(uniform) * this.levelMultiplier);
+	}
+
+	private double similarity(Node a, Node b) {
+		return this.scorer.score(a.vector, a.magnitude, b.vector, b.magnitude);
+	}
+
+	private double similarity(float[] query, double queryMagnitude, Node node) {
+		return this.scorer.score(query, queryMagnitude, node.vector, node.magnitude);
+	}
+
+	private record ScoredNode(int node, double score) {
+
+	}
+
+	private static final class Node {
+
+		private final String id;
+
+		private final float[] vector;
+
+		private final double magnitude;
+
+		private final int[][] neighbors;
+
+		private final int[] neighborCounts;
+
+		private volatile boolean deleted;
+
+		Node(String id, float[] vector, double magnitude, int level, int m, int maxM0) {
+			this.id = id;
+			this.vector = vector;
+			this.magnitude = magnitude;
+			this.neighbors = new int[level + 1][];
+			this.neighborCounts = new int[level + 1];
+			for (int l = 0; l <= level; l++) {
+				this.neighbors[l] = new int[(l == 0) ? maxM0 : m];
+			}
+		}
+
+		int neighborCount(int level) {
+			return (level < this.neighborCounts.length) ? this.neighborCounts[level] : 0;
+		}
+
+		void link(int level, int neighbor) {
+			this.neighbors[level][this.neighborCounts[level]++] = neighbor;
+		}
+
+		void clearLinks(int level) {
+			this.neighborCounts[level] = 0;
+		}
+
+	}
+
+}
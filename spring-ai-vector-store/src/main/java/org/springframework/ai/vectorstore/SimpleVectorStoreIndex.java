@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Internal contract for the search structures that {@link SimpleVectorStore} can keep
+ * next to its document map. An index only knows about document ids and their vectors;
+ * text and metadata stay in the store.
+ */
+interface SimpleVectorStoreIndex {
+
+	/**
+	 * Adds a vector to the index, replacing any vector previously stored for the id.
+	 * @param id the document id
+	 * @param vector the embedding vector
+	 */
+	void add(String id, float[] vector);
+
+	/**
+	 * Removes the vector with the given id. Unknown ids are ignored.
+	 * @param id the document id
+	 */
+	void remove(String id);
+
+	/**
+	 * Returns a copy of the vector stored for the given id, for indexes that hold the
+	 * only copy of the vectors.
+	 * @param id the document id
+	 * @return the vector, or {@code null} if the id is unknown or the index does not keep
+	 * readable vectors
+	 */
+	default float @Nullable [] vector(String id) {
+		return null;
+	}
+
+	/**
+	 * Returns the number of vectors that can be returned by {@link #search}.
+	 * @return the live vector count
+	 */
+	int size();
+
+	/**
+	 * Searches the vectors most similar to the query.
+	 * @param query the query vector
+	 * @param topK the maximum number of results
+	 * @param similarityThreshold the minimum similarity of a returned match
+	 * @param filter optional predicate on document ids; only matching ids are returned
+	 * @return the matches ordered by descending similarity
+	 */
+	List<ScoredId> search(float[] query, int topK, double similarityThreshold, @Nullable Predicate<String> filter);
+
+	/**
+	 * A document id together with its similarity to the query.
+	 *
+	 * @param id the document id
+	 * @param score the similarity score
+	 */
+	record ScoredId(String id, double score) {
+
+	}
+
+}
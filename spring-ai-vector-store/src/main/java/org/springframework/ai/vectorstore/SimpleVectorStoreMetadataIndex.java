@@ -0,0 +1,300 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+
+/**
+ * Internal secondary indexes over the metadata of the documents of a
+ * {@link SimpleVectorStore}, used to narrow filtered searches and deletes down to the
+ * documents that can match the filter before any vector is scored.
+ *
+ * <p>
+ * Keyword indexes map every value of a metadata key to the ids of the documents holding
+ * it and answer {@code EQ} and {@code IN}. Range indexes keep the values sorted, numbers
+ * and strings (such as the ISO-8601 form of dates) separately, and additionally answer
+ * {@code GT} and {@code GTE}. Numbers are promoted to {@code double}, as in
+ * {@link SimpleVectorStoreFilterExpressionEvaluator}.
+ *
+ * <p>
+ * {@link #candidates(Filter.Expression)} plans a filter: {@code AND} intersects the
+ * candidates of its operands and {@code OR} unions them. Expressions that cannot be
+ * answered from an index, including {@code LT} and {@code LTE} which match documents
+ * without the key, widen the result to "every document". Candidates are a superset of the
+ * matching documents, so the filter must still be applied to them.
+ */
+final class SimpleVectorStoreMetadataIndex {
+
+	private final Map<String, KeyIndex> indexes = new HashMap<>();
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * Creates the indexes for the given metadata keys.
+	 * @param keywordKeys the keys answering equality and membership filters
+	 * @param rangeKeys the keys additionally answering range filters
+	 */
+	SimpleVectorStoreMetadataIndex(Set<String> keywordKeys, Set<String> rangeKeys) {
+		keywordKeys.forEach(key -> this.indexes.put(key, new KeyIndex(false)));
+		rangeKeys.forEach(key -> this.indexes.put(key, new KeyIndex(true)));
+	}
+
+	boolean isEmpty() {
+		return this.indexes.isEmpty();
+	}
+
+	void add(String id, Map<String, Object> metadata) {
+		this.lock.writeLock().lock();
+		try {
+			this.indexes.forEach((key, index) -> index.add(id, metadata.get(key)));
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	void remove(String id, Map<String, Object> metadata) {
+		this.lock.writeLock().lock();
+		try {
+			this.indexes.forEach((key, index) -> index.remove(id, metadata.get(key)));
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	void clear() {
+		this.lock.writeLock().lock();
+		try {
+			this.indexes.values().forEach(KeyIndex::clear);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the ids of the documents that may match the given filter.
+	 * @param expression the filter expression
+	 * @return a superset of the ids of the matching documents, or {@code null} if the
+	 * filter cannot be narrowed with the available indexes
+	 */
+	@Nullable Set<String> candidates(Filter.Expression expression) {
+		if (this.indexes.isEmpty()) {
+			return null;
+		}
+		this.lock.readLock().lock();
+		try {
+			return plan(expression);
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private @Nullable Set<String> plan(Filter.Operand operand) {
+		if (operand instanceof Filter.Group group) {
+			return plan(group.content());
+		}
+		if (!(operand instanceof Filter.Expression expression) || expression.left() == null) {
+			return null;
+		}
+		Filter.Operand left = expression.left();
+		Filter.Operand right = expression.right();
+		return switch (expression.type()) {
+			case AND -> {
+				Set<String> leftCandidates = plan(left);
+				Set<String> rightCandidates = (right != null) ? plan(right) : null;
+				if (leftCandidates == null || rightCandidates == null) {
+					yield (leftCandidates != null) ? leftCandidates : rightCandidates;
+				}
+				Set<String> smaller = (leftCandidates.size() <= rightCandidates.size()) ? leftCandidates
+						: rightCandidates;
+				Set<String> larger = (smaller == leftCandidates) ? rightCandidates : leftCandidates;
+				Set<String> intersection = new HashSet<>(smaller);
+				intersection.retainAll(larger);
+				yield intersection;
+			}
+			case OR -> {
+				Set<String> leftCandidates = plan(left);
+				Set<String> rightCandidates = (leftCandidates != null && right != null) ? plan(right) : null;
+				if (leftCandidates == null || rightCandidates == null) {
+					yield null;
+				}
+				Set<String> union = new HashSet<>(leftCandidates);
+				union.addAll(rightCandidates);
+				yield union;
+			}
+			case EQ, GT, GTE -> {
+				KeyIndex index = index(left);
+				yield (index != null && right != null)
+						? index.lookup(expression.type(), SimpleVectorStoreFilterExpressionEvaluator.filterValue(right))
+						: null;
+			}
+			case IN -> {
+				KeyIndex index = index(left);
+				if (index == null || right == null
+						|| !(SimpleVectorStoreFilterExpressionEvaluator.filterValue(right) instanceof List<?> values)) {
+					yield null;
+				}
+				Set<String> union = new HashSet<>();
+				for (Object value : values) {
+					Set<String> ids = index.lookup(Filter.ExpressionType.EQ, value);
+					if (ids == null) {
+						yield null;
+					}
+					union.addAll(ids);
+				}
+				yield union;
+			}
+			default -> null;
+		};
+	}
+
+	private @Nullable KeyIndex index(Filter.Operand operand) {
+		if (!(operand instanceof Filter.Key)) {
+			return null;
+		}
+		KeyIndex index = this.indexes.get(SimpleVectorStoreFilterExpressionEvaluator.metadataKey(operand));
+		return (index != null && index.unindexed == 0) ? index : null;
+	}
+
+	private static @Nullable Object normalize(@Nullable Object value) {
+		return (value instanceof Number number) ? (Object) number.doubleValue() : value;
+	}
+
+	/**
+	 * The index of a single metadata key.
+	 */
+	private static final class KeyIndex {
+
+		private final boolean range;
+
+		private final Map<Object, Set<String>> values = new HashMap<>();
+
+		private final NavigableMap<Double, Set<String>> numbers = new TreeMap<>();
+
+		private final NavigableMap<String, Set<String>> strings = new TreeMap<>();
+
+		/**
+		 * Number of documents whose value cannot be indexed. The index is not used for
+		 * planning while it is non-zero.
+		 */
+		private int unindexed;
+
+		KeyIndex(boolean range) {
+			this.range = range;
+		}
+
+		void add(String id, @Nullable Object value) {
+			Object normalized = normalize(value);
+			if (normalized == null) {
+				return;
+			}
+			if (!indexable(normalized)) {
+				this.unindexed++;
+				return;
+			}
+			this.values.computeIfAbsent(normalized, v -> new HashSet<>()).add(id);
+			if (this.range && normalized instanceof Double number) {
+				this.numbers.computeIfAbsent(number, v -> new HashSet<>()).add(id);
+			}
+			else if (this.range && normalized instanceof String string) {
+				this.strings.computeIfAbsent(string, v -> new HashSet<>()).add(id);
+			}
+		}
+
+		void remove(String id, @Nullable Object value) {
+			Object normalized = normalize(value);
+			if (normalized == null) {
+				return;
+			}
+			if (!indexable(normalized)) {
+				this.unindexed--;
+				return;
+			}
+			removeFrom(this.values, normalized, id);
+			if (this.range && normalized instanceof Double number) {
+				removeFrom(this.numbers, number, id);
+			}
+			else if (this.range && normalized instanceof String string) {
+				removeFrom(this.strings, string, id);
+			}
+		}
+
+		void clear() {
+			this.values.clear();
+			this.numbers.clear();
+			this.strings.clear();
+			this.unindexed = 0;
+		}
+
+		@Nullable Set<String> lookup(Filter.ExpressionType type, @Nullable Object constant) {
+			Object normalized = normalize(constant);
+			if (normalized == null) {
+				return null;
+			}
+			if (type == Filter.ExpressionType.EQ) {
+				return new HashSet<>(this.values.getOrDefault(normalized, Set.of()));
+			}
+			if (!this.range) {
+				return null;
+			}
+			boolean inclusive = (type == Filter.ExpressionType.GTE);
+			if (normalized instanceof Double number) {
+				return union(this.numbers.tailMap(number, inclusive));
+			}
+			if (normalized instanceof String string) {
+				return union(this.strings.tailMap(string, inclusive));
+			}
+			return null;
+		}
+
+		private static boolean indexable(Object value) {
+			return value instanceof Double || value instanceof String || value instanceof Boolean;
+		}
+
+		private static Set<String> union(Map<?, Set<String>> entries) {
+			Set<String> ids = new HashSet<>();
+			entries.values().forEach(ids::addAll);
+			return ids;
+		}
+
+		private static <K> void removeFrom(Map<K, Set<String>> map, K key, String id) {
+			Set<String> ids = map.get(key);
+			if (ids != null) {
+				ids.remove(id);
+				if (ids.isEmpty()) {
+					map.remove(key);
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.util.Assert;
+
+/**
+ * Product quantizer. Vectors are split into equally sized sub-vectors, and every
+ * sub-vector is replaced by the one byte index of its nearest centroid in a codebook of
+ * up to 256 centroids learned with k-means. With the default of one subspace per eight
+ * dimensions a float32 vector is compressed 32x.
+ *
+ * <p>
+ * Dot products are estimated with asymmetric distance computation: the dot products
+ * between the sub-vectors of the query and every centroid are tabulated once per query,
+ * so estimating a stored vector only sums one table entry per subspace.
+ */
+final class SimpleVectorStoreProductQuantizer implements SimpleVectorStoreQuantizer {
+
+	private static final int MAX_CENTROIDS = 256;
+
+	private static final int TRAINING_ITERATIONS = 10;
+
+	private final int dimensions;
+
+	private final int subspaces;
+
+	private final int subDimensions;
+
+	private final long seed;
+
+	private int centroids;
+
+	/**
+	 * Centroids of all codebooks, indexed by
+	 * {@code (subspace * centroids + centroid) * subDimensions}.
+	 */
+	private float[] codebooks = new float[0];
+
+	/**
+	 * Creates a new, untrained quantizer.
+	 * @param dimensions the dimensions of the encoded vectors
+	 * @param subspaces the number of sub-vectors, or {@code 0} to use one subspace per
+	 * eight dimensions
+	 * @param seed the seed of the codebook initialization
+	 */
+	SimpleVectorStoreProductQuantizer(int dimensions, int subspaces, long seed) {
+		int resolved = (subspaces > 0) ? subspaces : defaultSubspaces(dimensions);
+		Assert.isTrue(dimensions % resolved == 0, "Product quantization subspaces (" + resolved
+				+ ") must divide the embedding dimensions (" + dimensions + ")");
+		this.dimensions = dimensions;
+		this.subspaces = resolved;
+		this.subDimensions = dimensions / resolved;
+		this.seed = seed;
+	}
+
+	private static int defaultSubspaces(int dimensions) {
+		for (int subspaces = Math.max(1, dimensions / 8); subspaces > 1; subspaces--) {
+			if (dimensions % subspaces == 0) {
+				return subspaces;
+			}
+		}
+		return 1;
+	}
+
+	@Override
+	public boolean isTrained() {
+		return this.centroids > 0;
+	}
+
+	@Override
+	public void train(List<float[]> sample) {
+		Assert.notEmpty(sample, "The training sample must not be empty");
+		int k = Math.min(MAX_CENTROIDS, sample.size());
+		float[] codebooks = new float[this.subspaces * k * this.subDimensions];
+		List<float[]> seeds = new ArrayList<>(sample);
+		Collections.shuffle(seeds, new Random(this.seed));
+		for (int subspace = 0; subspace < this.subspaces; subspace++) {
+			int from = subspace * this.subDimensions;
+			int base = subspace * k * this.subDimensions;
+			for (int c = 0; c < k; c++) {
+				System.arraycopy(seeds.get(c), from, codebooks, base + c * this.subDimensions, this.subDimensions);
+			}
+			trainSubspace(sample, from, codebooks, base, k);
+		}
+		this.codebooks = codebooks;
+		this.centroids = k;
+	}
+
+	/**
+	 * Runs Lloyd iterations for the codebook of a single subspace. Centroids left without
+	 * members keep their previous position.
+	 */
+	private void trainSubspace(List<float[]> sample, int from, float[] codebooks, int base, int k) {
+		double[] sums = new double[k * this.subDimensions];
+		int[] counts = new int[k];
+		for (int iteration = 0; iteration < TRAINING_ITERATIONS; iteration++) {
+			Arrays.fill(sums, 0.0);
+			Arrays.fill(counts, 0);
+			for (float[] vector : sample) {
+				int nearest = nearest(vector, from, codebooks, base, k);
+				counts[nearest]++;
+				for (int d = 0; d < this.subDimensions; d++) {
+					sums[nearest * this.subDimensions + d] += vector[from + d];
+				}
+			}
+			for (int c = 0; c < k; c++) {
+				if (counts[c] > 0) {
+					for (int d = 0; d < this.subDimensions; d++) {
+						codebooks[base + c * this.subDimensions
+								+ d] = (float) (sums[c * this.subDimensions + d] / counts[c]);
+					}
+				}
+			}
+		}
+	}
+
+	private int nearest(float[] vector, int from, float[] codebooks, int base, int k) {
+		int nearest = 0;
+		float nearestDistance = Float.MAX_VALUE;
+		for (int c = 0; c < k; c++) {
+			int centroid = base + c * this.subDimensions;
+			float distance = 0f;
+			for (int d = 0; d < this.subDimensions; d++) {
+				float diff = vector[from + d] - codebooks[centroid + d];
+				distance += diff * diff;
+			}
+			if (distance < nearestDistance) {
+				nearestDistance = distance;
+				nearest = c;
+			}
+		}
+		return nearest;
+	}
+
+	@Override
+	public int codeSize() {
+		return this.subspaces;
+	}
+
+	@Override
+	public void encode(float[] vector, byte[] codes, int offset) {
+		Assert.state(isTrained(), "The product quantizer has not been trained");
+		for (int subspace = 0; subspace < this.subspaces; subspace++) {
+			codes[offset + subspace] = (byte) nearest(vector, subspace * this.subDimensions, this.codebooks,
+					subspace * this.centroids * this.subDimensions, this.centroids);
+		}
+	}
+
+	@Override
+	public DotProductEstimator estimator(float[] query) {
+		Assert.isTrue(query.length == this.dimensions, "Vectors lengths must be equal");
+		int k = this.centroids;
+		float[] table = new float[this.subspaces * k];
+		for (int subspace = 0; subspace < this.subspaces; subspace++) {
+			int from = subspace * this.subDimensions;
+			for (int c = 0; c < k; c++) {
+				int centroid = (subspace * k + c) * this.subDimensions;
+				float dot = 0f;
+				for (int d = 0; d < this.subDimensions; d++) {
+					dot += query[from + d] * this.codebooks[centroid + d];
+				}
+				table[subspace * k + c] = dot;
+			}
+		}
+		int subspaces = this.subspaces;
+		return (codes, offset) -> {
+			float dot = 0f;
+			for (int subspace = 0; subspace < subspaces; subspace++) {
+				dot += table[subspace * k + (codes[offset + subspace] & 0xFF)];
+			}
+			return dot;
+		};
+	}
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Internal exact index that keeps a compressed code of every vector of a
+ * {@link SimpleVectorStore}, produced by a {@link SimpleVectorStoreQuantizer}.
+ *
+ * <p>
+ * A search scans the codes, estimating the similarity of every vector without decoding
+ * it, and keeps the best {@code topK * rerankFactor} candidates. The candidates are then
+ * re-ranked against their full precision vectors, so the returned scores are exact and
+ * the similarity threshold applies to them.
+ *
+ * <p>
+ * The full precision vectors are kept in
+ * {@link SimpleVectorStoreVectorBlocks#memoryMapped memory-mapped files} addressed by the
+ * same slots as the codes, so that only the codes have to stay in memory: the operating
+ * system pages the vectors in when candidates are re-ranked and can drop them again under
+ * memory pressure. They are the only copy of the vectors: the store does not keep the
+ * embeddings of its documents in this mode and reads them back through
+ * {@link #vector(String)}.
+ *
+ * <p>
+ * Quantizers that learn their parameters from the data are trained once
+ * {@value #TRAINING_SIZE} vectors have been added. Until then, the full precision vectors
+ * are scanned exactly.
+ */
+final class SimpleVectorStoreQuantizedIndex implements SimpleVectorStoreIndex {
+
+	static final int TRAINING_SIZE = 1024;
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final IntFunction<SimpleVectorStoreQuantizer> quantizerFactory;
+
+	private final SimpleVectorStoreScorer scorer;
+
+	private final int rerankFactor;
+
+	private final SimpleVectorStoreVectorBlocks vectors = SimpleVectorStoreVectorBlocks
+		.memoryMapped(SimpleVectorStoreVectorBlocks.DEFAULT_BLOCK_BYTES);
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, Integer> slots = new HashMap<>();
+
+	private @Nullable SimpleVectorStoreQuantizer quantizer;
+
+	private byte[] codes = new byte[0];
+
+	private double[] magnitudes = new double[0];
+
+	private double[] norms = new double[0];
+
+	private @Nullable String[] ids = new String[0];
+
+	private int size;
+
+	/**
+	 * Creates a new, empty index.
+	 * @param quantizerFactory creates the quantizer for the dimensions of the first added
+	 * vector
+	 * @param scorer the scorer used to compare vectors
+	 * @param rerankFactor the number of candidates re-ranked per requested result
+	 */
+	SimpleVectorStoreQuantizedIndex(IntFunction<SimpleVectorStoreQuantizer> quantizerFactory,
+			SimpleVectorStoreScorer scorer, int rerankFactor) {
+		Assert.notNull(quantizerFactory, "quantizerFactory must not be null");
+		Assert.notNull(scorer, "SimpleVectorStoreScorer must not be null");
+		Assert.isTrue(rerankFactor > 0, "rerankFactor must be positive");
+		this.quantizerFactory = quantizerFactory;
+		this.scorer = scorer;
+		this.rerankFactor = rerankFactor;
+	}
+
+	@Override
+	public void add(String id, float[] vector) {
+		Assert.hasText(id, "id must not be null or empty");
+		Assert.notNull(vector, "vector must not be null");
+		double magnitude = this.scorer.magnitude(vector);
+		double norm = Math.sqrt(this.scorer.engine().dotProduct(vector, vector));
+		this.lock.writeLock().lock();
+		try {
+			this.vectors.checkDimensions(vector.length);
+			SimpleVectorStoreQuantizer quantizer = this.quantizer;
+			if (quantizer == null) {
+				quantizer = this.quantizerFactory.apply(vector.length);
+				this.quantizer = quantizer;
+			}
+			Integer slot = this.slots.get(id);
+			if (slot == null) {
+				ensureCapacity(quantizer, this.size + 1);
+				slot = this.size++;
+				this.slots.put(id, slot);
+			}
+			this.magnitudes[slot] = magnitude;
+			this.norms[slot] = norm;
+			this.ids[slot] = id;
+			this.vectors.put(slot, vector);
+			if (quantizer.isTrained()) {
+				quantizer.encode(vector, this.codes, slot * quantizer.codeSize());
+			}
+			else if (this.size >= TRAINING_SIZE) {
+				train(quantizer);
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	private void train(SimpleVectorStoreQuantizer quantizer) {
+		List<float[]> sample = new ArrayList<>(this.size);
+		for (int slot = 0; slot < this.size; slot++) {
+			sample.add(vector(slot));
+		}
+		quantizer.train(sample);
+		this.codes = new byte[Math.multiplyExact(this.ids.length, quantizer.codeSize())];
+		for (int slot = 0; slot < this.size; slot++) {
+			quantizer.encode(sample.get(slot), this.codes, slot * quantizer.codeSize());
+		}
+	}
+
+	@Override
+	public void remove(String id) {
+		this.lock.writeLock().lock();
+		try {
+			Integer slot = this.slots.remove(id);
+			if (slot == null) {
+				return;
+			}
+			int last = --this.size;
+			SimpleVectorStoreQuantizer quantizer = this.quantizer;
+			if (slot != last && quantizer != null) {
+				if (quantizer.isTrained()) {
+					int codeSize = quantizer.codeSize();
+					System.arraycopy(this.codes, last * codeSize, this.codes, slot * codeSize, codeSize);
+				}
+				this.vectors.move(last, slot);
+				this.magnitudes[slot] = this.magnitudes[last];
+				this.norms[slot] = this.norms[last];
+				String moved = id(last);
+				this.ids[slot] = moved;
+				this.slots.put(moved, slot);
+			}
+			this.ids[last] = null;
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public float @Nullable [] vector(String id) {
+		this.lock.readLock().lock();
+		try {
+			Integer slot = this.slots.get(id);
+			return (slot != null) ? vector(slot) : null;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private float[] vector(int slot) {
+		float[] vector = new float[this.vectors.dimensions()];
+		this.vectors.get(slot, vector);
+		return vector;
+	}
+
+	@Override
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.size;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<ScoredId> search(float[] query, int topK, double similarityThreshold,
+			@Nullable Predicate<String> filter) {
+		this.lock.readLock().lock();
+		try {
+			SimpleVectorStoreQuantizer quantizer = this.quantizer;
+			if (this.size == 0 || topK <= 0 || quantizer == null) {
+				return List.of();
+			}
+			if (query.length != this.vectors.dimensions()) {
+				throw new IllegalArgumentException("Vectors lengths must be equal");
+			}
+			double queryMagnitude = this.scorer.magnitude(query);
+			SimpleVectorStoreTopK<String> best = new SimpleVectorStoreTopK<>(Math.min(topK, this.size));
+			if (!quantizer.isTrained()) {
+				for (int slot = 0; slot < this.size; slot++) {
+					if (filter == null || filter.test(id(slot))) {
+						offer(best, id(slot), score(query, queryMagnitude, slot), similarityThreshold);
+					}
+				}
+			}
+			else {
+				for (SimpleVectorStoreTopK.Entry<Integer> candidate : candidates(quantizer, query, topK, filter)) {
+					int slot = candidate.item();
+					offer(best, id(slot), score(query, queryMagnitude, slot), similarityThreshold);
+				}
+			}
+			List<ScoredId> matches = new ArrayList<>(best.size());
+			for (SimpleVectorStoreTopK.Entry<String> entry : best.drainDescending()) {
+				matches.add(new ScoredId(entry.item(), entry.score()));
+			}
+			return matches;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Scans the codes and returns the slots with the best estimated scores.
+	 */
+	private List<SimpleVectorStoreTopK.Entry<Integer>> candidates(SimpleVectorStoreQuantizer quantizer, float[] query,
+			int topK, @Nullable Predicate<String> filter) {
+		int limit = (int) Math.min(Integer.MAX_VALUE, (long) topK * this.rerankFactor);
+		SimpleVectorStoreTopK<Integer> candidates = new SimpleVectorStoreTopK<>(Math.min(limit, this.size));
+		SimpleVectorStoreQuantizer.DotProductEstimator estimator = quantizer.estimator(query);
+		double queryNorm = Math.sqrt(this.scorer.engine().dotProduct(query, query));
+		int codeSize = quantizer.codeSize();
+		byte[] data = this.codes;
+		for (int slot = 0; slot < this.size; slot++) {
+			if (filter != null && !filter.test(id(slot))) {
+				continue;
+			}
+			double estimate = this.scorer.score(estimator.dotProduct(data, slot * codeSize), queryNorm,
+					this.norms[slot]);
+			if (estimate > candidates.minScore()) {
+				candidates.offer(slot, estimate);
+			}
+		}
+		return candidates.drainDescending();
+	}
+
+	private double score(float[] query, double queryMagnitude, int slot) {
+		return this.scorer.score(query, queryMagnitude, this.vectors.block(slot), this.vectors.offset(slot),
+				this.magnitudes[slot]);
+	}
+
+	private String id(int slot) {
+		String id = this.ids[slot];
+		Assert.state(id != null, "Slot " + slot + " is empty");
+		return id;
+	}
+
+	private static void offer(SimpleVectorStoreTopK<String> best, String id, double score, double similarityThreshold) {
+		if (score >= similarityThreshold && score > best.minScore()) {
+			best.offer(id, score);
+		}
+	}
+
+	private void ensureCapacity(SimpleVectorStoreQuantizer quantizer, int required) {
+		if (required <= this.ids.length) {
+			return;
+		}
+		int capacity = Math.max(INITIAL_CAPACITY, Math.max(required, this.ids.length * 2));
+		this.vectors.ensureCapacity(capacity);
+		if (quantizer.isTrained()) {
+			this.codes = Arrays.copyOf(this.codes, Math.multiplyExact(capacity, quantizer.codeSize()));
+		}
+		this.magnitudes = Arrays.copyOf(this.magnitudes, capacity);
+		this.norms = Arrays.copyOf(this.norms, capacity);
+		this.ids = Arrays.copyOf(this.ids, capacity);
+	}
+
+}
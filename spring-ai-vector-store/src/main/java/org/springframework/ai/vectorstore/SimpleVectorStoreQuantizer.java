@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.List;
+
+/**
+ * Lossy codec compressing the vectors of a {@link SimpleVectorStoreQuantizedIndex} into
+ * fixed size byte codes.
+ *
+ * <p>
+ * Quantizers estimate the dot product between a full precision query and an encoded
+ * vector without decoding it. Codecs that learn their parameters from the data report
+ * {@link #isTrained() untrained} until {@link #train(List)} has been called.
+ */
+interface SimpleVectorStoreQuantizer {
+
+	/**
+	 * Returns whether the quantizer can encode vectors.
+	 * @return {@code true} if the quantizer is ready to encode vectors
+	 */
+	boolean isTrained();
+
+	/**
+	 * Learns the parameters of the quantizer from a sample of the stored vectors.
+	 * @param sample the training vectors
+	 */
+	void train(List<float[]> sample);
+
+	/**
+	 * Returns the number of bytes of a single code.
+	 * @return the code size
+	 */
+	int codeSize();
+
+	/**
+	 * Encodes a vector.
+	 * @param vector the vector to encode
+	 * @param codes the array receiving the code
+	 * @param offset the index of the first byte of the code
+	 */
+	void encode(float[] vector, byte[] codes, int offset);
+
+	/**
+	 * Prepares the estimation of dot products between the given query and encoded
+	 * vectors.
+	 * @param query the query vector
+	 * @return the estimator for the query
+	 */
+	DotProductEstimator estimator(float[] query);
+
+	/**
+	 * Estimates the dot product between a fixed query and encoded vectors.
+	 */
+	@FunctionalInterface
+	interface DotProductEstimator {
+
+		/**
+		 * Estimates the dot product between the query and an encoded vector.
+		 * @param codes the array holding the code
+		 * @param offset the index of the first byte of the code
+		 * @return the estimated dot product
+		 */
+		double dotProduct(byte[] codes, int offset);
+
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * Int8 scalar quantizer. Every component is scaled by the largest absolute component of
+ * its vector and rounded to a signed byte; the scale is stored as a float in front of the
+ * components. As the scale is derived per vector, the quantizer needs no training and
+ * compresses a float32 vector close to 4x.
+ */
+final class SimpleVectorStoreScalarQuantizer implements SimpleVectorStoreQuantizer {
+
+	private static final VarHandle FLOAT = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+
+	private final int dimensions;
+
+	SimpleVectorStoreScalarQuantizer(int dimensions) {
+		this.dimensions = dimensions;
+	}
+
+	@Override
+	public boolean isTrained() {
+		return true;
+	}
+
+	@Override
+	public void train(List<float[]> sample) {
+	}
+
+	@Override
+	public int codeSize() {
+		return Float.BYTES + this.dimensions;
+	}
+
+	@Override
+	public void encode(float[] vector, byte[] codes, int offset) {
+		float max = 0f;
+		for (float value : vector) {
+			max = Math.max(max, Math.abs(value));
+		}
+		float scale = max / 127f;
+		FLOAT.set(codes, offset, scale);
+		int base = offset + Float.BYTES;
+		for (int i = 0; i < this.dimensions; i++) {
+			codes[base + i] = (byte) ((scale != 0f) ? Math.round(vector[i] / scale) : 0);
+		}
+	}
+
+	@Override
+	public DotProductEstimator estimator(float[] query) {
+		int dims = this.dimensions;
+		return (codes, offset) -> {
+			int base = offset + Float.BYTES;
+			float s0 = 0f;
+			float s1 = 0f;
+			int i = 0;
+			for (; i + 1 < dims; i += 2) {
+				s0 += query[i] * codes[base + i];
+				s1 += query[i + 1] * codes[base + i + 1];
+			}
+			if (i < dims) {
+				s0 += query[i] * codes[base + i];
+			}
+			return (double) (s0 + s1) * (float) FLOAT.get(codes, offset);
+		};
+	}
+
+}
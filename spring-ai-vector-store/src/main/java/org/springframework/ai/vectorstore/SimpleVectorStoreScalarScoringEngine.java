@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Portable {@link SimpleVectorStoreScoringEngine} written as plain loops. The loops use
+ * four independent accumulators so that the JIT can overlap the floating point additions
+ * instead of serialising them on a single register. Arrays and direct buffers are summed
+ * in the same order, so a vector scores identically wherever it is stored.
+ */
+final class SimpleVectorStoreScalarScoringEngine implements SimpleVectorStoreScoringEngine {
+
+	static final SimpleVectorStoreScalarScoringEngine INSTANCE = new SimpleVectorStoreScalarScoringEngine();
+
+	private SimpleVectorStoreScalarScoringEngine() {
+	}
+
+	@Override
+	public float dotProduct(float[] x, float[] y) {
+		return dotProduct(x, y, 0);
+	}
+
+	@Override
+	public float dotProduct(float[] query, FloatBuffer vectors, int offset) {
+		if (vectors.hasArray()) {
+			return dotProduct(query, vectors.array(), vectors.arrayOffset() + offset);
+		}
+		int length = query.length;
+		int bound = length & ~3;
+		float s0 = 0;
+		float s1 = 0;
+		float s2 = 0;
+		float s3 = 0;
+		int i = 0;
+		for (; i < bound; i += 4) {
+			s0 += query[i] * vectors.get(offset + i);
+			s1 += query[i + 1] * vectors.get(offset + i + 1);
+			s2 += query[i + 2] * vectors.get(offset + i + 2);
+			s3 += query[i + 3] * vectors.get(offset + i + 3);
+		}
+		float tail = 0;
+		for (; i < length; i++) {
+			tail += query[i] * vectors.get(offset + i);
+		}
+		return (s0 + s1) + (s2 + s3) + tail;
+	}
+
+	@Override
+	public float squaredDistance(float[] x, float[] y) {
+		return squaredDistance(x, y, 0);
+	}
+
+	@Override
+	public float squaredDistance(float[] query, FloatBuffer vectors, int offset) {
+		if (vectors.hasArray()) {
+			return squaredDistance(query, vectors.array(), vectors.arrayOffset() + offset);
+		}
+		int length = query.length;
+		int bound = length & ~3;
+		float s0 = 0;
+		float s1 = 0;
+		float s2 = 0;
+		float s3 = 0;
+		int i = 0;
+		for (; i < bound; i += 4) {
+			float d0 = query[i] - vectors.get(offset + i);
+			float d1 = query[i + 1] - vectors.get(offset + i + 1);
+			float d2 = query[i + 2] - vectors.get(offset + i + 2);
+			float d3 = query[i + 3] - vectors.get(offset + i + 3);
+			s0 += d0 * d0;
+			s1 += d1 * d1;
+			s2 += d2 * d2;
+			s3 += d3 * d3;
+		}
+		float tail = 0;
+		for (; i < length; i++) {
+			float diff = query[i] - vectors.get(offset + i);
+			tail += diff * diff;
+		}
+		return (s0 + s1) + (s2 + s3) + tail;
+	}
+
+	private float dotProduct(float[] query, float[] data, int offset) {
+		int length = query.length;
+		int bound = length & ~3;
+		float s0 = 0;
+		float s1 = 0;
+		float s2 = 0;
+		float s3 = 0;
+		int i = 0;
+		for (; i < bound; i += 4) {
+			s0 += query[i] * data[offset + i];
+			s1 += query[i + 1] * data[offset + i + 1];
+			s2 += query[i + 2] * data[offset + i + 2];
+			s3 += query[i + 3] * data[offset + i + 3];
+		}
+		float tail = 0;
+		for (; i < length; i++) {
+			tail += query[i] * data[offset + i];
+		}
+		return (s0 + s1) + (s2 + s3) + tail;
+	}
+
+	private float squaredDistance(float[] query, float[] data, int offset) {
+		int length = query.length;
+		int bound = length & ~3;
+		float s0 = 0;
+		float s1 = 0;
+		float s2 = 0;
+		float s3 = 0;
+		int i = 0;
+		for (; i < bound; i += 4) {
+			float d0 = query[i] - data[offset + i];
+			float d1 = query[i + 1] - data[offset + i + 1];
+			float d2 = query[i + 2] - data[offset + i + 2];
+			float d3 = query[i + 3] - data[offset + i + 3];
+			s0 += d0 * d0;
+			s1 += d1 * d1;
+			s2 += d2 * d2;
+			s3 += d3 * d3;
+		}
+		float tail = 0;
+		for (; i < length; i++) {
+			float diff = query[i] - data[offset + i];
+			tail += diff * diff;
+		}
+		return (s0 + s1) + (s2 + s3) + tail;
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.nio.FloatBuffer;
+
+import org.springframework.util.Assert;
+
+/**
+ * Turns the kernels of a {@link SimpleVectorStoreScoringEngine} into similarity scores
+ * for a {@link SimpleVectorStore.SimilarityMetric}. Higher scores always mean more
+ * similar vectors.
+ *
+ * <p>
+ * Per-vector terms that do not depend on the query, such as the magnitude used by cosine
+ * similarity, are computed once with {@link #magnitude(float[])} and handed back on every
+ * call to {@code score}.
+ */
+final class SimpleVectorStoreScorer {
+
+	private final SimpleVectorStore.SimilarityMetric metric;
+
+	private final SimpleVectorStoreScoringEngine engine;
+
+	SimpleVectorStoreScorer(SimpleVectorStore.SimilarityMetric metric, SimpleVectorStoreScoringEngine engine) {
+		Assert.notNull(metric, "SimilarityMetric must not be null");
+		Assert.notNull(engine, "SimpleVectorStoreScoringEngine must not be null");
+		this.metric = metric;
+		this.engine = engine;
+	}
+
+	SimpleVectorStore.SimilarityMetric metric() {
+		return this.metric;
+	}
+
+	SimpleVectorStoreScoringEngine engine() {
+		return this.engine;
+	}
+
+	/**
+	 * Returns the query independent term of a vector for this metric.
+	 * @param vector the vector
+	 * @return the euclidean magnitude for cosine similarity, {@code 1} otherwise
+	 * @throws IllegalArgumentException if the metric is cosine and the vector has zero
+	 * norm
+	 */
+	double magnitude(float[] vector) {
+		if (this.metric != SimpleVectorStore.SimilarityMetric.COSINE) {
+			return 1.0;
+		}
+		return checkMagnitude(Math.sqrt(this.engine.dotProduct(vector, vector)));
+	}
+
+	/**
+	 * Scores two vectors.
+	 * @param query the query vector
+	 * @param queryMagnitude the {@link #magnitude(float[])} of the query
+	 * @param vector the stored vector
+	 * @param vectorMagnitude the {@link #magnitude(float[])} of the stored vector
+	 * @return the similarity score
+	 */
+	double score(float[] query, double queryMagnitude, float[] vector, double vectorMagnitude) {
+		if (query.length != vector.length) {
+			throw new IllegalArgumentException("Vectors lengths must be equal");
+		}
+		return switch (this.metric) {
+			case COSINE -> this.engine.dotProduct(query, vector) / (queryMagnitude * checkMagnitude(vectorMagnitude));
+			case DOT_PRODUCT -> this.engine.dotProduct(query, vector);
+			case EUCLIDEAN -> 1.0 / (1.0 + Math.sqrt(this.engine.squaredDistance(query, vector)));
+		};
+	}
+
+	/**
+	 * Scores a query against a vector stored in a buffer. The stored vector is assumed to
+	 * have the same length as the query.
+	 * @param query the query vector
+	 * @param queryMagnitude the {@link #magnitude(float[])} of the query
+	 * @param vectors the buffer holding the stored vector
+	 * @param offset the index of the first component of the stored vector
+	 * @param vectorMagnitude the {@link #magnitude(float[])} of the stored vector
+	 * @return the similarity score
+	 */
+	double score(float[] query, double queryMagnitude, FloatBuffer vectors, int offset, double vectorMagnitude) {
+		return switch (this.metric) {
+			case COSINE -> this.engine.dotProduct(query, vectors, offset) / (queryMagnitude * vectorMagnitude);
+			case DOT_PRODUCT -> this.engine.dotProduct(query, vectors, offset);
+			case EUCLIDEAN -> 1.0 / (1.0 + Math.sqrt(this.engine.squaredDistance(query, vectors, offset)));
+		};
+	}
+
+	/**
+	 * Scores a stored vector from an estimate of its dot product with the query, as
+	 * produced by a {@link SimpleVectorStoreQuantizer}. Euclidean distance is derived
+	 * from the dot product and the exact norms of both vectors.
+	 * @param dotProduct the estimated dot product
+	 * @param queryNorm the euclidean norm of the query
+	 * @param vectorNorm the euclidean norm of the stored vector
+	 * @return the estimated similarity score
+	 */
+	double score(double dotProduct, double queryNorm, double vectorNorm) {
+		return switch (this.metric) {
+			case COSINE -> dotProduct / (queryNorm * vectorNorm);
+			case DOT_PRODUCT -> dotProduct;
+			case EUCLIDEAN -> 1.0 / (1.0
+					+ Math.sqrt(Math.max(0.0, queryNorm * queryNorm + vectorNorm * vectorNorm - 2.0 * dotProduct)));
+		};
+	}
+
+	private static double checkMagnitude(double magnitude) {
+		if (magnitude == 0) {
+			throw new IllegalArgumentException("Vectors cannot have zero norm");
+		}
+		return magnitude;
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.nio.FloatBuffer;
+
+/**
+ * Computes the raw vector kernels used by {@link SimpleVectorStore} to score stored
+ * embeddings against a query. Implementations only provide the arithmetic; turning the
+ * kernels into a similarity score is driven by the configured
+ * {@link SimpleVectorStore.SimilarityMetric}.
+ *
+ * <p>
+ * Two implementations are provided: a portable scalar engine and an engine based on the
+ * incubating Java Vector API ({@code jdk.incubator.vector}). {@link #bestAvailable()}
+ * picks the Vector API engine when the module has been added to the JVM (for example with
+ * {@code --add-modules jdk.incubator.vector}) and falls back to the scalar engine
+ * otherwise.
+ *
+ * <p>
+ * Callers are responsible for checking that both operands have the same length.
+ */
+public interface SimpleVectorStoreScoringEngine {
+
+	/**
+	 * Computes the dot product of two vectors of equal length.
+	 * @param x the first vector
+	 * @param y the second vector
+	 * @return the dot product
+	 */
+	float dotProduct(float[] x, float[] y);
+
+	/**
+	 * Computes the dot product of a query and a vector stored in a buffer.
+	 * @param query the query vector
+	 * @param vectors the buffer holding the stored vector
+	 * @param offset the index of the first component of the stored vector in the buffer
+	 * @return the dot product
+	 */
+	float dotProduct(float[] query, FloatBuffer vectors, int offset);
+
+	/**
+	 * Computes the squared euclidean distance of two vectors of equal length.
+	 * @param x the first vector
+	 * @param y the second vector
+	 * @return the squared euclidean distance
+	 */
+	float squaredDistance(float[] x, float[] y);
+
+	/**
+	 * Computes the squared euclidean distance between a query and a vector stored in a
+	 * buffer.
+	 * @param query the query vector
+	 * @param vectors the buffer holding the stored vector
+	 * @param offset the index of the first component of the stored vector in the buffer
+	 * @return the squared euclidean distance
+	 */
+	float squaredDistance(float[] query, FloatBuffer vectors, int offset);
+
+	/**
+	 * Returns the portable scalar engine.
+	 * @return the scalar engine
+	 */
+	static SimpleVectorStoreScoringEngine scalar() {
+		return SimpleVectorStoreScalarScoringEngine.INSTANCE;
+	}
+
+	/**
+	 * Returns the Vector API engine if the {@code jdk.incubator.vector} module is
+	 * available, or the scalar engine otherwise.
+	 * @return the fastest engine supported by the running JVM
+	 */
+	static SimpleVectorStoreScoringEngine bestAvailable() {
+		return SimpleVectorStoreScoringEngines.BEST_AVAILABLE;
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Resolves the best {@link SimpleVectorStoreScoringEngine} supported by the running JVM
+ * once, on first use. The Vector API engine is loaded reflectively so that its class is
+ * never linked when the {@code jdk.incubator.vector} module is absent.
+ */
+final class SimpleVectorStoreScoringEngines {
+
+	private static final Log logger = LogFactory.getLog(SimpleVectorStoreScoringEngines.class);
+
+	private static final String VECTOR_API_ENGINE = "org.springframework.ai.vectorstore.SimpleVectorStoreVectorApiScoringEngine";
+
+	static final SimpleVectorStoreScoringEngine BEST_AVAILABLE = detect();
+
+	private SimpleVectorStoreScoringEngines() {
+	}
+
+	private static SimpleVectorStoreScoringEngine detect() {
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+			try {
+				return (SimpleVectorStoreScoringEngine) Class.forName(VECTOR_API_ENGINE)
+					.getDeclaredConstructor()
+					.newInstance();
+			}
+			catch (ReflectiveOperationException | LinkageError ex) {
+				logger.debug("Java Vector API scoring engine unavailable, using the scalar engine", ex);
+			}
+		}
+		return SimpleVectorStoreScoringEngine.scalar();
+	}
+
+}
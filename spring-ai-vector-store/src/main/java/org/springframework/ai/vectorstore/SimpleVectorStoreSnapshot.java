@@ -0,0 +1,354 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads and writes the binary snapshot format of a {@link SimpleVectorStore}.
+ *
+ * <p>
+ * A snapshot consists of three sections:
+ * <ul>
+ * <li>a fixed size header holding a magic number, the format version, the number of
+ * documents, the embedding dimensions and the position of the metadata section;</li>
+ * <li>the embeddings of all documents, packed as little-endian float32 values in document
+ * order;</li>
+ * <li>a JSON array holding the id, text and metadata of every document, in the same order
+ * as the embeddings.</li>
+ * </ul>
+ *
+ * <p>
+ * Both sections are streamed, so the serialised form of the store is never held in
+ * memory. When reading a file, the vector section is memory-mapped and copied straight
+ * into the embedding arrays instead of being parsed from text.
+ */
+final class SimpleVectorStoreSnapshot {
+
+	private static final int MAGIC = 0x53415653;
+
+	private static final int VERSION = 1;
+
+	private static final int HEADER_BYTES = 32;
+
+	private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+	private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+
+	};
+
+	private SimpleVectorStoreSnapshot() {
+	}
+
+	/**
+	 * Writes a snapshot of the given documents. The snapshot is written to a temporary
+	 * file next to the target, which then replaces the target, so a failed write never
+	 * leaves a truncated snapshot behind.
+	 * @param contents the documents to write
+	 * @param file the snapshot file
+	 * @param jsonMapper the mapper used to write document metadata
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	static void write(Collection<SimpleVectorStoreContent> contents, Path file, JsonMapper jsonMapper)
+			throws IOException {
+		write(contents, SimpleVectorStoreContent::embedding, file, jsonMapper);
+	}
+
+	/**
+	 * Writes a snapshot of the given documents, looking up their embeddings one at a
+	 * time. Documents whose embedding cannot be found anymore are left out.
+	 * @param contents the documents to write
+	 * @param embeddings looks up the embedding of a document, or returns {@code null} if
+	 * the document has been removed
+	 * @param file the snapshot file
+	 * @param jsonMapper the mapper used to write document metadata
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	static void write(Collection<SimpleVectorStoreContent> contents,
+			Function<SimpleVectorStoreContent, float @Nullable []> embeddings, Path file, JsonMapper jsonMapper)
+			throws IOException {
+		List<SimpleVectorStoreContent> documents = new ArrayList<>(contents.size());
+		Path absolute = file.toAbsolutePath();
+		Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING)) {
+				channel.position(HEADER_BYTES);
+				int dimensions = writeVectors(channel, contents, embeddings, documents);
+				long metadataOffset = channel.position();
+				OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(channel));
+				try (JsonGenerator generator = jsonMapper.createGenerator(stream)) {
+					writeDocuments(generator, documents);
+					generator.flush();
+					ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+					header.putInt(MAGIC).putInt(VERSION).putInt(documents.size()).putInt(dimensions);
+					header.putLong(metadataOffset).putLong(channel.position() - metadataOffset).flip();
+					channel.write(header, 0);
+					channel.force(false);
+				}
+			}
+			Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Reads a snapshot file, memory-mapping its vector section.
+	 * @param file the snapshot file
+	 * @param jsonMapper the mapper used to read document metadata
+	 * @return the documents of the snapshot keyed by id
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	static Map<String, SimpleVectorStoreContent> read(Path file, JsonMapper jsonMapper) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_BYTES);
+			while (headerBuffer.hasRemaining()) {
+				if (channel.read(headerBuffer, headerBuffer.position()) < 0) {
+					throw new EOFException("Unexpected end of snapshot header");
+				}
+			}
+			Header header = Header.read(headerBuffer.flip());
+			List<FloatBuffer> regions = mapVectors(channel, header);
+			int vectorsPerRegion = regions.isEmpty() ? 1 : regions.get(0).capacity() / header.dimensions();
+			VectorSection vectors = (index, target) -> regions.get(index / vectorsPerRegion)
+				.get((index % vectorsPerRegion) * header.dimensions(), target);
+			channel.position(header.metadataOffset());
+			InputStream stream = new BufferedInputStream(Channels.newInputStream(channel));
+			try (JsonParser parser = jsonMapper.createParser(stream)) {
+				return readDocuments(parser, jsonMapper, header, vectors);
+			}
+		}
+	}
+
+	/**
+	 * Reads a snapshot from a stream, for snapshots that are not available as a file.
+	 * @param stream the snapshot stream, closed by this method
+	 * @param jsonMapper the mapper used to read document metadata
+	 * @return the documents of the snapshot keyed by id
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	static Map<String, SimpleVectorStoreContent> read(InputStream stream, JsonMapper jsonMapper) throws IOException {
+		try (InputStream input = new BufferedInputStream(stream)) {
+			Header header = Header.read(ByteBuffer.wrap(readFully(input, HEADER_BYTES)));
+			long vectorBytes = (long) header.count() * header.dimensions() * Float.BYTES;
+			if (vectorBytes > Integer.MAX_VALUE) {
+				throw new IllegalStateException("Snapshot is too large to be read from a stream, load it from a file");
+			}
+			FloatBuffer section = ByteBuffer.wrap(readFully(input, (int) vectorBytes))
+				.order(ByteOrder.LITTLE_ENDIAN)
+				.asFloatBuffer();
+			input.skipNBytes(header.metadataOffset() - HEADER_BYTES - vectorBytes);
+			VectorSection vectors = (index, target) -> section.get(index * header.dimensions(), target);
+			try (JsonParser parser = jsonMapper.createParser(input)) {
+				return readDocuments(parser, jsonMapper, header, vectors);
+			}
+		}
+	}
+
+	/**
+	 * Writes the embeddings of the documents and collects the written documents.
+	 * @return the dimensions of the written embeddings
+	 */
+	private static int writeVectors(FileChannel channel, Collection<SimpleVectorStoreContent> contents,
+			Function<SimpleVectorStoreContent, float @Nullable []> embeddings, List<SimpleVectorStoreContent> written)
+			throws IOException {
+		int dimensions = 0;
+		ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		for (SimpleVectorStoreContent content : contents) {
+			float[] embedding = embeddings.apply(content);
+			if (embedding == null) {
+				continue;
+			}
+			if (written.isEmpty()) {
+				dimensions = embedding.length;
+			}
+			else if (embedding.length != dimensions) {
+				throw new IllegalStateException("Snapshots require all embeddings to have the same dimensions");
+			}
+			int vectorBytes = dimensions * Float.BYTES;
+			if (buffer.capacity() < vectorBytes) {
+				buffer = ByteBuffer.allocateDirect(vectorBytes).order(ByteOrder.LITTLE_ENDIAN);
+			}
+			if (buffer.remaining() < vectorBytes) {
+				drain(channel, buffer.flip());
+				buffer.clear();
+			}
+			buffer.asFloatBuffer().put(embedding);
+			buffer.position(buffer.position() + vectorBytes);
+			written.add(content);
+		}
+		drain(channel, buffer.flip());
+		return dimensions;
+	}
+
+	private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private static void writeDocuments(JsonGenerator generator, List<SimpleVectorStoreContent> documents) {
+		generator.writeStartArray();
+		for (SimpleVectorStoreContent content : documents) {
+			generator.writeStartObject();
+			generator.writeStringProperty("id", content.getId());
+			generator.writeStringProperty("text", content.getText());
+			generator.writeName("metadata");
+			generator.writePOJO(content.getMetadata());
+			generator.writeEndObject();
+		}
+		generator.writeEndArray();
+	}
+
+	/**
+	 * Maps the vector section in regions of whole vectors, as a single mapping cannot
+	 * exceed 2 GB.
+	 */
+	private static List<FloatBuffer> mapVectors(FileChannel channel, Header header) throws IOException {
+		List<FloatBuffer> regions = new ArrayList<>();
+		if (header.count() == 0 || header.dimensions() == 0) {
+			return regions;
+		}
+		long vectorBytes = (long) header.dimensions() * Float.BYTES;
+		int vectorsPerRegion = (int) Math.max(1, Integer.MAX_VALUE / vectorBytes);
+		for (int from = 0; from < header.count(); from += vectorsPerRegion) {
+			int vectors = Math.min(vectorsPerRegion, header.count() - from);
+			regions.add(
+					channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + from * vectorBytes, vectors * vectorBytes)
+						.order(ByteOrder.LITTLE_ENDIAN)
+						.asFloatBuffer());
+		}
+		return regions;
+	}
+
+	private static Map<String, SimpleVectorStoreContent> readDocuments(JsonParser parser, JsonMapper jsonMapper,
+			Header header, VectorSection vectors) {
+		ObjectReader metadataReader = jsonMapper.readerFor(METADATA_TYPE)
+			.without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+		Map<String, SimpleVectorStoreContent> documents = new HashMap<>();
+		float[] embedding = new float[header.dimensions()];
+		if (parser.nextToken() != JsonToken.START_ARRAY) {
+			throw new IllegalStateException("Snapshot metadata section must be a JSON array");
+		}
+		int index = 0;
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			if (index >= header.count()) {
+				throw new IllegalStateException("Snapshot holds more documents than its header declares");
+			}
+			@Nullable String id = null;
+			String text = "";
+			Map<String, Object> metadata = Map.of();
+			while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+				String name = parser.currentName();
+				parser.nextToken();
+				if ("id".equals(name)) {
+					id = parser.getString();
+				}
+				else if ("text".equals(name)) {
+					text = parser.getString();
+				}
+				else if ("metadata".equals(name)) {
+					metadata = metadataReader.readValue(parser);
+				}
+				else {
+					parser.skipChildren();
+				}
+			}
+			vectors.read(index++, embedding);
+			SimpleVectorStoreContent content = new SimpleVectorStoreContent(id, text, metadata, embedding);
+			documents.put(content.getId(), content);
+		}
+		if (index != header.count()) {
+			throw new IllegalStateException(
+					"Snapshot declares " + header.count() + " documents but holds metadata for " + index);
+		}
+		return documents;
+	}
+
+	private static byte[] readFully(InputStream input, int length) throws IOException {
+		byte[] bytes = input.readNBytes(length);
+		if (bytes.length != length) {
+			throw new EOFException("Unexpected end of snapshot");
+		}
+		return bytes;
+	}
+
+	/**
+	 * Random access to the embeddings of the vector section.
+	 */
+	@FunctionalInterface
+	private interface VectorSection {
+
+		void read(int index, float[] target);
+
+	}
+
+	private record Header(int count, int dimensions, long metadataOffset) {
+
+		static Header read(ByteBuffer buffer) {
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			if (buffer.getInt() != MAGIC) {
+				throw new IllegalStateException("Not a SimpleVectorStore snapshot");
+			}
+			int version = buffer.getInt();
+			if (version != VERSION) {
+				throw new IllegalStateException("Unsupported SimpleVectorStore snapshot version " + version);
+			}
+			int count = buffer.getInt();
+			int dimensions = buffer.getInt();
+			long metadataOffset = buffer.getLong();
+			if (count < 0 || dimensions < 0
+					|| metadataOffset < HEADER_BYTES + (long) count * dimensions * Float.BYTES) {
+				throw new IllegalStateException("Corrupted SimpleVectorStore snapshot header");
+			}
+			return new Header(count, dimensions, metadataOffset);
+		}
+
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded min-heap keeping the {@code k} highest scored items seen so far. Scores are
+ * held in a primitive array so that offering a candidate never boxes, and a candidate
+ * that cannot enter the heap is rejected with a single comparison. Candidates with equal
+ * scores keep their offer order, matching a stable sort of the full candidate list.
+ *
+ * <p>
+ * Not thread-safe; each search owns its own instance.
+ *
+ * @param <T> the item type
+ */
+final class SimpleVectorStoreTopK<T> {
+
+	private final Object[] items;
+
+	private final double[] scores;
+
+	private final long[] sequences;
+
+	private long offered;
+
+	private int size;
+
+	SimpleVectorStoreTopK(int k) {
+		Assert.isTrue(k > 0, "k must be positive");
+		this.items = new Object[k];
+		this.scores = new double[k];
+		this.sequences = new long[k];
+	}
+
+	/**
+	 * Offers a candidate to the heap.
+	 * @param item the candidate
+	 * @param score the candidate score
+	 * @return {@code true} if the candidate is currently among the top {@code k}
+	 */
+	boolean offer(T item, double score) {
+		long sequence = this.offered++;
+		if (this.size < this.items.length) {
+			this.items[this.size] = item;
+			this.scores[this.size] = score;
+			this.sequences[this.size] = sequence;
+			siftUp(this.size++);
+			return true;
+		}
+		if (score <= this.scores[0]) {
+			return false;
+		}
+		this.items[0] = item;
+		this.scores[0] = score;
+		this.sequences[0] = sequence;
+		siftDown(0);
+		return true;
+	}
+
+	/**
+	 * Returns the lowest score that is still part of the heap, or negative infinity while
+	 * the heap is not full.
+	 * @return the score a candidate must exceed to enter the heap
+	 */
+	double minScore() {
+		return (this.size < this.items.length) ? Double.NEGATIVE_INFINITY : this.scores[0];
+	}
+
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Empties the heap and returns its entries ordered by descending score.
+	 * @return the scored entries, best first
+	 */
+	@SuppressWarnings("unchecked")
+	List<Entry<T>> drainDescending() {
+		List<Entry<T>> entries = new ArrayList<>(this.size);
+		while (this.size > 0) {
+			entries.add(new Entry<>((T) this.items[0], this.scores[0]));
+			this.size--;
+			this.items[0] = this.items[this.size];
+			this.scores[0] = this.scores[this.size];
+			this.sequences[0] = this.sequences[this.size];
+			siftDown(0);
+		}
+		Collections.reverse(entries);
+		return entries;
+	}
+
+	private void siftUp(int index) {
+		int child = index;
+		while (child > 0) {
+			int parent = (child - 1) >>> 1;
+			if (!worse(child, parent)) {
+				break;
+			}
+			swap(parent, child);
+			child = parent;
+		}
+	}
+
+	private void siftDown(int index) {
+		int parent = index;
+		while (true) {
+			int left = 2 * parent + 1;
+			if (left >= this.size) {
+				break;
+			}
+			int right = left + 1;
+			int smallest = (right < this.size && worse(right, left)) ? right : left;
+			if (!worse(smallest, parent)) {
+				break;
+			}
+			swap(parent, smallest);
+			parent = smallest;
+		}
+	}
+
+	/**
+	 * Whether the entry at {@code i} ranks below the entry at {@code j}. On equal scores
+	 * the entry offered later ranks lower.
+	 */
+	private boolean worse(int i, int j) {
+		return this.scores[i] < this.scores[j]
+				|| (this.scores[i] == this.scores[j] && this.sequences[i] > this.sequences[j]);
+	}
+
+	private void swap(int i, int j) {
+		Object item = this.items[i];
+		this.items[i] = this.items[j];
+		this.items[j] = item;
+		double score = this.scores[i];
+		this.scores[i] = this.scores[j];
+		this.scores[j] = score;
+		long sequence = this.sequences[i];
+		this.sequences[i] = this.sequences[j];
+		this.sequences[j] = sequence;
+	}
+
+	/**
+	 * An item together with its score.
+	 *
+	 * @param item the item
+	 * @param score the score
+	 * @param <T> the item type
+	 */
+	record Entry<T>(T item, double score) {
+
+	}
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Internal storage for vectors of equal length addressed by dense slots, either on the
+ * Java heap, off-heap in direct buffers, or in memory-mapped temporary files.
+ *
+ * <p>
+ * Vectors are stored in fixed-size blocks of whole vectors, as a single buffer cannot
+ * hold more than 2 GB. Only the last block grows, by doubling, until it reaches the block
+ * size; full blocks are never copied again. Offsets are computed within a block, so they
+ * always fit an int. This class is not thread-safe; callers guard it with their own lock.
+ *
+ * <p>
+ * Memory-mapped blocks are backed by temporary files that are deleted as soon as they are
+ * mapped, so their pages are written back to disk and dropped by the operating system
+ * under memory pressure instead of counting against the heap or direct memory. The space
+ * is reclaimed once the block is garbage collected.
+ */
+final class SimpleVectorStoreVectorBlocks {
+
+	/**
+	 * The default maximum size of a block in bytes.
+	 */
+	static final int DEFAULT_BLOCK_BYTES = 64 * 1024 * 1024;
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final Allocation allocation;
+
+	private final int blockBytes;
+
+	private int dimensions = -1;
+
+	private int blockVectors;
+
+	private FloatBuffer[] blocks = new FloatBuffer[0];
+
+	private int capacity;
+
+	/**
+	 * Creates a new, empty storage.
+	 * @param offHeap whether the vectors are stored in direct buffers outside of the Java
+	 * heap
+	 * @param blockBytes the maximum size of a block in bytes; a block always holds at
+	 * least one vector
+	 */
+	SimpleVectorStoreVectorBlocks(boolean offHeap, int blockBytes) {
+		this(offHeap ? Allocation.DIRECT : Allocation.HEAP, blockBytes);
+	}
+
+	private SimpleVectorStoreVectorBlocks(Allocation allocation, int blockBytes) {
+		this.allocation = allocation;
+		this.blockBytes = blockBytes;
+	}
+
+	/**
+	 * Creates a new, empty storage whose blocks are memory-mapped temporary files.
+	 * @param blockBytes the maximum size of a block in bytes; a block always holds at
+	 * least one vector
+	 * @return the storage
+	 */
+	static SimpleVectorStoreVectorBlocks memoryMapped(int blockBytes) {
+		return new SimpleVectorStoreVectorBlocks(Allocation.MAPPED, blockBytes);
+	}
+
+	/**
+	 * Returns the length of the stored vectors.
+	 * @return the dimensions, or {@code -1} if no vector has been stored yet
+	 */
+	int dimensions() {
+		return this.dimensions;
+	}
+
+	/**
+	 * Checks that a vector can be stored, fixing the dimensions of the storage on the
+	 * first call.
+	 * @param dimensions the length of the vector
+	 * @throws IllegalArgumentException if the length differs from the stored vectors
+	 */
+	void checkDimensions(int dimensions) {
+		if (this.dimensions < 0) {
+			this.dimensions = dimensions;
+			this.blockVectors = (int) Math.max(1, this.blockBytes / ((long) dimensions * Float.BYTES));
+		}
+		else if (this.dimensions != dimensions) {
+			throw new IllegalArgumentException("Vectors lengths must be equal");
+		}
+	}
+
+	/**
+	 * Returns the number of slots that can be written without allocating.
+	 * @return the slot capacity
+	 */
+	int capacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Grows the last block, or appends a new one once it is full, until the storage can
+	 * hold the required number of vectors.
+	 * @param required the number of slots needed
+	 */
+	void ensureCapacity(int required) {
+		while (this.capacity < required) {
+			int last = this.blocks.length - 1;
+			int lastVectors = (last < 0) ? this.blockVectors : this.blocks[last].capacity() / this.dimensions;
+			if (lastVectors < this.blockVectors) {
+				int vectors = Math.min(this.blockVectors, Math.max(INITIAL_CAPACITY, lastVectors * 2));
+				FloatBuffer resized = allocate(vectors * this.dimensions);
+				resized.put(0, this.blocks[last], 0, this.blocks[last].capacity());
+				this.blocks[last] = resized;
+				this.capacity += vectors - lastVectors;
+			}
+			else {
+				int vectors = Math.min(this.blockVectors, INITIAL_CAPACITY);
+				this.blocks = Arrays.copyOf(this.blocks, this.blocks.length + 1);
+				this.blocks[last + 1] = allocate(vectors * this.dimensions);
+				this.capacity += vectors;
+			}
+		}
+	}
+
+	/**
+	 * Writes a vector into a slot.
+	 * @param slot the slot
+	 * @param vector the vector
+	 */
+	void put(int slot, float[] vector) {
+		block(slot).put(offset(slot), vector);
+	}
+
+	/**
+	 * Copies the vector of a slot into another slot.
+	 * @param from the source slot
+	 * @param to the target slot
+	 */
+	void move(int from, int to) {
+		block(to).put(offset(to), block(from), offset(from), this.dimensions);
+	}
+
+	/**
+	 * Reads the vector of a slot.
+	 * @param slot the slot
+	 * @param target the array receiving the vector
+	 */
+	void get(int slot, float[] target) {
+		block(slot).get(offset(slot), target);
+	}
+
+	/**
+	 * Returns the buffer holding the vector of a slot.
+	 * @param slot the slot
+	 * @return the block of the slot
+	 */
+	FloatBuffer block(int slot) {
+		return this.blocks[slot / this.blockVectors];
+	}
+
+	/**
+	 * Returns the index of the first component of the vector of a slot within its
+	 * {@link #block(int) block}.
+	 * @param slot the slot
+	 * @return the offset within the block
+	 */
+	int offset(int slot) {
+		return (slot % this.blockVectors) * this.dimensions;
+	}
+
+	private FloatBuffer allocate(int floats) {
+		return switch (this.allocation) {
+			case HEAP -> FloatBuffer.allocate(floats);
+			case DIRECT ->
+				ByteBuffer.allocateDirect(floats * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+			case MAPPED -> map(floats);
+		};
+	}
+
+	private static FloatBuffer map(int floats) {
+		try {
+			Path file = Files.createTempFile("spring-ai-vectors-", ".bin");
+			// The mapping outlives the channel; closing it deletes the file.
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+					StandardOpenOption.DELETE_ON_CLOSE)) {
+				return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) floats * Float.BYTES)
+					.order(ByteOrder.nativeOrder())
+					.asFloatBuffer();
+			}
+		}
+		catch (IOException ex) {
+			throw new RuntimeException("Failed to map a vector block to a temporary file", ex);
+		}
+	}
+
+	private enum Allocation {
+
+		HEAP, DIRECT, MAPPED
+
+	}
+
+}
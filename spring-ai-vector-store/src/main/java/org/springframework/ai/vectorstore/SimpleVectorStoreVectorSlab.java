@@ -0,0 +1,276 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Internal exact index that packs every vector of a {@link SimpleVectorStore} into
+ * contiguous float buffers, either on the Java heap or off-heap in direct buffers.
+ *
+ * <p>
+ * Vectors are stored in fixed-size {@link SimpleVectorStoreVectorBlocks blocks}, as a
+ * single buffer cannot hold more than 2 GB. Slots are kept dense: removing a vector moves
+ * the last slot into the freed one, so a search is a sequential scan over
+ * {@code size * dimensions} floats. The magnitude of every vector is computed once on
+ * insertion, which reduces cosine similarity to a single dot product per stored vector.
+ * Only the ids of the best {@code topK} slots are kept during the scan.
+ *
+ * <p>
+ * When a {@link ForkJoinPool} is configured, slabs larger than one segment are split into
+ * contiguous segments that are scanned in parallel, each keeping its own top-k, and the
+ * per-segment results are merged in slot order.
+ */
+final class SimpleVectorStoreVectorSlab implements SimpleVectorStoreIndex {
+
+	private final SimpleVectorStoreScorer scorer;
+
+	private final @Nullable ForkJoinPool searchPool;
+
+	private final int segmentSize;
+
+	private final SimpleVectorStoreVectorBlocks vectors;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, Integer> slots = new HashMap<>();
+
+	private double[] magnitudes = new double[0];
+
+	private @Nullable String[] ids = new String[0];
+
+	private int size;
+
+	/**
+	 * Creates a new, empty slab that is scanned sequentially.
+	 * @param offHeap whether the vectors are stored in a direct buffer outside of the
+	 * Java heap
+	 * @param scorer the scorer used to compare vectors
+	 */
+	SimpleVectorStoreVectorSlab(boolean offHeap, SimpleVectorStoreScorer scorer) {
+		this(offHeap, scorer, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a new, empty slab.
+	 * @param offHeap whether the vectors are stored in a direct buffer outside of the
+	 * Java heap
+	 * @param scorer the scorer used to compare vectors
+	 * @param searchPool the pool used to scan segments in parallel, or {@code null} to
+	 * always scan sequentially
+	 * @param segmentSize the number of vectors scanned by a single task
+	 */
+	SimpleVectorStoreVectorSlab(boolean offHeap, SimpleVectorStoreScorer scorer, @Nullable ForkJoinPool searchPool,
+			int segmentSize) {
+		this(offHeap, scorer, searchPool, segmentSize, SimpleVectorStoreVectorBlocks.DEFAULT_BLOCK_BYTES);
+	}
+
+	/**
+	 * Creates a new, empty slab.
+	 * @param offHeap whether the vectors are stored in direct buffers outside of the Java
+	 * heap
+	 * @param scorer the scorer used to compare vectors
+	 * @param searchPool the pool used to scan segments in parallel, or {@code null} to
+	 * always scan sequentially
+	 * @param segmentSize the number of vectors scanned by a single task
+	 * @param blockBytes the maximum size of a block in bytes; a block always holds at
+	 * least one vector
+	 */
+	SimpleVectorStoreVectorSlab(boolean offHeap, SimpleVectorStoreScorer scorer, @Nullable ForkJoinPool searchPool,
+			int segmentSize, int blockBytes) {
+		Assert.notNull(scorer, "SimpleVectorStoreScorer must not be null");
+		Assert.isTrue(segmentSize > 0, "segmentSize must be positive");
+		Assert.isTrue(blockBytes > 0, "blockBytes must be positive");
+		this.scorer = scorer;
+		this.searchPool = searchPool;
+		this.segmentSize = segmentSize;
+		this.vectors = new SimpleVectorStoreVectorBlocks(offHeap, blockBytes);
+	}
+
+	@Override
+	public void add(String id, float[] vector) {
+		Assert.hasText(id, "id must not be null or empty");
+		Assert.notNull(vector, "vector must not be null");
+		double magnitude = this.scorer.magnitude(vector);
+		this.lock.writeLock().lock();
+		try {
+			this.vectors.checkDimensions(vector.length);
+			Integer slot = this.slots.get(id);
+			if (slot == null) {
+				ensureCapacity(this.size + 1);
+				slot = this.size++;
+				this.slots.put(id, slot);
+			}
+			this.vectors.put(slot, vector);
+			this.magnitudes[slot] = magnitude;
+			this.ids[slot] = id;
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void remove(String id) {
+		this.lock.writeLock().lock();
+		try {
+			Integer slot = this.slots.remove(id);
+			if (slot == null) {
+				return;
+			}
+			int last = --this.size;
+			if (slot != last) {
+				String moved = id(last);
+				this.vectors.move(last, slot);
+				this.magnitudes[slot] = this.magnitudes[last];
+				this.ids[slot] = moved;
+				this.slots.put(moved, slot);
+			}
+			this.ids[last] = null;
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		this.lock.readLock().lock();
+		try {
+			return this.size;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<ScoredId> search(float[] query, int topK, double similarityThreshold,
+			@Nullable Predicate<String> filter) {
+		this.lock.readLock().lock();
+		try {
+			if (this.size == 0 || topK <= 0) {
+				return List.of();
+			}
+			if (query.length != this.vectors.dimensions()) {
+				throw new IllegalArgumentException("Vectors lengths must be equal");
+			}
+			double queryMagnitude = this.scorer.magnitude(query);
+			List<SimpleVectorStoreTopK.Entry<String>> best;
+			if (this.searchPool == null || this.size <= this.segmentSize) {
+				best = scan(query, queryMagnitude, 0, this.size, topK, similarityThreshold, filter);
+			}
+			else {
+				best = scanInParallel(this.searchPool, query, queryMagnitude, topK, similarityThreshold, filter);
+			}
+			List<ScoredId> matches = new ArrayList<>(best.size());
+			for (SimpleVectorStoreTopK.Entry<String> entry : best) {
+				matches.add(new ScoredId(entry.item(), entry.score()));
+			}
+			return matches;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Scans the segments on the pool. The caller holds the read lock for the whole
+	 * search, which keeps writers out while the segment tasks run on other threads.
+	 */
+	private List<SimpleVectorStoreTopK.Entry<String>> scanInParallel(ForkJoinPool pool, float[] query,
+			double queryMagnitude, int topK, double similarityThreshold, @Nullable Predicate<String> filter) {
+		List<Callable<List<SimpleVectorStoreTopK.Entry<String>>>> segments = new ArrayList<>();
+		for (int from = 0; from < this.size; from += this.segmentSize) {
+			int start = from;
+			int end = Math.min(this.size, from + this.segmentSize);
+			segments.add(() -> scan(query, queryMagnitude, start, end, topK, similarityThreshold, filter));
+		}
+		SimpleVectorStoreTopK<String> merged = new SimpleVectorStoreTopK<>(Math.min(topK, this.size));
+		for (Future<List<SimpleVectorStoreTopK.Entry<String>>> segment : pool.invokeAll(segments)) {
+			for (SimpleVectorStoreTopK.Entry<String> entry : join(segment)) {
+				merged.offer(entry.item(), entry.score());
+			}
+		}
+		return merged.drainDescending();
+	}
+
+	private List<SimpleVectorStoreTopK.Entry<String>> scan(float[] query, double queryMagnitude, int from, int to,
+			int topK, double similarityThreshold, @Nullable Predicate<String> filter) {
+		SimpleVectorStoreTopK<String> best = new SimpleVectorStoreTopK<>(Math.min(topK, to - from));
+		for (int slot = from; slot < to; slot++) {
+			String id = id(slot);
+			if (filter != null && !filter.test(id)) {
+				continue;
+			}
+			double score = this.scorer.score(query, queryMagnitude, this.vectors.block(slot), this.vectors.offset(slot),
+					this.magnitudes[slot]);
+			if (score >= similarityThreshold && score > best.minScore()) {
+				best.offer(id, score);
+			}
+		}
+		return best.drainDescending();
+	}
+
+	private static <T> T join(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while searching the vector store", ex);
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Failed to search the vector store", cause);
+		}
+	}
+
+	private String id(int slot) {
+		String id = this.ids[slot];
+		Assert.state(id != null, "Slot " + slot + " is empty");
+		return id;
+	}
+
+	private void ensureCapacity(int required) {
+		this.vectors.ensureCapacity(required);
+		int capacity = this.vectors.capacity();
+		if (this.ids.length < capacity) {
+			int length = (int) Math.min(Integer.MAX_VALUE, Math.max(capacity, 2L * this.ids.length));
+			this.magnitudes = Arrays.copyOf(this.magnitudes, length);
+			this.ids = Arrays.copyOf(this.ids, length);
+		}
+	}
+
+}
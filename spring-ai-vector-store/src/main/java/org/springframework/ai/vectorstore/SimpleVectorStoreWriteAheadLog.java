@@ -0,0 +1,438 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Append-only write-ahead log that persists the changes made to a
+ * {@link SimpleVectorStore} incrementally.
+ *
+ * <p>
+ * The log directory holds a {@link SimpleVectorStoreSnapshot binary snapshot} and a
+ * sequence of numbered log segments. Every add or delete is appended to the current
+ * segment as a length-prefixed, checksummed record before it is applied to the store, so
+ * the cost of persisting a change is proportional to the size of the change. A record
+ * whose change fails to apply is truncated from the segment again. Recovery loads the
+ * snapshot and replays the segments in order; a torn record at the end of a segment, left
+ * behind by a crash during an append, ends the replay of that segment.
+ *
+ * <p>
+ * Once the current segment grows past the compaction threshold, the log switches to a new
+ * segment and a single background thread writes a fresh snapshot, after which the older
+ * segments are deleted. Records are idempotent (an add replaces the document, a delete
+ * removes it), so replaying a segment that is already reflected in the snapshot is
+ * harmless.
+ */
+final class SimpleVectorStoreWriteAheadLog {
+
+	private static final Log logger = LogFactory.getLog(SimpleVectorStoreWriteAheadLog.class);
+
+	static final String SNAPSHOT_FILE = "snapshot.bin";
+
+	private static final String SEGMENT_PREFIX = "wal-";
+
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+
+	private static final byte ADD = 1;
+
+	private static final byte DELETE = 2;
+
+	private static final TypeReference<Map<String, Object>> METADATA_TYPE = new TypeReference<>() {
+
+	};
+
+	private final Path directory;
+
+	private final JsonMapper jsonMapper;
+
+	private final boolean sync;
+
+	private final long compactionThreshold;
+
+	private final Supplier<Collection<SimpleVectorStoreContent>> contents;
+
+	private final Function<SimpleVectorStoreContent, float @Nullable []> embeddings;
+
+	private final ReentrantLock appendLock = new ReentrantLock();
+
+	private final ReentrantLock compactionLock = new ReentrantLock();
+
+	private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
+	private final ExecutorService compactionExecutor;
+
+	private @Nullable FileChannel segment;
+
+	private volatile boolean closed;
+
+	private long segmentNumber;
+
+	/**
+	 * Creates a new write-ahead log.
+	 * @param directory the directory holding the snapshot and the log segments
+	 * @param jsonMapper the mapper used to serialise document metadata
+	 * @param sync whether every append is forced to the storage device
+	 * @param compactionThreshold the segment size in bytes that triggers a compaction
+	 * @param contents supplies the current documents of the store when compacting
+	 * @param embeddings looks up the embedding of a document when compacting, or returns
+	 * {@code null} if the document has been removed
+	 */
+	SimpleVectorStoreWriteAheadLog(Path directory, JsonMapper jsonMapper, boolean sync, long compactionThreshold,
+			Supplier<Collection<SimpleVectorStoreContent>> contents,
+			Function<SimpleVectorStoreContent, float @Nullable []> embeddings) {
+		Assert.notNull(directory, "directory must not be null");
+		Assert.isTrue(compactionThreshold > 0, "compactionThreshold must be positive");
+		this.directory = directory;
+		this.jsonMapper = jsonMapper;
+		this.sync = sync;
+		this.compactionThreshold = compactionThreshold;
+		this.contents = contents;
+		this.embeddings = embeddings;
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("simple-vector-store-compaction-");
+		threadFactory.setDaemon(true);
+		this.compactionExecutor = Executors.newSingleThreadExecutor(threadFactory);
+	}
+
+	/**
+	 * Restores the documents persisted in the log directory and opens a new segment for
+	 * subsequent appends.
+	 * @return the recovered documents keyed by id
+	 * @throws IOException if the log directory cannot be read
+	 */
+	Map<String, SimpleVectorStoreContent> recover() throws IOException {
+		Files.createDirectories(this.directory);
+		Path snapshot = this.directory.resolve(SNAPSHOT_FILE);
+		Map<String, SimpleVectorStoreContent> documents = Files.exists(snapshot)
+				? SimpleVectorStoreSnapshot.read(snapshot, this.jsonMapper) : new HashMap<>();
+		List<Path> segments = segments();
+		for (Path segment : segments) {
+			replay(segment, documents);
+		}
+		this.appendLock.lock();
+		try {
+			this.segmentNumber = segments.isEmpty() ? 0 : segmentNumber(segments.get(segments.size() - 1));
+			openNextSegment();
+		}
+		finally {
+			this.appendLock.unlock();
+		}
+		return documents;
+	}
+
+	/**
+	 * Appends the given documents to the log and then applies the change to the store.
+	 * Both steps happen atomically with respect to other appends, so the order of the
+	 * records matches the order in which the changes were applied.
+	 * @param added the added or replaced documents
+	 * @param apply applies the change to the store
+	 */
+	void appendAdd(List<SimpleVectorStoreContent> added, Runnable apply) {
+		List<ByteBuffer> records = new ArrayList<>(added.size());
+		for (SimpleVectorStoreContent content : added) {
+			records.add(encodeAdd(content));
+		}
+		append(records, apply);
+	}
+
+	/**
+	 * Appends the deletion of the given ids to the log and then applies the change to the
+	 * store.
+	 * @param deleted the deleted ids
+	 * @param apply applies the change to the store
+	 */
+	void appendDelete(List<String> deleted, Runnable apply) {
+		List<ByteBuffer> records = new ArrayList<>(deleted.size());
+		for (String id : deleted) {
+			byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+			ByteBuffer payload = ByteBuffer.allocate(1 + Integer.BYTES + idBytes.length).order(ByteOrder.LITTLE_ENDIAN);
+			payload.put(DELETE).putInt(idBytes.length).put(idBytes);
+			records.add(frame(payload));
+		}
+		append(records, apply);
+	}
+
+	/**
+	 * Writes a snapshot of the current store content and deletes the log segments it
+	 * supersedes.
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	void compact() throws IOException {
+		this.compactionLock.lock();
+		try {
+			Assert.state(!this.closed, "The write-ahead log is closed");
+			long firstRetained;
+			this.appendLock.lock();
+			try {
+				openNextSegment();
+				firstRetained = this.segmentNumber;
+			}
+			finally {
+				this.appendLock.unlock();
+			}
+			SimpleVectorStoreSnapshot.write(this.contents.get(), this.embeddings, this.directory.resolve(SNAPSHOT_FILE),
+					this.jsonMapper);
+			for (Path segment : segments()) {
+				if (segmentNumber(segment) < firstRetained) {
+					Files.delete(segment);
+				}
+			}
+		}
+		finally {
+			this.compactionLock.unlock();
+		}
+	}
+
+	/**
+	 * Waits for a running compaction, closes the current segment and stops the compaction
+	 * thread. Later appends and compactions fail.
+	 * @throws IOException if the segment cannot be closed
+	 */
+	void close() throws IOException {
+		this.compactionExecutor.shutdown();
+		this.compactionLock.lock();
+		try {
+			this.appendLock.lock();
+			try {
+				this.closed = true;
+				FileChannel channel = this.segment;
+				this.segment = null;
+				if (channel != null) {
+					channel.close();
+				}
+			}
+			finally {
+				this.appendLock.unlock();
+			}
+		}
+		finally {
+			this.compactionLock.unlock();
+		}
+	}
+
+	private void append(List<ByteBuffer> records, Runnable apply) {
+		long size;
+		this.appendLock.lock();
+		try {
+			FileChannel channel = this.segment;
+			Assert.state(channel != null, "The write-ahead log is closed or has not been recovered");
+			long start = channel.position();
+			try {
+				write(channel, records);
+				apply.run();
+			}
+			catch (IOException | RuntimeException ex) {
+				discard(channel, start, ex);
+				throw ex;
+			}
+			size = channel.position();
+		}
+		catch (IOException ex) {
+			throw new RuntimeException("Failed to append to the write-ahead log in " + this.directory, ex);
+		}
+		finally {
+			this.appendLock.unlock();
+		}
+		if (size >= this.compactionThreshold && this.compactionScheduled.compareAndSet(false, true)) {
+			try {
+				this.compactionExecutor.execute(this::compactInBackground);
+			}
+			catch (RejectedExecutionException ex) {
+				// The log has been closed concurrently
+				this.compactionScheduled.set(false);
+			}
+		}
+	}
+
+	private void write(FileChannel channel, List<ByteBuffer> records) throws IOException {
+		ByteBuffer[] buffers = records.toArray(new ByteBuffer[0]);
+		long remaining = 0;
+		for (ByteBuffer buffer : buffers) {
+			remaining += buffer.remaining();
+		}
+		while (remaining > 0) {
+			remaining -= channel.write(buffers);
+		}
+		if (this.sync) {
+			channel.force(false);
+		}
+	}
+
+	/**
+	 * Truncates the records of a change that could not be written or applied, so that
+	 * recovery does not replay it.
+	 */
+	private void discard(FileChannel channel, long position, Exception failure) {
+		try {
+			channel.truncate(position);
+			channel.position(position);
+			if (this.sync) {
+				channel.force(false);
+			}
+		}
+		catch (IOException ex) {
+			failure.addSuppressed(ex);
+		}
+	}
+
+	private void compactInBackground() {
+		try {
+			if (!this.closed) {
+				compact();
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			logger.error("Failed to compact the write-ahead log in " + this.directory, ex);
+		}
+		finally {
+			this.compactionScheduled.set(false);
+		}
+	}
+
+	private void openNextSegment() throws IOException {
+		FileChannel previous = this.segment;
+		if (previous != null) {
+			previous.close();
+		}
+		this.segmentNumber++;
+		this.segment = FileChannel.open(segmentPath(this.segmentNumber), StandardOpenOption.CREATE_NEW,
+				StandardOpenOption.WRITE);
+	}
+
+	private void replay(Path segment, Map<String, SimpleVectorStoreContent> documents) throws IOException {
+		ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segment)).order(ByteOrder.LITTLE_ENDIAN);
+		while (data.remaining() >= RECORD_HEADER_BYTES) {
+			int length = data.getInt();
+			int checksum = data.getInt();
+			if (length <= 0 || length > data.remaining()) {
+				logger.warn("Ignoring truncated record at the end of write-ahead log segment " + segment);
+				return;
+			}
+			ByteBuffer payload = data.slice(data.position(), length).order(ByteOrder.LITTLE_ENDIAN);
+			data.position(data.position() + length);
+			CRC32 crc = new CRC32();
+			crc.update(payload.duplicate());
+			if ((int) crc.getValue() != checksum) {
+				logger.warn("Ignoring corrupted record at the end of write-ahead log segment " + segment);
+				return;
+			}
+			if (payload.get() == ADD) {
+				SimpleVectorStoreContent content = decodeAdd(payload);
+				documents.put(content.getId(), content);
+			}
+			else {
+				documents.remove(readString(payload));
+			}
+		}
+	}
+
+	private ByteBuffer encodeAdd(SimpleVectorStoreContent content) {
+		byte[] id = content.getId().getBytes(StandardCharsets.UTF_8);
+		byte[] text = content.getText().getBytes(StandardCharsets.UTF_8);
+		byte[] metadata = this.jsonMapper.writeValueAsBytes(content.getMetadata());
+		float[] embedding = content.embedding();
+		ByteBuffer payload = ByteBuffer
+			.allocate(
+					1 + 4 * Integer.BYTES + id.length + text.length + metadata.length + embedding.length * Float.BYTES)
+			.order(ByteOrder.LITTLE_ENDIAN);
+		payload.put(ADD);
+		payload.putInt(id.length).put(id);
+		payload.putInt(text.length).put(text);
+		payload.putInt(metadata.length).put(metadata);
+		payload.putInt(embedding.length);
+		payload.asFloatBuffer().put(embedding);
+		payload.position(payload.capacity());
+		return frame(payload);
+	}
+
+	private SimpleVectorStoreContent decodeAdd(ByteBuffer payload) {
+		String id = readString(payload);
+		String text = readString(payload);
+		byte[] metadata = new byte[payload.getInt()];
+		payload.get(metadata);
+		float[] embedding = new float[payload.getInt()];
+		payload.asFloatBuffer().get(embedding);
+		return new SimpleVectorStoreContent(id, text, this.jsonMapper.readValue(metadata, METADATA_TYPE), embedding);
+	}
+
+	private static ByteBuffer frame(ByteBuffer payload) {
+		payload.flip();
+		CRC32 crc = new CRC32();
+		crc.update(payload.duplicate());
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.remaining())
+			.order(ByteOrder.LITTLE_ENDIAN);
+		record.putInt(payload.remaining()).putInt((int) crc.getValue()).put(payload).flip();
+		return record;
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(this.directory)) {
+			return files.filter(file -> {
+				String name = file.getFileName().toString();
+				return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+			}).sorted((a, b) -> Long.compare(segmentNumber(a), segmentNumber(b))).toList();
+		}
+	}
+
+	private Path segmentPath(long number) {
+		return this.directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+	}
+
+	private static long segmentNumber(Path segment) {
+		String name = segment.getFileName().toString();
+		return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.ai.document.Document;
+
+/**
+ * Callback notified about the progress of a streaming ingestion started with
+ * {@link org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore#ingest(java.util.Iterator, VectorStoreIngestionListener)}.
+ * Callbacks are invoked from the ingestion threads and should return quickly.
+ *
+ * @since 2.0.1
+ */
+public interface VectorStoreIngestionListener {
+
+	/**
+	 * A listener that ignores every notification.
+	 */
+	VectorStoreIngestionListener NOOP = new VectorStoreIngestionListener() {
+	};
+
+	/**
+	 * Called once the embeddings of a chunk have been computed, before the chunk is
+	 * handed to the writer. Only called for stores that accept precomputed embeddings.
+	 * @param chunk the documents of the chunk
+	 * @param duration the time spent embedding the chunk
+	 */
+	default void onChunkEmbedded(List<Document> chunk, Duration duration) {
+	}
+
+	/**
+	 * Called once a chunk has been written to the store.
+	 * @param chunk the documents of the chunk
+	 * @param duration the time spent writing the chunk
+	 * @param totalWritten the number of documents written so far
+	 */
+	default void onChunkWritten(List<Document> chunk, Duration duration, long totalWritten) {
+	}
+
+}
@@ -16,18 +16,30 @@
 
 package org.springframework.ai.vectorstore.observation;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.BatchingStrategy;
 import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingOptions;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.vectorstore.VectorStoreIngestionListener;
 import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.util.Assert;
 
 /**
  * Abstract base class for {@link VectorStore} implementations that provides observation
@@ -49,12 +61,19 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 
 	protected final BatchingStrategy batchingStrategy;
 
+	private final int ingestionChunkSize;
+
+	private final Executor ingestionExecutor;
+
 	private AbstractObservationVectorStore(EmbeddingModel embeddingModel, ObservationRegistry observationRegistry,
-			@Nullable VectorStoreObservationConvention customObservationConvention, BatchingStrategy batchingStrategy) {
+			@Nullable VectorStoreObservationConvention customObservationConvention, BatchingStrategy batchingStrategy,
+			int ingestionChunkSize, Executor ingestionExecutor) {
 		this.embeddingModel = embeddingModel;
 		this.observationRegistry = observationRegistry;
 		this.customObservationConvention = customObservationConvention;
 		this.batchingStrategy = batchingStrategy;
+		this.ingestionChunkSize = ingestionChunkSize;
+		this.ingestionExecutor = ingestionExecutor;
 	}
 
 	/**
@@ -64,7 +83,7 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 	 */
 	public AbstractObservationVectorStore(AbstractVectorStoreBuilder<?> builder) {
 		this(builder.getEmbeddingModel(), builder.getObservationRegistry(), builder.getCustomObservationConvention(),
-				builder.getBatchingStrategy());
+				builder.getBatchingStrategy(), builder.getIngestionChunkSize(), builder.getIngestionExecutor());
 	}
 
 	/**
@@ -84,6 +103,132 @@ public abstract class AbstractObservationVectorStore implements VectorStore {
 			.observe(() -> this.doAdd(documents));
 	}
 
+	/**
+	 * Streams the given documents into the store and returns once all of them have been
+	 * written.
+	 * @param documents the documents to add
+	 * @return the number of documents added
+	 * @see #ingest(Iterator, VectorStoreIngestionListener)
+	 */
+	public long ingest(Iterator<Document> documents) {
+		return ingest(documents, VectorStoreIngestionListener.NOOP);
+	}
+
+	/**
+	 * Streams the given documents into the store and returns once all of them have been
+	 * written.
+	 * <p>
+	 * The documents are pulled from the iterator in chunks of the configured ingestion
+	 * chunk size. While one chunk is being written on the ingestion executor, the next
+	 * chunk is read and, for stores implementing {@link PrecomputedEmbeddingsWriter},
+	 * embedded on the calling thread. At most two chunks are held in memory at any time,
+	 * so the iterator may lazily read and split a corpus that does not fit in the heap.
+	 * Other stores still ingest in bounded chunks, but embed each chunk as part of
+	 * {@link #doAdd(List)}.
+	 * <p>
+	 * The ingestion stops at the first failure. Chunks written before the failure are not
+	 * rolled back.
+	 * @param documents the documents to add
+	 * @param listener the listener notified as chunks are embedded and written
+	 * @return the number of documents added
+	 */
+	// Micrometer Observation#observe returns the value of the Supplier, which is never
+	// null
+	@SuppressWarnings("DataFlowIssue")
+	public long ingest(Iterator<Document> documents, VectorStoreIngestionListener listener) {
+		Assert.notNull(documents, "Documents must not be null");
+		Assert.notNull(listener, "VectorStoreIngestionListener must not be null");
+		VectorStoreObservationContext observationContext = this
+			.createObservationContextBuilder(VectorStoreObservationContext.Operation.ADD.value())
+			.build();
+
+		return VectorStoreObservationDocumentation.AI_VECTOR_STORE
+			.observation(this.customObservationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
+					this.observationRegistry)
+			.observe(() -> this.doIngest(documents, listener));
+	}
+
+	/**
+	 * Streams the documents emitted by the given {@link Flux} into the store and returns
+	 * once all of them have been written. The flux is consumed with a bounded prefetch,
+	 * so it must not be subscribed on a thread that cannot block.
+	 * @param documents the documents to add
+	 * @return the number of documents added
+	 * @see #ingest(Iterator, VectorStoreIngestionListener)
+	 */
+	public long ingest(Flux<Document> documents) {
+		return ingest(documents, VectorStoreIngestionListener.NOOP);
+	}
+
+	/**
+	 * Streams the documents emitted by the given {@link Flux} into the store and returns
+	 * once all of them have been written. The flux is consumed with a bounded prefetch,
+	 * so it must not be subscribed on a thread that cannot block.
+	 * @param documents the documents to add
+	 * @param listener the listener notified as chunks are embedded and written
+	 * @return the number of documents added
+	 * @see #ingest(Iterator, VectorStoreIngestionListener)
+	 */
+	public long ingest(Flux<Document> documents, VectorStoreIngestionListener listener) {
+		Assert.notNull(documents, "Documents must not be null");
+		try (Stream<Document> stream = documents.toStream(this.ingestionChunkSize)) {
+			return ingest(stream.iterator(), listener);
+		}
+	}
+
+	private long doIngest(Iterator<Document> documents, VectorStoreIngestionListener listener) {
+		PrecomputedEmbeddingsWriter writer = (this instanceof PrecomputedEmbeddingsWriter precomputed) ? precomputed
+				: null;
+		AtomicLong written = new AtomicLong();
+		CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+		try {
+			while (documents.hasNext()) {
+				List<Document> chunk = new ArrayList<>(this.ingestionChunkSize);
+				while (chunk.size() < this.ingestionChunkSize && documents.hasNext()) {
+					chunk.add(documents.next());
+				}
+				validateNonTextDocuments(chunk);
+				List<float[]> embeddings = List.of();
+				if (writer != null) {
+					long start = System.nanoTime();
+					embeddings = this.embeddingModel.embed(chunk, EmbeddingOptions.builder().build(),
+							this.batchingStrategy);
+					listener.onChunkEmbedded(chunk, Duration.ofNanos(System.nanoTime() - start));
+				}
+				pendingWrite.join();
+				List<float[]> chunkEmbeddings = embeddings;
+				pendingWrite = CompletableFuture.runAsync(() -> {
+					long start = System.nanoTime();
+					if (writer != null) {
+						writer.doAdd(chunk, chunkEmbeddings);
+					}
+					else {
+						this.doAdd(chunk);
+					}
+					listener.onChunkWritten(chunk, Duration.ofNanos(System.nanoTime() - start),
+							written.addAndGet(chunk.size()));
+				}, this.ingestionExecutor);
+			}
+			pendingWrite.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+		catch (RuntimeException ex) {
+			try {
+				pendingWrite.join();
+			}
+			catch (CompletionException writeFailure) {
+				ex.addSuppressed(writeFailure.getCause());
+			}
+			throw ex;
+		}
+		return written.get();
+	}
+
 	private void validateNonTextDocuments(List<Document> documents) {
 		if (documents == null) {
 			return;
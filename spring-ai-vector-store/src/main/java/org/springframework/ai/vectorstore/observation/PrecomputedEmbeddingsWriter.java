@@ -0,0 +1,41 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.observation;
+
+import java.util.List;
+
+import org.springframework.ai.document.Document;
+
+/**
+ * Implemented by {@link AbstractObservationVectorStore} subclasses that can write
+ * documents whose embeddings have already been computed. A streaming
+ * {@link AbstractObservationVectorStore#ingest(java.util.Iterator) ingestion} into such a
+ * store embeds the next chunk while the current one is being written.
+ *
+ * @since 2.0.1
+ */
+public interface PrecomputedEmbeddingsWriter {
+
+	/**
+	 * Perform the actual add operation for documents whose embeddings have already been
+	 * computed.
+	 * @param documents the documents to add
+	 * @param embeddings the embeddings of the documents, in the same order
+	 */
+	void doAdd(List<Document> documents, List<float[]> embeddings);
+
+}
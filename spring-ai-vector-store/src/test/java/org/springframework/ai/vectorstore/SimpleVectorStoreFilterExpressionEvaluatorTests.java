@@ -19,12 +19,14 @@ package org.springframework.ai.vectorstore;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.ai.vectorstore.filter.Filter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.AND;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.EQ;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.GT;
@@ -270,4 +272,50 @@ class SimpleVectorStoreFilterExpressionEvaluatorTests {
 		assertThat(this.evaluator.evaluate(exprSingleQuote, Map.of("country 1 2 3", "BG"))).isTrue();
 	}
 
+	// -------------------------------------------------------------------------
+	// Compiled predicates
+	// -------------------------------------------------------------------------
+
+	@Test
+	void testCompiledPredicateIsReusable() {
+		var expr = new Filter.Expression(AND,
+				new Filter.Expression(IN, new Filter.Key("country"), new Filter.Value(List.of("BG", "NL"))),
+				new Filter.Expression(GTE, new Filter.Key("year"), new Filter.Value(2020)));
+		Predicate<Map<String, Object>> predicate = this.evaluator.compile(expr);
+
+		assertThat(predicate.test(Map.of("country", "BG", "year", 2021))).isTrue();
+		assertThat(predicate.test(Map.of("country", "NL", "year", 2020.0))).isTrue();
+		assertThat(predicate.test(Map.of("country", "US", "year", 2021))).isFalse();
+		assertThat(predicate.test(Map.of("country", "BG"))).isFalse();
+	}
+
+	@Test
+	void testInWithMixedTypes() {
+		var expr = new Filter.Expression(IN, new Filter.Key("value"), new Filter.Value(List.of("a", 1)));
+		Predicate<Map<String, Object>> predicate = this.evaluator.compile(expr);
+
+		assertThat(predicate.test(Map.of("value", "a"))).isTrue();
+		assertThat(predicate.test(Map.of())).isFalse();
+		assertThatThrownBy(() -> predicate.test(Map.of("value", "b"))).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void testInWithNonMatchingMetadataType() {
+		var strings = new Filter.Expression(NIN, new Filter.Key("value"), new Filter.Value(List.of("a", "b")));
+		assertThat(this.evaluator.evaluate(strings, Map.of())).isTrue();
+		assertThat(this.evaluator.evaluate(strings, Map.of("value", "a"))).isFalse();
+
+		var numbers = new Filter.Expression(IN, new Filter.Key("value"), new Filter.Value(List.of(1, 2)));
+		assertThat(this.evaluator.evaluate(numbers, Map.of())).isFalse();
+		assertThatThrownBy(() -> this.evaluator.evaluate(numbers, Map.of("value", "1")))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void testMalformedExpressionIsRejectedOnCompile() {
+		var expr = new Filter.Expression(IN, new Filter.Key("value"), new Filter.Value("a"));
+		assertThatThrownBy(() -> this.evaluator.compile(expr)).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("Expected a List value for IN expression");
+	}
+
 }
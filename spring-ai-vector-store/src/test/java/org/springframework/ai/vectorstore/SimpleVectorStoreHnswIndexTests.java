@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreHnswIndexTests {
+
+	private static final int DIMENSIONS = 16;
+
+	private static final SimpleVectorStoreScorer COSINE = new SimpleVectorStoreScorer(
+			SimpleVectorStore.SimilarityMetric.COSINE, SimpleVectorStoreScoringEngine.scalar());
+
+	private final Map<String, float[]> vectors = new HashMap<>();
+
+	private EmbeddingModel embeddingModel;
+
+	@BeforeEach
+	void setUp() {
+		Random random = new Random(7);
+		for (int i = 0; i < 1000; i++) {
+			this.vectors.put(String.valueOf(i), randomVector(random));
+		}
+		this.embeddingModel = mock(EmbeddingModel.class);
+		when(this.embeddingModel.dimensions()).thenReturn(DIMENSIONS);
+		when(this.embeddingModel.embed(any(Document.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<Document>getArgument(0).getId()));
+		when(this.embeddingModel.embed(any(String.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<String>getArgument(0)));
+	}
+
+	@Test
+	void indexRecallMatchesExactSearch() {
+		SimpleVectorStoreHnswIndex index = new SimpleVectorStoreHnswIndex(16, 200, 64, 42L, COSINE);
+		this.vectors.forEach(index::add);
+
+		int hits = 0;
+		for (int q = 0; q < 50; q++) {
+			float[] query = this.vectors.get(String.valueOf(q));
+			Set<String> expected = exactTopK(query, 10);
+			for (SimpleVectorStoreIndex.ScoredId match : index.search(query, 10, 0.0, null)) {
+				if (expected.contains(match.id())) {
+					hits++;
+				}
+			}
+		}
+		assertThat(hits / 500.0).isGreaterThanOrEqualTo(0.95);
+	}
+
+	@Test
+	void indexReturnsResultsOrderedByDescendingScore() {
+		SimpleVectorStoreHnswIndex index = new SimpleVectorStoreHnswIndex(8, 100, 32, 42L, COSINE);
+		this.vectors.forEach(index::add);
+
+		List<SimpleVectorStoreIndex.ScoredId> matches = index.search(this.vectors.get("5"), 5, 0.0, null);
+
+		assertThat(matches).hasSize(5);
+		assertThat(matches.get(0).id()).isEqualTo("5");
+		assertThat(matches.get(0).score()).isCloseTo(1.0, offset(1e-5));
+		for (int i = 1; i < matches.size(); i++) {
+			assertThat(matches.get(i).score()).isLessThanOrEqualTo(matches.get(i - 1).score());
+		}
+	}
+
+	@Test
+	void indexSkipsTombstonesAndReplacedVectors() {
+		SimpleVectorStoreHnswIndex index = new SimpleVectorStoreHnswIndex(8, 100, 32, 42L, COSINE);
+		this.vectors.forEach(index::add);
+
+		index.remove("5");
+		assertThat(index.search(this.vectors.get("5"), 10, 0.0, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.doesNotContain("5");
+
+		index.add("6", this.vectors.get("7"));
+		assertThat(index.size()).isEqualTo(999);
+		assertThat(index.search(this.vectors.get("7"), 2, 0.0, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.containsExactlyInAnyOrder("6", "7");
+	}
+
+	@Test
+	void indexStaysSearchableAfterRebuild() {
+		SimpleVectorStoreHnswIndex index = new SimpleVectorStoreHnswIndex(8, 100, 32, 42L, COSINE);
+		this.vectors.forEach(index::add);
+		for (int i = 0; i < 900; i++) {
+			index.remove(String.valueOf(i));
+		}
+
+		assertThat(index.size()).isEqualTo(100);
+		assertThat(index.search(this.vectors.get("950"), 1, 0.0, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.containsExactly("950");
+	}
+
+	@Test
+	void indexAppliesIdFilter() {
+		SimpleVectorStoreHnswIndex index = new SimpleVectorStoreHnswIndex(8, 100, 32, 42L, COSINE);
+		this.vectors.forEach(index::add);
+
+		List<SimpleVectorStoreIndex.ScoredId> matches = index.search(this.vectors.get("5"), 10, 0.0,
+				id -> Integer.parseInt(id) % 10 == 3);
+
+		assertThat(matches).hasSize(10).allSatisfy(match -> assertThat(match.id()).endsWith("3"));
+	}
+
+	@Test
+	void storeUsesHnswIndex() {
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(this.embeddingModel)
+			.indexType(SimpleVectorStore.IndexType.HNSW)
+			.hnswM(8)
+			.hnswEfConstruction(100)
+			.hnswEfSearch(50)
+			.build();
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			documents
+				.add(Document.builder().id(String.valueOf(i)).text("doc " + i).metadata("even", i % 2 == 0).build());
+		}
+		vectorStore.add(documents);
+
+		SearchRequest request = SearchRequest.builder().query("10").topK(5).build();
+		List<Document> approximate = vectorStore.similaritySearch(request);
+		List<Document> exact = vectorStore.exactSimilaritySearch(request);
+		assertThat(approximate).extracting(Document::getId)
+			.containsExactlyElementsOf(exact.stream().map(Document::getId).toList());
+
+		SearchRequest filtered = SearchRequest.builder()
+			.query("10")
+			.topK(5)
+			.filterExpression(new FilterExpressionBuilder().eq("even", false).build())
+			.build();
+		assertThat(vectorStore.similaritySearch(filtered)).hasSize(5)
+			.allSatisfy(document -> assertThat(document.getMetadata()).containsEntry("even", false));
+
+		vectorStore.delete(List.of("10"));
+		assertThat(vectorStore.similaritySearch(request)).extracting(Document::getId).doesNotContain("10");
+	}
+
+	@Test
+	void builderRejectsInvalidHnswParameters() {
+		SimpleVectorStore.SimpleVectorStoreBuilder builder = SimpleVectorStore.builder(this.embeddingModel);
+		assertThatThrownBy(() -> builder.hnswM(1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> builder.hnswEfConstruction(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> builder.hnswEfSearch(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private Set<String> exactTopK(float[] query, int k) {
+		return this.vectors.entrySet()
+			.stream()
+			.sorted((a, b) -> Double.compare(SimpleVectorStore.EmbeddingMath.cosineSimilarity(query, b.getValue()),
+					SimpleVectorStore.EmbeddingMath.cosineSimilarity(query, a.getValue())))
+			.limit(k)
+			.map(Map.Entry::getKey)
+			.collect(HashSet::new, Set::add, Set::addAll);
+	}
+
+	private static float[] randomVector(Random random) {
+		float[] vector = new float[DIMENSIONS];
+		for (int i = 0; i < DIMENSIONS; i++) {
+			vector[i] = (float) random.nextGaussian();
+		}
+		return vector;
+	}
+
+}
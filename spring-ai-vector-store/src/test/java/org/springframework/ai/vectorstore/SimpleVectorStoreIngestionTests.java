@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.BatchingStrategy;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreIngestionTests {
+
+	private EmbeddingModel embeddingModel;
+
+	@BeforeEach
+	void setUp() {
+		this.embeddingModel = mock(EmbeddingModel.class);
+		when(this.embeddingModel.dimensions()).thenReturn(2);
+		when(this.embeddingModel.embed(any(String.class))).thenReturn(new float[] { 1f, 0f });
+		when(this.embeddingModel.embed(anyList(), any(), any(BatchingStrategy.class))).thenAnswer(invocation -> {
+			List<Document> documents = invocation.getArgument(0);
+			return documents.stream().map(document -> new float[] { 1f, Float.parseFloat(document.getId()) }).toList();
+		});
+	}
+
+	@Test
+	void ingestWritesEveryChunkAndReportsProgress() {
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(this.embeddingModel).ingestionChunkSize(3).build();
+		RecordingListener listener = new RecordingListener();
+
+		long written = vectorStore.ingest(documents(10).iterator(), listener);
+
+		assertThat(written).isEqualTo(10);
+		assertThat(vectorStore.store).hasSize(10);
+		assertThat(vectorStore.store.get("7").getEmbedding()).containsExactly(1f, 7f);
+		assertThat(listener.embedded).containsExactly(3, 3, 3, 1);
+		assertThat(listener.totals).containsExactly(3L, 6L, 9L, 10L);
+		verify(this.embeddingModel, never()).embed(any(Document.class));
+	}
+
+	@Test
+	void ingestConsumesFlux() {
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(this.embeddingModel).ingestionChunkSize(4).build();
+
+		long written = vectorStore.ingest(Flux.fromIterable(documents(25)));
+
+		assertThat(written).isEqualTo(25);
+		assertThat(vectorStore.store).hasSize(25);
+	}
+
+	@Test
+	void ingestStopsAtFirstFailure() {
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(this.embeddingModel).ingestionChunkSize(2).build();
+		List<Document> documents = new ArrayList<>(documents(4));
+		documents.add(Document.builder().id("x").text("not a number").build());
+
+		assertThatThrownBy(() -> vectorStore.ingest(documents.iterator())).isInstanceOf(NumberFormatException.class);
+		assertThat(vectorStore.store).hasSize(4);
+	}
+
+	@Test
+	void builderRejectsInvalidChunkSize() {
+		assertThatThrownBy(() -> SimpleVectorStore.builder(this.embeddingModel).ingestionChunkSize(0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<Document> documents(int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> Document.builder().id(String.valueOf(i)).text("document " + i).build())
+			.toList();
+	}
+
+	private static final class RecordingListener implements VectorStoreIngestionListener {
+
+		private final List<Integer> embedded = Collections.synchronizedList(new ArrayList<>());
+
+		private final List<Long> totals = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void onChunkEmbedded(List<Document> chunk, Duration duration) {
+			this.embedded.add(chunk.size());
+		}
+
+		@Override
+		public void onChunkWritten(List<Document> chunk, Duration duration, long totalWritten) {
+			this.totals.add(totalWritten);
+		}
+
+	}
+
+}
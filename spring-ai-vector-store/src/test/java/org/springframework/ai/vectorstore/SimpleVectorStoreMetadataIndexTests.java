@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreMetadataIndexTests {
+
+	private final FilterExpressionBuilder b = new FilterExpressionBuilder();
+
+	private SimpleVectorStoreMetadataIndex index;
+
+	@BeforeEach
+	void setUp() {
+		this.index = new SimpleVectorStoreMetadataIndex(Set.of("tenant"), Set.of("year", "created"));
+		for (int i = 0; i < 100; i++) {
+			this.index.add(String.valueOf(i), Map.of("tenant", "t" + (i % 10), "year", 2000 + (i % 25), "created",
+					"2024-01-%02dT00:00:00Z".formatted(1 + i % 28)));
+		}
+	}
+
+	@Test
+	void keywordIndexAnswersEqualityAndMembership() {
+		assertThat(this.index.candidates(this.b.eq("tenant", "t3").build())).hasSize(10)
+			.allSatisfy(id -> assertThat(Integer.parseInt(id) % 10).isEqualTo(3));
+		assertThat(this.index.candidates(this.b.in("tenant", "t1", "t2").build())).hasSize(20);
+		assertThat(this.index.candidates(this.b.eq("tenant", "missing").build())).isEmpty();
+	}
+
+	@Test
+	void rangeIndexAnswersLowerBounds() {
+		assertThat(this.index.candidates(this.b.gte("year", 2020).build())).hasSize(20);
+		assertThat(this.index.candidates(this.b.gt("year", 2020.0).build())).hasSize(16);
+		assertThat(this.index.candidates(this.b.eq("year", 2003L).build())).hasSize(4);
+		assertThat(this.index.candidates(this.b.gte("created", new Date(1705968000000L)).build()))
+			.containsExactlyInAnyOrder("22", "23", "24", "25", "26", "27", "50", "51", "52", "53", "54", "55", "78",
+					"79", "80", "81", "82", "83");
+	}
+
+	@Test
+	void plannerCombinesIndexes() {
+		Set<String> and = this.index
+			.candidates(this.b.and(this.b.eq("tenant", "t3"), this.b.gte("year", 2020)).build());
+		assertThat(and).containsExactlyInAnyOrder("23", "73");
+
+		Set<String> andWithScan = this.index
+			.candidates(this.b.and(this.b.eq("tenant", "t3"), this.b.eq("other", "x")).build());
+		assertThat(andWithScan).hasSize(10);
+
+		assertThat(this.index.candidates(this.b.or(this.b.eq("tenant", "t3"), this.b.eq("tenant", "t4")).build()))
+			.hasSize(20);
+		assertThat(this.index.candidates(this.b.or(this.b.eq("tenant", "t3"), this.b.eq("other", "x")).build()))
+			.isNull();
+		assertThat(this.index.candidates(this.b.lt("year", 2020).build())).isNull();
+		assertThat(this.index.candidates(this.b.ne("tenant", "t3").build())).isNull();
+		assertThat(this.index.candidates(this.b.not(this.b.eq("tenant", "t3")).build())).isNull();
+		assertThat(this.index.candidates(this.b.gt("tenant", "t3").build())).isNull();
+	}
+
+	@Test
+	void indexTracksRemovalsAndUnindexableValues() {
+		this.index.remove("3", Map.of("tenant", "t3"));
+		assertThat(this.index.candidates(this.b.eq("tenant", "t3").build())).hasSize(9).doesNotContain("3");
+
+		this.index.add("list", Map.of("tenant", List.of("t3")));
+		assertThat(this.index.candidates(this.b.eq("tenant", "t3").build())).isNull();
+		this.index.remove("list", Map.of("tenant", List.of("t3")));
+		assertThat(this.index.candidates(this.b.eq("tenant", "t3").build())).hasSize(9);
+	}
+
+	@Test
+	void indexedStoreMatchesUnindexedStore() {
+		Random random = new Random(1);
+		Map<String, float[]> vectors = new HashMap<>();
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			vectors.put(String.valueOf(i), randomVector(random));
+			documents.add(Document.builder()
+				.id(String.valueOf(i))
+				.text("doc " + i)
+				.metadata(Map.of("tenant", "t" + (i % 8), "year", 2000 + (i % 30)))
+				.build());
+		}
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.dimensions()).thenReturn(4);
+		when(embeddingModel.embed(any(Document.class)))
+			.thenAnswer(invocation -> vectors.get(invocation.<Document>getArgument(0).getId()));
+		when(embeddingModel.embed(any(String.class))).thenReturn(new float[] { 1f, 0.5f, 0f, -0.5f });
+
+		SimpleVectorStore plain = SimpleVectorStore.builder(embeddingModel).build();
+		List<SimpleVectorStore> indexedStores = List.of(
+				SimpleVectorStore.builder(embeddingModel)
+					.keywordMetadataIndex("tenant")
+					.rangeMetadataIndex("year")
+					.build(),
+				SimpleVectorStore.builder(embeddingModel)
+					.keywordMetadataIndex("tenant")
+					.rangeMetadataIndex("year")
+					.vectorStorage(SimpleVectorStore.VectorStorage.SLAB)
+					.build(),
+				SimpleVectorStore.builder(embeddingModel)
+					.keywordMetadataIndex("tenant")
+					.rangeMetadataIndex("year")
+					.indexType(SimpleVectorStore.IndexType.HNSW)
+					.build());
+		plain.add(documents);
+		indexedStores.forEach(store -> store.add(documents));
+
+		List<Filter.Expression> filters = List.of(this.b.eq("tenant", "t2").build(),
+				this.b.and(this.b.in("tenant", "t1", "t5"), this.b.gte("year", 2015)).build(),
+				this.b.or(this.b.eq("tenant", "t0"), this.b.lt("year", 2003)).build(), this.b.gt("year", 2027).build());
+		for (Filter.Expression filter : filters) {
+			SearchRequest request = SearchRequest.builder()
+				.query("query")
+				.topK(7)
+				.similarityThresholdAll()
+				.filterExpression(filter)
+				.build();
+			List<String> expected = plain.similaritySearch(request).stream().map(Document::getId).toList();
+			for (SimpleVectorStore indexed : indexedStores) {
+				assertThat(indexed.similaritySearch(request)).extracting(Document::getId)
+					.containsExactlyElementsOf(expected);
+			}
+		}
+
+		for (SimpleVectorStore vectorStore : List.of(plain, indexedStores.get(0))) {
+			vectorStore.add(List.of(Document.builder().id("3").text("moved").metadata("tenant", "t2").build()));
+			vectorStore.delete(this.b.eq("tenant", "t3").build());
+			vectorStore.delete(List.of("10"));
+		}
+		SearchRequest tenant = SearchRequest.builder()
+			.query("query")
+			.topK(100)
+			.similarityThresholdAll()
+			.filterExpression(this.b.eq("tenant", "t2").build())
+			.build();
+		assertThat(indexedStores.get(0).store).isEqualTo(plain.store);
+		assertThat(indexedStores.get(0).similaritySearch(tenant)).extracting(Document::getId)
+			.containsExactlyElementsOf(plain.similaritySearch(tenant).stream().map(Document::getId).toList())
+			.contains("3")
+			.doesNotContain("10");
+	}
+
+	private static float[] randomVector(Random random) {
+		return new float[] { random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f,
+				random.nextFloat() - 0.5f };
+	}
+
+}
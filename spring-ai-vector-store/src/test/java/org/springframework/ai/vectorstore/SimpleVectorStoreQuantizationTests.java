@@ -0,0 +1,295 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.File;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreQuantizationTests {
+
+	private static final int DIMENSIONS = 32;
+
+	private static final SimpleVectorStoreScorer COSINE = new SimpleVectorStoreScorer(
+			SimpleVectorStore.SimilarityMetric.COSINE, SimpleVectorStoreScoringEngine.scalar());
+
+	private final Map<String, float[]> vectors = new HashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		Random random = new Random(3);
+		for (int i = 0; i < 2000; i++) {
+			float[] vector = new float[DIMENSIONS];
+			for (int d = 0; d < DIMENSIONS; d++) {
+				vector[d] = (float) random.nextGaussian();
+			}
+			this.vectors.put(String.valueOf(i), vector);
+		}
+	}
+
+	@Test
+	void scalarQuantizerEstimatesDotProduct() {
+		SimpleVectorStoreScalarQuantizer quantizer = new SimpleVectorStoreScalarQuantizer(DIMENSIONS);
+		byte[] codes = new byte[3 * quantizer.codeSize()];
+		float[] vector = this.vectors.get("1");
+		float[] query = this.vectors.get("2");
+		quantizer.encode(vector, codes, quantizer.codeSize());
+
+		double exact = SimpleVectorStore.EmbeddingMath.dotProduct(query, vector);
+		assertThat(quantizer.estimator(query).dotProduct(codes, quantizer.codeSize())).isCloseTo(exact, within(0.25));
+		assertThat(quantizer.codeSize()).isEqualTo(DIMENSIONS + Float.BYTES);
+	}
+
+	@Test
+	void productQuantizerCompressesToOneBytePerSubspace() {
+		SimpleVectorStoreProductQuantizer quantizer = new SimpleVectorStoreProductQuantizer(DIMENSIONS, 0, 42L);
+		assertThat(quantizer.isTrained()).isFalse();
+
+		quantizer.train(new ArrayList<>(this.vectors.values()));
+
+		assertThat(quantizer.isTrained()).isTrue();
+		assertThat(quantizer.codeSize()).isEqualTo(DIMENSIONS / 8);
+		assertThatThrownBy(() -> new SimpleVectorStoreProductQuantizer(DIMENSIONS, 5, 42L))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("must divide the embedding dimensions");
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = SimpleVectorStore.VectorStorage.class, names = { "SCALAR_QUANTIZED", "PRODUCT_QUANTIZED" })
+	void quantizedIndexRecallMatchesExactSearch(SimpleVectorStore.VectorStorage storage) {
+		SimpleVectorStoreQuantizedIndex index = quantizedIndex(storage, 10);
+		this.vectors.forEach(index::add);
+
+		int hits = 0;
+		for (int q = 0; q < 50; q++) {
+			float[] query = this.vectors.get(String.valueOf(q));
+			Set<String> expected = exactTopK(query, 10);
+			List<SimpleVectorStoreIndex.ScoredId> matches = index.search(query, 10, 0.0, null);
+			assertThat(matches.get(0).id()).isEqualTo(String.valueOf(q));
+			assertThat(matches.get(0).score()).isCloseTo(1.0, within(1e-5));
+			for (SimpleVectorStoreIndex.ScoredId match : matches) {
+				if (expected.contains(match.id())) {
+					hits++;
+				}
+			}
+		}
+		assertThat(hits / 500.0).isGreaterThanOrEqualTo(0.9);
+	}
+
+	@Test
+	void productQuantizedIndexIsExactUntilTrained() {
+		SimpleVectorStoreQuantizedIndex index = quantizedIndex(SimpleVectorStore.VectorStorage.PRODUCT_QUANTIZED, 1);
+		for (int i = 0; i < SimpleVectorStoreQuantizedIndex.TRAINING_SIZE - 1; i++) {
+			index.add(String.valueOf(i), this.vectors.get(String.valueOf(i)));
+		}
+		index.remove("7");
+
+		float[] query = this.vectors.get("1500");
+		List<SimpleVectorStoreIndex.ScoredId> matches = index.search(query, 5, 0.0, null);
+		List<SimpleVectorStoreIndex.ScoredId> expected = this.vectors.entrySet()
+			.stream()
+			.filter(entry -> Integer.parseInt(entry.getKey()) < SimpleVectorStoreQuantizedIndex.TRAINING_SIZE - 1
+					&& !entry.getKey().equals("7"))
+			.map(entry -> new SimpleVectorStoreIndex.ScoredId(entry.getKey(),
+					COSINE.score(query, COSINE.magnitude(query), entry.getValue(), COSINE.magnitude(entry.getValue()))))
+			.sorted((a, b) -> Double.compare(b.score(), a.score()))
+			.limit(5)
+			.toList();
+		assertThat(matches).containsExactlyElementsOf(expected);
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = SimpleVectorStore.VectorStorage.class, names = { "SCALAR_QUANTIZED", "PRODUCT_QUANTIZED" })
+	void quantizedIndexHandlesRemovalsAndFilters(SimpleVectorStore.VectorStorage storage) {
+		SimpleVectorStoreQuantizedIndex index = quantizedIndex(storage, 4);
+		this.vectors.forEach(index::add);
+
+		index.remove("5");
+		index.add("6", this.vectors.get("7"));
+
+		assertThat(index.size()).isEqualTo(1999);
+		assertThat(index.search(this.vectors.get("5"), 10, 0.0, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.doesNotContain("5");
+		assertThat(index.search(this.vectors.get("7"), 10, 0.0, id -> id.endsWith("3"))).hasSize(10)
+			.allSatisfy(match -> assertThat(match.id()).endsWith("3"));
+		assertThat(index.search(this.vectors.get("7"), 10, 0.99, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.containsExactlyInAnyOrder("6", "7");
+		assertThat(index.vector("6")).containsExactly(this.vectors.get("7"));
+		assertThat(index.vector("5")).isNull();
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = SimpleVectorStore.VectorStorage.class, names = { "SCALAR_QUANTIZED", "PRODUCT_QUANTIZED" })
+	void storeUsesQuantizedStorage(SimpleVectorStore.VectorStorage storage) {
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.dimensions()).thenReturn(DIMENSIONS);
+		when(embeddingModel.embed(any(Document.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<Document>getArgument(0).getId()));
+		when(embeddingModel.embed(any(String.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<String>getArgument(0)));
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(embeddingModel)
+			.vectorStorage(storage)
+			.rerankFactor(20)
+			.productQuantizationSubspaces(16)
+			.build();
+		List<Document> documents = new ArrayList<>();
+		this.vectors.keySet().forEach(id -> documents.add(Document.builder().id(id).text("doc " + id).build()));
+		vectorStore.add(documents);
+
+		SearchRequest request = SearchRequest.builder().query("42").topK(5).build();
+		List<Document> results = vectorStore.similaritySearch(request);
+		List<Document> exact = vectorStore.exactSimilaritySearch(request);
+
+		assertThat(results).extracting(Document::getId)
+			.containsExactlyElementsOf(exact.stream().map(Document::getId).toList());
+		for (int i = 0; i < results.size(); i++) {
+			assertThat(results.get(i).getScore()).isCloseTo(exact.get(i).getScore(), within(1e-6));
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = SimpleVectorStore.VectorStorage.class, names = { "SCALAR_QUANTIZED", "PRODUCT_QUANTIZED" })
+	void storeKeepsQuantizedEmbeddingsOutOfTheDocumentMap(SimpleVectorStore.VectorStorage storage,
+			@TempDir Path directory) {
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed(any(Document.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<Document>getArgument(0).getId()));
+		when(embeddingModel.embed(any(String.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<String>getArgument(0)));
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(embeddingModel).vectorStorage(storage).build();
+		List<Document> documents = new ArrayList<>();
+		this.vectors.keySet()
+			.forEach(id -> documents.add(Document.builder()
+				.id(id)
+				.text("doc " + id)
+				.metadata("even", Integer.parseInt(id) % 2 == 0)
+				.build()));
+		vectorStore.add(documents);
+
+		assertThat(contents(vectorStore)).noneMatch(SimpleVectorStoreContent::hasEmbedding);
+		SearchRequest filtered = SearchRequest.builder().query("42").topK(3).filterExpression("even == true").build();
+		assertThat(vectorStore.exactSimilaritySearch(filtered)).first()
+			.satisfies(document -> assertThat(document.getScore()).isCloseTo(1.0, within(1e-6)))
+			.extracting(Document::getId)
+			.isEqualTo("42");
+
+		File json = directory.resolve("store.json").toFile();
+		File snapshot = directory.resolve("store.snapshot").toFile();
+		vectorStore.save(json);
+		vectorStore.saveSnapshot(snapshot);
+		SearchRequest request = SearchRequest.builder().query("42").topK(5).build();
+		List<Document> expected = vectorStore.exactSimilaritySearch(request);
+		for (Consumer<SimpleVectorStore> load : List.<Consumer<SimpleVectorStore>>of(store -> store.load(json),
+				store -> store.loadSnapshot(snapshot))) {
+			SimpleVectorStore restored = SimpleVectorStore.builder(embeddingModel).vectorStorage(storage).build();
+			load.accept(restored);
+			assertThat(contents(restored)).hasSize(this.vectors.size())
+				.noneMatch(SimpleVectorStoreContent::hasEmbedding);
+			assertThat(restored.exactSimilaritySearch(request)).extracting(Document::getId)
+				.containsExactlyElementsOf(expected.stream().map(Document::getId).toList());
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = SimpleVectorStore.VectorStorage.class, names = { "SCALAR_QUANTIZED", "PRODUCT_QUANTIZED" })
+	void quantizedIndexKeepsFullPrecisionVectorsOutOfDirectMemory(SimpleVectorStore.VectorStorage storage) {
+		BufferPoolMXBean direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)
+			.stream()
+			.filter(pool -> pool.getName().equals("direct"))
+			.findFirst()
+			.orElseThrow();
+		long directBefore = direct.getMemoryUsed();
+
+		SimpleVectorStoreQuantizedIndex index = quantizedIndex(storage, 4);
+		this.vectors.forEach(index::add);
+
+		assertThat(direct.getMemoryUsed() - directBefore)
+			.isLessThan((long) this.vectors.size() * DIMENSIONS * Float.BYTES);
+		this.vectors.forEach((id, vector) -> assertThat(index.vector(id)).containsExactly(vector));
+	}
+
+	@Test
+	void memoryMappedBlocksKeepVectorsAcrossBlocks() {
+		SimpleVectorStoreVectorBlocks blocks = SimpleVectorStoreVectorBlocks
+			.memoryMapped(10 * DIMENSIONS * Float.BYTES);
+		blocks.checkDimensions(DIMENSIONS);
+		blocks.ensureCapacity(this.vectors.size());
+		for (int slot = 0; slot < this.vectors.size(); slot++) {
+			blocks.put(slot, this.vectors.get(String.valueOf(slot)));
+		}
+		blocks.move(7, 5);
+
+		float[] vector = new float[DIMENSIONS];
+		for (int slot = 0; slot < this.vectors.size(); slot++) {
+			blocks.get(slot, vector);
+			assertThat(vector).containsExactly(this.vectors.get(String.valueOf((slot == 5) ? 7 : slot)));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Collection<SimpleVectorStoreContent> contents(SimpleVectorStore vectorStore) {
+		Map<String, SimpleVectorStoreContent> store = (Map<String, SimpleVectorStoreContent>) ReflectionTestUtils
+			.getField(vectorStore, "store");
+		assertThat(store).isNotNull();
+		return store.values();
+	}
+
+	private SimpleVectorStoreQuantizedIndex quantizedIndex(SimpleVectorStore.VectorStorage storage, int rerankFactor) {
+		return new SimpleVectorStoreQuantizedIndex(
+				(storage == SimpleVectorStore.VectorStorage.SCALAR_QUANTIZED) ? SimpleVectorStoreScalarQuantizer::new
+						: dimensions -> new SimpleVectorStoreProductQuantizer(dimensions, 16, 42L),
+				COSINE, rerankFactor);
+	}
+
+	private Set<String> exactTopK(float[] query, int k) {
+		return this.vectors.entrySet()
+			.stream()
+			.sorted((a, b) -> Double.compare(SimpleVectorStore.EmbeddingMath.cosineSimilarity(query, b.getValue()),
+					SimpleVectorStore.EmbeddingMath.cosineSimilarity(query, a.getValue())))
+			.limit(k)
+			.map(Map.Entry::getKey)
+			.collect(HashSet::new, Set::add, Set::addAll);
+	}
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreScoringEngineTests {
+
+	private final Random random = new Random(5);
+
+	static Stream<Arguments> engines() {
+		return Stream.of(Arguments.of(SimpleVectorStoreScoringEngine.scalar()),
+				Arguments.of(SimpleVectorStoreScoringEngine.bestAvailable()));
+	}
+
+	@Test
+	void bestAvailableUsesVectorApiWhenModuleIsPresent() {
+		boolean vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+		assertThat(SimpleVectorStoreScoringEngine.bestAvailable().getClass().getSimpleName()).isEqualTo(
+				vectorModule ? "SimpleVectorStoreVectorApiScoringEngine" : "SimpleVectorStoreScalarScoringEngine");
+	}
+
+	@ParameterizedTest
+	@MethodSource("engines")
+	void kernelsMatchReferenceImplementation(SimpleVectorStoreScoringEngine engine) {
+		for (int length : new int[] { 1, 3, 4, 7, 16, 33, 384, 1537 }) {
+			float[] x = randomVector(length);
+			float[] y = randomVector(length);
+
+			double expectedDot = 0;
+			double expectedDistance = 0;
+			for (int i = 0; i < length; i++) {
+				expectedDot += (double) x[i] * y[i];
+				expectedDistance += (double) (x[i] - y[i]) * (x[i] - y[i]);
+			}
+
+			assertThat((double) engine.dotProduct(x, y)).isCloseTo(expectedDot, within(1e-3));
+			assertThat((double) engine.squaredDistance(x, y)).isCloseTo(expectedDistance, within(1e-3));
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("engines")
+	void bufferKernelsMatchArrayKernels(SimpleVectorStoreScoringEngine engine) {
+		float[] query = randomVector(37);
+		float[] stored = randomVector(37);
+		FloatBuffer heap = FloatBuffer.allocate(74);
+		FloatBuffer direct = ByteBuffer.allocateDirect(74 * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+		heap.put(37, stored);
+		direct.put(37, stored);
+
+		for (FloatBuffer buffer : List.of(heap, direct)) {
+			assertThat(engine.dotProduct(query, buffer, 37)).isCloseTo(engine.dotProduct(query, stored), within(1e-4f));
+			assertThat(engine.squaredDistance(query, buffer, 37)).isCloseTo(engine.squaredDistance(query, stored),
+					within(1e-4f));
+		}
+	}
+
+	@Test
+	void scorerAppliesMetric() {
+		float[] x = { 3f, 4f };
+		float[] y = { 4f, 3f };
+		SimpleVectorStoreScoringEngine engine = SimpleVectorStoreScoringEngine.scalar();
+
+		SimpleVectorStoreScorer cosine = new SimpleVectorStoreScorer(SimpleVectorStore.SimilarityMetric.COSINE, engine);
+		assertThat(cosine.score(x, cosine.magnitude(x), y, cosine.magnitude(y))).isCloseTo(24.0 / 25.0, within(1e-6));
+
+		SimpleVectorStoreScorer dot = new SimpleVectorStoreScorer(SimpleVectorStore.SimilarityMetric.DOT_PRODUCT,
+				engine);
+		assertThat(dot.score(x, dot.magnitude(x), y, dot.magnitude(y))).isEqualTo(24.0);
+
+		SimpleVectorStoreScorer euclidean = new SimpleVectorStoreScorer(SimpleVectorStore.SimilarityMetric.EUCLIDEAN,
+				engine);
+		assertThat(euclidean.score(x, euclidean.magnitude(x), y, euclidean.magnitude(y)))
+			.isCloseTo(1.0 / (1.0 + Math.sqrt(2)), within(1e-6));
+		assertThat(euclidean.magnitude(new float[] { 0f, 0f })).isEqualTo(1.0);
+
+		assertThatThrownBy(() -> cosine.magnitude(new float[] { 0f, 0f })).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Vectors cannot have zero norm");
+		assertThatThrownBy(() -> cosine.score(x, 5.0, new float[] { 1f }, 1.0))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Vectors lengths must be equal");
+	}
+
+	@Test
+	void parallelSlabSearchMatchesSequentialSearch() {
+		SimpleVectorStoreScorer scorer = new SimpleVectorStoreScorer(SimpleVectorStore.SimilarityMetric.COSINE,
+				SimpleVectorStoreScoringEngine.bestAvailable());
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			SimpleVectorStoreVectorSlab sequential = new SimpleVectorStoreVectorSlab(true, scorer);
+			SimpleVectorStoreVectorSlab parallel = new SimpleVectorStoreVectorSlab(true, scorer, pool, 100);
+			for (int i = 0; i < 1000; i++) {
+				float[] vector = randomVector(24);
+				sequential.add(String.valueOf(i), vector);
+				parallel.add(String.valueOf(i), vector);
+			}
+			float[] query = randomVector(24);
+
+			assertThat(parallel.search(query, 25, 0.0, id -> !id.endsWith("7")))
+				.containsExactlyElementsOf(sequential.search(query, 25, 0.0, id -> !id.endsWith("7")));
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(SimpleVectorStore.SimilarityMetric.class)
+	void storeRanksWithConfiguredMetric(SimpleVectorStore.SimilarityMetric metric) {
+		Map<String, float[]> vectors = Map.of("near", new float[] { 1f, 0.1f }, "far", new float[] { -1f, 0.5f },
+				"query", new float[] { 1f, 0f });
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.dimensions()).thenReturn(2);
+		when(embeddingModel.embed(any(Document.class)))
+			.thenAnswer(invocation -> vectors.get(invocation.<Document>getArgument(0).getId()));
+		when(embeddingModel.embed(any(String.class)))
+			.thenAnswer(invocation -> vectors.get(invocation.<String>getArgument(0)));
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			List<SimpleVectorStore> stores = new ArrayList<>();
+			stores.add(SimpleVectorStore.builder(embeddingModel).similarityMetric(metric).build());
+			stores.add(SimpleVectorStore.builder(embeddingModel)
+				.similarityMetric(metric)
+				.vectorStorage(SimpleVectorStore.VectorStorage.SLAB)
+				.searchPool(pool)
+				.searchSegmentSize(1)
+				.build());
+			stores.add(SimpleVectorStore.builder(embeddingModel)
+				.similarityMetric(metric)
+				.indexType(SimpleVectorStore.IndexType.HNSW)
+				.build());
+
+			for (SimpleVectorStore store : stores) {
+				store.add(List.of(Document.builder().id("near").text("near").build(),
+						Document.builder().id("far").text("far").build()));
+				List<Document> results = store
+					.similaritySearch(SearchRequest.builder().query("query").topK(2).similarityThresholdAll().build());
+
+				assertThat(results).extracting(Document::getId).first().isEqualTo("near");
+				assertThat(store.createObservationContextBuilder("query").build().getSimilarityMetric())
+					.isEqualTo(metric.observationMetric().value());
+			}
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void builderRejectsParallelSearchOverMapStorage() {
+		SimpleVectorStore.SimpleVectorStoreBuilder builder = SimpleVectorStore.builder(mock(EmbeddingModel.class))
+			.searchPool(ForkJoinPool.commonPool());
+
+		assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Parallel search requires SLAB or OFF_HEAP_SLAB vector storage");
+	}
+
+	private float[] randomVector(int length) {
+		float[] vector = new float[length];
+		for (int i = 0; i < length; i++) {
+			vector[i] = (float) this.random.nextGaussian();
+		}
+		return vector;
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreSnapshotTests {
+
+	private static final int DIMENSIONS = 32;
+
+	@TempDir(cleanup = CleanupMode.ON_SUCCESS)
+	Path tempDir;
+
+	private final Map<String, float[]> vectors = new HashMap<>();
+
+	private EmbeddingModel embeddingModel;
+
+	@BeforeEach
+	void setUp() {
+		Random random = new Random(11);
+		for (int i = 0; i < 500; i++) {
+			float[] vector = new float[DIMENSIONS];
+			for (int d = 0; d < DIMENSIONS; d++) {
+				vector[d] = (float) random.nextGaussian();
+			}
+			this.vectors.put(String.valueOf(i), vector);
+		}
+		this.embeddingModel = mock(EmbeddingModel.class);
+		when(this.embeddingModel.dimensions()).thenReturn(DIMENSIONS);
+		when(this.embeddingModel.embed(any(Document.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<Document>getArgument(0).getId()));
+		when(this.embeddingModel.embed(any(String.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<String>getArgument(0)));
+	}
+
+	@Test
+	void shouldSaveAndLoadSnapshot() {
+		SimpleVectorStore vectorStore = populatedStore();
+		File snapshot = this.tempDir.resolve("vector-store.bin").toFile();
+
+		vectorStore.saveSnapshot(snapshot);
+		SimpleVectorStore loadedStore = SimpleVectorStore.builder(this.embeddingModel).build();
+		loadedStore.loadSnapshot(snapshot);
+
+		assertThat(loadedStore.store).isEqualTo(vectorStore.store);
+		SearchRequest request = SearchRequest.builder().query("42").topK(3).build();
+		assertThat(loadedStore.similaritySearch(request)).extracting(Document::getId)
+			.containsExactlyElementsOf(vectorStore.similaritySearch(request).stream().map(Document::getId).toList());
+	}
+
+	@Test
+	void shouldLoadSnapshotFromStreamingResource() throws IOException {
+		SimpleVectorStore vectorStore = populatedStore();
+		Path snapshot = this.tempDir.resolve("vector-store.bin");
+		vectorStore.saveSnapshot(snapshot.toFile());
+
+		SimpleVectorStore fromStream = SimpleVectorStore.builder(this.embeddingModel).build();
+		fromStream.loadSnapshot(new ByteArrayResource(Files.readAllBytes(snapshot)));
+		SimpleVectorStore fromFile = SimpleVectorStore.builder(this.embeddingModel).build();
+		fromFile.loadSnapshot(new FileSystemResource(snapshot));
+
+		assertThat(fromStream.store).isEqualTo(vectorStore.store);
+		assertThat(fromFile.store).isEqualTo(vectorStore.store);
+	}
+
+	@Test
+	void shouldRebuildIndexAfterLoadingSnapshot() {
+		SimpleVectorStore vectorStore = populatedStore();
+		File snapshot = this.tempDir.resolve("vector-store.bin").toFile();
+		vectorStore.saveSnapshot(snapshot);
+
+		for (SimpleVectorStore loadedStore : List.of(
+				SimpleVectorStore.builder(this.embeddingModel).indexType(SimpleVectorStore.IndexType.HNSW).build(),
+				SimpleVectorStore.builder(this.embeddingModel)
+					.vectorStorage(SimpleVectorStore.VectorStorage.OFF_HEAP_SLAB)
+					.build())) {
+			loadedStore.loadSnapshot(snapshot);
+
+			assertThat(loadedStore.similaritySearch(SearchRequest.builder().query("7").topK(1).build()))
+				.extracting(Document::getId)
+				.containsExactly("7");
+		}
+	}
+
+	@Test
+	void shouldOverwriteExistingSnapshot() {
+		File snapshot = this.tempDir.resolve("vector-store.bin").toFile();
+		populatedStore().saveSnapshot(snapshot);
+
+		SimpleVectorStore emptyStore = SimpleVectorStore.builder(this.embeddingModel).build();
+		emptyStore.saveSnapshot(snapshot);
+		SimpleVectorStore loadedStore = SimpleVectorStore.builder(this.embeddingModel).build();
+		loadedStore.loadSnapshot(snapshot);
+
+		assertThat(loadedStore.store).isEmpty();
+		assertThat(this.tempDir.toFile().list()).containsExactly("vector-store.bin");
+	}
+
+	@Test
+	void shouldRejectInvalidSnapshot() throws IOException {
+		Path json = this.tempDir.resolve("vector-store.json");
+		populatedStore().save(json.toFile());
+
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(this.embeddingModel).build();
+		assertThatThrownBy(() -> vectorStore.loadSnapshot(json.toFile())).isInstanceOf(IllegalStateException.class)
+			.hasMessage("Not a SimpleVectorStore snapshot");
+		assertThatThrownBy(() -> vectorStore.loadSnapshot(new ByteArrayResource(new byte[] { 1, 2 })))
+			.isInstanceOf(RuntimeException.class)
+			.hasCauseInstanceOf(IOException.class);
+	}
+
+	@Test
+	void shouldRejectEmbeddingsOfDifferentDimensions() {
+		this.vectors.put("short", new float[] { 1f, 2f });
+		SimpleVectorStore vectorStore = populatedStore();
+		vectorStore.add(List.of(Document.builder().id("short").text("short").build()));
+
+		assertThatThrownBy(() -> vectorStore.saveSnapshot(this.tempDir.resolve("vector-store.bin").toFile()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("Snapshots require all embeddings to have the same dimensions");
+	}
+
+	private SimpleVectorStore populatedStore() {
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(this.embeddingModel).build();
+		List<Document> documents = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			documents.add(Document.builder()
+				.id(String.valueOf(i))
+				.text("document " + i)
+				.metadata(Map.of("index", i, "even", i % 2 == 0, "tags", List.of("t" + i % 3)))
+				.build());
+		}
+		vectorStore.add(documents);
+		return vectorStore;
+	}
+
+}
@@ -31,6 +31,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import org.springframework.ai.content.Media;
 import org.springframework.ai.document.Document;
@@ -248,6 +250,37 @@ class SimpleVectorStoreTests {
 			.hasMessage("TopK should be positive.");
 	}
 
+	@ParameterizedTest
+	@EnumSource(SimpleVectorStore.VectorStorage.class)
+	void shouldReturnNothingForZeroTopK(SimpleVectorStore.VectorStorage storage) {
+		SimpleVectorStore store = SimpleVectorStore.builder(this.mockEmbeddingModel)
+			.vectorStorage(storage)
+			.productQuantizationSubspaces(3)
+			.build();
+		store.add(List.of(new Document("1", "first", Map.of()), new Document("2", "second", Map.of())));
+
+		SearchRequest request = SearchRequest.builder().query("test").topK(0).build();
+
+		assertThat(store.similaritySearch(request)).isEmpty();
+		assertThat(store.exactSimilaritySearch(request)).isEmpty();
+	}
+
+	@ParameterizedTest
+	@EnumSource(SimpleVectorStore.VectorStorage.class)
+	void shouldReturnAllDocumentsForMaxTopK(SimpleVectorStore.VectorStorage storage) {
+		SimpleVectorStore store = SimpleVectorStore.builder(this.mockEmbeddingModel)
+			.vectorStorage(storage)
+			.productQuantizationSubspaces(3)
+			.build();
+		store.add(List.of(new Document("1", "first", Map.of()), new Document("2", "second", Map.of())));
+
+		SearchRequest request = SearchRequest.builder().query("test").topK(Integer.MAX_VALUE).build();
+
+		assertThat(store.similaritySearch(request)).extracting(Document::getId).containsExactlyInAnyOrder("1", "2");
+		assertThat(store.exactSimilaritySearch(request)).extracting(Document::getId)
+			.containsExactlyInAnyOrder("1", "2");
+	}
+
 	@Test
 	void shouldHandleCosineSimilarityEdgeCases() {
 		float[] zeroVector = new float[] { 0f, 0f, 0f };
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimpleVectorStoreTopKTests {
+
+	@Test
+	void keepsHighestScoresInDescendingOrder() {
+		SimpleVectorStoreTopK<String> topK = new SimpleVectorStoreTopK<>(3);
+		topK.offer("a", 0.1);
+		topK.offer("b", 0.9);
+		topK.offer("c", 0.5);
+		assertThat(topK.offer("d", 0.05)).isFalse();
+		assertThat(topK.offer("e", 0.7)).isTrue();
+
+		assertThat(topK.minScore()).isEqualTo(0.5);
+		assertThat(topK.drainDescending()).extracting(SimpleVectorStoreTopK.Entry::item).containsExactly("b", "e", "c");
+		assertThat(topK.size()).isZero();
+	}
+
+	@Test
+	void minScoreIsUnboundedUntilFull() {
+		SimpleVectorStoreTopK<String> topK = new SimpleVectorStoreTopK<>(2);
+		topK.offer("a", 0.3);
+
+		assertThat(topK.minScore()).isEqualTo(Double.NEGATIVE_INFINITY);
+		assertThat(topK.drainDescending()).extracting(SimpleVectorStoreTopK.Entry::item).containsExactly("a");
+	}
+
+	@Test
+	void matchesFullSortOnRandomInput() {
+		Random random = new Random(3);
+		SimpleVectorStoreTopK<Integer> topK = new SimpleVectorStoreTopK<>(10);
+		double[] scores = new double[1000];
+		for (int i = 0; i < scores.length; i++) {
+			scores[i] = random.nextDouble();
+			topK.offer(i, scores[i]);
+		}
+
+		double[] sorted = scores.clone();
+		Arrays.sort(sorted);
+		assertThat(topK.drainDescending()).extracting(SimpleVectorStoreTopK.Entry::score)
+			.containsExactly(sorted[999], sorted[998], sorted[997], sorted[996], sorted[995], sorted[994], sorted[993],
+					sorted[992], sorted[991], sorted[990]);
+	}
+
+}
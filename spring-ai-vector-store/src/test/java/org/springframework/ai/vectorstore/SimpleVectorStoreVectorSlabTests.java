@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.filter.FilterExpressionBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreVectorSlabTests {
+
+	private static final int DIMENSIONS = 8;
+
+	private static final SimpleVectorStoreScorer COSINE = new SimpleVectorStoreScorer(
+			SimpleVectorStore.SimilarityMetric.COSINE, SimpleVectorStoreScoringEngine.scalar());
+
+	private final Map<String, float[]> vectors = new LinkedHashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		Random random = new Random(11);
+		for (int i = 0; i < 300; i++) {
+			float[] vector = new float[DIMENSIONS];
+			for (int j = 0; j < DIMENSIONS; j++) {
+				vector[j] = (float) random.nextGaussian();
+			}
+			this.vectors.put(String.valueOf(i), vector);
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void slabReturnsExactTopK(boolean offHeap) {
+		SimpleVectorStoreVectorSlab slab = new SimpleVectorStoreVectorSlab(offHeap, COSINE);
+		this.vectors.forEach(slab::add);
+		float[] query = this.vectors.get("42");
+
+		List<SimpleVectorStoreIndex.ScoredId> matches = slab.search(query, 5, 0.0, null);
+
+		List<String> expected = this.vectors.entrySet()
+			.stream()
+			.sorted((a, b) -> Double.compare(SimpleVectorStore.EmbeddingMath.cosineSimilarity(query, b.getValue()),
+					SimpleVectorStore.EmbeddingMath.cosineSimilarity(query, a.getValue())))
+			.limit(5)
+			.map(Map.Entry::getKey)
+			.toList();
+		assertThat(matches).extracting(SimpleVectorStoreIndex.ScoredId::id).containsExactlyElementsOf(expected);
+		assertThat(matches.get(0).score()).isCloseTo(1.0, offset(1e-5));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void slabCompactsSlotsOnRemoveAndReplacesInPlace(boolean offHeap) {
+		SimpleVectorStoreVectorSlab slab = new SimpleVectorStoreVectorSlab(offHeap, COSINE);
+		this.vectors.forEach(slab::add);
+
+		slab.remove("0");
+		slab.remove("unknown");
+		slab.add("1", this.vectors.get("2"));
+
+		assertThat(slab.size()).isEqualTo(299);
+		assertThat(slab.search(this.vectors.get("0"), 300, -1.0, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.doesNotContain("0")
+			.hasSize(299);
+		assertThat(slab.search(this.vectors.get("299"), 1, 0.0, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.containsExactly("299");
+		assertThat(slab.search(this.vectors.get("2"), 2, 0.0, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.containsExactlyInAnyOrder("1", "2");
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void slabGrowsAndCompactsAcrossBlocks(boolean offHeap) {
+		// 50 vectors per block, so the 300 vectors span six blocks
+		SimpleVectorStoreVectorSlab slab = new SimpleVectorStoreVectorSlab(offHeap, COSINE, null, Integer.MAX_VALUE,
+				50 * DIMENSIONS * Float.BYTES);
+		this.vectors.forEach(slab::add);
+
+		slab.remove("10");
+		slab.remove("120");
+
+		assertThat(slab.size()).isEqualTo(298);
+		for (String id : List.of("0", "49", "50", "199", "298")) {
+			assertThat(slab.search(this.vectors.get(id), 1, 0.0, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+				.containsExactly(id);
+		}
+		assertThat(slab.search(this.vectors.get("10"), 300, -1.0, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.doesNotContain("10", "120")
+			.hasSize(298);
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void slabAppliesThresholdAndFilter(boolean offHeap) {
+		SimpleVectorStoreVectorSlab slab = new SimpleVectorStoreVectorSlab(offHeap, COSINE);
+		this.vectors.forEach(slab::add);
+
+		assertThat(slab.search(this.vectors.get("7"), 10, 0.999, null)).extracting(SimpleVectorStoreIndex.ScoredId::id)
+			.containsExactly("7");
+		assertThat(slab.search(this.vectors.get("7"), 10, 0.0, id -> id.startsWith("1")))
+			.allSatisfy(match -> assertThat(match.id()).startsWith("1"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void slabRejectsDimensionMismatch(boolean offHeap) {
+		SimpleVectorStoreVectorSlab slab = new SimpleVectorStoreVectorSlab(offHeap, COSINE);
+		slab.add("a", new float[] { 1f, 2f });
+
+		assertThatThrownBy(() -> slab.add("b", new float[] { 1f, 2f, 3f })).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Vectors lengths must be equal");
+		assertThatThrownBy(() -> slab.search(new float[] { 1f }, 1, 0.0, null))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Vectors lengths must be equal");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "MAP", "SLAB", "OFF_HEAP_SLAB" })
+	void storeSearchMatchesExactSearch(SimpleVectorStore.VectorStorage vectorStorage) {
+		EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed(any(Document.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<Document>getArgument(0).getId()));
+		when(embeddingModel.embed(any(String.class)))
+			.thenAnswer(invocation -> this.vectors.get(invocation.<String>getArgument(0)));
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(embeddingModel).vectorStorage(vectorStorage).build();
+		List<Document> documents = new ArrayList<>();
+		this.vectors.keySet()
+			.forEach(id -> documents
+				.add(Document.builder().id(id).text("doc " + id).metadata("mod", id.length()).build()));
+		vectorStore.add(documents);
+
+		SearchRequest request = SearchRequest.builder()
+			.query("17")
+			.topK(7)
+			.filterExpression(new FilterExpressionBuilder().eq("mod", 2).build())
+			.build();
+		List<Document> results = vectorStore.similaritySearch(request);
+
+		assertThat(results).hasSize(7).extracting(Document::getId).first().isEqualTo("17");
+		assertThat(results).extracting(Document::getId)
+			.containsExactlyElementsOf(
+					vectorStore.exactSimilaritySearch(request).stream().map(Document::getId).toList());
+		assertThat(results).allSatisfy(document -> assertThat(document.getMetadata()).containsEntry("mod", 2));
+
+		vectorStore.delete(List.of("17"));
+		assertThat(vectorStore.similaritySearch(request)).extracting(Document::getId).doesNotContain("17");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "SLAB", "OFF_HEAP_SLAB" })
+	void builderRejectsSlabWithHnsw(SimpleVectorStore.VectorStorage vectorStorage) {
+		SimpleVectorStore.SimpleVectorStoreBuilder builder = SimpleVectorStore.builder(mock(EmbeddingModel.class))
+			.indexType(SimpleVectorStore.IndexType.HNSW)
+			.vectorStorage(vectorStorage);
+
+		assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("only supported by the EXACT index");
+	}
+
+}
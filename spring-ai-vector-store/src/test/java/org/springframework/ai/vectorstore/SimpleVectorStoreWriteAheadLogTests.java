@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.CleanupMode;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleVectorStoreWriteAheadLogTests {
+
+	@TempDir(cleanup = CleanupMode.ON_SUCCESS)
+	Path tempDir;
+
+	private EmbeddingModel embeddingModel;
+
+	@BeforeEach
+	void setUp() {
+		this.embeddingModel = mock(EmbeddingModel.class);
+		when(this.embeddingModel.dimensions()).thenReturn(3);
+		when(this.embeddingModel.embed(any(String.class))).thenReturn(new float[] { 1f, 0f, 0f });
+		when(this.embeddingModel.embed(any(Document.class))).thenAnswer(invocation -> {
+			int id = Integer.parseInt(invocation.<Document>getArgument(0).getId());
+			return new float[] { 1f, id, -id };
+		});
+	}
+
+	@Test
+	void shouldRecoverChangesFromLog() {
+		Path directory = this.tempDir.resolve("store");
+		SimpleVectorStore vectorStore = storeIn(directory).build();
+		vectorStore.add(documents(0, 10));
+		vectorStore.delete(List.of("3", "4"));
+		vectorStore.add(List.of(Document.builder().id("5").text("replaced").metadata("version", 2).build()));
+
+		SimpleVectorStore recovered = storeIn(directory).build();
+
+		assertThat(recovered.store).isEqualTo(vectorStore.store).hasSize(8).doesNotContainKeys("3", "4");
+		assertThat(recovered.store.get("5").getText()).isEqualTo("replaced");
+		assertThat(recovered.store.get("5").getMetadata()).containsEntry("version", 2);
+	}
+
+	@Test
+	void shouldRecoverFromSnapshotAndLog() {
+		Path directory = this.tempDir.resolve("store");
+		SimpleVectorStore vectorStore = storeIn(directory).indexType(SimpleVectorStore.IndexType.HNSW).build();
+		vectorStore.add(documents(0, 10));
+		vectorStore.compact();
+		vectorStore.add(documents(10, 20));
+		vectorStore.delete(List.of("0"));
+
+		SimpleVectorStore recovered = storeIn(directory).indexType(SimpleVectorStore.IndexType.HNSW).build();
+
+		assertThat(recovered.store).isEqualTo(vectorStore.store).hasSize(19);
+		assertThat(directory.resolve(SimpleVectorStoreWriteAheadLog.SNAPSHOT_FILE)).exists();
+		assertThat(recovered.similaritySearch(SearchRequest.builder().query("query").topK(1).build()))
+			.extracting(Document::getId)
+			.containsExactly("1");
+	}
+
+	@Test
+	void shouldCompactInBackgroundOnceThresholdIsReached() throws IOException {
+		Path directory = this.tempDir.resolve("store");
+		SimpleVectorStore vectorStore = storeIn(directory).compactionThreshold(1024).syncWriteAheadLog(false).build();
+		for (int i = 0; i < 50; i++) {
+			vectorStore.add(documents(i, i + 1));
+		}
+
+		await().atMost(Duration.ofSeconds(10))
+			.untilAsserted(() -> assertThat(directory.resolve(SimpleVectorStoreWriteAheadLog.SNAPSHOT_FILE)).exists());
+		vectorStore.compact();
+
+		assertThat(segments(directory)).hasSize(1);
+		assertThat(storeIn(directory).build().store).isEqualTo(vectorStore.store).hasSize(50);
+	}
+
+	@Test
+	void shouldIgnoreTornRecordAtEndOfLog() throws IOException {
+		Path directory = this.tempDir.resolve("store");
+		SimpleVectorStore vectorStore = storeIn(directory).build();
+		vectorStore.add(documents(0, 5));
+		Files.write(segments(directory).get(0), new byte[] { 42, 0, 0, 0, 1, 2 }, StandardOpenOption.APPEND);
+
+		SimpleVectorStore recovered = storeIn(directory).build();
+		recovered.add(documents(5, 6));
+
+		assertThat(recovered.store).hasSize(6);
+		assertThat(storeIn(directory).build().store).isEqualTo(recovered.store);
+	}
+
+	@Test
+	void shouldDiscardRecordOfChangeThatFailsToApply() {
+		Path directory = this.tempDir.resolve("store");
+		SimpleVectorStore vectorStore = storeIn(directory).vectorStorage(SimpleVectorStore.VectorStorage.SLAB).build();
+		vectorStore.add(documents(0, 3));
+		when(this.embeddingModel.embed(any(Document.class))).thenReturn(new float[] { 1f, 2f });
+
+		assertThatThrownBy(() -> vectorStore.add(documents(3, 4))).isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Vectors lengths must be equal");
+		assertThat(vectorStore.store).hasSize(3);
+		vectorStore.close();
+
+		SimpleVectorStore recovered = storeIn(directory).vectorStorage(SimpleVectorStore.VectorStorage.SLAB).build();
+		assertThat(recovered.store).hasSize(3).doesNotContainKey("3");
+	}
+
+	@Test
+	void shouldRejectChangesOnceClosed() {
+		SimpleVectorStore vectorStore = storeIn(this.tempDir.resolve("store")).build();
+		vectorStore.add(documents(0, 2));
+
+		vectorStore.close();
+
+		assertThatThrownBy(() -> vectorStore.add(documents(2, 3))).isInstanceOf(IllegalStateException.class)
+			.hasMessage("The write-ahead log is closed or has not been recovered");
+		assertThatThrownBy(vectorStore::compact).isInstanceOf(IllegalStateException.class)
+			.hasMessage("The write-ahead log is closed");
+		assertThat(vectorStore.similaritySearch(SearchRequest.builder().query("query").topK(1).build())).hasSize(1);
+	}
+
+	@Test
+	void shouldPersistLoadedContent() {
+		File json = this.tempDir.resolve("vector-store.json").toFile();
+		SimpleVectorStore source = SimpleVectorStore.builder(this.embeddingModel).build();
+		source.add(documents(0, 4));
+		source.save(json);
+
+		Path directory = this.tempDir.resolve("store");
+		SimpleVectorStore vectorStore = storeIn(directory).build();
+		vectorStore.add(documents(10, 12));
+		vectorStore.load(json);
+
+		assertThat(storeIn(directory).build().store).isEqualTo(source.store);
+	}
+
+	@Test
+	void shouldRejectCompactionWithoutLog() {
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(this.embeddingModel).build();
+
+		assertThatThrownBy(vectorStore::compact).isInstanceOf(IllegalStateException.class)
+			.hasMessage("SimpleVectorStore has no write-ahead log configured");
+	}
+
+	private SimpleVectorStore.SimpleVectorStoreBuilder storeIn(Path directory) {
+		return SimpleVectorStore.builder(this.embeddingModel).writeAheadLog(directory);
+	}
+
+	private static List<Document> documents(int from, int to) {
+		return Stream.iterate(from, i -> i < to, i -> i + 1)
+			.map(i -> Document.builder().id(String.valueOf(i)).text("document " + i).metadata(Map.of("i", i)).build())
+			.toList();
+	}
+
+	private static List<Path> segments(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+		}
+	}
+
+}
@@ -52,6 +52,7 @@ import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
+import org.springframework.ai.vectorstore.observation.PrecomputedEmbeddingsWriter;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
@@ -147,7 +148,8 @@ import org.springframework.util.Assert;
  * @author Jonghoon Park
  * @since 1.0.0
  */
-public class ElasticsearchVectorStore extends AbstractObservationVectorStore implements InitializingBean {
+public class ElasticsearchVectorStore extends AbstractObservationVectorStore
+		implements PrecomputedEmbeddingsWriter, InitializingBean {
 
 	private static final Map<SimilarityFunction, VectorStoreSimilarityMetric> SIMILARITY_TYPE_MAPPING = Map.of(
 			SimilarityFunction.cosine, VectorStoreSimilarityMetric.COSINE, SimilarityFunction.l2_norm,
@@ -183,10 +185,14 @@ public class ElasticsearchVectorStore extends AbstractObservationVectorStore imp
 
 	@Override
 	public void doAdd(List<Document> documents) {
-		BulkRequest.Builder bulkRequestBuilder = new BulkRequest.Builder();
-
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptions.builder().build(),
 				this.batchingStrategy);
+		doAdd(documents, embeddings);
+	}
+
+	@Override
+	public void doAdd(List<Document> documents, List<float[]> embeddings) {
+		BulkRequest.Builder bulkRequestBuilder = new BulkRequest.Builder();
 
 		for (int i = 0; i < embeddings.size(); i++) {
 			Document document = documents.get(i);
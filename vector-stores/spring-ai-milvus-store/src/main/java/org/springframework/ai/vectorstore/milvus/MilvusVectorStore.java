@@ -73,6 +73,7 @@ import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
+import org.springframework.ai.vectorstore.observation.PrecomputedEmbeddingsWriter;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
@@ -150,7 +151,8 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.ai.vectorstore.VectorStore
  * @see io.milvus.client.MilvusServiceClient
  */
-public class MilvusVectorStore extends AbstractObservationVectorStore implements InitializingBean {
+public class MilvusVectorStore extends AbstractObservationVectorStore
+		implements PrecomputedEmbeddingsWriter, InitializingBean {
 
 	public static final int OPENAI_EMBEDDING_DIMENSION_SIZE = 1536;
 
@@ -249,15 +251,22 @@ public class MilvusVectorStore extends AbstractObservationVectorStore implements
 
 		Assert.notNull(documents, "Documents must not be null");
 
+		// TODO: Need to customize how we pass the embedding options
+		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptions.builder().build(),
+				this.batchingStrategy);
+		doAdd(documents, embeddings);
+	}
+
+	@Override
+	public void doAdd(List<Document> documents, List<float[]> embeddings) {
+
+		Assert.notNull(documents, "Documents must not be null");
+
 		List<String> docIdArray = new ArrayList<>();
 		List<String> contentArray = new ArrayList<>();
 		List<JsonObject> metadataArray = new ArrayList<>();
 		List<List<Float>> embeddingArray = new ArrayList<>();
 
-		// TODO: Need to customize how we pass the embedding options
-		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptions.builder().build(),
-				this.batchingStrategy);
-
 		for (int i = 0; i < documents.size(); i++) {
 			Document document = documents.get(i);
 			docIdArray.add(document.getId());
@@ -44,6 +44,7 @@ import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
+import org.springframework.ai.vectorstore.observation.PrecomputedEmbeddingsWriter;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
@@ -156,7 +157,8 @@ import org.springframework.util.StringUtils;
  * @author Siarhei Dudzin
  * @since 1.0.0
  */
-public class PgVectorStore extends AbstractObservationVectorStore implements InitializingBean {
+public class PgVectorStore extends AbstractObservationVectorStore
+		implements PrecomputedEmbeddingsWriter, InitializingBean {
 
 	public static final int OPENAI_EMBEDDING_DIMENSION_SIZE = 1536;
 
@@ -260,7 +262,11 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 	public void doAdd(List<Document> documents) {
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptions.builder().build(),
 				this.batchingStrategy);
+		doAdd(documents, embeddings);
+	}
 
+	@Override
+	public void doAdd(List<Document> documents, List<float[]> embeddings) {
 		List<List<Document>> batchedDocuments = batchDocuments(documents);
 		batchedDocuments.forEach(batchDocument -> insertOrUpdateBatch(batchDocument, documents, embeddings));
 	}
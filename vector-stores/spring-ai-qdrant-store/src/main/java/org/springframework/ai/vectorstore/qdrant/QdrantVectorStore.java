@@ -45,6 +45,7 @@ import org.springframework.ai.observation.conventions.VectorStoreProvider;
 import org.springframework.ai.vectorstore.AbstractVectorStoreBuilder;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
+import org.springframework.ai.vectorstore.observation.PrecomputedEmbeddingsWriter;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.util.Assert;
@@ -126,7 +127,8 @@ import org.springframework.util.Assert;
  * @author chabinhwang
  * @since 1.0.0
  */
-public class QdrantVectorStore extends AbstractObservationVectorStore implements InitializingBean {
+public class QdrantVectorStore extends AbstractObservationVectorStore
+		implements PrecomputedEmbeddingsWriter, InitializingBean {
 
 	private static final Log logger = LogFactory.getLog(QdrantVectorStore.class);
 
@@ -179,12 +181,15 @@ public class QdrantVectorStore extends AbstractObservationVectorStore implements
 	 */
 	@Override
 	public void doAdd(List<Document> documents) {
-		try {
-
-			// Compute and assign an embedding to the document.
-			List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptions.builder().build(),
-					this.batchingStrategy);
+		// Compute and assign an embedding to the document.
+		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptions.builder().build(),
+				this.batchingStrategy);
+		doAdd(documents, embeddings);
+	}
 
+	@Override
+	public void doAdd(List<Document> documents, List<float[]> embeddings) {
+		try {
 			List<PointStruct> points = IntStream.range(0, documents.size()).mapToObj(i -> {
 				Document document = documents.get(i);
 				return PointStruct.newBuilder()